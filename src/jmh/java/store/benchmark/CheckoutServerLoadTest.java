@@ -0,0 +1,127 @@
+package store.benchmark;
+
+import store.StoreManager;
+import store.StoreOptions;
+import store.server.CheckoutServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CheckoutServerLoadTest {
+    private static final int DEFAULT_SESSION_COUNT = 2_000;
+    private static final int INITIAL_QUANTITY = 1_000_000_000;
+    private static final String ORDER_PROMPT = "구매하실 상품명과 수량을 입력해 주세요.";
+    private static final String RECEIPT_TOTAL = "내실돈";
+    private static final String SESSION_SCRIPT = "[물-1]\nN\nN\n";
+    private static final String[] PRODUCT_ROWS = {"콜라,1000", "사이다,1000", "오렌지주스,1800", "탄산수,1200", "물,500", "비타민워터,1500",
+            "감자칩,1500", "초코바,1200", "에너지바,2000", "정식도시락,6400", "컵라면,1700"};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static void main(String[] args) throws Exception {
+        int sessionCount = DEFAULT_SESSION_COUNT;
+        if (args.length > 0) {
+            sessionCount = Integer.parseInt(args[0]);
+        }
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        int platformThreadsBefore = threadMXBean.getThreadCount();
+        try (CheckoutServer checkoutServer = CheckoutServer.open(setUpStoreManager(), new StoreOptions(), 0)) {
+            Thread servingThread = new Thread(checkoutServer::serve);
+            servingThread.start();
+            CountDownLatch connectedTerminals = new CountDownLatch(sessionCount);
+            CountDownLatch startSignal = new CountDownLatch(1);
+            AtomicInteger completedSessions = new AtomicInteger();
+            long[] sessionLatencies = new long[sessionCount];
+            long startTime = System.nanoTime();
+            try (ExecutorService terminals = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> terminalRuns = new ArrayList<>();
+                for (int terminal = 0; terminal < sessionCount; terminal++) {
+                    int terminalIndex = terminal;
+                    terminalRuns.add(terminals.submit(() -> sessionLatencies[terminalIndex] =
+                            runTerminal(checkoutServer.getPort(), connectedTerminals, startSignal, completedSessions)));
+                }
+                connectedTerminals.await();
+                long connectedTime = System.nanoTime();
+                System.out.printf("connected sessions=%,d active on server=%,d platform threads=%d (before %d) in %.0fms%n",
+                        sessionCount, checkoutServer.getActiveSessions(), threadMXBean.getThreadCount(), platformThreadsBefore,
+                        (connectedTime - startTime) / NANOS_PER_MILLI);
+                startSignal.countDown();
+                for (Future<?> terminalRun : terminalRuns) {
+                    terminalRun.get();
+                }
+            }
+            double elapsedMillis = (System.nanoTime() - startTime) / NANOS_PER_MILLI;
+            Arrays.sort(sessionLatencies);
+            System.out.printf("completed sessions=%,d/%,d time=%.0fms sessions/sec=%,.0f p50=%.1fms p99=%.1fms peak platform threads=%d%n",
+                    completedSessions.get(), sessionCount, elapsedMillis, sessionCount / (elapsedMillis / 1000),
+                    percentile(sessionLatencies, 0.50) / NANOS_PER_MILLI, percentile(sessionLatencies, 0.99) / NANOS_PER_MILLI,
+                    threadMXBean.getPeakThreadCount());
+        }
+    }
+
+    private static StoreManager setUpStoreManager() {
+        List<String> products = new ArrayList<>();
+        products.add("name,price,quantity,promotion");
+        for (String productRow : PRODUCT_ROWS) {
+            products.add(productRow + "," + INITIAL_QUANTITY + ",null");
+        }
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(products);
+        return storeManager;
+    }
+
+    private static long runTerminal(int port, CountDownLatch connectedTerminals, CountDownLatch startSignal, AtomicInteger completedSessions) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            readUntil(reader, ORDER_PROMPT);
+            connectedTerminals.countDown();
+            startSignal.await();
+            long startTime = System.nanoTime();
+            OutputStream out = socket.getOutputStream();
+            out.write(SESSION_SCRIPT.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            if (readUntil(reader, RECEIPT_TOTAL)) {
+                completedSessions.incrementAndGet();
+            }
+            while (reader.readLine() != null) {
+                continue;
+            }
+            return System.nanoTime() - startTime;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean readUntil(BufferedReader reader, String expected) throws IOException {
+        String line = reader.readLine();
+        while (line != null) {
+            if (line.contains(expected)) {
+                return true;
+            }
+            line = reader.readLine();
+        }
+        return false;
+    }
+
+    private static long percentile(long[] sortedValues, double percentile) {
+        return sortedValues[(int) Math.min(sortedValues.length - 1, Math.round(percentile * (sortedValues.length - 1)))];
+    }
+}
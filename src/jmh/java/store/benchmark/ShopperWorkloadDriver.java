@@ -0,0 +1,147 @@
+package store.benchmark;
+
+import store.StoreManager;
+import store.StoreOptions;
+import store.constant.StockType;
+import store.controller.StoreController;
+import store.inventory.Inventory;
+import store.metrics.LatencyHistogram;
+import store.view.InputView;
+import store.view.OutputView;
+import store.workload.ShopperConsole;
+import store.workload.ShopperWorkload;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ShopperWorkloadDriver {
+    private static final String[] PRODUCT_ROWS = {"콜라,1000,탄산2+1", "사이다,1000,탄산2+1", "오렌지주스,1800,MD추천상품", "탄산수,1200,탄산2+1",
+            "물,500,null", "비타민워터,1500,null", "감자칩,1500,반짝할인", "초코바,1200,MD추천상품", "에너지바,2000,null", "정식도시락,6400,null",
+            "컵라면,1700,MD추천상품"};
+    private static final String EMPTY_PROMOTION = "null";
+    private static final int THROUGHPUT_ROUNDS = 3;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ShopperWorkload workload;
+    private final StoreManager storeManager;
+    private final LatencyHistogram sessionLatencies = new LatencyHistogram();
+    private final LongAdder completedSessions = new LongAdder();
+    private final LongAdder abandonedSessions = new LongAdder();
+    private final LongAdder rejectedOrders = new LongAdder();
+    private final LongAdder receipts = new LongAdder();
+    private final AtomicInteger sessionsLeft;
+    private final AtomicBoolean exhausted = new AtomicBoolean();
+
+    private ShopperWorkloadDriver(ShopperWorkload workload) {
+        this.workload = workload;
+        this.storeManager = setUpStoreManager(workload.getStock());
+        this.sessionsLeft = new AtomicInteger(workload.getSessions());
+        storeManager.addReceiptListener(receipt -> receipts.increment());
+    }
+
+    public static void main(String[] args) throws Exception {
+        ShopperWorkload workload = ShopperWorkload.fromArguments(args);
+        if (workload.isUntilExhausted()) {
+            new ShopperWorkloadDriver(workload).run();
+            return;
+        }
+        for (int round = 0; round < THROUGHPUT_ROUNDS; round++) {
+            new ShopperWorkloadDriver(workload).run();
+        }
+    }
+
+    private void run() throws Exception {
+        long startTime = System.nanoTime();
+        try (ExecutorService shoppers = Executors.newFixedThreadPool(workload.getShoppers())) {
+            List<Future<?>> shopperRuns = new ArrayList<>();
+            for (int shopper = 0; shopper < workload.getShoppers(); shopper++) {
+                long seed = workload.getSeed() + shopper;
+                shopperRuns.add(shoppers.submit(() -> runShopper(seed)));
+            }
+            for (Future<?> shopperRun : shopperRuns) {
+                shopperRun.get();
+            }
+        }
+        report((System.nanoTime() - startTime) / NANOS_PER_SECOND);
+    }
+
+    private void runShopper(long seed) {
+        ShopperConsole shopperConsole = new ShopperConsole(workload, storeManager.getInventory(), seed);
+        InputView inputView = shopperConsole.inputView(new PrintStream(OutputStream.nullOutputStream()));
+        OutputView outputView = new OutputView((bytes, offset, length) -> {
+        });
+        while (hasNextSession()) {
+            shopperConsole.startSession();
+            StoreController storeController = new StoreController(new StoreOptions(), storeManager, inputView, outputView);
+            long startTime = System.nanoTime();
+            try {
+                storeController.processOrder();
+                completedSessions.increment();
+            } catch (NoSuchElementException e) {
+                abandonedSessions.increment();
+            }
+            sessionLatencies.record(System.nanoTime() - startTime);
+            if (shopperConsole.isOutOfStock() || availableStock(storeManager.getInventory()) == 0) {
+                exhausted.set(true);
+            }
+        }
+        rejectedOrders.add(shopperConsole.getRejectedOrders());
+    }
+
+    private boolean hasNextSession() {
+        if (workload.isUntilExhausted()) {
+            return !exhausted.get();
+        }
+        return sessionsLeft.getAndDecrement() > 0;
+    }
+
+    private void report(double elapsedSeconds) {
+        LatencyHistogram.Snapshot snapshot = sessionLatencies.snapshot();
+        long sessions = completedSessions.sum() + abandonedSessions.sum();
+        System.out.printf("shoppers=%d sessions=%,d (abandoned %,d) receipts=%,d rejected orders=%,d time=%.3fs sessions/sec=%,.0f"
+                        + " p50=%.3fms p99=%.3fms p999=%.3fms max=%.3fms remaining stock=%,d%n",
+                workload.getShoppers(), sessions, abandonedSessions.sum(), receipts.sum(), rejectedOrders.sum(), elapsedSeconds,
+                sessions / elapsedSeconds, snapshot.valueAtPercentile(50.0) / NANOS_PER_MILLI,
+                snapshot.valueAtPercentile(99.0) / NANOS_PER_MILLI, snapshot.valueAtPercentile(99.9) / NANOS_PER_MILLI,
+                snapshot.getMaximum() / NANOS_PER_MILLI, availableStock(storeManager.getInventory()));
+    }
+
+    private static long availableStock(Inventory inventory) {
+        long availableStock = 0;
+        for (int productId = 0; productId < inventory.size(); productId++) {
+            availableStock += inventory.getStock(productId, StockType.EVENT) + inventory.getStock(productId, StockType.GENERAL)
+                    - inventory.getHeldStock(productId);
+        }
+        return availableStock;
+    }
+
+    private static StoreManager setUpStoreManager(int stock) {
+        List<String> products = new ArrayList<>();
+        products.add("name,price,quantity,promotion");
+        for (String productRow : PRODUCT_ROWS) {
+            String[] columns = productRow.split(",");
+            if (!columns[2].equals(EMPTY_PROMOTION)) {
+                products.add(columns[0] + "," + columns[1] + "," + stock + "," + columns[2]);
+            }
+            products.add(columns[0] + "," + columns[1] + "," + stock + "," + EMPTY_PROMOTION);
+        }
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(products);
+        storeManager.setUpPromotions(List.of(
+                "name,buy,get,start_date,end_date",
+                "탄산2+1,2,1,2000-01-01,2099-12-31",
+                "MD추천상품,1,1,2000-01-01,2099-12-31",
+                "반짝할인,1,1,2000-01-01,2099-12-31"));
+        return storeManager;
+    }
+}
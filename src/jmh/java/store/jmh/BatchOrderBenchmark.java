@@ -0,0 +1,87 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.PromotionDecisionPolicy;
+import store.StoreManager;
+import store.batch.BatchOrder;
+import store.batch.BatchOrderPipeline;
+import store.batch.BatchOrderResult;
+import store.benchmark.CatalogFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchOrderBenchmark {
+    private static final int ORDER_COUNT = 20_000;
+    private static final int PRODUCT_COUNT = 1_000;
+    private static final int EVENT_PRODUCT_INTERVAL = 3;
+    private static final int MAX_ITEMS_PER_ORDER = 3;
+    private static final int MAX_QUANTITY = 5;
+    private static final int INITIAL_QUANTITY = 1_000_000_000;
+    private static final long SEED = 42;
+
+    private List<BatchOrder> orders;
+    private BatchOrderPipeline pipeline;
+
+    @Setup
+    public void generateOrders() {
+        Random random = new Random(SEED);
+        orders = new ArrayList<>(ORDER_COUNT);
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            StringBuilder orderItems = new StringBuilder();
+            int itemCount = 1 + random.nextInt(MAX_ITEMS_PER_ORDER);
+            for (int item = 0; item < itemCount; item++) {
+                if (item > 0) {
+                    orderItems.append(',');
+                }
+                orderItems.append('[').append(CatalogFixtures.orderableProductName(random.nextInt(PRODUCT_COUNT))).append('-').append(1 + random.nextInt(MAX_QUANTITY)).append(']');
+            }
+            PromotionDecisionPolicy decisionPolicy = PromotionDecisionPolicy.of(random.nextBoolean(), random.nextBoolean());
+            orders.add(new BatchOrder(orderItems.toString(), random.nextBoolean(), decisionPolicy));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpPipeline() {
+        List<String> products = new ArrayList<>();
+        products.add("name,price,quantity,promotion");
+        for (int index = 0; index < PRODUCT_COUNT; index++) {
+            String name = CatalogFixtures.orderableProductName(index);
+            if (index % EVENT_PRODUCT_INTERVAL == 0) {
+                products.add(name + ",1000," + INITIAL_QUANTITY + ",탄산2+1");
+            }
+            products.add(name + ",1000," + INITIAL_QUANTITY + ",null");
+        }
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(products);
+        storeManager.setUpPromotions(List.of(
+                "name,buy,get,start_date,end_date",
+                "탄산2+1,2,1,2000-01-01,2099-12-31"));
+        pipeline = new BatchOrderPipeline(storeManager);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public List<BatchOrderResult> processBatch() {
+        return pipeline.process(orders);
+    }
+}
@@ -0,0 +1,83 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import store.Receipt;
+import store.StoreManager;
+import store.benchmark.CatalogFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(Threads.MAX)
+public class CheckoutContentionBenchmark {
+    private static final int PRODUCT_COUNT = 1_000;
+    private static final int ORDER_COUNT = 1 << 12;
+    private static final int INITIAL_QUANTITY = 1_000_000_000;
+    private static final String MEMBERSHIP_CHOICE = "N";
+    private static final long SEED = 42;
+
+    @Param({"1", "16", "256"})
+    private int stripeCount;
+
+    @Param({"1", "16", "1000"})
+    private int hotProductCount;
+
+    @Param({"1", "3"})
+    private int productsPerOrder;
+
+    private StoreManager storeManager;
+    private String[] orders;
+
+    @Setup
+    public void generateOrders() {
+        Random random = new Random(SEED);
+        orders = new String[ORDER_COUNT];
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            StringBuilder orderItems = new StringBuilder();
+            for (int item = 0; item < productsPerOrder; item++) {
+                if (item > 0) {
+                    orderItems.append(',');
+                }
+                orderItems.append('[').append(CatalogFixtures.orderableProductName(random.nextInt(hotProductCount))).append("-1]");
+            }
+            orders[order] = orderItems.toString();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpStore() {
+        List<String> products = new ArrayList<>();
+        products.add("name,price,quantity,promotion");
+        for (int index = 0; index < PRODUCT_COUNT; index++) {
+            products.add(CatalogFixtures.orderableProductName(index) + ",1000," + INITIAL_QUANTITY + ",null");
+        }
+        storeManager = new StoreManager(stripeCount);
+        storeManager.setUpStore(products);
+    }
+
+    @Benchmark
+    public Receipt processOrder() {
+        return storeManager.processOrder(orders[ThreadLocalRandom.current().nextInt(ORDER_COUNT)], MEMBERSHIP_CHOICE);
+    }
+}
@@ -0,0 +1,76 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.OrderValidator;
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+import store.constant.CheckoutStage;
+import store.inventory.StockHold;
+import store.metrics.CheckoutMetrics;
+import store.order.OrderLines;
+import store.view.OutputView;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CheckoutMetricsBenchmark {
+    private static final int STOCK_LOCK_STRIPES = 64;
+    private static final String ORDER = "[콜라-3],[물-2]";
+    private static final String MEMBERSHIP_CHOICE = "Y";
+    private static final PromotionDecisionPolicy ACCEPTING_POLICY = PromotionDecisionPolicy.of(true, true);
+
+    @Param({"disabled", "enabled"})
+    private String metrics;
+
+    private StoreManager storeManager;
+    private OrderValidator orderValidator;
+    private final OrderLines orderLines = new OrderLines();
+    private final OutputView outputView = new OutputView((bytes, offset, length) -> {
+    });
+
+    @Setup(Level.Iteration)
+    public void setUpStore() {
+        CheckoutMetrics checkoutMetrics = CheckoutMetrics.disabled();
+        if (metrics.equals("enabled")) {
+            checkoutMetrics = new CheckoutMetrics();
+        }
+        storeManager = new StoreManager(STOCK_LOCK_STRIPES, checkoutMetrics);
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "콜라,1000,1000000000,탄산2+1",
+                "콜라,1000,1000000000,null",
+                "물,500,1000000000,null"));
+        storeManager.setUpPromotions(List.of(
+                "name,buy,get,start_date,end_date",
+                "탄산2+1,2,1,2000-01-01,2099-12-31"));
+        orderValidator = new OrderValidator(storeManager);
+    }
+
+    @Benchmark
+    public Receipt checkout() {
+        orderValidator.validateInputOrderItems(ORDER, orderLines);
+        Receipt receipt = storeManager.processOrder(orderLines, MEMBERSHIP_CHOICE, StockHold.none(storeManager.getInventory()), ACCEPTING_POLICY);
+        long renderStart = storeManager.getCheckoutMetrics().startStage(orderLines.isSampled());
+        outputView.showReceipt(receipt, MEMBERSHIP_CHOICE);
+        storeManager.getCheckoutMetrics().endStage(CheckoutStage.RECEIPT_RENDERING, renderStart);
+        return receipt;
+    }
+}
@@ -0,0 +1,117 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.Product;
+import store.benchmark.CatalogFixtures;
+import store.constant.StockType;
+import store.inventory.Inventory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InventoryBenchmark {
+    private static final int ORDER_SEQUENCE_LENGTH = 1 << 20;
+    private static final int LOOKUPS_PER_ORDER_LINE = 5;
+    private static final int INITIAL_QUANTITY = Integer.MAX_VALUE / 2;
+    private static final long SEED = 42;
+
+    @Param({"100000"})
+    private int productCount;
+
+    private String[] names;
+    private int[] orderSequence;
+    private Map<String, Product> generalProductInventory;
+    private Map<String, Product> eventProductInventory;
+    private Inventory inventory;
+    private int cursor;
+
+    @Setup
+    public void generateNames() {
+        names = new String[productCount];
+        for (int index = 0; index < productCount; index++) {
+            names[index] = CatalogFixtures.productName(index);
+        }
+        orderSequence = new Random(SEED).ints(ORDER_SEQUENCE_LENGTH, 0, productCount).toArray();
+    }
+
+    @Setup(Level.Iteration)
+    public void buildStores() {
+        generalProductInventory = new HashMap<>();
+        eventProductInventory = new HashMap<>();
+        for (String name : names) {
+            generalProductInventory.put(name, new Product(name, 1000, INITIAL_QUANTITY, "null"));
+            eventProductInventory.put(name, new Product(name, 1000, INITIAL_QUANTITY, "탄산2+1"));
+        }
+        inventory = buildInventory();
+    }
+
+    @Benchmark
+    public long updateMapsByName() {
+        String name = names[nextProductIndex()];
+        long quantity = 0;
+        for (int lookup = 0; lookup < LOOKUPS_PER_ORDER_LINE; lookup++) {
+            quantity += eventProductInventory.get(name).getQuantity();
+        }
+        Product eventProduct = eventProductInventory.get(name);
+        eventProduct.updateQuantity(eventProduct.getQuantity() - 1);
+        eventProductInventory.put(name, eventProduct);
+        Product generalProduct = generalProductInventory.get(name);
+        generalProduct.updateQuantity(generalProduct.getQuantity() - 1);
+        generalProductInventory.put(name, generalProduct);
+        return quantity;
+    }
+
+    @Benchmark
+    public long updateInventoryByName() {
+        return updateInventory(inventory.idOf(names[nextProductIndex()]));
+    }
+
+    @Benchmark
+    public long updateInventoryById() {
+        return updateInventory(nextProductIndex());
+    }
+
+    @Benchmark
+    public Inventory buildInventory() {
+        Inventory builtInventory = new Inventory();
+        for (String name : names) {
+            builtInventory.putProduct(name, 1000, INITIAL_QUANTITY, "null", StockType.GENERAL);
+            builtInventory.putProduct(name, 1000, INITIAL_QUANTITY, "탄산2+1", StockType.EVENT);
+        }
+        return builtInventory;
+    }
+
+    private long updateInventory(int productId) {
+        long quantity = 0;
+        for (int lookup = 0; lookup < LOOKUPS_PER_ORDER_LINE; lookup++) {
+            quantity += inventory.getStock(productId, StockType.EVENT);
+        }
+        inventory.addStock(productId, StockType.EVENT, -1);
+        inventory.addStock(productId, StockType.GENERAL, -1);
+        return quantity;
+    }
+
+    private int nextProductIndex() {
+        cursor = (cursor + 1) & (ORDER_SEQUENCE_LENGTH - 1);
+        return orderSequence[cursor];
+    }
+}
@@ -0,0 +1,72 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import store.StockDelta;
+import store.constant.StockType;
+import store.journal.StockJournal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(64)
+public class JournalBenchmark {
+    private static final long FLUSH_INTERVAL_MILLIS = 2;
+    private static final List<StockDelta> ORDER_DELTAS = List.of(
+            new StockDelta("콜라", StockType.EVENT, -3),
+            new StockDelta("콜라", StockType.GENERAL, -2),
+            new StockDelta("감자칩", StockType.GENERAL, -1));
+
+    @Param({"1", "8", "32", "128", "512"})
+    private int groupCommitSize;
+
+    private Path journalPath;
+    private StockJournal stockJournal;
+
+    @Setup(Level.Iteration)
+    public void openJournal() {
+        try {
+            journalPath = Files.createTempFile("stock-", ".journal");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        stockJournal = StockJournal.open(journalPath, 0, groupCommitSize, FLUSH_INTERVAL_MILLIS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeJournal() {
+        stockJournal.close();
+        try {
+            Files.deleteIfExists(journalPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public void commitOrder() {
+        stockJournal.onOrderProcessed(ORDER_DELTAS);
+    }
+}
@@ -0,0 +1,87 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.Separator;
+import store.StoreManager;
+import store.constant.StockType;
+import store.inventory.Inventory;
+import store.order.OrderLines;
+import store.order.OrderTokenizer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OrderParsingBenchmark {
+    private static final String ORDER = "[콜라-3],[사이다-2],[물-10],[감자칩-1],[컵라면-4]";
+    private static final String CATALOG_ROW = "오렌지주스,1800,9,MD추천상품";
+    private static final String KOREAN_PRODUCT_ORDER_PATTERN = "^\\[[가-힣]+-\\d+\\](,\\[[가-힣]+-\\d+\\])*$";
+
+    private StoreManager storeManager;
+    private final OrderLines orderLines = new OrderLines();
+
+    @Setup
+    public void setUpStore() {
+        storeManager = new StoreManager();
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "콜라,1000,10,null",
+                "사이다,1000,10,null",
+                "물,500,10,null",
+                "감자칩,1500,10,null",
+                "컵라면,1700,10,null"));
+    }
+
+    @Benchmark
+    public OrderLines tokenizeOrder() {
+        return OrderTokenizer.tokenize(ORDER, storeManager.getInventory(), orderLines);
+    }
+
+    @Benchmark
+    public long validateBySeparatorPasses() {
+        Inventory inventory = storeManager.getInventory();
+        long checked = 0;
+        if (Pattern.compile(KOREAN_PRODUCT_ORDER_PATTERN).matcher(ORDER).find()) {
+            checked++;
+        }
+        for (String orderItem : Separator.separate(ORDER)) {
+            if (inventory.contains(Separator.separateProductName(orderItem))) {
+                checked++;
+            }
+        }
+        for (String orderItem : Separator.separate(ORDER)) {
+            checked += Separator.separateProductQuantity(orderItem);
+        }
+        for (String orderItem : Separator.separate(ORDER)) {
+            int productId = inventory.idOf(Separator.separateProductName(orderItem));
+            checked += inventory.getStock(productId, StockType.GENERAL) - Separator.separateProductQuantity(orderItem);
+        }
+        for (String orderItem : Separator.separate(ORDER)) {
+            checked += inventory.idOf(Separator.separateProductName(orderItem));
+        }
+        for (String orderItem : Separator.separate(ORDER)) {
+            checked += inventory.idOf(Separator.separateProductName(orderItem)) + Separator.separateProductQuantity(orderItem);
+        }
+        return checked;
+    }
+
+    @Benchmark
+    public String[] separateCatalogRow() {
+        return Separator.separate(CATALOG_ROW);
+    }
+}
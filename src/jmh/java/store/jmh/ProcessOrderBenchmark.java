@@ -0,0 +1,71 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+import store.inventory.StockHold;
+import store.order.OrderLines;
+import store.order.OrderTokenizer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProcessOrderBenchmark {
+    private static final Map<String, String> ORDERS = Map.of(
+            "general", "[물-2],[에너지바-1]",
+            "promotion", "[콜라-3],[사이다-3]",
+            "mixed", "[콜라-3],[물-2],[감자칩-2],[정식도시락-1]");
+    private static final String MEMBERSHIP_CHOICE = "Y";
+    private static final PromotionDecisionPolicy ACCEPTING_POLICY = PromotionDecisionPolicy.of(true, true);
+
+    @Param({"general", "promotion", "mixed"})
+    private String orderKind;
+
+    private StoreManager storeManager;
+    private OrderLines orderLines;
+
+    @Setup(Level.Iteration)
+    public void setUpStore() {
+        storeManager = new StoreManager();
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "콜라,1000,1000000000,탄산2+1",
+                "콜라,1000,1000000000,null",
+                "사이다,1000,1000000000,탄산2+1",
+                "사이다,1000,1000000000,null",
+                "물,500,1000000000,null",
+                "감자칩,1500,1000000000,반짝할인",
+                "감자칩,1500,1000000000,null",
+                "에너지바,2000,1000000000,null",
+                "정식도시락,6400,1000000000,null"));
+        storeManager.setUpPromotions(List.of(
+                "name,buy,get,start_date,end_date",
+                "탄산2+1,2,1,2000-01-01,2099-12-31",
+                "반짝할인,1,1,2000-01-01,2099-12-31"));
+        orderLines = OrderTokenizer.tokenize(ORDERS.get(orderKind), storeManager.getInventory(), new OrderLines());
+    }
+
+    @Benchmark
+    public Receipt processOrder() {
+        return storeManager.processOrder(orderLines, MEMBERSHIP_CHOICE, StockHold.none(storeManager.getInventory()), ACCEPTING_POLICY);
+    }
+}
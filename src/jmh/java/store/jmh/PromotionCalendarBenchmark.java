@@ -0,0 +1,105 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.Promotion;
+import store.promotion.ActivePromotions;
+import store.promotion.PromotionCalendar;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PromotionCalendarBenchmark {
+    private static final int ORDER_SEQUENCE_LENGTH = 1 << 16;
+    private static final int LINES_PER_ORDER = 3;
+    private static final int CHECKS_PER_LINE = 3;
+    private static final long SEED = 42;
+
+    @Param({"50000"})
+    private int promotionCount;
+
+    private Map<String, Promotion> promotionInventory;
+    private PromotionCalendar promotionCalendar;
+    private String[] promotionNames;
+    private int[] orderSequence;
+    private int cursor;
+
+    @Setup
+    public void generatePromotions() {
+        Random random = new Random(SEED);
+        promotionInventory = new HashMap<>();
+        promotionNames = new String[promotionCount];
+        LocalDateTime today = LocalDateTime.now();
+        for (int index = 0; index < promotionCount; index++) {
+            LocalDateTime startTime = today.minusDays(random.nextInt(365));
+            Promotion promotion = new Promotion("행사" + index, 2, 1, startTime, startTime.plusDays(1 + random.nextInt(365)));
+            promotionNames[index] = promotion.getName();
+            promotionInventory.put(promotion.getName(), promotion);
+        }
+        promotionCalendar = indexCalendar();
+        orderSequence = random.ints(ORDER_SEQUENCE_LENGTH * LINES_PER_ORDER, 0, promotionCount).toArray();
+    }
+
+    @Benchmark
+    public long checkInlinePerLine() {
+        long activeChecks = 0;
+        int firstLine = nextOrderFirstLine();
+        for (int line = firstLine; line < firstLine + LINES_PER_ORDER; line++) {
+            Promotion promotion = promotionInventory.get(promotionNames[orderSequence[line]]);
+            for (int check = 0; check < CHECKS_PER_LINE; check++) {
+                LocalDateTime now = LocalDateTime.now();
+                if (now.isAfter(promotion.getStartTime()) && now.isBefore(promotion.getEndTime())) {
+                    activeChecks++;
+                }
+            }
+        }
+        return activeChecks;
+    }
+
+    @Benchmark
+    public long checkCalendarSnapshot() {
+        long activeChecks = 0;
+        int firstLine = nextOrderFirstLine();
+        ActivePromotions activePromotions = promotionCalendar.activeAt(LocalDateTime.now());
+        for (int line = firstLine; line < firstLine + LINES_PER_ORDER; line++) {
+            String promotionName = promotionNames[orderSequence[line]];
+            for (int check = 0; check < CHECKS_PER_LINE; check++) {
+                if (activePromotions.contains(promotionName)) {
+                    activeChecks++;
+                }
+            }
+        }
+        return activeChecks;
+    }
+
+    @Benchmark
+    public PromotionCalendar indexCalendar() {
+        PromotionCalendar indexedCalendar = new PromotionCalendar();
+        indexedCalendar.putAll(promotionInventory);
+        indexedCalendar.activeAt(LocalDateTime.now());
+        return indexedCalendar;
+    }
+
+    private int nextOrderFirstLine() {
+        cursor = (cursor + 1) & (ORDER_SEQUENCE_LENGTH - 1);
+        return cursor * LINES_PER_ORDER;
+    }
+}
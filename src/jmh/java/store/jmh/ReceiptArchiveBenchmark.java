@@ -0,0 +1,132 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import store.Receipt;
+import store.StoreManager;
+import store.archive.ReceiptArchive;
+import store.archive.ReceiptArchiveReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReceiptArchiveBenchmark {
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+    private static final long FLUSH_INTERVAL_MILLIS = 50;
+    private static final int SCANNED_ORDER_COUNT = 200_000;
+    private static final String ORDER = "[콜라-3],[물-2]";
+    private static final String MEMBERSHIP_CHOICE = "Y";
+
+    @State(Scope.Thread)
+    public static class CheckoutState {
+        @Param({"false", "true"})
+        private boolean archived;
+
+        private Path directory;
+        private ReceiptArchive receiptArchive;
+        private StoreManager storeManager;
+
+        @Setup(Level.Iteration)
+        public void setUpStore() {
+            storeManager = setUpStoreManager();
+            if (archived) {
+                directory = createArchiveDirectory();
+                receiptArchive = ReceiptArchive.open(directory, SEGMENT_SIZE, FLUSH_INTERVAL_MILLIS);
+                storeManager.addReceiptListener(receiptArchive);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void closeArchive() {
+            if (archived) {
+                receiptArchive.close();
+                deleteArchive(directory);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ArchiveState {
+        private Path directory;
+
+        @Setup
+        public void writeArchive() {
+            directory = createArchiveDirectory();
+            StoreManager storeManager = setUpStoreManager();
+            try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, SEGMENT_SIZE, FLUSH_INTERVAL_MILLIS)) {
+                storeManager.addReceiptListener(receiptArchive);
+                for (int order = 0; order < SCANNED_ORDER_COUNT; order++) {
+                    storeManager.processOrder(ORDER, MEMBERSHIP_CHOICE);
+                }
+            }
+        }
+
+        @TearDown
+        public void removeArchive() {
+            deleteArchive(directory);
+        }
+    }
+
+    @Benchmark
+    public Receipt processOrder(CheckoutState checkoutState) {
+        return checkoutState.storeManager.processOrder(ORDER, MEMBERSHIP_CHOICE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long scanArchive(ArchiveState archiveState) {
+        long[] finalPriceSum = new long[1];
+        ReceiptArchiveReader.scan(archiveState.directory, receipt -> finalPriceSum[0] += receipt.getFinalPrice());
+        return finalPriceSum[0];
+    }
+
+    private static StoreManager setUpStoreManager() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "콜라,1000,1000000000,null",
+                "물,500,1000000000,null"));
+        return storeManager;
+    }
+
+    private static Path createArchiveDirectory() {
+        try {
+            return Files.createTempDirectory("receipt-archive-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteArchive(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+            Files.delete(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
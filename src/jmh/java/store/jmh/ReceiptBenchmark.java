@@ -0,0 +1,75 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.OrderItem;
+import store.PromotionItem;
+import store.Receipt;
+import store.ReceiptBuilder;
+import store.view.OutputView;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.text.DecimalFormat;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReceiptBenchmark {
+    private static final String MEMBERSHIP_CHOICE = "Y";
+
+    private final PrintStream out = new PrintStream(OutputStream.nullOutputStream());
+    private final OutputView outputView = new OutputView(out);
+    private Receipt receipt;
+
+    @Setup
+    public void buildReceipt() {
+        receipt = constructReceipt();
+    }
+
+    @Benchmark
+    public Receipt constructReceipt() {
+        return new ReceiptBuilder()
+                .addOrderItem(new OrderItem("콜라", 3, 1000, 3000, 0, 1))
+                .addOrderItem(new OrderItem("에너지바", 5, 2000, 10000, 10000, 0))
+                .addOrderItem(new OrderItem("정식도시락", 2, 6400, 12800, 12800, 0))
+                .addPromotionItem(new PromotionItem("콜라", 1, 1000))
+                .build(MEMBERSHIP_CHOICE);
+    }
+
+    @Benchmark
+    public void renderReceipt() {
+        outputView.showReceipt(receipt, MEMBERSHIP_CHOICE);
+    }
+
+    @Benchmark
+    public void renderReceiptWithPrintf() {
+        DecimalFormat decimalFormat = new DecimalFormat("###,###");
+        out.println("===========W 편의점=============");
+        out.println("상품명\t\t\t수량\t\t\t금액");
+        for (OrderItem orderedItem : receipt.getOrderedItems()) {
+            out.printf("%-15s %3d %10d%n", orderedItem.getName(), orderedItem.getQuantity(), orderedItem.getTotalPrice());
+        }
+        out.println("===========증\t정=============");
+        for (PromotionItem promotionItem : receipt.getPromotionItems()) {
+            out.println(promotionItem.getName() + "\t\t\t" + promotionItem.getQuantity());
+        }
+        out.println("===============================");
+        out.println("총구매액" + "\t\t\t\t" + receipt.getTotalQuantity() + "\t\t" + decimalFormat.format(receipt.getTotalPrice()));
+        out.println("행사할인\t\t\t\t\t\t -" + decimalFormat.format(receipt.getPromotionalDiscountPrice()));
+        out.println("멤버십할인\t\t\t\t\t -" + decimalFormat.format(receipt.getMemberShipDiscountPrice()));
+        out.println("내실돈\t\t\t\t\t\t" + decimalFormat.format(receipt.getFinalPrice()));
+    }
+}
@@ -0,0 +1,112 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+import store.inventory.StockHold;
+import store.order.OrderLines;
+import store.order.OrderTokenizer;
+import store.replication.ReplicaNode;
+import store.replication.ReplicationPrimary;
+import store.view.OutputView;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static store.constant.ErrorMessage.REPLICATION_CONNECTION_LOST;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReplicationBenchmark {
+    private static final int AVAILABLE_PORT = 0;
+    private static final long CATCH_UP_TIMEOUT_MILLIS = 30_000;
+    private static final String ORDER = "[콜라-3],[물-2]";
+    private static final String MEMBERSHIP_CHOICE = "Y";
+    private static final PromotionDecisionPolicy ACCEPTING_POLICY = PromotionDecisionPolicy.of(true, true);
+
+    @Param({"none", "replicated", "replicated-with-reads"})
+    private String mode;
+
+    private StoreManager primary;
+    private ReplicaNode replicaNode;
+    private ReplicationPrimary replicationPrimary;
+    private OrderLines orderLines;
+    private Thread statusReader;
+    private volatile boolean reading;
+
+    @Setup
+    public void connectReplica() {
+        primary = setUpStoreManager();
+        replicaNode = ReplicaNode.listen(setUpStoreManager(), AVAILABLE_PORT);
+        replicationPrimary = ReplicationPrimary.connect(primary.getInventory(), replicaNode.getPort());
+        if (!mode.equals("none")) {
+            primary.addStockListener(replicationPrimary);
+        }
+        if (mode.equals("replicated-with-reads")) {
+            reading = true;
+            statusReader = new Thread(this::readStatus);
+            statusReader.start();
+        }
+        orderLines = OrderTokenizer.tokenize(ORDER, primary.getInventory(), new OrderLines());
+    }
+
+    @TearDown
+    public void disconnectReplica() throws InterruptedException {
+        try {
+            reading = false;
+            if (statusReader != null) {
+                statusReader.join();
+            }
+            boolean caughtUp = replicationPrimary.awaitAcknowledgement(replicationPrimary.getLastSequence(), CATCH_UP_TIMEOUT_MILLIS);
+            if (!caughtUp || replicationPrimary.isBroken() || replicaNode.isBroken()) {
+                throw new IllegalStateException(REPLICATION_CONNECTION_LOST.getValue());
+            }
+        } finally {
+            replicationPrimary.close();
+            replicaNode.close();
+        }
+    }
+
+    @Benchmark
+    public Receipt processOrder() {
+        return primary.processOrder(orderLines, MEMBERSHIP_CHOICE, StockHold.none(primary.getInventory()), ACCEPTING_POLICY);
+    }
+
+    private void readStatus() {
+        OutputView outputView = new OutputView((bytes, offset, length) -> {
+        });
+        while (reading) {
+            outputView.showCurrentStatus(replicaNode.getStoreManager().getInventory());
+        }
+    }
+
+    private static StoreManager setUpStoreManager() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "콜라,1000,1000000000,탄산2+1",
+                "콜라,1000,1000000000,null",
+                "물,500,1000000000,null",
+                "컵라면,1700,1000000000,null"));
+        storeManager.setUpPromotions(List.of(
+                "name,buy,get,start_date,end_date",
+                "탄산2+1,2,1,2000-01-01,2099-12-31"));
+        return storeManager;
+    }
+}
@@ -0,0 +1,123 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import store.OrderItem;
+import store.PromotionItem;
+import store.Receipt;
+import store.ReceiptBuilder;
+import store.StoreOptions;
+import store.analytics.SalesAnalytics;
+import store.analytics.SalesReport;
+import store.archive.ReceiptArchive;
+import store.benchmark.CatalogFixtures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SalesAnalyticsBenchmark {
+    private static final int RECEIPT_COUNT = 10_000_000;
+    private static final int PRODUCT_COUNT = 200;
+    private static final int DISTINCT_RECEIPTS = 4096;
+    private static final int MAXIMUM_LINES = 4;
+    private static final int MAXIMUM_QUANTITY = 10;
+    private static final int GIFT_INTERVAL = 3;
+    private static final long NO_FLUSH_INTERVAL = 0;
+    private static final int FLUSH_EVERY_RECEIPTS = 65_536;
+    private static final long SEED = 42;
+
+    @Param({"1", "2", "4", "8"})
+    private int workers;
+
+    private Path directory;
+    private ForkJoinPool pool;
+    private SalesAnalytics salesAnalytics;
+
+    @Setup
+    public void writeArchive() {
+        try {
+            directory = Files.createTempDirectory("sales-analytics-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Receipt[] receipts = syntheticReceipts(new Random(SEED));
+        long segmentSize = StoreOptions.fromArguments(new String[0]).getReceiptSegmentBytes();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, segmentSize, NO_FLUSH_INTERVAL)) {
+            for (int index = 0; index < RECEIPT_COUNT; index++) {
+                receiptArchive.onReceiptIssued(receipts[index % DISTINCT_RECEIPTS]);
+                if (index % FLUSH_EVERY_RECEIPTS == 0) {
+                    receiptArchive.flush();
+                }
+            }
+        }
+        pool = new ForkJoinPool(workers);
+        salesAnalytics = new SalesAnalytics(pool);
+    }
+
+    @TearDown
+    public void deleteArchive() {
+        pool.shutdown();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+            Files.delete(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public SalesReport analyzeArchive() {
+        return salesAnalytics.analyze(directory);
+    }
+
+    private static Receipt[] syntheticReceipts(Random random) {
+        Receipt[] receipts = new Receipt[DISTINCT_RECEIPTS];
+        for (int index = 0; index < DISTINCT_RECEIPTS; index++) {
+            ReceiptBuilder receiptBuilder = new ReceiptBuilder();
+            int lineCount = 1 + random.nextInt(MAXIMUM_LINES);
+            for (int line = 0; line < lineCount; line++) {
+                int productIndex = random.nextInt(PRODUCT_COUNT);
+                int quantity = 1 + random.nextInt(MAXIMUM_QUANTITY);
+                int price = 500 + productIndex * 100;
+                receiptBuilder.addOrderItem(new OrderItem(CatalogFixtures.productName(productIndex), quantity, price,
+                        (long) quantity * price, (long) quantity * price, 0));
+                if (productIndex % GIFT_INTERVAL == 0) {
+                    receiptBuilder.addPromotionItem(new PromotionItem(CatalogFixtures.productName(productIndex), 1, price));
+                }
+            }
+            receipts[index] = receiptBuilder.build(membershipChoice(random));
+        }
+        return receipts;
+    }
+
+    private static String membershipChoice(Random random) {
+        if (random.nextBoolean()) {
+            return "Y";
+        }
+        return "N";
+    }
+}
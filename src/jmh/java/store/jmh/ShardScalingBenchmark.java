@@ -0,0 +1,89 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+import store.shard.LocalShardNode;
+import store.shard.ShardedStoreRouter;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShardScalingBenchmark {
+    private static final int STORE_COUNT = 512;
+    private static final int IN_FLIGHT_ORDERS = 64;
+    private static final String[] ORDERS = {"[콜라-3],[물-2]", "[물-1]", "[콜라-2]", "[컵라면-1],[물-1]"};
+    private static final String MEMBERSHIP_CHOICE = "Y";
+    private static final PromotionDecisionPolicy ACCEPTING_POLICY = PromotionDecisionPolicy.of(true, true);
+    private static final long SEED = 42;
+
+    @Param({"1", "2", "4", "8"})
+    private int nodes;
+
+    private ShardedStoreRouter router;
+    private final Random random = new Random(SEED);
+    @SuppressWarnings("unchecked")
+    private final CompletableFuture<Receipt>[] inFlight = new CompletableFuture[IN_FLIGHT_ORDERS];
+
+    @Setup
+    public void registerStores() {
+        router = new ShardedStoreRouter();
+        for (int node = 0; node < nodes; node++) {
+            router.addNode(new LocalShardNode("node-" + node));
+        }
+        for (int store = 0; store < STORE_COUNT; store++) {
+            router.registerStore("store-" + store, setUpStoreManager());
+        }
+    }
+
+    @TearDown
+    public void closeRouter() {
+        router.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT_ORDERS)
+    public void submitOrders() {
+        for (int order = 0; order < IN_FLIGHT_ORDERS; order++) {
+            inFlight[order] = router.submitOrder("store-" + random.nextInt(STORE_COUNT), ORDERS[order % ORDERS.length], MEMBERSHIP_CHOICE, ACCEPTING_POLICY);
+        }
+        for (CompletableFuture<Receipt> receipt : inFlight) {
+            receipt.join();
+        }
+    }
+
+    private static StoreManager setUpStoreManager() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "콜라,1000,1000000000,탄산2+1",
+                "콜라,1000,1000000000,null",
+                "물,500,1000000000,null",
+                "컵라면,1700,1000000000,null"));
+        storeManager.setUpPromotions(List.of(
+                "name,buy,get,start_date,end_date",
+                "탄산2+1,2,1,2000-01-01,2099-12-31"));
+        return storeManager;
+    }
+}
@@ -0,0 +1,96 @@
+package store.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.StoreManager;
+import store.benchmark.CatalogFixtures;
+import store.snapshot.CatalogFingerprint;
+import store.snapshot.InventorySnapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StoreSetUpBenchmark {
+    @Param({"16", "10000", "100000", "1000000"})
+    private int productCount;
+
+    private Path productsPath;
+    private Path promotionsPath;
+    private Path snapshotPath;
+    private CatalogFingerprint fingerprint;
+    private List<String> productLines;
+
+    @Setup
+    public void writeCatalog() {
+        productsPath = CatalogFixtures.writeProducts(productCount);
+        promotionsPath = CatalogFixtures.writePromotions();
+        fingerprint = CatalogFingerprint.of(productsPath, promotionsPath);
+        try {
+            productLines = Files.readAllLines(productsPath, StandardCharsets.UTF_8);
+            snapshotPath = Files.createTempFile("inventory-", ".snapshot");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        snapshotPath.toFile().deleteOnExit();
+        InventorySnapshot.write(snapshotPath, loadFromCatalog(), fingerprint, 0);
+    }
+
+    @Benchmark
+    public StoreManager setUpStoreFromLines() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(productLines);
+        return storeManager;
+    }
+
+    @Benchmark
+    public StoreManager setUpStoreFromFile() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(productsPath);
+        return storeManager;
+    }
+
+    @Benchmark
+    public StoreManager setUpStoreInParallel() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStoreInParallel(productsPath, ForkJoinPool.commonPool());
+        return storeManager;
+    }
+
+    @Benchmark
+    public StoreManager loadFromCatalog() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(productsPath);
+        storeManager.setUpPromotions(promotionsPath);
+        return storeManager;
+    }
+
+    @Benchmark
+    public StoreManager loadFromSnapshot() {
+        StoreManager storeManager = new StoreManager();
+        if (InventorySnapshot.loadIfFresh(snapshotPath, storeManager, fingerprint).isEmpty()) {
+            throw new IllegalStateException(snapshotPath.toString());
+        }
+        return storeManager;
+    }
+}
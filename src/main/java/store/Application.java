@@ -1,10 +1,16 @@
 package store;
 
 import store.controller.StoreController;
+import store.server.CheckoutServer;
 
 public class Application {
     public static void main(String[] args) {
-        StoreController storeController = new StoreController();
+        StoreOptions storeOptions = StoreOptions.fromArguments(args);
+        if (storeOptions.getServerPort().isPresent()) {
+            CheckoutServer.run(storeOptions, storeOptions.getServerPort().get());
+            return;
+        }
+        StoreController storeController = new StoreController(storeOptions);
         storeController.run();
     }
 }
@@ -0,0 +1,104 @@
+package store;
+
+import store.inventory.StockClaim;
+import store.inventory.StockHold;
+import store.promotion.ActivePromotions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+class OrderContext {
+    private final PromotionDecisionPolicy decisionPolicy;
+    private final ActivePromotions activePromotions;
+    private final boolean sampled;
+    private final StockHold stockHold;
+    private final List<StockDelta> stockDeltas = new ArrayList<>();
+    private final Map<String, Boolean> decisions = new HashMap<>();
+    private final Map<Integer, StockClaim> plannedClaims = new HashMap<>();
+    private StockClaim lineStockClaim;
+    private int lineIndex;
+    private boolean planning;
+    private boolean decisionMissing;
+
+    OrderContext(PromotionDecisionPolicy decisionPolicy, ActivePromotions activePromotions, boolean sampled, StockHold stockHold) {
+        this.decisionPolicy = decisionPolicy;
+        this.activePromotions = activePromotions;
+        this.sampled = sampled;
+        this.stockHold = stockHold;
+    }
+
+    PromotionDecisionPolicy getDecisionPolicy() {
+        return decisionPolicy;
+    }
+
+    ActivePromotions getActivePromotions() {
+        return activePromotions;
+    }
+
+    boolean isSampled() {
+        return sampled;
+    }
+
+    StockHold getStockHold() {
+        return stockHold;
+    }
+
+    List<StockDelta> getStockDeltas() {
+        return stockDeltas;
+    }
+
+    boolean decide(String decision, BooleanSupplier prompt) {
+        String decisionKey = lineIndex + decision;
+        Boolean decided = decisions.get(decisionKey);
+        if (decided != null) {
+            return decided;
+        }
+        if (!planning) {
+            decisionMissing = true;
+            return false;
+        }
+        boolean answer = prompt.getAsBoolean();
+        decisions.put(decisionKey, answer);
+        return answer;
+    }
+
+    boolean isPlanning() {
+        return planning;
+    }
+
+    boolean isDecisionMissing() {
+        return decisionMissing;
+    }
+
+    Map<Integer, StockClaim> getPlannedClaims() {
+        return plannedClaims;
+    }
+
+    void startPlanning() {
+        planning = true;
+        decisionMissing = false;
+        stockDeltas.clear();
+        plannedClaims.clear();
+    }
+
+    void startCommitting() {
+        planning = false;
+        decisionMissing = false;
+        stockDeltas.clear();
+    }
+
+    void setLineIndex(int lineIndex) {
+        this.lineIndex = lineIndex;
+    }
+
+    StockClaim getLineStockClaim() {
+        return lineStockClaim;
+    }
+
+    void startLine(StockClaim lineStockClaim) {
+        this.lineStockClaim = lineStockClaim;
+    }
+}
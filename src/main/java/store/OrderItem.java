@@ -4,11 +4,11 @@ public class OrderItem {
     private String name;
     private int quantity;
     private int price;
-    private int totalPrice;
-    private int payWithoutPromotionPrice;
+    private long totalPrice;
+    private long payWithoutPromotionPrice;
     private int promotionQuantity;
 
-    public OrderItem(String name, int quantity, int price, int totalPrice, int promotionQuantity) {
+    public OrderItem(String name, int quantity, int price, long totalPrice, int promotionQuantity) {
         this.name = name;
         this.quantity = quantity;
         this.price = price;
@@ -16,7 +16,7 @@ public class OrderItem {
         this.promotionQuantity = promotionQuantity;
     }
 
-    public OrderItem(String name, int quantity, int price, int totalPrice, int payFromGeneralInventoryPrice, int promotionQuantity) {
+    public OrderItem(String name, int quantity, int price, long totalPrice, long payFromGeneralInventoryPrice, int promotionQuantity) {
         this.name = name;
         this.quantity = quantity;
         this.price = price;
@@ -25,15 +25,15 @@ public class OrderItem {
         this.promotionQuantity = promotionQuantity;
     }
 
-    public OrderItem(String name, int quantity, int price, int totalPrice) {
+    public OrderItem(String name, int quantity, int price, long totalPrice) {
         this.name = name;
         this.quantity = quantity;
         this.price = price;
         this.totalPrice = totalPrice;
     }
 
-    public int getPromotionalDiscountPrice() {
-        return price * promotionQuantity;
+    public long getPromotionalDiscountPrice() {
+        return (long) price * promotionQuantity;
     }
 
     public String getName() {
@@ -48,11 +48,11 @@ public class OrderItem {
         return price;
     }
 
-    public int getTotalPrice() {
+    public long getTotalPrice() {
         return totalPrice;
     }
 
-    public int getPayWithoutPromotionPrice() {
+    public long getPayWithoutPromotionPrice() {
         return payWithoutPromotionPrice;
     }
 
@@ -0,0 +1,84 @@
+package store;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import store.constant.CheckoutStage;
+import store.constant.StockType;
+import store.inventory.Inventory;
+import store.metrics.CheckoutMetrics;
+import store.order.OrderLines;
+import store.order.OrderTokenizer;
+import store.promotion.ActivePromotions;
+import store.promotion.PromotionCalendar;
+
+import static store.constant.ErrorMessage.EXCEEDS_AVAILABLE_STOCK;
+
+public class OrderValidator {
+    private static final int MINIMUM_STOCK = 1;
+
+    private final StoreManager storeManager;
+
+    public OrderValidator(StoreManager storeManager) {
+        this.storeManager = storeManager;
+    }
+
+    public OrderLines validateInputOrderItems(String orderItems) {
+        return validateInputOrderItems(orderItems, new OrderLines());
+    }
+
+    public OrderLines validateInputOrderItems(String orderItems, OrderLines orderLines) {
+        CheckoutMetrics checkoutMetrics = storeManager.getCheckoutMetrics();
+        boolean sampled = checkoutMetrics.sample();
+        long parseStart = checkoutMetrics.startStage(sampled);
+        OrderTokenizer.tokenize(orderItems, storeManager.getInventory(), orderLines);
+        orderLines.setSampled(sampled);
+        checkoutMetrics.endStage(CheckoutStage.ORDER_PARSING, parseStart);
+        long validationStart = checkoutMetrics.startStage(sampled);
+        validateExceedsQuantity(orderLines);
+        checkoutMetrics.endStage(CheckoutStage.ORDER_VALIDATION, validationStart);
+        return orderLines;
+    }
+
+    private void validateExceedsQuantity(OrderLines orderLines) {
+        Inventory inventory = storeManager.getInventory();
+        PromotionCalendar promotionCalendar = storeManager.getPromotionCalendar();
+        ActivePromotions activePromotions = promotionCalendar.activeAt(DateTimes.now());
+        for (int line = 0; line < orderLines.size(); line++) {
+            validateStockAvailability(orderLines.getQuantity(line), inventory, orderLines.getProductId(line), promotionCalendar, activePromotions);
+        }
+    }
+
+    private void validateStockAvailability(int requestedOrderItemsQuantity, Inventory inventory, int productId, PromotionCalendar promotionCalendar, ActivePromotions activePromotions) {
+        if (inventory.hasProduct(productId, StockType.EVENT)) {
+            Promotion promotion = promotionCalendar.get(inventory.getPromotion(productId));
+            if (validatePromotionItem(promotion, activePromotions, inventory, productId)) {
+                validateCombinedStockForEventProduct(inventory, productId, requestedOrderItemsQuantity);
+                return;
+            }
+        }
+        validateStockForGeneralProduct(requestedOrderItemsQuantity, inventory, productId);
+    }
+
+    private void validateCombinedStockForEventProduct(Inventory inventory, int productId, int requestedOrderItemsQuantity) {
+        if (inventory.getStock(productId, StockType.EVENT) + inventory.getStock(productId, StockType.GENERAL) < requestedOrderItemsQuantity) {
+            throw new IllegalArgumentException(EXCEEDS_AVAILABLE_STOCK.getValue());
+        }
+    }
+
+    private void validateStockForGeneralProduct(int requestedOrderItemsQuantity, Inventory inventory, int productId) {
+        if (inventory.getStock(productId, StockType.GENERAL) < requestedOrderItemsQuantity) {
+            throw new IllegalArgumentException(EXCEEDS_AVAILABLE_STOCK.getValue());
+        }
+    }
+    
+    private boolean validatePromotionDuration(Promotion promotion, ActivePromotions activePromotions) {
+        return activePromotions.contains(promotion.getName());
+    }
+
+    private boolean validatePromotionItem(Promotion promotion, ActivePromotions activePromotions, Inventory inventory, int productId) {
+        return validatePromotionDuration(promotion, activePromotions) && isEventStockGreaterThanZero(inventory, productId);
+    }
+
+    private boolean isEventStockGreaterThanZero(Inventory inventory, int productId) {
+        return MINIMUM_STOCK <= inventory.getStock(productId, StockType.EVENT);
+    }
+}
@@ -1,15 +1,20 @@
 package store;
 
+import store.constant.ProductField;
+import store.loader.CatalogRow;
+
 import static store.constant.ProductField.NAME;
 import static store.constant.ProductField.PRICE;
 import static store.constant.ProductField.PROMOTION_INFO;
 import static store.constant.ProductField.QUANTITY;
 
 public class Product {
+    private static final int CATALOG_FIELD_COUNT = ProductField.values().length;
+
     private String name;
     private int price;
 
-    private Integer quantity;
+    private int quantity;
 
     private String promotion;
 
@@ -29,6 +34,15 @@ public class Product {
         return new Product(name, price, quantity, promotion);
     }
 
+    public static void requireCatalogFields(CatalogRow row) {
+        row.requireFieldCount(CATALOG_FIELD_COUNT, CATALOG_FIELD_COUNT);
+    }
+
+    public static Product fromCatalogRow(CatalogRow row) {
+        requireCatalogFields(row);
+        return new Product(row.text(NAME.getIndex()), row.number(PRICE.getIndex()), row.number(QUANTITY.getIndex()), row.text(PROMOTION_INFO.getIndex()));
+    }
+
     public String getName() {
         return name;
     }
@@ -37,7 +51,7 @@ public class Product {
         return price;
     }
 
-    public Integer getQuantity() {
+    public int getQuantity() {
         return quantity;
     }
 
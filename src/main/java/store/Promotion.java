@@ -1,5 +1,9 @@
 package store;
 
+import store.constant.PromotionField;
+import store.loader.CatalogRow;
+import store.promotion.PromotionRule;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -7,21 +11,31 @@ import static store.constant.ProductField.NAME;
 import static store.constant.PromotionField.BUY;
 import static store.constant.PromotionField.END_DATE;
 import static store.constant.PromotionField.GET;
+import static store.constant.PromotionField.RULE;
 import static store.constant.PromotionField.START_DATE;
 
 public class Promotion {
+    private static final int MAXIMUM_CATALOG_FIELDS = PromotionField.values().length;
+    private static final int MINIMUM_CATALOG_FIELDS = MAXIMUM_CATALOG_FIELDS - 1;
+
     private String name;
     private int buy;
     private int get;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
+    private PromotionRule rule;
 
     public Promotion(String name, int buy, int get, LocalDateTime startTime, LocalDateTime endTime) {
+        this(name, buy, get, startTime, endTime, PromotionRule.bundle());
+    }
+
+    public Promotion(String name, int buy, int get, LocalDateTime startTime, LocalDateTime endTime, PromotionRule rule) {
         this.name = name;
         this.buy = buy;
         this.get = get;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.rule = rule;
     }
 
     public static Promotion fromPromotionDetails(String[] promotionDetails) {
@@ -30,7 +44,37 @@ public class Promotion {
 
         return new Promotion(promotionDetails[NAME.getIndex()], Integer.parseInt(promotionDetails[BUY.getIndex()]),
                 Integer.parseInt(promotionDetails[GET.getIndex()]), LocalDate.parse(promotionDetails[START_DATE.getIndex()]).atStartOfDay(),
-                LocalDate.parse(promotionDetails[END_DATE.getIndex()]).plusDays(DAY_INCREMENT).atStartOfDay().minusSeconds(END_OF_DAY_OFFSET));
+                LocalDate.parse(promotionDetails[END_DATE.getIndex()]).plusDays(DAY_INCREMENT).atStartOfDay().minusSeconds(END_OF_DAY_OFFSET),
+                compileRule(promotionDetails));
+    }
+
+    public static Promotion fromCatalogRow(CatalogRow row) {
+        final int DAY_INCREMENT = 1;
+        final int END_OF_DAY_OFFSET = 1;
+
+        row.requireFieldCount(MINIMUM_CATALOG_FIELDS, MAXIMUM_CATALOG_FIELDS);
+        return new Promotion(row.text(NAME.getIndex()), row.number(BUY.getIndex()), row.number(GET.getIndex()),
+                LocalDate.parse(row.text(START_DATE.getIndex())).atStartOfDay(),
+                LocalDate.parse(row.text(END_DATE.getIndex())).plusDays(DAY_INCREMENT).atStartOfDay().minusSeconds(END_OF_DAY_OFFSET),
+                compileRule(row));
+    }
+
+    private static PromotionRule compileRule(String[] promotionDetails) {
+        if (promotionDetails.length > RULE.getIndex()) {
+            return PromotionRule.compile(promotionDetails[RULE.getIndex()]);
+        }
+        return PromotionRule.bundle();
+    }
+
+    private static PromotionRule compileRule(CatalogRow row) {
+        if (row.getFieldCount() > RULE.getIndex()) {
+            return PromotionRule.compile(row.text(RULE.getIndex()));
+        }
+        return PromotionRule.bundle();
+    }
+
+    public Promotion expire() {
+        return new Promotion(name, buy, get, startTime, startTime, rule);
     }
 
     public String getName() {
@@ -52,4 +96,8 @@ public class Promotion {
     public LocalDateTime getEndTime() {
         return endTime;
     }
+
+    public PromotionRule getRule() {
+        return rule;
+    }
 }
@@ -0,0 +1,21 @@
+package store;
+
+public interface PromotionDecisionPolicy {
+    boolean acceptsAdditionalPromotion(String productName, int promotionalQuantity);
+
+    boolean buysWithoutPromotion(String productName, int nonPromotionalQuantity);
+
+    static PromotionDecisionPolicy of(boolean acceptsAdditionalPromotion, boolean buysWithoutPromotion) {
+        return new PromotionDecisionPolicy() {
+            @Override
+            public boolean acceptsAdditionalPromotion(String productName, int promotionalQuantity) {
+                return acceptsAdditionalPromotion;
+            }
+
+            @Override
+            public boolean buysWithoutPromotion(String productName, int nonPromotionalQuantity) {
+                return buysWithoutPromotion;
+            }
+        };
+    }
+}
@@ -1,21 +1,45 @@
 package store;
 
 public class PromotionItem {
+    private static final String NO_PROMOTION = "null";
+
     private String name;
+    private String promotionName;
     private int quantity;
     private int price;
+    private long discountPrice;
+    private boolean gift;
 
 
     public PromotionItem(String name, int quantity, int price) {
+        this(name, NO_PROMOTION, quantity, price);
+    }
+
+    public PromotionItem(String name, String promotionName, int quantity, int price) {
+        this(name, promotionName, quantity, price, (long) quantity * price, true);
+    }
+
+    private PromotionItem(String name, String promotionName, int quantity, int price, long discountPrice, boolean gift) {
         this.name = name;
+        this.promotionName = promotionName;
         this.quantity = quantity;
         this.price = price;
+        this.discountPrice = discountPrice;
+        this.gift = gift;
+    }
+
+    public static PromotionItem discounted(String name, String promotionName, int quantity, int price, long discountPrice) {
+        return new PromotionItem(name, promotionName, quantity, price, discountPrice, false);
     }
 
     public String getName() {
         return name;
     }
 
+    public String getPromotionName() {
+        return promotionName;
+    }
+
     public int getQuantity() {
         return quantity;
     }
@@ -24,7 +48,11 @@ public class PromotionItem {
         return price;
     }
 
-    public int promotionalDiscountPrice() {
-        return this.quantity * this.price;
+    public boolean isGift() {
+        return gift;
+    }
+
+    public long promotionalDiscountPrice() {
+        return this.discountPrice;
     }
 }
@@ -5,61 +5,30 @@ import java.util.List;
 public class Receipt {
     private final List<OrderItem> orderedItems;
     private final List<PromotionItem> promotionItems;
-    private final int totalPrice;
-    private final int totalQuantity;
+    private final long totalPrice;
+    private final long totalQuantity;
     private final boolean isMembershipActive;
-    private final int memberShipDiscountPrice;
-    private final int promotionalDiscountPrice;
-    private final int finalPrice;
+    private final long memberShipDiscountPrice;
+    private final long promotionalDiscountPrice;
+    private final long finalPrice;
 
 
-    public Receipt(List<OrderItem> orderedItems, List<PromotionItem> promotionItems, String memberShipChoice) {
-
+    Receipt(List<OrderItem> orderedItems, List<PromotionItem> promotionItems, long totalPrice, long totalQuantity,
+            boolean isMembershipActive, long memberShipDiscountPrice, long promotionalDiscountPrice, long finalPrice) {
         this.orderedItems = orderedItems;
         this.promotionItems = promotionItems;
-        this.isMembershipActive = updateMembershipChoice(memberShipChoice);
-        this.totalPrice = orderedItems.stream()
-                .mapToInt(OrderItem::getTotalPrice)
-                .sum();
-        this.totalQuantity = orderedItems.stream()
-                .mapToInt(OrderItem::getQuantity)
-                .sum();
-        int totalPayWithoutPromotion = orderedItems.stream()
-                .mapToInt(OrderItem::getPayWithoutPromotionPrice)
-                .sum();
-        this.memberShipDiscountPrice = getMembershipDiscountPrice(memberShipChoice, totalPayWithoutPromotion);
-
-        this.promotionalDiscountPrice = promotionItems.stream()
-                .mapToInt(PromotionItem::promotionalDiscountPrice)
-                .sum();
-        this.finalPrice = totalPrice - promotionalDiscountPrice - memberShipDiscountPrice;
+        this.totalPrice = totalPrice;
+        this.totalQuantity = totalQuantity;
+        this.isMembershipActive = isMembershipActive;
+        this.memberShipDiscountPrice = memberShipDiscountPrice;
+        this.promotionalDiscountPrice = promotionalDiscountPrice;
+        this.finalPrice = finalPrice;
     }
 
-    public int getTotalQuantity() {
+    public long getTotalQuantity() {
         return totalQuantity;
     }
 
-    public int getMembershipDiscountPrice(String membershipChoice, int totalPayWithoutPromotion) {
-        final String ACCEPTANCE_RESPONSE = "Y";
-        final double MEMBERSHIP_DISCOUNT_RATE = 0.3;
-        final int NO_MEMBERSHIP_DISCOUNT = 0;
-
-        if (membershipChoice.equals(ACCEPTANCE_RESPONSE)) {
-            double membershipDiscountPrice = totalPayWithoutPromotion * MEMBERSHIP_DISCOUNT_RATE;
-            return getDiscountWithinLimit(membershipDiscountPrice);
-        }
-
-        return NO_MEMBERSHIP_DISCOUNT;
-    }
-
-    public int getDiscountWithinLimit(double membershipDiscountPrice) {
-        final int MAXIMUM_MEMBERSHIP_DISCOUNT = 8000;
-        if (membershipDiscountPrice >= MAXIMUM_MEMBERSHIP_DISCOUNT) {
-            return MAXIMUM_MEMBERSHIP_DISCOUNT;
-        }
-        return (int) membershipDiscountPrice;
-    }
-
     public List<OrderItem> getOrderedItems() {
         return orderedItems;
     }
@@ -68,7 +37,7 @@ public class Receipt {
         return promotionItems;
     }
 
-    public int getTotalPrice() {
+    public long getTotalPrice() {
         return totalPrice;
     }
 
@@ -76,22 +45,15 @@ public class Receipt {
         return isMembershipActive;
     }
 
-    public int getMemberShipDiscountPrice() {
+    public long getMemberShipDiscountPrice() {
         return memberShipDiscountPrice;
     }
 
-    public int getPromotionalDiscountPrice() {
+    public long getPromotionalDiscountPrice() {
         return promotionalDiscountPrice;
     }
 
-    public int getFinalPrice() {
+    public long getFinalPrice() {
         return finalPrice;
     }
-
-    private boolean updateMembershipChoice(String membershipChoice) {
-        if (membershipChoice.equals("Y")) {
-            return true;
-        }
-        return false;
-    }
 }
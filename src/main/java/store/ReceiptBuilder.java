@@ -0,0 +1,76 @@
+package store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ReceiptBuilder {
+    private static final String ACCEPTANCE_RESPONSE = "Y";
+    private static final long MEMBERSHIP_DISCOUNT_PERCENT = 30;
+    private static final long PERCENT_DENOMINATOR = 100;
+    public static final long MAXIMUM_MEMBERSHIP_DISCOUNT = 8000;
+    private static final long NO_MEMBERSHIP_DISCOUNT = 0;
+
+    private final List<OrderItem> orderedItems = new ArrayList<>();
+    private final List<PromotionItem> promotionItems = new ArrayList<>();
+    private long totalPrice;
+    private long totalQuantity;
+    private long totalPayWithoutPromotion;
+    private long promotionalDiscountPrice;
+    private long freeItemQuantity;
+
+    public ReceiptBuilder addOrderItem(OrderItem orderItem) {
+        orderedItems.add(orderItem);
+        totalPrice = Math.addExact(totalPrice, orderItem.getTotalPrice());
+        totalQuantity = Math.addExact(totalQuantity, orderItem.getQuantity());
+        totalPayWithoutPromotion = Math.addExact(totalPayWithoutPromotion, orderItem.getPayWithoutPromotionPrice());
+        return this;
+    }
+
+    public ReceiptBuilder addPromotionItem(PromotionItem promotionItem) {
+        promotionItems.add(promotionItem);
+        promotionalDiscountPrice = Math.addExact(promotionalDiscountPrice, promotionItem.promotionalDiscountPrice());
+        if (promotionItem.isGift()) {
+            freeItemQuantity += promotionItem.getQuantity();
+        }
+        return this;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public long getPromotionalDiscountPrice() {
+        return promotionalDiscountPrice;
+    }
+
+    public long getFreeItemQuantity() {
+        return freeItemQuantity;
+    }
+
+    public int getLineCount() {
+        return orderedItems.size();
+    }
+
+    public long getRunningSubtotal() {
+        return totalPrice - promotionalDiscountPrice;
+    }
+
+    public Receipt build(String membershipChoice) {
+        boolean isMembershipActive = membershipChoice.equals(ACCEPTANCE_RESPONSE);
+        long membershipDiscountPrice = getMembershipDiscountPrice(isMembershipActive);
+        return new Receipt(Collections.unmodifiableList(orderedItems), Collections.unmodifiableList(promotionItems), totalPrice, totalQuantity,
+                isMembershipActive, membershipDiscountPrice, promotionalDiscountPrice, totalPrice - promotionalDiscountPrice - membershipDiscountPrice);
+    }
+
+    private long getMembershipDiscountPrice(boolean isMembershipActive) {
+        if (isMembershipActive) {
+            return Math.min(MAXIMUM_MEMBERSHIP_DISCOUNT, Math.multiplyExact(totalPayWithoutPromotion, MEMBERSHIP_DISCOUNT_PERCENT) / PERCENT_DENOMINATOR);
+        }
+        return NO_MEMBERSHIP_DISCOUNT;
+    }
+}
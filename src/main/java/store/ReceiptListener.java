@@ -0,0 +1,6 @@
+package store;
+
+@FunctionalInterface
+public interface ReceiptListener {
+    void onReceiptIssued(Receipt receipt);
+}
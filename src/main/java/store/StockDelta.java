@@ -0,0 +1,27 @@
+package store;
+
+import store.constant.StockType;
+
+public class StockDelta {
+    private final String productName;
+    private final StockType stockType;
+    private final int quantityDelta;
+
+    public StockDelta(String productName, StockType stockType, int quantityDelta) {
+        this.productName = productName;
+        this.stockType = stockType;
+        this.quantityDelta = quantityDelta;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public StockType getStockType() {
+        return stockType;
+    }
+
+    public int getQuantityDelta() {
+        return quantityDelta;
+    }
+}
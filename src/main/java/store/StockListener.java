@@ -0,0 +1,8 @@
+package store;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface StockListener {
+    void onOrderProcessed(List<StockDelta> stockDeltas);
+}
@@ -1,23 +1,39 @@
 package store;
 
 import camp.nextstep.edu.missionutils.DateTimes;
-import store.constant.ErrorMessage;
-import store.view.InputView;
-import store.view.OutputView;
-
-import java.time.LocalDateTime;
+import store.constant.CheckoutStage;
+import store.constant.StockType;
+import store.inventory.HoldTimerWheel;
+import store.inventory.Inventory;
+import store.inventory.StockClaim;
+import store.inventory.StockHold;
+import store.inventory.StripedStockLocks;
+import store.loader.CatalogRow;
+import store.loader.CatalogScanner;
+import store.loader.InventoryChunk;
+import store.loader.ParallelCatalogLoader;
+import store.metrics.CheckoutMetrics;
+import store.order.OrderLines;
+import store.order.OrderTokenizer;
+import store.promotion.ActivePromotions;
+import store.promotion.PromotionCalendar;
+import store.promotion.PromotionRule;
+import store.reload.CatalogDiff;
+import store.reload.ProductChange;
+import store.view.ConsolePromotionDecisionPolicy;
+
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
 
 import static store.constant.ErrorMessage.EXCEEDS_AVAILABLE_STOCK;
-import static store.constant.ErrorMessage.INVALID_INPUT;
 import static store.constant.ProductField.NAME;
+import static store.constant.ProductField.PRICE;
 import static store.constant.ProductField.PROMOTION_INFO;
-import static store.constant.Regex.YES_NO_RESPONSE_FORMAT;
+import static store.constant.ProductField.QUANTITY;
 
 public class StoreManager {
     private static final int FILES_START_INDEX = 1;
@@ -26,27 +42,64 @@ public class StoreManager {
     private static final String ACCEPTANCE_RESPONSE = "Y";
     private static final String REJECTION_RESPONSE = "N";
     private static final int BASIC_AMOUNT = 0;
-    private final OutputView outputView = new OutputView();
-    private final InputView inputView = new InputView();
-    private final Map<String, Product> generalProductInventory = new HashMap<>();
-    private final Map<String, Product> eventProductInventory = new HashMap<>();
-    private final Map<String, Promotion> promotionInventory = new HashMap<>();
+    private static final String NON_PROMOTIONAL_PURCHASE_DECISION = "non-promotional:";
+    private static final String ADDITIONAL_PROMOTION_DECISION = "additional-promotion:";
+    private static final int DEFAULT_STOCK_LOCK_STRIPES = 64;
+    private static final Duration HOLD_WHEEL_TICK = Duration.ofMillis(100);
+    private static final int HOLD_WHEEL_SLOTS = 512;
+    private final PromotionDecisionPolicy consoleDecisionPolicy = new ConsolePromotionDecisionPolicy();
+    private final Inventory inventory = new Inventory();
+    private final StripedStockLocks stockLocks;
+    private final HoldTimerWheel holdTimerWheel = new HoldTimerWheel(HOLD_WHEEL_TICK, HOLD_WHEEL_SLOTS, System::nanoTime);
+    private final PromotionCalendar promotionCalendar = new PromotionCalendar();
+    private final List<StockListener> stockListeners = new CopyOnWriteArrayList<>();
+    private final List<ReceiptListener> receiptListeners = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<OrderContext> orderContext = new ThreadLocal<>();
+    private final CheckoutMetrics checkoutMetrics;
+
+    public StoreManager() {
+        this(DEFAULT_STOCK_LOCK_STRIPES);
+    }
 
+    public StoreManager(int stockLockStripes) {
+        this(stockLockStripes, new CheckoutMetrics());
+    }
+
+    public StoreManager(int stockLockStripes, CheckoutMetrics checkoutMetrics) {
+        this.stockLocks = new StripedStockLocks(stockLockStripes);
+        this.checkoutMetrics = checkoutMetrics;
+    }
 
     public void setUpStore(List<String> storeProducts) {
         for (int index = FILES_START_INDEX; index < storeProducts.size(); index++) {
             setUpStock(storeProducts, index);
         }
-        updateGeneralInventoryForMissingItems();
+        inventory.addMissingGeneralProducts();
     }
 
-    private void updateGeneralInventoryForMissingItems() {
-        for (String key : eventProductInventory.keySet()) {
-            if (!generalProductInventory.containsKey(key)) {
-                Product product = eventProductInventory.get(key);
-                generalProductInventory.put(key, new Product(product.getName(), product.getPrice(), ZERO_QUANTITY, EMPTY_COLUMN));
-            }
+    public long setUpStore(Path storeProductsPath) {
+        long loadedRows = CatalogScanner.scan(storeProductsPath, this::setUpStock);
+        inventory.addMissingGeneralProducts();
+        return loadedRows;
+    }
+
+    public long setUpStoreInParallel(Path storeProductsPath, ForkJoinPool pool) {
+        return setUpStoreInParallel(storeProductsPath, new ParallelCatalogLoader(pool));
+    }
+
+    public long setUpStoreInParallel(Path storeProductsPath, ParallelCatalogLoader catalogLoader) {
+        InventoryChunk loadedChunk = catalogLoader.load(storeProductsPath);
+        for (String productName : loadedChunk.getProductNames()) {
+            inventory.register(productName);
+        }
+        for (Product generalProduct : loadedChunk.getGeneralProductInventory().values()) {
+            inventory.putProduct(generalProduct, StockType.GENERAL);
         }
+        for (Product eventProduct : loadedChunk.getEventProductInventory().values()) {
+            int productId = inventory.putProduct(eventProduct, StockType.EVENT);
+            inventory.addMissingGeneralProduct(productId);
+        }
+        return loadedChunk.getRowCount();
     }
 
     public void setUpPromotions(List<String> storePromotions) {
@@ -55,267 +108,504 @@ public class StoreManager {
         }
     }
 
-    private void setUpPromotions(List<String> storePromotions, int index) {
-        final int DAY_INCREMENT = 1;
-        final int END_OF_DAY_OFFSET = 1;
+    public long setUpPromotions(Path storePromotionsPath) {
+        return CatalogScanner.scan(storePromotionsPath, this::setUpPromotion);
+    }
 
+    private void setUpPromotion(CatalogRow row) {
+        promotionCalendar.put(Promotion.fromCatalogRow(row));
+    }
+
+    private void setUpPromotions(List<String> storePromotions, int index) {
         String[] promotionDetails = Separator.separate(storePromotions.get(index));
-        Promotion promotion = Promotion.fromPromotionDetails(promotionDetails);
-        promotionInventory.put(promotionDetails[NAME.getIndex()], promotion);
+        promotionCalendar.put(Promotion.fromPromotionDetails(promotionDetails));
     }
 
     private void setUpStock(List<String> storeProducts, int index) {
         String[] productDetails = Separator.separate(storeProducts.get(index));
         Product product = Product.fromProductDetails(productDetails);
         if (productDetails[PROMOTION_INFO.getIndex()].equals(EMPTY_COLUMN)) {
-            generalProductInventory.put(productDetails[NAME.getIndex()], product);
+            inventory.putProduct(product, StockType.GENERAL);
             return;
         }
-        eventProductInventory.put(productDetails[NAME.getIndex()], product);
+        inventory.putProduct(product, StockType.EVENT);
     }
 
-    public Map<String, Product> getGeneralProductInventory() {
-        return generalProductInventory;
+    private void setUpStock(CatalogRow row) {
+        Product.requireCatalogFields(row);
+        StockType stockType = InventoryChunk.stockTypeOf(row);
+        String promotion = EMPTY_COLUMN;
+        if (stockType == StockType.EVENT) {
+            promotion = row.text(PROMOTION_INFO.getIndex());
+        }
+        inventory.putProduct(row.text(NAME.getIndex()), row.number(PRICE.getIndex()), row.number(QUANTITY.getIndex()), promotion, stockType);
     }
 
-    public Map<String, Product> getEventProductInventory() {
-        return eventProductInventory;
+    public void applyCatalogDiff(CatalogDiff catalogDiff) {
+        for (Promotion promotion : catalogDiff.getPromotionChanges()) {
+            promotionCalendar.put(promotion);
+        }
+        for (String promotionName : catalogDiff.getRemovedPromotions()) {
+            promotionCalendar.expire(promotionName);
+        }
+        for (ProductChange productChange : catalogDiff.getProductChanges()) {
+            applyProductChange(productChange);
+        }
+        for (String productName : catalogDiff.getRemovedEventProducts()) {
+            inventory.removeProduct(inventory.idOf(productName), StockType.EVENT);
+        }
+        for (String productName : catalogDiff.getRemovedGeneralProducts()) {
+            removeGeneralProduct(inventory.idOf(productName));
+        }
     }
 
-    public Map<String, Promotion> getPromotionInventory() {
-        return promotionInventory;
+    private void applyProductChange(ProductChange productChange) {
+        Product changedProduct = productChange.getProduct();
+        StockType stockType = StockType.GENERAL;
+        if (productChange.isEventProduct()) {
+            stockType = StockType.EVENT;
+        }
+        int productId = inventory.idOf(changedProduct.getName());
+        if (productId == Inventory.NOT_FOUND || !inventory.hasProduct(productId, stockType)) {
+            productId = inventory.putProduct(changedProduct, stockType);
+            inventory.addMissingGeneralProduct(productId);
+            return;
+        }
+        inventory.updatePrice(productId, stockType, changedProduct.getPrice());
+        if (stockType == StockType.EVENT) {
+            inventory.updatePromotion(productId, changedProduct.getPromotion());
+        }
+        inventory.addStockAtLeastZero(productId, stockType, productChange.getQuantityDelta());
     }
 
-    public Receipt processOrder(String orderItems, Map<String, Product> eventProductInventory, Map<String, Product> generalProductInventory, String membershipChoice) {
-        List<OrderItem> orderedItems = new ArrayList<>();
-        List<PromotionItem> promotionItems = new ArrayList<>();
-        processOrderForEachItem(orderItems, eventProductInventory, generalProductInventory, orderedItems, promotionItems);
-        return new Receipt(orderedItems, promotionItems, membershipChoice);
+    private void removeGeneralProduct(int productId) {
+        if (inventory.hasProduct(productId, StockType.EVENT)) {
+            inventory.updateStock(productId, StockType.GENERAL, ZERO_QUANTITY);
+            return;
+        }
+        inventory.removeProduct(productId, StockType.GENERAL);
+    }
+
+    public void addStockListener(StockListener stockListener) {
+        stockListeners.add(stockListener);
+    }
+
+    public void addReceiptListener(ReceiptListener receiptListener) {
+        receiptListeners.add(receiptListener);
+    }
+
+    public void applyStockDelta(StockDelta stockDelta) {
+        int productId = inventory.idOf(stockDelta.getProductName());
+        if (productId != Inventory.NOT_FOUND && inventory.hasProduct(productId, stockDelta.getStockType())) {
+            inventory.addStock(productId, stockDelta.getStockType(), stockDelta.getQuantityDelta());
+        }
+    }
+
+    private int getClaimedStock(StockType stockType) {
+        return orderContext.get().getLineStockClaim().getStock(stockType);
     }
 
-    private void processOrderForEachItem(String orderItems, Map<String, Product> eventProductInventory, Map<String, Product> generalProductInventory, List<OrderItem> orderedItems, List<PromotionItem> promotionItems) {
-        for (String separatedOrderItem : Separator.separate(orderItems)) {
-            String requestOrderProductName = Separator.separateProductName(separatedOrderItem);
-            int requestOrderProductQuantity = Separator.separateProductQuantity(separatedOrderItem);
-            int initialPromotionStock = getInitialPromotionStock(eventProductInventory, requestOrderProductName);
-            processOrderForPromotionStock(eventProductInventory, generalProductInventory, requestOrderProductName, requestOrderProductQuantity, orderedItems, promotionItems);
-            processOrderForGeneralStock(eventProductInventory, generalProductInventory, requestOrderProductName, initialPromotionStock, requestOrderProductQuantity, orderedItems);
-            processOrderOutsidePromotionDates(generalProductInventory, requestOrderProductName, requestOrderProductQuantity, orderedItems);
+    private void decreaseStock(StockType stockType, int quantity) {
+        orderContext.get().getLineStockClaim().take(stockType, quantity);
+    }
+
+    private void recordStockDeltas(StockClaim stockClaim) {
+        for (StockType stockType : StockType.values()) {
+            int takenQuantity = stockClaim.getTakenQuantity(stockType);
+            if (takenQuantity != ZERO_QUANTITY) {
+                orderContext.get().getStockDeltas().add(new StockDelta(inventory.getName(stockClaim.getProductId()), stockType, -takenQuantity));
+            }
         }
     }
 
-    private int getInitialPromotionStock(Map<String, Product> eventProductInventory, String requestOrderProductName) {
-        if (eventProductInventory.get(requestOrderProductName) != null) {
-            return eventProductInventory.get(requestOrderProductName).getQuantity();
+    private void rollBackOrderStock() {
+        List<StockDelta> stockDeltas = orderContext.get().getStockDeltas();
+        for (StockDelta stockDelta : stockDeltas) {
+            int productId = inventory.idOf(stockDelta.getProductName());
+            inventory.addStock(productId, stockDelta.getStockType(), -stockDelta.getQuantityDelta());
+        }
+        stockDeltas.clear();
+    }
+
+    private void publishStockDeltas(List<StockDelta> orderStockDeltas) {
+        if (orderStockDeltas.isEmpty()) {
+            return;
+        }
+        List<StockDelta> stockDeltas = List.copyOf(orderStockDeltas);
+        for (StockListener stockListener : stockListeners) {
+            stockListener.onOrderProcessed(stockDeltas);
+        }
+    }
+
+    public CheckoutMetrics getCheckoutMetrics() {
+        return checkoutMetrics;
+    }
+
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public PromotionCalendar getPromotionCalendar() {
+        return promotionCalendar;
+    }
+
+    public StockHold holdStock(String orderItems, Duration holdTtl) {
+        return holdStock(OrderTokenizer.tokenize(orderItems, inventory, new OrderLines()), holdTtl);
+    }
+
+    public StockHold holdStock(OrderLines orderLines, Duration holdTtl) {
+        holdTimerWheel.advance();
+        int[] lockedStripes = stockLocks.lock(orderLines.copyProductIds());
+        StockHold stockHold;
+        try {
+            stockHold = StockHold.hold(inventory, orderLines.copyProductIds(), orderLines.copyQuantities());
+        } finally {
+            stockLocks.unlock(lockedStripes);
+        }
+        holdTimerWheel.schedule(stockHold, holdTtl);
+        return stockHold;
+    }
+
+    public Receipt processOrder(String orderItems, String membershipChoice) {
+        return processOrder(orderItems, membershipChoice, StockHold.none(inventory));
+    }
+
+    public Receipt processOrder(String orderItems, String membershipChoice, StockHold stockHold) {
+        return processOrder(orderItems, membershipChoice, stockHold, consoleDecisionPolicy);
+    }
+
+    public Receipt processOrder(String orderItems, String membershipChoice, StockHold stockHold, PromotionDecisionPolicy decisionPolicy) {
+        boolean sampled = checkoutMetrics.sample();
+        long parseStart = checkoutMetrics.startStage(sampled);
+        OrderLines orderLines = OrderTokenizer.tokenize(orderItems, inventory, new OrderLines());
+        orderLines.setSampled(sampled);
+        checkoutMetrics.endStage(CheckoutStage.ORDER_PARSING, parseStart);
+        return processOrder(orderLines, membershipChoice, stockHold, decisionPolicy);
+    }
+
+    public Receipt processOrder(OrderLines orderLines, String membershipChoice, StockHold stockHold, PromotionDecisionPolicy decisionPolicy) {
+        holdTimerWheel.advance();
+        OrderContext context = new OrderContext(decisionPolicy, promotionCalendar.activeAt(DateTimes.now()), orderLines.isSampled(), stockHold);
+        orderContext.set(context);
+        ReceiptBuilder receiptBuilder;
+        try {
+            receiptBuilder = processOrderWithDecidedPromotions(orderLines);
+        } finally {
+            orderContext.remove();
+        }
+        inventory.recordChanges(orderLines.copyProductIds());
+        publishStockDeltas(context.getStockDeltas());
+        long receiptStart = checkoutMetrics.startStage(context.isSampled());
+        Receipt receipt = receiptBuilder.build(membershipChoice);
+        checkoutMetrics.endStage(CheckoutStage.RECEIPT_CONSTRUCTION, receiptStart);
+        checkoutMetrics.recordOrder(receiptBuilder.getLineCount(), receiptBuilder.getFreeItemQuantity(), receipt.getMemberShipDiscountPrice());
+        publishReceipt(receipt);
+        return receipt;
+    }
+
+    private void publishReceipt(Receipt receipt) {
+        for (ReceiptListener receiptListener : receiptListeners) {
+            receiptListener.onReceiptIssued(receipt);
+        }
+    }
+
+    private ReceiptBuilder processOrderWithDecidedPromotions(OrderLines orderLines) {
+        OrderContext context = orderContext.get();
+        try {
+            while (true) {
+                context.startPlanning();
+                processOrderForEachItem(orderLines, new ReceiptBuilder());
+                context.startCommitting();
+                ReceiptBuilder receiptBuilder = new ReceiptBuilder();
+                processOrderUnderStockLocks(orderLines, receiptBuilder);
+                if (!context.isDecisionMissing()) {
+                    return receiptBuilder;
+                }
+            }
+        } finally {
+            context.getStockHold().release();
+        }
+    }
+
+    private void processOrderUnderStockLocks(OrderLines orderLines, ReceiptBuilder receiptBuilder) {
+        int[] lockedStripes = stockLocks.lock(orderLines.copyProductIds());
+        try {
+            processOrderForEachItem(orderLines, receiptBuilder);
+            if (orderContext.get().isDecisionMissing()) {
+                rollBackOrderStock();
+            }
+        } finally {
+            stockLocks.unlock(lockedStripes);
+        }
+    }
+
+    private void processOrderForEachItem(OrderLines orderLines, ReceiptBuilder receiptBuilder) {
+        OrderContext context = orderContext.get();
+        for (int line = 0; line < orderLines.size() && !context.isDecisionMissing(); line++) {
+            context.setLineIndex(line);
+            processOrderLine(orderLines.getProductId(line), orderLines.getQuantity(line), receiptBuilder);
+        }
+    }
+
+    private void processOrderLine(int productId, int requestOrderProductQuantity, ReceiptBuilder receiptBuilder) {
+        while (true) {
+            List<OrderItem> lineOrderedItems = new ArrayList<>();
+            List<PromotionItem> linePromotionItems = new ArrayList<>();
+            OrderContext context = orderContext.get();
+            StockClaim stockClaim = claimStock(context, productId);
+            context.startLine(stockClaim);
+            int initialPromotionStock = getInitialPromotionStock(productId);
+            boolean sampled = context.isSampled() && !context.isPlanning();
+            long promotionStart = checkoutMetrics.startStage(sampled);
+            processOrderForPromotionStock(productId, requestOrderProductQuantity, lineOrderedItems, linePromotionItems);
+            checkoutMetrics.endStage(CheckoutStage.PROMOTION_ALLOCATION, promotionStart);
+            long generalStockStart = checkoutMetrics.startStage(sampled);
+            processOrderForGeneralStock(productId, initialPromotionStock, requestOrderProductQuantity, lineOrderedItems);
+            processOrderOutsidePromotionDates(productId, requestOrderProductQuantity, lineOrderedItems);
+            checkoutMetrics.endStage(CheckoutStage.GENERAL_STOCK_FALLBACK, generalStockStart);
+            validateClaimedStock(stockClaim);
+            if (context.isPlanning()) {
+                context.getPlannedClaims().put(productId, stockClaim);
+                return;
+            }
+            if (context.isDecisionMissing()) {
+                return;
+            }
+            if (stockClaim.commit()) {
+                recordStockDeltas(stockClaim);
+                lineOrderedItems.forEach(receiptBuilder::addOrderItem);
+                linePromotionItems.forEach(receiptBuilder::addPromotionItem);
+                return;
+            }
+        }
+    }
+
+    private StockClaim claimStock(OrderContext context, int productId) {
+        StockClaim plannedClaim = context.getPlannedClaims().get(productId);
+        if (context.isPlanning() && plannedClaim != null) {
+            return plannedClaim.nextClaim();
+        }
+        return inventory.claim(productId);
+    }
+
+    private void validateClaimedStock(StockClaim stockClaim) {
+        if (stockClaim.isOversold() || takesStockHeldByOthers(stockClaim)) {
+            rollBackOrderStock();
+            throw new IllegalArgumentException(EXCEEDS_AVAILABLE_STOCK.getValue());
+        }
+    }
+
+    private boolean takesStockHeldByOthers(StockClaim stockClaim) {
+        int productId = stockClaim.getProductId();
+        int stockHeldByOthers = inventory.getHeldStock(productId) - orderContext.get().getStockHold().getHeldQuantity(productId);
+        return stockClaim.getStock(StockType.EVENT) + stockClaim.getStock(StockType.GENERAL) < stockHeldByOthers;
+    }
+
+    private int getInitialPromotionStock(int productId) {
+        if (inventory.hasProduct(productId, StockType.EVENT)) {
+            return getClaimedStock(StockType.EVENT);
         }
         return ZERO_QUANTITY;
     }
 
-    private void processOrderForPromotionStock(Map<String, Product> eventProductInventory, Map<String, Product> generalProductInventory, String requestOrderProductName, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems) {
-        if (eventProductInventory.get(requestOrderProductName) != null && validateEventStock(eventProductInventory, requestOrderProductName)) {
-            Product eventProduct = eventProductInventory.get(requestOrderProductName);
-            String eventProductsPromotion = eventProduct.getPromotion();
-            Promotion promotion = promotionInventory.get(eventProductsPromotion);
-            LocalDateTime now = DateTimes.now();
-            processOrderWithActivePromotion(eventProductInventory, generalProductInventory, requestOrderProductName, requestOrderProductQuantity, orderedItems, promotionItems, now, promotion, eventProduct);
+    private void processOrderForPromotionStock(int productId, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems) {
+        if (inventory.hasProduct(productId, StockType.EVENT) && validateEventStock(productId)) {
+            Promotion promotion = promotionCalendar.get(inventory.getPromotion(productId));
+            processOrderWithActivePromotion(productId, requestOrderProductQuantity, orderedItems, promotionItems, orderContext.get().getActivePromotions(), promotion);
         }
     }
 
-    private void processOrderWithActivePromotion(Map<String, Product> eventProductInventory, Map<String, Product> generalProductInventory, String requestOrderProductName, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, LocalDateTime now, Promotion promotion, Product eventProduct) {
-        if (now.isAfter(promotion.getStartTime()) && now.isBefore(promotion.getEndTime())) {
+    private void processOrderWithActivePromotion(int productId, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, ActivePromotions activePromotions, Promotion promotion) {
+        if (activePromotions.contains(promotion.getName()) && !promotion.getRule().isBundle()) {
+            processOrderWithDiscountRule(productId, requestOrderProductQuantity, orderedItems, promotionItems, promotion.getRule());
+        }
+        if (activePromotions.contains(promotion.getName()) && promotion.getRule().isBundle()) {
             int promotionStandardQuantity = promotion.getBuy() + promotion.getGet();
             int dividedRequestPromotionAvailable = requestOrderProductQuantity / promotionStandardQuantity;
-            int dividedEventPromotionStockAvailable = eventProduct.getQuantity() / promotionStandardQuantity;
-            applyPromotionForRequestedQuantityGreaterOrEqualToStock(eventProductInventory, generalProductInventory, dividedRequestPromotionAvailable, dividedEventPromotionStockAvailable, promotion, promotionStandardQuantity, eventProduct, requestOrderProductQuantity, orderedItems, promotionItems, requestOrderProductName);
-            applyPromotionForRequestedQuantityLessThanToStock(eventProductInventory, dividedRequestPromotionAvailable, dividedEventPromotionStockAvailable, promotion, promotionStandardQuantity, eventProduct, requestOrderProductQuantity, orderedItems, promotionItems, requestOrderProductName);
+            int dividedEventPromotionStockAvailable = getClaimedStock(StockType.EVENT) / promotionStandardQuantity;
+            applyPromotionForRequestedQuantityGreaterOrEqualToStock(productId, dividedRequestPromotionAvailable, dividedEventPromotionStockAvailable, promotion, promotionStandardQuantity, requestOrderProductQuantity, orderedItems, promotionItems);
+            applyPromotionForRequestedQuantityLessThanToStock(productId, dividedRequestPromotionAvailable, dividedEventPromotionStockAvailable, promotion, promotionStandardQuantity, requestOrderProductQuantity, orderedItems, promotionItems);
         }
     }
 
-    private void applyPromotionForRequestedQuantityGreaterOrEqualToStock(Map<String, Product> eventProductInventory, Map<String, Product> generalProductInventory, int dividedRequestPromotionAvailable, int dividedEventPromotionStockAvailable, Promotion promotion, int promotionStandardQuantity, Product eventProduct, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, String requestOrderProductName) {
+    private void processOrderWithDiscountRule(int productId, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, PromotionRule promotionRule) {
+        int discountedQuantity = Math.min(requestOrderProductQuantity, getClaimedStock(StockType.EVENT));
+        int nonDiscountedQuantity = requestOrderProductQuantity - discountedQuantity;
+        decreaseStock(StockType.EVENT, discountedQuantity);
+        decreaseStock(StockType.GENERAL, nonDiscountedQuantity);
+        int eventPrice = inventory.getPrice(productId, StockType.EVENT);
+        long discountPrice = promotionRule.discountOf(eventPrice, requestOrderProductQuantity, discountedQuantity);
+        orderedItems.add(new OrderItem(inventory.getName(productId), requestOrderProductQuantity, eventPrice,
+                (long) eventPrice * requestOrderProductQuantity, (long) eventPrice * nonDiscountedQuantity, ZERO_QUANTITY));
+        promotionItems.add(PromotionItem.discounted(inventory.getName(productId), inventory.getPromotion(productId), discountedQuantity, eventPrice, discountPrice));
+    }
+
+    private void applyPromotionForRequestedQuantityGreaterOrEqualToStock(int productId, int dividedRequestPromotionAvailable, int dividedEventPromotionStockAvailable, Promotion promotion, int promotionStandardQuantity, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems) {
         if (dividedRequestPromotionAvailable >= dividedEventPromotionStockAvailable) {
             int receiveEventProductQuantity = dividedEventPromotionStockAvailable * promotion.getGet();
             int fromEventProductInventory = dividedEventPromotionStockAvailable * promotionStandardQuantity;
-            eventProduct.updateQuantity(eventProduct.getQuantity() - fromEventProductInventory);
-            eventProductInventory.put(eventProduct.getName(), eventProduct);
+            decreaseStock(StockType.EVENT, fromEventProductInventory);
             int leftRequestOrderProductQuantity = requestOrderProductQuantity - fromEventProductInventory;
-            processOrderWhenNoRemainingQuantity(eventProduct, requestOrderProductQuantity, orderedItems, promotionItems, leftRequestOrderProductQuantity, receiveEventProductQuantity);
-            processOrderWhenRemainingQuantityExists(eventProductInventory, generalProductInventory, eventProduct, requestOrderProductQuantity, orderedItems, promotionItems, requestOrderProductName, leftRequestOrderProductQuantity, receiveEventProductQuantity);
+            processOrderWhenNoRemainingQuantity(productId, requestOrderProductQuantity, orderedItems, promotionItems, leftRequestOrderProductQuantity, receiveEventProductQuantity);
+            processOrderWhenRemainingQuantityExists(productId, requestOrderProductQuantity, orderedItems, promotionItems, leftRequestOrderProductQuantity, receiveEventProductQuantity);
         }
     }
 
-    private void processOrderWhenNoRemainingQuantity(Product eventProduct, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, int leftRequestOrderProductQuantity, int receiveEventProductQuantity) {
+    private void processOrderWhenNoRemainingQuantity(int productId, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, int leftRequestOrderProductQuantity, int receiveEventProductQuantity) {
         if (leftRequestOrderProductQuantity == ZERO_QUANTITY) {
-            orderedItems.add(new OrderItem(eventProduct.getName(), requestOrderProductQuantity, eventProduct.getPrice(), eventProduct.getPrice() * requestOrderProductQuantity, 0, receiveEventProductQuantity));
-            promotionItems.add(new PromotionItem(eventProduct.getName(), receiveEventProductQuantity, eventProduct.getPrice()));
+            int eventPrice = inventory.getPrice(productId, StockType.EVENT);
+            orderedItems.add(new OrderItem(inventory.getName(productId), requestOrderProductQuantity, eventPrice, (long) eventPrice * requestOrderProductQuantity, 0, receiveEventProductQuantity));
+            promotionItems.add(new PromotionItem(inventory.getName(productId), inventory.getPromotion(productId), receiveEventProductQuantity, eventPrice));
         }
     }
 
-    private void processOrderWhenRemainingQuantityExists(Map<String, Product> eventProductInventory, Map<String, Product> generalProductInventory, Product eventProduct, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, String requestOrderProductName, int leftRequestOrderProductQuantity, int receiveEventProductQuantity) {
+    private void processOrderWhenRemainingQuantityExists(int productId, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, int leftRequestOrderProductQuantity, int receiveEventProductQuantity) {
         if (leftRequestOrderProductQuantity > ZERO_QUANTITY) {
-            String forPromotionalPurchaseDecision = getNonPromotionalPurchaseDecision(leftRequestOrderProductQuantity, requestOrderProductName, YES_NO_RESPONSE_FORMAT.getValue(), INVALID_INPUT);
+            String forPromotionalPurchaseDecision = getNonPromotionalPurchaseDecision(leftRequestOrderProductQuantity, inventory.getName(productId));
             if (forPromotionalPurchaseDecision.equals(ACCEPTANCE_RESPONSE)) {
-                Integer withoutPromotionalPrice = BASIC_AMOUNT;
-                if (eventProduct.getQuantity() > ZERO_QUANTITY) {
-                    withoutPromotionalPrice = leftRequestOrderProductQuantity * eventProduct.getPrice();
-                    leftRequestOrderProductQuantity = getLeftRequestOrderProductQuantity(eventProduct, leftRequestOrderProductQuantity);
-                    eventProductInventory.put(eventProduct.getName(), eventProduct);
+                long withoutPromotionalPrice = BASIC_AMOUNT;
+                if (getClaimedStock(StockType.EVENT) > ZERO_QUANTITY) {
+                    withoutPromotionalPrice = (long) leftRequestOrderProductQuantity * inventory.getPrice(productId, StockType.EVENT);
+                    leftRequestOrderProductQuantity = getLeftRequestOrderProductQuantity(productId, leftRequestOrderProductQuantity);
                 }
-                updateOrderItemsBasedOnRemainingQuantity(generalProductInventory, leftRequestOrderProductQuantity, withoutPromotionalPrice,
-                        orderedItems, promotionItems, eventProduct, requestOrderProductQuantity, receiveEventProductQuantity, requestOrderProductName);
+                updateOrderItemsBasedOnRemainingQuantity(productId, leftRequestOrderProductQuantity, withoutPromotionalPrice,
+                        orderedItems, promotionItems, requestOrderProductQuantity, receiveEventProductQuantity);
             }
-            processOrderForEligiblePromotionQuantity(forPromotionalPurchaseDecision, orderedItems, requestOrderProductName, requestOrderProductQuantity, leftRequestOrderProductQuantity, eventProduct, receiveEventProductQuantity, promotionItems);
+            processOrderForEligiblePromotionQuantity(forPromotionalPurchaseDecision, orderedItems, productId, requestOrderProductQuantity, leftRequestOrderProductQuantity, receiveEventProductQuantity, promotionItems);
         }
     }
 
 
-    private void applyPromotionForRequestedQuantityLessThanToStock(Map<String, Product> eventProductInventory, int dividedRequestPromotionAvailable, int dividedEventPromotionStockAvailable, Promotion promotion, int promotionStandardQuantity, Product eventProduct, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, String requestOrderProductName) {
+    private void applyPromotionForRequestedQuantityLessThanToStock(int productId, int dividedRequestPromotionAvailable, int dividedEventPromotionStockAvailable, Promotion promotion, int promotionStandardQuantity, int requestOrderProductQuantity, List<OrderItem> orderedItems, List<PromotionItem> promotionItems) {
         if (dividedRequestPromotionAvailable < dividedEventPromotionStockAvailable) {
             int receiveEventProductQuantity = dividedRequestPromotionAvailable * promotion.getGet();
             int fromEventProductInventory = dividedRequestPromotionAvailable * promotionStandardQuantity;
-            eventProduct.updateQuantity(eventProduct.getQuantity() - fromEventProductInventory);
-            eventProductInventory.put(eventProduct.getName(), eventProduct);
+            decreaseStock(StockType.EVENT, fromEventProductInventory);
             int leftRequestOrderProductQuantity = requestOrderProductQuantity - fromEventProductInventory;
-            verifyAdditionalPromotionAcceptance(leftRequestOrderProductQuantity, promotion, eventProduct, orderedItems, promotionItems, requestOrderProductName, receiveEventProductQuantity, fromEventProductInventory, promotionStandardQuantity, requestOrderProductQuantity);
-            processRemainingOrderWithoutPromotion(eventProductInventory, leftRequestOrderProductQuantity, promotion, eventProduct, orderedItems, requestOrderProductName, requestOrderProductQuantity, receiveEventProductQuantity, promotionItems);
+            verifyAdditionalPromotionAcceptance(leftRequestOrderProductQuantity, promotion, productId, orderedItems, promotionItems, receiveEventProductQuantity, promotionStandardQuantity, requestOrderProductQuantity);
+            processRemainingOrderWithoutPromotion(leftRequestOrderProductQuantity, promotion, productId, orderedItems, requestOrderProductQuantity, receiveEventProductQuantity, promotionItems);
         }
     }
 
-    private void verifyAdditionalPromotionAcceptance(int leftRequestOrderProductQuantity, Promotion promotion, Product eventProduct, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, String requestOrderProductName, int receiveEventProductQuantity, int fromEventProductInventory, int promotionStandardQuantity, int requestOrderProductQuantity) {
+    private void verifyAdditionalPromotionAcceptance(int leftRequestOrderProductQuantity, Promotion promotion, int productId, List<OrderItem> orderedItems, List<PromotionItem> promotionItems, int receiveEventProductQuantity, int promotionStandardQuantity, int requestOrderProductQuantity) {
         if (leftRequestOrderProductQuantity == promotion.getBuy()) {
-            String forAdditionalPromotionAcceptance = getPromptForAdditionalPromotionAcceptance(eventProduct.getName(), promotion.getGet(), YES_NO_RESPONSE_FORMAT.getValue(), INVALID_INPUT);
-            processAdditionalPromotionAcceptance(orderedItems, promotionItems, requestOrderProductName, forAdditionalPromotionAcceptance, receiveEventProductQuantity, fromEventProductInventory,
-                    promotionStandardQuantity, eventProduct, requestOrderProductQuantity);
+            String forAdditionalPromotionAcceptance = getPromptForAdditionalPromotionAcceptance(inventory.getName(productId), promotion.getGet());
+            processAdditionalPromotionAcceptance(orderedItems, promotionItems, forAdditionalPromotionAcceptance, receiveEventProductQuantity,
+                    promotionStandardQuantity, productId, requestOrderProductQuantity);
         }
     }
 
-    private void processOrderForEligiblePromotionQuantity(String forPromotionalPurchaseDecision, List<OrderItem> orderedItems, String requestOrderProductName, int requestOrderProductQuantity, int leftRequestOrderProductQuantity, Product eventProduct, int receiveEventProductQuantity, List<PromotionItem> promotionItems) {
+    private void processOrderForEligiblePromotionQuantity(String forPromotionalPurchaseDecision, List<OrderItem> orderedItems, int productId, int requestOrderProductQuantity, int leftRequestOrderProductQuantity, int receiveEventProductQuantity, List<PromotionItem> promotionItems) {
         if (forPromotionalPurchaseDecision.equals(REJECTION_RESPONSE)) {
-            orderedItems.add(new OrderItem(requestOrderProductName, requestOrderProductQuantity - leftRequestOrderProductQuantity,
-                    eventProduct.getPrice(), (requestOrderProductQuantity - leftRequestOrderProductQuantity) * eventProduct.getPrice(), receiveEventProductQuantity));
-            promotionItems.add(new PromotionItem(eventProduct.getName(), receiveEventProductQuantity, eventProduct.getPrice()));
+            int eventPrice = inventory.getPrice(productId, StockType.EVENT);
+            orderedItems.add(new OrderItem(inventory.getName(productId), requestOrderProductQuantity - leftRequestOrderProductQuantity,
+                    eventPrice, (long) (requestOrderProductQuantity - leftRequestOrderProductQuantity) * eventPrice, receiveEventProductQuantity));
+            promotionItems.add(new PromotionItem(inventory.getName(productId), inventory.getPromotion(productId), receiveEventProductQuantity, eventPrice));
         }
     }
 
-    private void processRemainingOrderWithoutPromotion(Map<String, Product> eventProductInventory, int leftRequestOrderProductQuantity, Promotion promotion, Product eventProduct, List<OrderItem> orderedItems, String requestOrderProductName, int requestOrderProductQuantity, int receiveEventProductQuantity, List<PromotionItem> promotionItems) {
+    private void processRemainingOrderWithoutPromotion(int leftRequestOrderProductQuantity, Promotion promotion, int productId, List<OrderItem> orderedItems, int requestOrderProductQuantity, int receiveEventProductQuantity, List<PromotionItem> promotionItems) {
         if (leftRequestOrderProductQuantity < promotion.getBuy()) {
-            eventProduct.updateQuantity(eventProduct.getQuantity() - leftRequestOrderProductQuantity);
-            eventProductInventory.put(eventProduct.getName(), eventProduct);
-            orderedItems.add(new OrderItem(requestOrderProductName, requestOrderProductQuantity, eventProduct.getPrice(),
-                    requestOrderProductQuantity * eventProduct.getPrice(), leftRequestOrderProductQuantity, receiveEventProductQuantity));
-            promotionItems.add(new PromotionItem(eventProduct.getName(), receiveEventProductQuantity, eventProduct.getPrice()));
+            decreaseStock(StockType.EVENT, leftRequestOrderProductQuantity);
+            int eventPrice = inventory.getPrice(productId, StockType.EVENT);
+            orderedItems.add(new OrderItem(inventory.getName(productId), requestOrderProductQuantity, eventPrice,
+                    (long) requestOrderProductQuantity * eventPrice, leftRequestOrderProductQuantity, receiveEventProductQuantity));
+            promotionItems.add(new PromotionItem(inventory.getName(productId), inventory.getPromotion(productId), receiveEventProductQuantity, eventPrice));
         }
     }
 
-    private void processOrderForGeneralStock(Map<String, Product> eventProductInventory, Map<String, Product> generalProductInventory, String requestOrderProductName, int initialPromotionStock, int requestOrderProductQuantity, List<OrderItem> orderedItems) {
-        if (eventProductInventory.get(requestOrderProductName) == null || initialPromotionStock == ZERO_QUANTITY) {
-            processGeneralProductOrder(generalProductInventory, requestOrderProductName, requestOrderProductQuantity, orderedItems);
+    private void processOrderForGeneralStock(int productId, int initialPromotionStock, int requestOrderProductQuantity, List<OrderItem> orderedItems) {
+        if (!inventory.hasProduct(productId, StockType.EVENT) || initialPromotionStock == ZERO_QUANTITY) {
+            processGeneralProductOrder(productId, requestOrderProductQuantity, orderedItems);
         }
     }
 
-    private void processGeneralProductOrder(Map<String, Product> generalProductInventory, String requestOrderProductName, int requestOrderProductQuantity, List<OrderItem> orderedItems) {
-        Product generalProduct = generalProductInventory.get(requestOrderProductName);
-        generalProduct.updateQuantity(generalProduct.getQuantity() - requestOrderProductQuantity);
-        generalProductInventory.put(generalProduct.getName(), generalProduct);
-        orderedItems.add(new OrderItem(generalProduct.getName(), requestOrderProductQuantity, generalProduct.getPrice(),
-                generalProduct.getPrice() * requestOrderProductQuantity, generalProduct.getPrice() * requestOrderProductQuantity, ZERO_QUANTITY));
+    private void processGeneralProductOrder(int productId, int requestOrderProductQuantity, List<OrderItem> orderedItems) {
+        int generalPrice = inventory.getPrice(productId, StockType.GENERAL);
+        decreaseStock(StockType.GENERAL, requestOrderProductQuantity);
+        orderedItems.add(new OrderItem(inventory.getName(productId), requestOrderProductQuantity, generalPrice,
+                (long) generalPrice * requestOrderProductQuantity, (long) generalPrice * requestOrderProductQuantity, ZERO_QUANTITY));
     }
 
-    private void processOrderOutsidePromotionDates(Map<String, Product> generalProductInventory, String requestOrderProductName, int requestOrderProductQuantity, List<OrderItem> orderedItems) {
-        if (eventProductInventory.get(requestOrderProductName) != null) {
-            Product eventProduct = eventProductInventory.get(requestOrderProductName);
-            String eventProductsPromotion = eventProduct.getPromotion();
-            Promotion eventPromotion = promotionInventory.get(eventProductsPromotion);
-            LocalDateTime now = DateTimes.now();
-            if (!(now.isAfter(eventPromotion.getStartTime()) && now.isBefore(eventPromotion.getEndTime()))) {
-                processGeneralProductOrder(generalProductInventory, requestOrderProductName, requestOrderProductQuantity, orderedItems);
+    private void processOrderOutsidePromotionDates(int productId, int requestOrderProductQuantity, List<OrderItem> orderedItems) {
+        if (inventory.hasProduct(productId, StockType.EVENT)) {
+            Promotion eventPromotion = promotionCalendar.get(inventory.getPromotion(productId));
+            if (!orderContext.get().getActivePromotions().contains(eventPromotion.getName())) {
+                processGeneralProductOrder(productId, requestOrderProductQuantity, orderedItems);
             }
         }
 
     }
 
-    private void processAdditionalPromotionAcceptance(List<OrderItem> orderedItems, List<PromotionItem> promotionItems, String requestOrderProductName, String forAdditionalPromotionAcceptance,
-                                                      int receiveEventProductQuantity, int fromEventProductInventory, int promotionStandardQuantity,
-                                                      Product eventProduct, int requestOrderProductQuantity) {
+    private void processAdditionalPromotionAcceptance(List<OrderItem> orderedItems, List<PromotionItem> promotionItems, String forAdditionalPromotionAcceptance,
+                                                      int receiveEventProductQuantity, int promotionStandardQuantity,
+                                                      int productId, int requestOrderProductQuantity) {
         if (forAdditionalPromotionAcceptance.equals(ACCEPTANCE_RESPONSE)) {
             receiveEventProductQuantity++;
-            fromEventProductInventory += promotionStandardQuantity;
-            eventProduct.updateQuantity(eventProduct.getQuantity() - promotionStandardQuantity);
-            eventProductInventory.put(eventProduct.getName(), eventProduct);
+            decreaseStock(StockType.EVENT, promotionStandardQuantity);
             requestOrderProductQuantity++;
-            orderedItems.add(new OrderItem(requestOrderProductName, requestOrderProductQuantity, eventProduct.getPrice(),
-                    requestOrderProductQuantity * eventProduct.getPrice(), BASIC_AMOUNT, receiveEventProductQuantity));
-            promotionItems.add(new PromotionItem(eventProduct.getName(), receiveEventProductQuantity, eventProduct.getPrice()));
+            int eventPrice = inventory.getPrice(productId, StockType.EVENT);
+            orderedItems.add(new OrderItem(inventory.getName(productId), requestOrderProductQuantity, eventPrice,
+                    (long) requestOrderProductQuantity * eventPrice, BASIC_AMOUNT, receiveEventProductQuantity));
+            promotionItems.add(new PromotionItem(inventory.getName(productId), inventory.getPromotion(productId), receiveEventProductQuantity, eventPrice));
         }
     }
 
-    private String getNonPromotionalPurchaseDecision(int leftRequestOrderProductQuantity, String requestOrderProductName, String requiredPattern, ErrorMessage errorMessage) {
-        while (true) {
-            try {
-                String forNonPromotionalPurchase = inputView.promptForNonPromotionalPurchase(leftRequestOrderProductQuantity, requestOrderProductName);
-                validateInputByRegex(forNonPromotionalPurchase, requiredPattern, errorMessage);
-                return forNonPromotionalPurchase;
-            } catch (IllegalArgumentException e) {
-                outputView.displayErrorMessage(e.getMessage());
-            }
-        }
+    private String getNonPromotionalPurchaseDecision(int leftRequestOrderProductQuantity, String requestOrderProductName) {
+        OrderContext context = orderContext.get();
+        return toResponse(context.decide(NON_PROMOTIONAL_PURCHASE_DECISION + leftRequestOrderProductQuantity,
+                () -> context.getDecisionPolicy().buysWithoutPromotion(requestOrderProductName, leftRequestOrderProductQuantity)));
     }
 
-    private String getPromptForAdditionalPromotionAcceptance(String eventProductName, int promotionalQuantity, String requiredPattern, ErrorMessage errorMessage) {
-        while (true) {
-            try {
-                String forAdditionalQuantity = inputView.promptForAdditionalQuantity(eventProductName, promotionalQuantity);
-                validateInputByRegex(forAdditionalQuantity, requiredPattern, errorMessage);
-                return forAdditionalQuantity;
-            } catch (IllegalArgumentException e) {
-                outputView.displayErrorMessage(e.getMessage());
-            }
-        }
+    private String getPromptForAdditionalPromotionAcceptance(String eventProductName, int promotionalQuantity) {
+        OrderContext context = orderContext.get();
+        return toResponse(context.decide(ADDITIONAL_PROMOTION_DECISION + promotionalQuantity,
+                () -> context.getDecisionPolicy().acceptsAdditionalPromotion(eventProductName, promotionalQuantity)));
     }
 
-    private void validateInputByRegex(String input, String requiredPattern, ErrorMessage errorMessage) {
-        Pattern pattern = Pattern.compile(requiredPattern);
-        Matcher matcher = pattern.matcher(input);
-        if (!matcher.find()) {
-            throw new IllegalArgumentException(errorMessage.getValue());
+    private String toResponse(boolean accepted) {
+        if (accepted) {
+            return ACCEPTANCE_RESPONSE;
         }
+        return REJECTION_RESPONSE;
     }
 
-    private void validateSufficientStock(Map<String, Product> eventProductInventory, Map<String, Product> generalProductInventory, String requestOrderProductName, int requestOrderProductQuantity) {
-        if (eventProductInventory.get(requestOrderProductName).getQuantity() + generalProductInventory.get(requestOrderProductName).getQuantity() < requestOrderProductQuantity) {
+    private void validateSufficientStock(int productId, int requestOrderProductQuantity) {
+        if (inventory.getStock(productId, StockType.EVENT) + inventory.getStock(productId, StockType.GENERAL) < requestOrderProductQuantity) {
             throw new IllegalArgumentException(EXCEEDS_AVAILABLE_STOCK.getValue());
         }
     }
 
-    private int getLeftRequestOrderProductQuantity(Product eventProduct, int leftRequestOrderProductQuantity) {
-        if (eventProduct.getQuantity() >= leftRequestOrderProductQuantity) {
-            eventProduct.updateQuantity(eventProduct.getQuantity() - leftRequestOrderProductQuantity);
+    private int getLeftRequestOrderProductQuantity(int productId, int leftRequestOrderProductQuantity) {
+        int eventStock = getClaimedStock(StockType.EVENT);
+        if (eventStock >= leftRequestOrderProductQuantity) {
+            decreaseStock(StockType.EVENT, leftRequestOrderProductQuantity);
             leftRequestOrderProductQuantity = ZERO_QUANTITY;
             return leftRequestOrderProductQuantity;
         }
-        if (eventProduct.getQuantity() < leftRequestOrderProductQuantity) {
-            leftRequestOrderProductQuantity -= eventProduct.getQuantity();
-            eventProduct.updateQuantity(ZERO_QUANTITY);
+        if (eventStock < leftRequestOrderProductQuantity) {
+            leftRequestOrderProductQuantity -= eventStock;
+            decreaseStock(StockType.EVENT, eventStock);
         }
         return leftRequestOrderProductQuantity;
     }
 
-    private void updateOrderItemsBasedOnRemainingQuantity(Map<String, Product> generalProductInventory, int leftRequestOrderProductQuantity, int withoutPromotionalPrice,
-                                                          List<OrderItem> orderedItems, List<PromotionItem> promotionItems, Product eventProduct, int requestOrderProductQuantity, int receiveEventProductQuantity, String requestOrderProductName) {
+    private void updateOrderItemsBasedOnRemainingQuantity(int productId, int leftRequestOrderProductQuantity, long withoutPromotionalPrice,
+                                                          List<OrderItem> orderedItems, List<PromotionItem> promotionItems, int requestOrderProductQuantity, int receiveEventProductQuantity) {
+        int eventPrice = inventory.getPrice(productId, StockType.EVENT);
         if (leftRequestOrderProductQuantity == ZERO_QUANTITY) {
-            orderedItems.add(new OrderItem(eventProduct.getName(), requestOrderProductQuantity, eventProduct.getPrice(), eventProduct.getPrice() * requestOrderProductQuantity, withoutPromotionalPrice, receiveEventProductQuantity));
-            promotionItems.add(new PromotionItem(eventProduct.getName(), receiveEventProductQuantity, eventProduct.getPrice()));
+            orderedItems.add(new OrderItem(inventory.getName(productId), requestOrderProductQuantity, eventPrice, (long) eventPrice * requestOrderProductQuantity, withoutPromotionalPrice, receiveEventProductQuantity));
+            promotionItems.add(new PromotionItem(inventory.getName(productId), inventory.getPromotion(productId), receiveEventProductQuantity, eventPrice));
             return;
         }
         if (leftRequestOrderProductQuantity > ZERO_QUANTITY) {
-            Product generalProduct = generalProductInventory.get(requestOrderProductName);
-            generalProduct.updateQuantity(generalProduct.getQuantity() - leftRequestOrderProductQuantity);
-            generalProductInventory.put(requestOrderProductName, generalProduct);
-            orderedItems.add(new OrderItem((eventProduct.getName()), requestOrderProductQuantity, eventProduct.getPrice(), eventProduct.getPrice() * requestOrderProductQuantity, withoutPromotionalPrice, receiveEventProductQuantity));
-            promotionItems.add(new PromotionItem(eventProduct.getName(), receiveEventProductQuantity, eventProduct.getPrice()));
+            decreaseStock(StockType.GENERAL, leftRequestOrderProductQuantity);
+            orderedItems.add(new OrderItem(inventory.getName(productId), requestOrderProductQuantity, eventPrice, (long) eventPrice * requestOrderProductQuantity, withoutPromotionalPrice, receiveEventProductQuantity));
+            promotionItems.add(new PromotionItem(inventory.getName(productId), inventory.getPromotion(productId), receiveEventProductQuantity, eventPrice));
         }
     }
 
-    private boolean validateEventStock(Map<String, Product> eventProductInventory, String productName) {
-        return eventProductInventory.get(productName).getQuantity() > ZERO_QUANTITY;
+    private boolean validateEventStock(int productId) {
+        return getClaimedStock(StockType.EVENT) > ZERO_QUANTITY;
     }
 }
@@ -0,0 +1,185 @@
+package store;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Optional;
+
+import static store.constant.ErrorMessage.INVALID_OPTION;
+import static store.constant.ErrorMessage.WATCH_IN_SERVER_MODE;
+
+public class StoreOptions {
+    private static final String OPTION_PREFIX = "--";
+    private static final String VALUE_DELIMITER = "=";
+    private static final String SNAPSHOT_OPTION = "snapshot";
+    private static final String WATCH_OPTION = "watch";
+    private static final String JOURNAL_OPTION = "journal";
+    private static final String JOURNAL_BATCH_OPTION = "journal-batch";
+    private static final String JOURNAL_FLUSH_MILLIS_OPTION = "journal-flush-millis";
+    private static final int DEFAULT_JOURNAL_BATCH_SIZE = 32;
+    private static final long DEFAULT_JOURNAL_FLUSH_MILLIS = 20;
+    private static final String HOLD_TTL_SECONDS_OPTION = "hold-ttl-seconds";
+    private static final Duration DEFAULT_HOLD_TTL = Duration.ofMinutes(5);
+    private static final String SERVER_PORT_OPTION = "server-port";
+    private static final String STATUS_VIEW_OPTION = "status-view";
+    private static final String FULL_STATUS_VIEW = "full";
+    private static final String DELTA_STATUS_VIEW = "delta";
+    private static final String RECEIPT_ARCHIVE_OPTION = "receipt-archive";
+    private static final String RECEIPT_SEGMENT_MB_OPTION = "receipt-segment-mb";
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024;
+    private static final long DEFAULT_RECEIPT_SEGMENT_BYTES = 64 * BYTES_PER_MEGABYTE;
+    private static final String METRICS_JMX_OPTION = "metrics-jmx";
+    private static final String METRICS_DUMP_OPTION = "metrics-dump";
+    private static final String METRICS_DUMP_SECONDS_OPTION = "metrics-dump-seconds";
+    private static final long DEFAULT_METRICS_DUMP_SECONDS = 10;
+    private static final String PARALLEL_LOAD_THRESHOLD_OPTION = "parallel-load-threshold-bytes";
+    private static final long DEFAULT_PARALLEL_LOAD_THRESHOLD_BYTES = 64 * BYTES_PER_MEGABYTE;
+
+    private Path snapshotPath;
+    private boolean watchCatalog;
+    private Path journalPath;
+    private int journalBatchSize = DEFAULT_JOURNAL_BATCH_SIZE;
+    private long journalFlushMillis = DEFAULT_JOURNAL_FLUSH_MILLIS;
+    private Duration holdTtl = DEFAULT_HOLD_TTL;
+    private Integer serverPort;
+    private boolean deltaStatusView;
+    private Path receiptArchivePath;
+    private long receiptSegmentBytes = DEFAULT_RECEIPT_SEGMENT_BYTES;
+    private boolean metricsJmx;
+    private Path metricsDumpPath;
+    private long metricsDumpSeconds = DEFAULT_METRICS_DUMP_SECONDS;
+    private long parallelLoadThresholdBytes = DEFAULT_PARALLEL_LOAD_THRESHOLD_BYTES;
+
+    public static StoreOptions fromArguments(String[] arguments) {
+        StoreOptions options = new StoreOptions();
+        for (String argument : arguments) {
+            options.apply(argument);
+        }
+        if (options.watchCatalog && options.serverPort != null) {
+            throw new IllegalArgumentException(WATCH_IN_SERVER_MODE.getValue());
+        }
+        return options;
+    }
+
+    private void apply(String argument) {
+        int delimiterPos = argument.indexOf(VALUE_DELIMITER);
+        if (!argument.startsWith(OPTION_PREFIX) || delimiterPos < 0) {
+            throw new IllegalArgumentException(INVALID_OPTION.getValue() + argument);
+        }
+        String name = argument.substring(OPTION_PREFIX.length(), delimiterPos);
+        String value = argument.substring(delimiterPos + VALUE_DELIMITER.length());
+        if (name.equals(SNAPSHOT_OPTION)) {
+            snapshotPath = Paths.get(value);
+            return;
+        }
+        if (name.equals(WATCH_OPTION)) {
+            watchCatalog = Boolean.parseBoolean(value);
+            return;
+        }
+        if (name.equals(JOURNAL_OPTION)) {
+            journalPath = Paths.get(value);
+            return;
+        }
+        if (name.equals(JOURNAL_BATCH_OPTION)) {
+            journalBatchSize = Integer.parseInt(value);
+            return;
+        }
+        if (name.equals(JOURNAL_FLUSH_MILLIS_OPTION)) {
+            journalFlushMillis = Long.parseLong(value);
+            return;
+        }
+        if (name.equals(HOLD_TTL_SECONDS_OPTION)) {
+            holdTtl = Duration.ofSeconds(Long.parseLong(value));
+            return;
+        }
+        if (name.equals(SERVER_PORT_OPTION)) {
+            serverPort = Integer.parseInt(value);
+            return;
+        }
+        if (name.equals(STATUS_VIEW_OPTION) && (value.equals(FULL_STATUS_VIEW) || value.equals(DELTA_STATUS_VIEW))) {
+            deltaStatusView = value.equals(DELTA_STATUS_VIEW);
+            return;
+        }
+        if (name.equals(RECEIPT_ARCHIVE_OPTION)) {
+            receiptArchivePath = Paths.get(value);
+            return;
+        }
+        if (name.equals(RECEIPT_SEGMENT_MB_OPTION)) {
+            receiptSegmentBytes = Long.parseLong(value) * BYTES_PER_MEGABYTE;
+            return;
+        }
+        if (name.equals(METRICS_JMX_OPTION)) {
+            metricsJmx = Boolean.parseBoolean(value);
+            return;
+        }
+        if (name.equals(METRICS_DUMP_OPTION)) {
+            metricsDumpPath = Paths.get(value);
+            return;
+        }
+        if (name.equals(METRICS_DUMP_SECONDS_OPTION)) {
+            metricsDumpSeconds = Long.parseLong(value);
+            return;
+        }
+        if (name.equals(PARALLEL_LOAD_THRESHOLD_OPTION)) {
+            parallelLoadThresholdBytes = Long.parseLong(value);
+            return;
+        }
+        throw new IllegalArgumentException(INVALID_OPTION.getValue() + argument);
+    }
+
+    public Optional<Path> getSnapshotPath() {
+        return Optional.ofNullable(snapshotPath);
+    }
+
+    public boolean isWatchCatalog() {
+        return watchCatalog;
+    }
+
+    public Optional<Path> getJournalPath() {
+        return Optional.ofNullable(journalPath);
+    }
+
+    public int getJournalBatchSize() {
+        return journalBatchSize;
+    }
+
+    public long getJournalFlushMillis() {
+        return journalFlushMillis;
+    }
+
+    public Duration getHoldTtl() {
+        return holdTtl;
+    }
+
+    public Optional<Integer> getServerPort() {
+        return Optional.ofNullable(serverPort);
+    }
+
+    public boolean isDeltaStatusView() {
+        return deltaStatusView;
+    }
+
+    public Optional<Path> getReceiptArchivePath() {
+        return Optional.ofNullable(receiptArchivePath);
+    }
+
+    public long getReceiptSegmentBytes() {
+        return receiptSegmentBytes;
+    }
+
+    public boolean isMetricsJmx() {
+        return metricsJmx;
+    }
+
+    public Optional<Path> getMetricsDumpPath() {
+        return Optional.ofNullable(metricsDumpPath);
+    }
+
+    public long getMetricsDumpSeconds() {
+        return metricsDumpSeconds;
+    }
+
+    public long getParallelLoadThresholdBytes() {
+        return parallelLoadThresholdBytes;
+    }
+}
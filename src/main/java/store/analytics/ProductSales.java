@@ -0,0 +1,37 @@
+package store.analytics;
+
+public class ProductSales {
+    private final String name;
+    private final long unitsSold;
+    private final long revenue;
+    private final long freeQuantity;
+    private final long promotionDiscount;
+
+    public ProductSales(String name, long unitsSold, long revenue, long freeQuantity, long promotionDiscount) {
+        this.name = name;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+        this.freeQuantity = freeQuantity;
+        this.promotionDiscount = promotionDiscount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public long getRevenue() {
+        return revenue;
+    }
+
+    public long getFreeQuantity() {
+        return freeQuantity;
+    }
+
+    public long getPromotionDiscount() {
+        return promotionDiscount;
+    }
+}
@@ -0,0 +1,91 @@
+package store.analytics;
+
+import store.archive.ReceiptArchiveReader;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class SalesAnalytics {
+    private static final long DEFAULT_RANGE_BYTES = 4L * 1024 * 1024;
+
+    private final ForkJoinPool pool;
+    private final long rangeBytes;
+
+    public SalesAnalytics(ForkJoinPool pool) {
+        this(pool, DEFAULT_RANGE_BYTES);
+    }
+
+    public SalesAnalytics(ForkJoinPool pool, long rangeBytes) {
+        this.pool = pool;
+        this.rangeBytes = rangeBytes;
+    }
+
+    public SalesReport analyze(Path archiveDirectory) {
+        List<Path> segments = ReceiptArchiveReader.segments(archiveDirectory);
+        if (segments.isEmpty()) {
+            return new SalesTally().toReport();
+        }
+        return pool.invoke(new SegmentTask(segments, 0, segments.size(), rangeBytes)).toReport();
+    }
+
+    private static class SegmentTask extends RecursiveTask<SalesTally> {
+        private final List<Path> segments;
+        private final int fromSegment;
+        private final int toSegment;
+        private final long rangeBytes;
+
+        private SegmentTask(List<Path> segments, int fromSegment, int toSegment, long rangeBytes) {
+            this.segments = segments;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+            this.rangeBytes = rangeBytes;
+        }
+
+        @Override
+        protected SalesTally compute() {
+            if (toSegment - fromSegment == 1) {
+                Path segment = segments.get(fromSegment);
+                List<Long> boundaries = ReceiptArchiveReader.recordBoundaries(segment, rangeBytes);
+                if (boundaries.size() == 1) {
+                    return new SalesTally();
+                }
+                return new RangeTask(segment, boundaries, 0, boundaries.size() - 1).compute();
+            }
+            int middleSegment = (fromSegment + toSegment) >>> 1;
+            SegmentTask laterSegments = new SegmentTask(segments, middleSegment, toSegment, rangeBytes);
+            laterSegments.fork();
+            SalesTally earlierTally = new SegmentTask(segments, fromSegment, middleSegment, rangeBytes).compute();
+            return earlierTally.merge(laterSegments.join());
+        }
+    }
+
+    private static class RangeTask extends RecursiveTask<SalesTally> {
+        private final Path segment;
+        private final List<Long> boundaries;
+        private final int fromRange;
+        private final int toRange;
+
+        private RangeTask(Path segment, List<Long> boundaries, int fromRange, int toRange) {
+            this.segment = segment;
+            this.boundaries = boundaries;
+            this.fromRange = fromRange;
+            this.toRange = toRange;
+        }
+
+        @Override
+        protected SalesTally compute() {
+            if (toRange - fromRange == 1) {
+                SalesTally salesTally = new SalesTally();
+                ReceiptArchiveReader.scanRange(segment, boundaries.get(fromRange), boundaries.get(toRange), salesTally::add);
+                return salesTally;
+            }
+            int middleRange = (fromRange + toRange) >>> 1;
+            RangeTask laterRanges = new RangeTask(segment, boundaries, middleRange, toRange);
+            laterRanges.fork();
+            SalesTally earlierTally = new RangeTask(segment, boundaries, fromRange, middleRange).compute();
+            return earlierTally.merge(laterRanges.join());
+        }
+    }
+}
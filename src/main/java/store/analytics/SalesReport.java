@@ -0,0 +1,75 @@
+package store.analytics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class SalesReport {
+    private static final double NO_SHARE = 0.0;
+
+    private final List<ProductSales> productSales;
+    private final Map<String, Long> promotionDiscounts;
+    private final long receiptCount;
+    private final long grossSales;
+    private final long netSales;
+    private final long promotionalDiscount;
+    private final long membershipDiscount;
+    private final long membershipReceiptCount;
+    private final long membershipCapReceiptCount;
+
+    SalesReport(List<ProductSales> productSales, Map<String, Long> promotionDiscounts, long receiptCount, long grossSales, long netSales, long promotionalDiscount,
+                long membershipDiscount, long membershipReceiptCount, long membershipCapReceiptCount) {
+        this.productSales = List.copyOf(productSales);
+        this.promotionDiscounts = Collections.unmodifiableMap(promotionDiscounts);
+        this.receiptCount = receiptCount;
+        this.grossSales = grossSales;
+        this.netSales = netSales;
+        this.promotionalDiscount = promotionalDiscount;
+        this.membershipDiscount = membershipDiscount;
+        this.membershipReceiptCount = membershipReceiptCount;
+        this.membershipCapReceiptCount = membershipCapReceiptCount;
+    }
+
+    public Map<String, Long> getPromotionDiscountsByPromotion() {
+        return promotionDiscounts;
+    }
+
+    public double getMembershipCapShare() {
+        if (receiptCount == 0) {
+            return NO_SHARE;
+        }
+        return (double) membershipCapReceiptCount / receiptCount;
+    }
+
+    public List<ProductSales> getProductSales() {
+        return productSales;
+    }
+
+    public long getReceiptCount() {
+        return receiptCount;
+    }
+
+    public long getGrossSales() {
+        return grossSales;
+    }
+
+    public long getNetSales() {
+        return netSales;
+    }
+
+    public long getPromotionalDiscount() {
+        return promotionalDiscount;
+    }
+
+    public long getMembershipDiscount() {
+        return membershipDiscount;
+    }
+
+    public long getMembershipReceiptCount() {
+        return membershipReceiptCount;
+    }
+
+    public long getMembershipCapReceiptCount() {
+        return membershipCapReceiptCount;
+    }
+}
@@ -0,0 +1,116 @@
+package store.analytics;
+
+import store.ReceiptBuilder;
+import store.archive.ArchivedNameDictionary;
+import store.archive.ArchivedReceipt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+class SalesTally {
+    private static final int INITIAL_PRODUCT_CAPACITY = 64;
+    private static final int INITIAL_PROMOTION_CAPACITY = 8;
+    private static final long NO_DISCOUNT = 0;
+
+    private final ArchivedNameDictionary productNames = new ArchivedNameDictionary();
+    private final ArchivedNameDictionary promotionNames = new ArchivedNameDictionary();
+    private long[] unitsSold = new long[INITIAL_PRODUCT_CAPACITY];
+    private long[] revenue = new long[INITIAL_PRODUCT_CAPACITY];
+    private long[] freeQuantity = new long[INITIAL_PRODUCT_CAPACITY];
+    private long[] promotionDiscount = new long[INITIAL_PRODUCT_CAPACITY];
+    private long[] discountByPromotion = new long[INITIAL_PROMOTION_CAPACITY];
+    private long receiptCount;
+    private long grossSales;
+    private long netSales;
+    private long promotionalDiscount;
+    private long membershipDiscount;
+    private long membershipReceiptCount;
+    private long membershipCapReceiptCount;
+
+    void add(ArchivedReceipt receipt) {
+        receiptCount++;
+        grossSales += receipt.getTotalPrice();
+        netSales += receipt.getFinalPrice();
+        promotionalDiscount += receipt.getPromotionalDiscountPrice();
+        membershipDiscount += receipt.getMemberShipDiscountPrice();
+        if (receipt.isMembershipActive()) {
+            membershipReceiptCount++;
+        }
+        if (receipt.getMemberShipDiscountPrice() >= ReceiptBuilder.MAXIMUM_MEMBERSHIP_DISCOUNT) {
+            membershipCapReceiptCount++;
+        }
+        for (int index = 0; index < receipt.getOrderedItemCount(); index++) {
+            int productId = productIdOf(receipt.getOrderedItemNameId(index, productNames));
+            unitsSold[productId] += receipt.getOrderedItemQuantity(index);
+            revenue[productId] += receipt.getOrderedItemTotalPrice(index);
+        }
+        for (int index = 0; index < receipt.getPromotionItemCount(); index++) {
+            int productId = productIdOf(receipt.getPromotionItemNameId(index, productNames));
+            if (receipt.isPromotionItemGift(index)) {
+                freeQuantity[productId] += receipt.getPromotionItemQuantity(index);
+            }
+            promotionDiscount[productId] += receipt.getPromotionItemDiscountPrice(index);
+            discountByPromotion[promotionIdOf(receipt.getPromotionItemPromotionNameId(index, promotionNames))] += receipt.getPromotionItemDiscountPrice(index);
+        }
+    }
+
+    SalesTally merge(SalesTally other) {
+        receiptCount += other.receiptCount;
+        grossSales += other.grossSales;
+        netSales += other.netSales;
+        promotionalDiscount += other.promotionalDiscount;
+        membershipDiscount += other.membershipDiscount;
+        membershipReceiptCount += other.membershipReceiptCount;
+        membershipCapReceiptCount += other.membershipCapReceiptCount;
+        for (int otherId = 0; otherId < other.productNames.size(); otherId++) {
+            int productId = productIdOf(productNames.idOf(other.productNames.nameOf(otherId)));
+            unitsSold[productId] += other.unitsSold[otherId];
+            revenue[productId] += other.revenue[otherId];
+            freeQuantity[productId] += other.freeQuantity[otherId];
+            promotionDiscount[productId] += other.promotionDiscount[otherId];
+        }
+        for (int otherId = 0; otherId < other.promotionNames.size(); otherId++) {
+            discountByPromotion[promotionIdOf(promotionNames.idOf(other.promotionNames.nameOf(otherId)))] += other.discountByPromotion[otherId];
+        }
+        return this;
+    }
+
+    SalesReport toReport() {
+        List<ProductSales> productSales = new ArrayList<>(productNames.size());
+        for (int productId = 0; productId < productNames.size(); productId++) {
+            productSales.add(new ProductSales(productNames.nameOf(productId), unitsSold[productId], revenue[productId],
+                    freeQuantity[productId], promotionDiscount[productId]));
+        }
+        productSales.sort(Comparator.comparing(ProductSales::getName));
+        Map<String, Long> promotionDiscounts = new TreeMap<>();
+        for (int promotionId = 0; promotionId < promotionNames.size(); promotionId++) {
+            if (discountByPromotion[promotionId] != NO_DISCOUNT) {
+                promotionDiscounts.put(promotionNames.nameOf(promotionId), discountByPromotion[promotionId]);
+            }
+        }
+        return new SalesReport(productSales, promotionDiscounts, receiptCount, grossSales, netSales, promotionalDiscount, membershipDiscount,
+                membershipReceiptCount, membershipCapReceiptCount);
+    }
+
+    private int productIdOf(int productId) {
+        if (productId >= unitsSold.length) {
+            int capacity = Math.max(unitsSold.length * 2, productId + 1);
+            unitsSold = Arrays.copyOf(unitsSold, capacity);
+            revenue = Arrays.copyOf(revenue, capacity);
+            freeQuantity = Arrays.copyOf(freeQuantity, capacity);
+            promotionDiscount = Arrays.copyOf(promotionDiscount, capacity);
+        }
+        return productId;
+    }
+
+    private int promotionIdOf(int promotionId) {
+        if (promotionId >= discountByPromotion.length) {
+            discountByPromotion = Arrays.copyOf(discountByPromotion, Math.max(discountByPromotion.length * 2, promotionId + 1));
+        }
+        return promotionId;
+    }
+}
@@ -0,0 +1,99 @@
+package store.archive;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class ArchivedNameDictionary {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int EMPTY_SLOT = -1;
+    private static final int MAXIMUM_LOAD_DIVISOR = 2;
+
+    private byte[][] names = new byte[INITIAL_CAPACITY][];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int[] slots = emptySlots(INITIAL_CAPACITY * MAXIMUM_LOAD_DIVISOR);
+    private int size;
+
+    public int idOf(String name) {
+        byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+        return idOf(ByteBuffer.wrap(encodedName), 0, encodedName.length);
+    }
+
+    int idOf(ByteBuffer records, int offset, int length) {
+        int hash = hashOf(records, offset, length);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != EMPTY_SLOT) {
+            int id = slots[slot];
+            if (hashes[id] == hash && matches(names[id], records, offset, length)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return add(records, offset, length, hash, slot);
+    }
+
+    public String nameOf(int id) {
+        return new String(names[id], StandardCharsets.UTF_8);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int add(ByteBuffer records, int offset, int length, int hash, int slot) {
+        byte[] name = new byte[length];
+        records.get(offset, name);
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        int id = size++;
+        names[id] = name;
+        hashes[id] = hash;
+        slots[slot] = id;
+        if (size * MAXIMUM_LOAD_DIVISOR > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return id;
+    }
+
+    private void rehash(int capacity) {
+        slots = emptySlots(capacity);
+        int mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id;
+        }
+    }
+
+    private static int hashOf(ByteBuffer records, int offset, int length) {
+        int hash = 0;
+        for (int index = offset; index < offset + length; index++) {
+            hash = hash * HASH_MULTIPLIER + records.get(index);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(byte[] name, ByteBuffer records, int offset, int length) {
+        if (name.length != length) {
+            return false;
+        }
+        for (int index = 0; index < length; index++) {
+            if (name[index] != records.get(offset + index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] emptySlots(int capacity) {
+        int[] emptySlots = new int[capacity];
+        Arrays.fill(emptySlots, EMPTY_SLOT);
+        return emptySlots;
+    }
+}
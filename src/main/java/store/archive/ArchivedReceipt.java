@@ -0,0 +1,168 @@
+package store.archive;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class ArchivedReceipt {
+    private static final int INITIAL_ITEM_CAPACITY = 8;
+    private static final int ISSUED_AT_OFFSET = 0;
+    private static final int TOTAL_PRICE_OFFSET = ISSUED_AT_OFFSET + Long.BYTES;
+    private static final int TOTAL_QUANTITY_OFFSET = TOTAL_PRICE_OFFSET + Long.BYTES;
+    private static final int PROMOTIONAL_DISCOUNT_OFFSET = TOTAL_QUANTITY_OFFSET + Long.BYTES;
+    private static final int MEMBERSHIP_DISCOUNT_OFFSET = PROMOTIONAL_DISCOUNT_OFFSET + Long.BYTES;
+    private static final int FINAL_PRICE_OFFSET = MEMBERSHIP_DISCOUNT_OFFSET + Long.BYTES;
+    private static final int MEMBERSHIP_FLAG_OFFSET = FINAL_PRICE_OFFSET + Long.BYTES;
+    private static final int ORDERED_ITEM_COUNT_OFFSET = MEMBERSHIP_FLAG_OFFSET + Byte.BYTES;
+    private static final int PROMOTION_ITEM_COUNT_OFFSET = ORDERED_ITEM_COUNT_OFFSET + Short.BYTES;
+
+    private final ByteBuffer records;
+    private int payloadStart;
+    private int orderedItemCount;
+    private int promotionItemCount;
+    private int[] orderedItemOffsets = new int[INITIAL_ITEM_CAPACITY];
+    private int[] promotionItemOffsets = new int[INITIAL_ITEM_CAPACITY];
+
+    ArchivedReceipt(ByteBuffer records) {
+        this.records = records;
+    }
+
+    void moveTo(int payloadStart) {
+        this.payloadStart = payloadStart;
+        orderedItemCount = Short.toUnsignedInt(records.getShort(payloadStart + ORDERED_ITEM_COUNT_OFFSET));
+        promotionItemCount = Short.toUnsignedInt(records.getShort(payloadStart + PROMOTION_ITEM_COUNT_OFFSET));
+        if (orderedItemOffsets.length < orderedItemCount) {
+            orderedItemOffsets = Arrays.copyOf(orderedItemOffsets, orderedItemCount);
+        }
+        if (promotionItemOffsets.length < promotionItemCount) {
+            promotionItemOffsets = Arrays.copyOf(promotionItemOffsets, promotionItemCount);
+        }
+        int itemStart = payloadStart + ReceiptArchive.HEADER_SIZE;
+        for (int index = 0; index < orderedItemCount; index++) {
+            orderedItemOffsets[index] = itemStart;
+            itemStart += ReceiptArchive.ORDERED_ITEM_FIXED_SIZE + nameLengthAt(itemStart);
+        }
+        for (int index = 0; index < promotionItemCount; index++) {
+            promotionItemOffsets[index] = itemStart;
+            itemStart += ReceiptArchive.PROMOTION_ITEM_FIXED_SIZE + nameLengthAt(itemStart) + nameLengthAt(promotionNameOf(itemStart));
+        }
+    }
+
+    public long getIssuedAtMillis() {
+        return records.getLong(payloadStart + ISSUED_AT_OFFSET);
+    }
+
+    public long getTotalPrice() {
+        return records.getLong(payloadStart + TOTAL_PRICE_OFFSET);
+    }
+
+    public long getTotalQuantity() {
+        return records.getLong(payloadStart + TOTAL_QUANTITY_OFFSET);
+    }
+
+    public long getPromotionalDiscountPrice() {
+        return records.getLong(payloadStart + PROMOTIONAL_DISCOUNT_OFFSET);
+    }
+
+    public long getMemberShipDiscountPrice() {
+        return records.getLong(payloadStart + MEMBERSHIP_DISCOUNT_OFFSET);
+    }
+
+    public long getFinalPrice() {
+        return records.getLong(payloadStart + FINAL_PRICE_OFFSET);
+    }
+
+    public boolean isMembershipActive() {
+        return records.get(payloadStart + MEMBERSHIP_FLAG_OFFSET) == ReceiptArchive.TRUE_FLAG;
+    }
+
+    public int getOrderedItemCount() {
+        return orderedItemCount;
+    }
+
+    public String getOrderedItemName(int index) {
+        return nameAt(orderedItemOffsets[index]);
+    }
+
+    public int getOrderedItemNameId(int index, ArchivedNameDictionary nameDictionary) {
+        return nameIdAt(orderedItemOffsets[index], nameDictionary);
+    }
+
+    public int getOrderedItemQuantity(int index) {
+        return records.getInt(fieldsOf(orderedItemOffsets[index]));
+    }
+
+    public int getOrderedItemPrice(int index) {
+        return records.getInt(fieldsOf(orderedItemOffsets[index]) + Integer.BYTES);
+    }
+
+    public long getOrderedItemTotalPrice(int index) {
+        return records.getLong(fieldsOf(orderedItemOffsets[index]) + Integer.BYTES + Integer.BYTES);
+    }
+
+    public int getOrderedItemPromotionQuantity(int index) {
+        return records.getInt(fieldsOf(orderedItemOffsets[index]) + Integer.BYTES + Integer.BYTES + Long.BYTES);
+    }
+
+    public int getPromotionItemCount() {
+        return promotionItemCount;
+    }
+
+    public String getPromotionItemName(int index) {
+        return nameAt(promotionItemOffsets[index]);
+    }
+
+    public int getPromotionItemNameId(int index, ArchivedNameDictionary nameDictionary) {
+        return nameIdAt(promotionItemOffsets[index], nameDictionary);
+    }
+
+    public String getPromotionItemPromotionName(int index) {
+        return nameAt(promotionNameOf(promotionItemOffsets[index]));
+    }
+
+    public int getPromotionItemPromotionNameId(int index, ArchivedNameDictionary nameDictionary) {
+        return nameIdAt(promotionNameOf(promotionItemOffsets[index]), nameDictionary);
+    }
+
+    public int getPromotionItemQuantity(int index) {
+        return records.getInt(promotionFieldsOf(index));
+    }
+
+    public int getPromotionItemPrice(int index) {
+        return records.getInt(promotionFieldsOf(index) + Integer.BYTES);
+    }
+
+    public long getPromotionItemDiscountPrice(int index) {
+        return records.getLong(promotionFieldsOf(index) + Integer.BYTES + Integer.BYTES);
+    }
+
+    public boolean isPromotionItemGift(int index) {
+        return records.get(promotionFieldsOf(index) + Integer.BYTES + Integer.BYTES + Long.BYTES) == ReceiptArchive.TRUE_FLAG;
+    }
+
+    private int nameLengthAt(int itemStart) {
+        return Short.toUnsignedInt(records.getShort(itemStart));
+    }
+
+    private int fieldsOf(int itemStart) {
+        return itemStart + Short.BYTES + nameLengthAt(itemStart);
+    }
+
+    private int promotionNameOf(int itemStart) {
+        return fieldsOf(itemStart);
+    }
+
+    private int promotionFieldsOf(int index) {
+        return fieldsOf(promotionNameOf(promotionItemOffsets[index]));
+    }
+
+    private int nameIdAt(int itemStart, ArchivedNameDictionary nameDictionary) {
+        return nameDictionary.idOf(records, itemStart + Short.BYTES, nameLengthAt(itemStart));
+    }
+
+    private String nameAt(int itemStart) {
+        byte[] encodedName = new byte[nameLengthAt(itemStart)];
+        records.get(itemStart + Short.BYTES, encodedName);
+        return new String(encodedName, StandardCharsets.UTF_8);
+    }
+}
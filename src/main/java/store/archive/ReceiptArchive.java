@@ -0,0 +1,319 @@
+package store.archive;
+
+import store.OrderItem;
+import store.PromotionItem;
+import store.Receipt;
+import store.ReceiptListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+public class ReceiptArchive implements ReceiptListener, AutoCloseable {
+    static final String SEGMENT_PREFIX = "receipts-";
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final int HEADER_SIZE = Long.BYTES * 6 + Byte.BYTES + Short.BYTES + Short.BYTES;
+    static final int ORDERED_ITEM_FIXED_SIZE = Short.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+    static final int PROMOTION_ITEM_FIXED_SIZE = Short.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES + Byte.BYTES;
+    static final byte TRUE_FLAG = 1;
+    static final byte FALSE_FLAG = 0;
+    private static final String SEGMENT_NUMBER_FORMAT = "%010d";
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final String FLUSHER_THREAD_NAME = "receipt-archive-flusher";
+    private static final long EMPTY_SEGMENT = 0;
+    private static final long FLUSHER_SHUTDOWN_SECONDS = 1;
+
+    private final Path directory;
+    private final long segmentSizeLimit;
+    private final LongSupplier clock;
+    private final CRC32 checksum = new CRC32();
+    private final Map<String, byte[]> encodedNames = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService flusher;
+    private ByteBuffer activeRecords = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer flushingRecords = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private FileChannel segment;
+    private long segmentNumber;
+    private long segmentSize;
+    private volatile boolean failed;
+
+    private ReceiptArchive(Path directory, long segmentSizeLimit, long flushIntervalMillis, LongSupplier clock) {
+        this.directory = directory;
+        this.segmentSizeLimit = segmentSizeLimit;
+        this.clock = clock;
+        this.segmentNumber = ReceiptArchiveReader.lastSegmentNumber(directory);
+        this.flusher = startFlusher(flushIntervalMillis);
+    }
+
+    public static ReceiptArchive open(Path directory, long segmentSizeLimit, long flushIntervalMillis) {
+        return open(directory, segmentSizeLimit, flushIntervalMillis, System::currentTimeMillis);
+    }
+
+    public static ReceiptArchive open(Path directory, long segmentSizeLimit, long flushIntervalMillis, LongSupplier clock) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ReceiptArchive(directory, segmentSizeLimit, flushIntervalMillis, clock);
+    }
+
+    static String segmentFileName(long segmentNumber) {
+        return SEGMENT_PREFIX + String.format(SEGMENT_NUMBER_FORMAT, segmentNumber) + SEGMENT_SUFFIX;
+    }
+
+    @Override
+    public void onReceiptIssued(Receipt receipt) {
+        long issuedAtMillis = clock.getAsLong();
+        int recordSize = Integer.BYTES + HEADER_SIZE + Integer.BYTES;
+        for (OrderItem orderItem : receipt.getOrderedItems()) {
+            recordSize += ORDERED_ITEM_FIXED_SIZE + encodedName(orderItem.getName()).length;
+        }
+        for (PromotionItem promotionItem : receipt.getPromotionItems()) {
+            recordSize += PROMOTION_ITEM_FIXED_SIZE + encodedName(promotionItem.getName()).length + encodedName(promotionItem.getPromotionName()).length;
+        }
+        synchronized (this) {
+            appendRecord(receipt, issuedAtMillis, recordSize);
+        }
+    }
+
+    private byte[] encodedName(String name) {
+        byte[] encodedName = encodedNames.get(name);
+        if (encodedName == null) {
+            encodedName = encodedNames.computeIfAbsent(name, key -> key.getBytes(StandardCharsets.UTF_8));
+        }
+        return encodedName;
+    }
+
+    private void appendRecord(Receipt receipt, long issuedAtMillis, int recordSize) {
+        ensureCapacity(recordSize);
+        int recordStart = activeRecords.position();
+        activeRecords.putInt(recordSize - Integer.BYTES - Integer.BYTES);
+        activeRecords.putLong(issuedAtMillis);
+        activeRecords.putLong(receipt.getTotalPrice());
+        activeRecords.putLong(receipt.getTotalQuantity());
+        activeRecords.putLong(receipt.getPromotionalDiscountPrice());
+        activeRecords.putLong(receipt.getMemberShipDiscountPrice());
+        activeRecords.putLong(receipt.getFinalPrice());
+        activeRecords.put(flagOf(receipt.isMembershipActive()));
+        List<OrderItem> orderedItems = receipt.getOrderedItems();
+        List<PromotionItem> promotionItems = receipt.getPromotionItems();
+        activeRecords.putShort((short) orderedItems.size());
+        activeRecords.putShort((short) promotionItems.size());
+        for (OrderItem orderItem : orderedItems) {
+            putName(orderItem.getName());
+            activeRecords.putInt(orderItem.getQuantity());
+            activeRecords.putInt(orderItem.getPrice());
+            activeRecords.putLong(orderItem.getTotalPrice());
+            activeRecords.putInt(orderItem.getPromotionQuantity());
+        }
+        for (PromotionItem promotionItem : promotionItems) {
+            putName(promotionItem.getName());
+            putName(promotionItem.getPromotionName());
+            activeRecords.putInt(promotionItem.getQuantity());
+            activeRecords.putInt(promotionItem.getPrice());
+            activeRecords.putLong(promotionItem.promotionalDiscountPrice());
+            activeRecords.put(flagOf(promotionItem.isGift()));
+        }
+        checksum.reset();
+        checksum.update(activeRecords.array(), recordStart + Integer.BYTES, activeRecords.position() - recordStart - Integer.BYTES);
+        activeRecords.putInt((int) checksum.getValue());
+    }
+
+    private void putName(String name) {
+        byte[] encodedName = encodedName(name);
+        activeRecords.putShort((short) encodedName.length);
+        activeRecords.put(encodedName);
+    }
+
+    private byte flagOf(boolean flag) {
+        if (flag) {
+            return TRUE_FLAG;
+        }
+        return FALSE_FLAG;
+    }
+
+    private void ensureCapacity(int recordSize) {
+        if (activeRecords.remaining() >= recordSize) {
+            return;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(activeRecords.capacity() * 2, activeRecords.position() + recordSize));
+        activeRecords.flip();
+        grown.put(activeRecords);
+        activeRecords = grown;
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            ByteBuffer records = swapRecords();
+            records.flip();
+            try {
+                writeRecords(records);
+                failed = false;
+            } catch (IOException e) {
+                failed = true;
+                abandonSegment();
+                keepUnwrittenRecords(records);
+                throw new UncheckedIOException(e);
+            } finally {
+                records.clear();
+            }
+        }
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (UncheckedIOException e) {
+            return;
+        }
+    }
+
+    private synchronized void keepUnwrittenRecords(ByteBuffer records) {
+        ByteBuffer kept = ByteBuffer.allocate(Math.max(activeRecords.capacity(), records.remaining() + activeRecords.position()));
+        kept.put(records);
+        activeRecords.flip();
+        kept.put(activeRecords);
+        activeRecords = kept;
+    }
+
+    private synchronized ByteBuffer swapRecords() {
+        ByteBuffer records = activeRecords;
+        activeRecords = flushingRecords;
+        flushingRecords = records;
+        return records;
+    }
+
+    private void writeRecords(ByteBuffer records) throws IOException {
+        while (records.hasRemaining()) {
+            int chunkEnd = endOfRecordsFitting(records);
+            if (chunkEnd == records.position()) {
+                rollSegment();
+                continue;
+            }
+            ensureSegment();
+            ByteBuffer chunk = records.duplicate().limit(chunkEnd);
+            try {
+                while (chunk.hasRemaining()) {
+                    segmentSize += segment.write(chunk);
+                }
+            } catch (IOException e) {
+                records.position(endOfWrittenRecords(records, chunk.position()));
+                throw e;
+            }
+            records.position(chunkEnd);
+        }
+    }
+
+    private int endOfWrittenRecords(ByteBuffer records, int writtenEnd) {
+        int recordEnd = records.position();
+        while (recordEnd < writtenEnd) {
+            int nextRecordEnd = recordEnd + Integer.BYTES + records.getInt(recordEnd) + Integer.BYTES;
+            if (nextRecordEnd > writtenEnd) {
+                break;
+            }
+            recordEnd = nextRecordEnd;
+        }
+        return recordEnd;
+    }
+
+    private int endOfRecordsFitting(ByteBuffer records) {
+        int chunkEnd = records.position();
+        long available = segmentSizeLimit - segmentSize;
+        while (chunkEnd < records.limit()) {
+            int recordSize = Integer.BYTES + records.getInt(chunkEnd) + Integer.BYTES;
+            boolean firstRecordOfSegment = segmentSize == EMPTY_SEGMENT && chunkEnd == records.position();
+            if (recordSize > available && !firstRecordOfSegment) {
+                break;
+            }
+            chunkEnd += recordSize;
+            available -= recordSize;
+        }
+        return chunkEnd;
+    }
+
+    private void ensureSegment() throws IOException {
+        if (segment == null) {
+            segmentNumber++;
+            segment = FileChannel.open(directory.resolve(segmentFileName(segmentNumber)),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            segmentSize = EMPTY_SEGMENT;
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        closeSegment();
+        ensureSegment();
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment != null) {
+            segment.force(false);
+            segment.close();
+            segment = null;
+        }
+    }
+
+    private void abandonSegment() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            return;
+        } finally {
+            segment = null;
+        }
+    }
+
+    private ScheduledExecutorService startFlusher(long flushIntervalMillis) {
+        if (flushIntervalMillis <= 0) {
+            return null;
+        }
+        ScheduledExecutorService scheduledFlusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, FLUSHER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledFlusher.scheduleWithFixedDelay(this::flushInBackground, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        return scheduledFlusher;
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(FLUSHER_SHUTDOWN_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        synchronized (flushLock) {
+            try {
+                closeSegment();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
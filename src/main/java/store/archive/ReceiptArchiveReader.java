@@ -0,0 +1,131 @@
+package store.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+public class ReceiptArchiveReader {
+    private static final long NO_SEGMENT = 0;
+    private static final int MINIMUM_PAYLOAD_SIZE = ReceiptArchive.HEADER_SIZE;
+
+    public static List<Path> segments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(ReceiptArchiveReader::isSegment)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static long lastSegmentNumber(Path directory) {
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            return NO_SEGMENT;
+        }
+        return segmentNumberOf(segments.get(segments.size() - 1));
+    }
+
+    public static long scan(Path directory, Consumer<ArchivedReceipt> receiptConsumer) {
+        long scannedReceipts = 0;
+        for (Path segment : segments(directory)) {
+            scannedReceipts += scanSegment(segment, receiptConsumer);
+        }
+        return scannedReceipts;
+    }
+
+    public static long scanSegment(Path segment, Consumer<ArchivedReceipt> receiptConsumer) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return scanRecords(records, receiptConsumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static List<Long> recordBoundaries(Path segment, long rangeBytes) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            List<Long> boundaries = new ArrayList<>();
+            boundaries.add(0L);
+            int rangeStart = 0;
+            int recordStart = 0;
+            while (records.limit() - recordStart >= Integer.BYTES) {
+                int payloadLength = records.getInt(recordStart);
+                int payloadStart = recordStart + Integer.BYTES;
+                if (payloadLength < MINIMUM_PAYLOAD_SIZE || records.limit() - payloadStart < payloadLength + Integer.BYTES) {
+                    break;
+                }
+                recordStart = payloadStart + payloadLength + Integer.BYTES;
+                if (recordStart - rangeStart >= rangeBytes) {
+                    boundaries.add((long) recordStart);
+                    rangeStart = recordStart;
+                }
+            }
+            if (recordStart > rangeStart) {
+                boundaries.add((long) recordStart);
+            }
+            return boundaries;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static long scanRange(Path segment, long fromOffset, long toOffset, Consumer<ArchivedReceipt> receiptConsumer) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, fromOffset, toOffset - fromOffset);
+            return scanRecords(records, receiptConsumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long scanRecords(MappedByteBuffer records, Consumer<ArchivedReceipt> receiptConsumer) {
+        CRC32 checksum = new CRC32();
+        ByteBuffer payload = records.duplicate();
+        ArchivedReceipt archivedReceipt = new ArchivedReceipt(records);
+        long scannedReceipts = 0;
+        int recordStart = 0;
+        while (records.limit() - recordStart >= Integer.BYTES) {
+            int payloadLength = records.getInt(recordStart);
+            int payloadStart = recordStart + Integer.BYTES;
+            if (payloadLength < MINIMUM_PAYLOAD_SIZE || records.limit() - payloadStart < payloadLength + Integer.BYTES) {
+                break;
+            }
+            checksum.reset();
+            checksum.update(payload.limit(payloadStart + payloadLength).position(payloadStart));
+            payload.limit(payload.capacity());
+            if ((int) checksum.getValue() != records.getInt(payloadStart + payloadLength)) {
+                break;
+            }
+            archivedReceipt.moveTo(payloadStart);
+            receiptConsumer.accept(archivedReceipt);
+            scannedReceipts++;
+            recordStart = payloadStart + payloadLength + Integer.BYTES;
+        }
+        return scannedReceipts;
+    }
+
+    private static boolean isSegment(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.startsWith(ReceiptArchive.SEGMENT_PREFIX) && fileName.endsWith(ReceiptArchive.SEGMENT_SUFFIX);
+    }
+
+    private static long segmentNumberOf(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(ReceiptArchive.SEGMENT_PREFIX.length(), fileName.length() - ReceiptArchive.SEGMENT_SUFFIX.length()));
+    }
+}
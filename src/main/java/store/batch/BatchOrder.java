@@ -0,0 +1,27 @@
+package store.batch;
+
+import store.PromotionDecisionPolicy;
+
+public class BatchOrder {
+    private final String orderItems;
+    private final boolean membership;
+    private final PromotionDecisionPolicy decisionPolicy;
+
+    public BatchOrder(String orderItems, boolean membership, PromotionDecisionPolicy decisionPolicy) {
+        this.orderItems = orderItems;
+        this.membership = membership;
+        this.decisionPolicy = decisionPolicy;
+    }
+
+    public String getOrderItems() {
+        return orderItems;
+    }
+
+    public boolean isMembership() {
+        return membership;
+    }
+
+    public PromotionDecisionPolicy getDecisionPolicy() {
+        return decisionPolicy;
+    }
+}
@@ -0,0 +1,50 @@
+package store.batch;
+
+import store.OrderValidator;
+import store.Receipt;
+import store.StoreManager;
+import store.inventory.StockHold;
+import store.order.OrderLines;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchOrderPipeline {
+    private static final String MEMBERSHIP_RESPONSE = "Y";
+    private static final String NO_MEMBERSHIP_RESPONSE = "N";
+
+    private final StoreManager storeManager;
+    private final OrderValidator orderValidator;
+    private final OrderLines orderLines = new OrderLines();
+
+    public BatchOrderPipeline(StoreManager storeManager) {
+        this.storeManager = storeManager;
+        this.orderValidator = new OrderValidator(storeManager);
+    }
+
+    public List<BatchOrderResult> process(List<BatchOrder> orders) {
+        List<BatchOrderResult> results = new ArrayList<>(orders.size());
+        for (BatchOrder order : orders) {
+            results.add(process(order));
+        }
+        return results;
+    }
+
+    public BatchOrderResult process(BatchOrder order) {
+        try {
+            orderValidator.validateInputOrderItems(order.getOrderItems(), orderLines);
+            Receipt receipt = storeManager.processOrder(orderLines, membershipChoiceOf(order),
+                    StockHold.none(storeManager.getInventory()), order.getDecisionPolicy());
+            return BatchOrderResult.completed(order, receipt);
+        } catch (IllegalArgumentException e) {
+            return BatchOrderResult.rejected(order, e.getMessage());
+        }
+    }
+
+    private String membershipChoiceOf(BatchOrder order) {
+        if (order.isMembership()) {
+            return MEMBERSHIP_RESPONSE;
+        }
+        return NO_MEMBERSHIP_RESPONSE;
+    }
+}
@@ -0,0 +1,41 @@
+package store.batch;
+
+import store.Receipt;
+
+import java.util.Optional;
+
+public class BatchOrderResult {
+    private final BatchOrder order;
+    private final Receipt receipt;
+    private final String errorMessage;
+
+    private BatchOrderResult(BatchOrder order, Receipt receipt, String errorMessage) {
+        this.order = order;
+        this.receipt = receipt;
+        this.errorMessage = errorMessage;
+    }
+
+    public static BatchOrderResult completed(BatchOrder order, Receipt receipt) {
+        return new BatchOrderResult(order, receipt, null);
+    }
+
+    public static BatchOrderResult rejected(BatchOrder order, String errorMessage) {
+        return new BatchOrderResult(order, null, errorMessage);
+    }
+
+    public BatchOrder getOrder() {
+        return order;
+    }
+
+    public boolean isCompleted() {
+        return receipt != null;
+    }
+
+    public Optional<Receipt> getReceipt() {
+        return Optional.ofNullable(receipt);
+    }
+
+    public Optional<String> getErrorMessage() {
+        return Optional.ofNullable(errorMessage);
+    }
+}
@@ -0,0 +1,20 @@
+package store.constant;
+
+public enum CheckoutStage {
+    ORDER_PARSING("parse"),
+    ORDER_VALIDATION("validate"),
+    PROMOTION_ALLOCATION("promotion"),
+    GENERAL_STOCK_FALLBACK("general-stock"),
+    RECEIPT_CONSTRUCTION("receipt"),
+    RECEIPT_RENDERING("render");
+
+    private final String label;
+
+    CheckoutStage(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
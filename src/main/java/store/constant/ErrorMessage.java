@@ -6,7 +6,24 @@ public enum ErrorMessage {
     INVALID_INPUT(ERROR_PREFIX.getValue() + " 잘못된 입력입니다. 다시 입력해주세요"),
     PRODUCT_NOT_FOUND(ERROR_PREFIX.getValue() + " 존재하지 않는 상품입니다. 다시 입력해 주세요."),
     EXCEEDS_AVAILABLE_STOCK(ERROR_PREFIX.getValue() + " 재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요."),
-    INVALID_QUANTITY_ZERO(ERROR_PREFIX.getValue() + " 구매수량은 0개 이하일 수 없습니다");
+    INVALID_QUANTITY_ZERO(ERROR_PREFIX.getValue() + " 구매수량은 0개 이하일 수 없습니다"),
+    INVALID_OPTION(ERROR_PREFIX.getValue() + " 알 수 없는 실행 옵션입니다: "),
+    INVALID_CATALOG_ROW(ERROR_PREFIX.getValue() + " 카탈로그 행의 열 개수가 올바르지 않습니다: "),
+    INVALID_PROMOTION_RULE(ERROR_PREFIX.getValue() + " 알 수 없는 행사 규칙입니다: "),
+    STORE_NOT_FOUND(ERROR_PREFIX.getValue() + " 존재하지 않는 매장입니다: "),
+    SHARD_NODE_NOT_FOUND(ERROR_PREFIX.getValue() + " 매장을 배정할 샤드 노드가 없습니다."),
+    DUPLICATE_SHARD_NODE(ERROR_PREFIX.getValue() + " 이미 등록된 샤드 노드입니다: "),
+    UNKNOWN_SHARD_NODE(ERROR_PREFIX.getValue() + " 등록되지 않은 샤드 노드입니다: "),
+    LAST_SHARD_NODE(ERROR_PREFIX.getValue() + " 마지막 샤드 노드는 제거할 수 없습니다: "),
+    REPLICATION_STREAM_BROKEN(ERROR_PREFIX.getValue() + " 복제 스트림의 순번이 올바르지 않습니다: "),
+    REPLICATION_CHECKSUM_MISMATCH(ERROR_PREFIX.getValue() + " 복제 기록의 체크섬이 맞지 않습니다: "),
+    REPLICATION_BASE_STATE_MISMATCH(ERROR_PREFIX.getValue() + " 복제본의 시작 재고가 주 매장과 다릅니다."),
+    REPLICATION_CONNECTION_LOST(ERROR_PREFIX.getValue() + " 복제 연결이 끊겼습니다."),
+    CORRUPT_SNAPSHOT(ERROR_PREFIX.getValue() + " 재고 스냅숏이 손상되었습니다: "),
+    JOURNAL_CLOSED(ERROR_PREFIX.getValue() + " 이미 닫힌 재고 저널입니다."),
+    RECEIPT_ARCHIVE_FAILED(ERROR_PREFIX.getValue() + " 영수증 보관 파일에 기록하지 못했습니다. 기록하지 못한 영수증은 보관해 두고 다시 기록합니다."),
+    CATALOG_RELOAD_FAILED(ERROR_PREFIX.getValue() + " 바뀐 카탈로그를 반영하지 못해 이전 카탈로그로 계속 판매합니다: "),
+    WATCH_IN_SERVER_MODE(ERROR_PREFIX.getValue() + " 서버 모드에서는 카탈로그 감시(--watch)를 사용할 수 없습니다.");
 
 
     private final String value;
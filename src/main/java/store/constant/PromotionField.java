@@ -1,7 +1,7 @@
 package store.constant;
 
 public enum PromotionField {
-    NAME(0), BUY(1), GET(2), START_DATE(3), END_DATE(4);
+    NAME(0), BUY(1), GET(2), START_DATE(3), END_DATE(4), RULE(5);
 
     private final int index;
 
@@ -0,0 +1,36 @@
+package store.constant;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static store.constant.ErrorMessage.INVALID_PROMOTION_RULE;
+
+public enum PromotionRuleType {
+    BUNDLE("bundle"), PERCENTAGE("percent"), FIXED_PRICE("fixed"), TIERED("tiered");
+
+    private static final Map<String, PromotionRuleType> KEYWORD_MAP = new HashMap<>();
+
+    static {
+        for (PromotionRuleType type : values()) {
+            KEYWORD_MAP.put(type.getKeyword(), type);
+        }
+    }
+
+    private final String keyword;
+
+    private PromotionRuleType(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public static PromotionRuleType findByKeyword(String keyword) {
+        PromotionRuleType type = KEYWORD_MAP.get(keyword);
+        if (type == null) {
+            throw new IllegalArgumentException(INVALID_PROMOTION_RULE.getValue() + keyword);
+        }
+        return type;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+}
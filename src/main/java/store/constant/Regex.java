@@ -1,16 +1,24 @@
 package store.constant;
 
+import java.util.regex.Pattern;
+
 public enum Regex {
-    KOREAN_PRODUCT_ORDER_PATTERN("^\\[[가-힣]+-\\d+\\](,\\[[가-힣]+-\\d+\\])*$"), YES_NO_RESPONSE_FORMAT("^[YN]$");
+    YES_NO_RESPONSE_FORMAT("^[YN]$");
 
 
     private final String value;
+    private final Pattern pattern;
 
     private Regex(String value) {
         this.value = value;
+        this.pattern = Pattern.compile(value);
     }
 
     public String getValue() {
         return value;
     }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
 }
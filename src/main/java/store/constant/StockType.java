@@ -0,0 +1,5 @@
+package store.constant;
+
+public enum StockType {
+    GENERAL, EVENT
+}
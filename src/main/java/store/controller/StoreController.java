@@ -1,186 +1,298 @@
 package store.controller;
 
-import camp.nextstep.edu.missionutils.DateTimes;
-import store.Product;
-import store.Promotion;
+import store.OrderValidator;
+import store.PromotionDecisionPolicy;
 import store.Receipt;
-import store.Separator;
 import store.StoreManager;
+import store.StoreOptions;
+import store.archive.ReceiptArchive;
+import store.constant.CheckoutStage;
 import store.constant.ErrorMessage;
+import store.constant.Regex;
+import store.inventory.StockHold;
+import store.journal.StockJournal;
+import store.metrics.MetricsDumper;
+import store.metrics.MetricsJmx;
+import store.order.OrderLines;
+import store.reload.CatalogDiff;
+import store.reload.CatalogWatcher;
+import store.snapshot.CatalogFingerprint;
+import store.snapshot.InventorySnapshot;
+import store.view.ConsolePromotionDecisionPolicy;
 import store.view.InputView;
 import store.view.OutputView;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import static store.constant.ErrorMessage.EXCEEDS_AVAILABLE_STOCK;
+import static store.constant.ErrorMessage.CATALOG_RELOAD_FAILED;
 import static store.constant.ErrorMessage.INVALID_INPUT;
-import static store.constant.ErrorMessage.INVALID_ORDER_PRODUCT_FORMAT;
-import static store.constant.ErrorMessage.INVALID_QUANTITY_ZERO;
-import static store.constant.ErrorMessage.PRODUCT_NOT_FOUND;
-import static store.constant.Regex.KOREAN_PRODUCT_ORDER_PATTERN;
+import static store.constant.ErrorMessage.RECEIPT_ARCHIVE_FAILED;
 import static store.constant.Regex.YES_NO_RESPONSE_FORMAT;
 
 public class StoreController {
     private static final Path PRODUCTS_FILE_PATH = Paths.get("src/main/resources/products.md");
     private static final Path PROMOTIONS_FILE_PATH = Paths.get("src/main/resources/promotions.md");
 
-    private static final int MINIMUM_STOCK = 1;
+    private static final long CATALOG_BASE_SEQUENCE = 0;
+
     private static final String EXIT_RESPONSE = "N";
 
-    private final StoreManager storeManager = new StoreManager();
-    private final OutputView outputView = new OutputView();
-    private final InputView inputView = new InputView();
+    private static final long RECEIPT_ARCHIVE_FLUSH_MILLIS = 50;
+
+    private final StoreManager storeManager;
+    private final OrderValidator orderValidator;
+    private final OutputView outputView;
+    private final InputView inputView;
+    private final PromotionDecisionPolicy decisionPolicy;
+    private final StoreOptions storeOptions;
+    private CatalogWatcher catalogWatcher;
+    private StockJournal stockJournal;
+    private ReceiptArchive receiptArchive;
+    private MetricsJmx metricsJmx;
+    private MetricsDumper metricsDumper;
+    private final OrderLines orderLines = new OrderLines();
+    private StockHold stockHold;
+
+    public StoreController() {
+        this(new StoreOptions());
+    }
+
+    public StoreController(StoreOptions storeOptions) {
+        this(storeOptions, new StoreManager(), new InputView(), new OutputView());
+    }
 
+    public StoreController(StoreOptions storeOptions, StoreManager storeManager, InputView inputView, OutputView outputView) {
+        this.storeOptions = storeOptions;
+        this.storeManager = storeManager;
+        this.inputView = inputView;
+        this.outputView = outputView;
+        this.orderValidator = new OrderValidator(storeManager);
+        this.decisionPolicy = new ConsolePromotionDecisionPolicy(inputView, outputView);
+    }
 
     public void run() {
-        initializeStoreStatus(storeManager);
-        processOrder();
+        open();
+        startCatalogWatcher();
+        try {
+            processOrder();
+        } finally {
+            stopCatalogWatcher();
+            closeStockJournal();
+            closeReceiptArchive();
+            stopMetrics();
+        }
+        writeSnapshot();
     }
 
-    private void showCurrentStatus() {
-        Map<String, Product> generalProductInventory = storeManager.getGeneralProductInventory();
-        Map<String, Product> eventProductInventory = storeManager.getEventProductInventory();
-        outputView.showCurrentStatus(generalProductInventory, eventProductInventory);
+    public void open() {
+        long baseSequence = initializeStoreStatus(storeManager);
+        openStockJournal(baseSequence);
+        openReceiptArchive();
+        startMetrics();
     }
 
-    private void initializeStoreStatus(StoreManager storeManager) {
-        List<String> storeProducts = readFile(PRODUCTS_FILE_PATH);
-        List<String> storePromotions = readFile(PROMOTIONS_FILE_PATH);
-        storeManager.setUpStore(storeProducts);
-        storeManager.setUpPromotions(storePromotions);
+    public void close() {
+        closeStockJournal();
+        closeReceiptArchive();
+        stopMetrics();
+        writeSnapshot();
     }
 
-    public void processOrder() {
-        boolean isContinueShopping = true;
-        while (isContinueShopping) {
-            try {
-                showCurrentStatus();
-                String forContinueShopping = processOrderAndPromptForAdditionalShopping();
-                isContinueShopping = checkForContinueShopping(forContinueShopping);
-            } catch (IllegalArgumentException e) {
-                outputView.displayErrorMessage(e.getMessage());
-            }
+    private void openStockJournal(long baseSequence) {
+        storeOptions.getJournalPath().ifPresent(journalPath -> {
+            long lastSequence = StockJournal.replay(journalPath, baseSequence, storeManager::applyStockDelta);
+            stockJournal = StockJournal.open(journalPath, lastSequence, storeOptions.getJournalBatchSize(), storeOptions.getJournalFlushMillis());
+            storeManager.addStockListener(stockJournal);
+        });
+    }
+
+    private void closeStockJournal() {
+        if (stockJournal != null) {
+            stockJournal.close();
         }
     }
 
-    private String processOrderAndPromptForAdditionalShopping() {
-        String orderItems = getOrderItems();
-        String membershipChoice = getMembershipChoice();
-        Receipt receipt = storeManager.processOrder(orderItems, storeManager.getEventProductInventory(), storeManager.getGeneralProductInventory(), membershipChoice);
-        outputView.showReceipt(receipt, membershipChoice);
-        return getForContinueShopping();
+    private void openReceiptArchive() {
+        storeOptions.getReceiptArchivePath().ifPresent(archivePath -> {
+            receiptArchive = ReceiptArchive.open(archivePath, storeOptions.getReceiptSegmentBytes(), RECEIPT_ARCHIVE_FLUSH_MILLIS);
+            storeManager.addReceiptListener(receiptArchive);
+        });
     }
 
-    private boolean checkForContinueShopping(String forContinueShopping) {
-        if (forContinueShopping.equals(EXIT_RESPONSE)) {
-            return false;
+    private void closeReceiptArchive() {
+        if (receiptArchive != null) {
+            receiptArchive.close();
         }
-        return true;
     }
 
-    private String getOrderItems() {
-        while (true) {
-            try {
-                String orderItems = inputView.promptOrderItems();
-                validateInputOrderItems(orderItems);
-                return orderItems;
-            } catch (IllegalArgumentException e) {
-                outputView.displayErrorMessage(e.getMessage());
-            }
+    private void startMetrics() {
+        if (storeOptions.isMetricsJmx()) {
+            metricsJmx = MetricsJmx.register(storeManager.getCheckoutMetrics());
         }
+        storeOptions.getMetricsDumpPath().ifPresent(dumpPath ->
+                metricsDumper = MetricsDumper.start(storeManager.getCheckoutMetrics(), dumpPath, storeOptions.getMetricsDumpSeconds()));
     }
 
-    private void validateInputOrderItems(String orderItems) {
-        validateInputByRegex(orderItems, KOREAN_PRODUCT_ORDER_PATTERN.getValue(), INVALID_ORDER_PRODUCT_FORMAT);
-        validateProductExists(orderItems, storeManager.getGeneralProductInventory(), PRODUCT_NOT_FOUND);
-        validateRequestOrderQuantity(orderItems, INVALID_QUANTITY_ZERO);
-        validateExceedsQuantity(orderItems);
+    private void stopMetrics() {
+        if (metricsJmx != null) {
+            metricsJmx.close();
+        }
+        if (metricsDumper != null) {
+            metricsDumper.close();
+        }
     }
 
-    private void validateRequestOrderQuantity(String orderItems, ErrorMessage errorMessage) {
-        final int INVALID_QUANTITY_ZERO = 0;
-        String[] separatedOrderItems = Separator.separate(orderItems);
-        for (String orderItem : separatedOrderItems) {
-            int requestOrderQuantity = Separator.separateProductQuantity(orderItem);
-            if (requestOrderQuantity <= INVALID_QUANTITY_ZERO) {
-                throw new IllegalArgumentException(errorMessage.getValue());
-            }
+    private void startCatalogWatcher() {
+        if (storeOptions.isWatchCatalog()) {
+            catalogWatcher = CatalogWatcher.start(PRODUCTS_FILE_PATH, PROMOTIONS_FILE_PATH);
         }
     }
 
-    private void validateProductExists(String orderItems, Map<String, Product> generalProductInventory, ErrorMessage errorMessage) {
-        for (String separatedOrderItem : Separator.separate(orderItems)) {
-            String productName = Separator.separateProductName(separatedOrderItem);
-            if (!generalProductInventory.containsKey(productName)) {
-                throw new IllegalArgumentException(errorMessage.getValue());
-            }
+    private void stopCatalogWatcher() {
+        if (catalogWatcher != null) {
+            catalogWatcher.close();
         }
     }
 
-    private void validateExceedsQuantity(String orderItems) {
-        Map<String, Product> eventProductInventory = storeManager.getEventProductInventory();
-        Map<String, Product> generalProductInventory = storeManager.getGeneralProductInventory();
-        Map<String, Promotion> promotionInventory = storeManager.getPromotionInventory();
-        for (String orderItem : Separator.separate(orderItems)) {
-            String productName = Separator.separateProductName(orderItem);
-            validateStockAvailability(orderItem, eventProductInventory, productName, promotionInventory, generalProductInventory);
+    private void applyPendingCatalogChanges() {
+        if (catalogWatcher == null) {
+            return;
+        }
+        CatalogDiff catalogDiff = catalogWatcher.pollPendingDiff();
+        while (catalogDiff != null) {
+            storeManager.applyCatalogDiff(catalogDiff);
+            catalogDiff = catalogWatcher.pollPendingDiff();
         }
+        warnCatalogReloadFailure();
     }
 
-    private void validateStockAvailability(String orderItem, Map<String, Product> eventProductInventory, String productName, Map<String, Promotion> promotionInventory, Map<String, Product> generalProductInventory) {
-        if (eventProductInventory.get(productName) != null) {
-            Product eventProduct = eventProductInventory.get(productName);
-            Promotion promotion = promotionInventory.get(eventProduct.getPromotion());
-            if (validatePromotionItem(promotion, eventProductInventory, eventProduct.getName())) {
-                Product generalProduct = generalProductInventory.get(eventProduct.getName());
-                int requestedOrderItemsQuantity = Separator.separateProductQuantity(orderItem);
-                validateCombinedStockForEventProduct(eventProduct, generalProduct, requestedOrderItemsQuantity);
-                return;
-            }
+    private void warnCatalogReloadFailure() {
+        String reloadFailure = catalogWatcher.pollReloadFailure();
+        if (reloadFailure != null) {
+            outputView.displayErrorMessage(CATALOG_RELOAD_FAILED.getValue() + reloadFailure);
+        }
+    }
+
+    public void writeSnapshot() {
+        storeOptions.getSnapshotPath().ifPresent(snapshotPath ->
+                InventorySnapshot.write(snapshotPath, storeManager, CatalogFingerprint.of(PRODUCTS_FILE_PATH, PROMOTIONS_FILE_PATH), journalSequence()));
+    }
+
+    private long journalSequence() {
+        if (stockJournal == null) {
+            return CATALOG_BASE_SEQUENCE;
+        }
+        stockJournal.sync();
+        return stockJournal.getLastSequence();
+    }
+
+    private void warnReceiptArchiveFailure() {
+        if (receiptArchive != null && receiptArchive.isFailed()) {
+            outputView.displayErrorMessage(RECEIPT_ARCHIVE_FAILED.getValue());
         }
-        Product generalProduct = generalProductInventory.get(productName);
-        validateStockForGeneralProduct(orderItem, generalProduct);
     }
 
-    private void validateCombinedStockForEventProduct(Product eventProduct, Product generalProduct, int requestedOrderItemsQuantity) {
-        if (eventProduct.getQuantity() + generalProduct.getQuantity() < requestedOrderItemsQuantity) {
-            throw new IllegalArgumentException(EXCEEDS_AVAILABLE_STOCK.getValue());
+    private void showCurrentStatus() {
+        if (storeOptions.isDeltaStatusView()) {
+            outputView.showChangedStatus(storeManager.getInventory());
+            return;
         }
+        outputView.showCurrentStatus(storeManager.getInventory());
     }
 
-    private void validateStockForGeneralProduct(String orderItem, Product generalProduct) {
-        if (generalProduct.getQuantity() < Separator.separateProductQuantity(orderItem)) {
-            throw new IllegalArgumentException(EXCEEDS_AVAILABLE_STOCK.getValue());
+    private long initializeStoreStatus(StoreManager storeManager) {
+        OptionalLong snapshotSequence = loadSnapshot(storeManager);
+        if (snapshotSequence.isPresent()) {
+            return snapshotSequence.getAsLong();
         }
+        setUpStoreProducts(storeManager, PRODUCTS_FILE_PATH);
+        storeManager.setUpPromotions(PROMOTIONS_FILE_PATH);
+        return CATALOG_BASE_SEQUENCE;
+    }
+
+    private OptionalLong loadSnapshot(StoreManager storeManager) {
+        return storeOptions.getSnapshotPath()
+                .map(snapshotPath -> InventorySnapshot.loadIfFresh(snapshotPath, storeManager, CatalogFingerprint.of(PRODUCTS_FILE_PATH, PROMOTIONS_FILE_PATH)))
+                .orElse(OptionalLong.empty());
     }
-    
-    private boolean validatePromotionDuration(Promotion promotion) {
-        LocalDateTime now = DateTimes.now();
-        return now.isAfter(promotion.getStartTime()) && now.isBefore(promotion.getEndTime());
+
+    private void setUpStoreProducts(StoreManager storeManager, Path productsFilePath) {
+        if (fileSize(productsFilePath) >= storeOptions.getParallelLoadThresholdBytes()) {
+            storeManager.setUpStoreInParallel(productsFilePath, ForkJoinPool.commonPool());
+            return;
+        }
+        storeManager.setUpStore(productsFilePath);
     }
 
-    private boolean validatePromotionItem(Promotion promotion, Map<String, Product> eventProductInventory, String productName) {
-        return validatePromotionDuration(promotion) && isEventStockGreaterThanZero(eventProductInventory, productName);
+    private long fileSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
-    private boolean isEventStockGreaterThanZero(Map<String, Product> eventProductInventory, String productName) {
-        Product eventProduct = eventProductInventory.get(productName);
-        return MINIMUM_STOCK <= eventProduct.getQuantity();
+    public void processOrder() {
+        boolean isContinueShopping = true;
+        while (isContinueShopping) {
+            try {
+                applyPendingCatalogChanges();
+                warnReceiptArchiveFailure();
+                showCurrentStatus();
+                String forContinueShopping = processOrderAndPromptForAdditionalShopping();
+                isContinueShopping = checkForContinueShopping(forContinueShopping);
+            } catch (IllegalArgumentException e) {
+                outputView.displayErrorMessage(e.getMessage());
+            }
+        }
+    }
+
+    private String processOrderAndPromptForAdditionalShopping() {
+        OrderLines orderLines = getOrderItems();
+        try {
+            String membershipChoice = getMembershipChoice();
+            Receipt receipt = storeManager.processOrder(orderLines, membershipChoice, stockHold, decisionPolicy);
+            long renderStart = storeManager.getCheckoutMetrics().startStage(orderLines.isSampled());
+            outputView.showReceipt(receipt, membershipChoice);
+            storeManager.getCheckoutMetrics().endStage(CheckoutStage.RECEIPT_RENDERING, renderStart);
+        } finally {
+            stockHold.release();
+        }
+        return getForContinueShopping();
+    }
+
+    private boolean checkForContinueShopping(String forContinueShopping) {
+        if (forContinueShopping.equals(EXIT_RESPONSE)) {
+            return false;
+        }
+        return true;
+    }
+
+    private OrderLines getOrderItems() {
+        while (true) {
+            try {
+                String orderItems = inputView.promptOrderItems();
+                orderValidator.validateInputOrderItems(orderItems, orderLines);
+                stockHold = storeManager.holdStock(orderLines, storeOptions.getHoldTtl());
+                return orderLines;
+            } catch (IllegalArgumentException e) {
+                outputView.displayErrorMessage(e.getMessage());
+            }
+        }
     }
 
     private String getForContinueShopping() {
         while (true) {
             try {
                 String forContinueShopping = inputView.promptForContinueShopping();
-                validateInputByRegex(forContinueShopping, YES_NO_RESPONSE_FORMAT.getValue(), INVALID_INPUT);
+                validateInputByRegex(forContinueShopping, YES_NO_RESPONSE_FORMAT, INVALID_INPUT);
                 return forContinueShopping;
             } catch (IllegalArgumentException e) {
                 outputView.displayErrorMessage(e.getMessage());
@@ -192,7 +304,7 @@ public class StoreController {
         while (true) {
             try {
                 String membershipChoice = inputView.promptForMembershipChoice();
-                validateInputByRegex(membershipChoice, YES_NO_RESPONSE_FORMAT.getValue(), INVALID_INPUT);
+                validateInputByRegex(membershipChoice, YES_NO_RESPONSE_FORMAT, INVALID_INPUT);
                 return membershipChoice;
             } catch (IllegalArgumentException e) {
                 outputView.displayErrorMessage(e.getMessage());
@@ -200,21 +312,12 @@ public class StoreController {
         }
     }
 
-    private void validateInputByRegex(String input, String requiredPattern, ErrorMessage errorMessage) {
-        Pattern pattern = Pattern.compile(requiredPattern);
-        Matcher matcher = pattern.matcher(input);
+    private void validateInputByRegex(String input, Regex requiredPattern, ErrorMessage errorMessage) {
+        Matcher matcher = requiredPattern.getPattern().matcher(input);
         if (!matcher.find()) {
             throw new IllegalArgumentException(errorMessage.getValue());
         }
     }
 
-    private List<String> readFile(Path path) {
-        try {
-            return Files.readAllLines(path);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
 
 }
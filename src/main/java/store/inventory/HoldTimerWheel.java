@@ -0,0 +1,83 @@
+package store.inventory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+public class HoldTimerWheel {
+    private static final int MINIMUM_TICKS = 1;
+
+    private final long tickNanos;
+    private final List<List<StockHold>> slots = new ArrayList<>();
+    private final int slotMask;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    private long currentTick;
+
+    public HoldTimerWheel(Duration tick, int slotCount, LongSupplier nanoClock) {
+        int roundedSlotCount = 1;
+        while (roundedSlotCount < slotCount) {
+            roundedSlotCount <<= 1;
+        }
+        for (int index = 0; index < roundedSlotCount; index++) {
+            slots.add(new ArrayList<>());
+        }
+        this.tickNanos = tick.toNanos();
+        this.slotMask = roundedSlotCount - 1;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    public void schedule(StockHold stockHold, Duration ttl) {
+        long ttlTicks = Math.max(MINIMUM_TICKS, (ttl.toNanos() + tickNanos - 1) / tickNanos);
+        wheelLock.lock();
+        try {
+            long expiryTick = currentTick + ttlTicks;
+            stockHold.setExpiryTick(expiryTick);
+            slots.get((int) (expiryTick & slotMask)).add(stockHold);
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    public int advance() {
+        if (!wheelLock.tryLock()) {
+            return 0;
+        }
+        try {
+            long targetTick = (nanoClock.getAsLong() - startNanos) / tickNanos;
+            long ticksToSweep = Math.min(targetTick - currentTick, slots.size());
+            int expiredHolds = 0;
+            for (long tick = currentTick + 1; tick <= currentTick + ticksToSweep; tick++) {
+                expiredHolds += sweep(slots.get((int) (tick & slotMask)), targetTick);
+            }
+            currentTick = Math.max(currentTick, targetTick);
+            return expiredHolds;
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    private int sweep(List<StockHold> slot, long targetTick) {
+        int expiredHolds = 0;
+        Iterator<StockHold> holds = slot.iterator();
+        while (holds.hasNext()) {
+            StockHold stockHold = holds.next();
+            if (stockHold.isReleased()) {
+                holds.remove();
+                continue;
+            }
+            if (stockHold.getExpiryTick() <= targetTick) {
+                holds.remove();
+                if (stockHold.release()) {
+                    expiredHolds++;
+                }
+            }
+        }
+        return expiredHolds;
+    }
+}
@@ -0,0 +1,256 @@
+package store.inventory;
+
+import store.Product;
+import store.constant.StockType;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+public class Inventory {
+    public static final int NOT_FOUND = ProductIndex.NOT_FOUND;
+    private static final int STOCK_SLOTS = StockType.values().length;
+    private static final byte NO_ROWS = 0;
+    private static final String EMPTY_COLUMN = "null";
+    private static final int ZERO_QUANTITY = 0;
+    private static final VarHandle STOCK_PAIRS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle HELD_STOCKS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int EVENT_STOCK_SHIFT = Integer.SIZE;
+    private static final long GENERAL_STOCK_MASK = 0xFFFFFFFFL;
+    private static final int CHANGE_LOG_CAPACITY = 1 << 14;
+    private static final int SEGMENT_SHIFT = 10;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final ProductIndex productIndex = new ProductIndex();
+    private final InventoryChangeLog changeLog = new InventoryChangeLog(CHANGE_LOG_CAPACITY);
+    private volatile Segment[] segments = {new Segment()};
+    private volatile int size;
+
+    public int idOf(String name) {
+        return productIndex.get(name);
+    }
+
+    public int idOf(String text, int start, int end) {
+        return productIndex.get(text, start, end);
+    }
+
+    public synchronized int register(String name) {
+        int id = productIndex.get(name);
+        if (id != NOT_FOUND) {
+            return id;
+        }
+        id = size;
+        ensureCapacity(id + 1);
+        segment(id).names[offset(id)] = name;
+        size = id + 1;
+        productIndex.put(name, id);
+        return id;
+    }
+
+    public synchronized int putProduct(String name, int price, int quantity, String promotion, StockType stockType) {
+        int id = register(name);
+        Segment segment = segment(id);
+        segment.prices[slot(id, stockType)] = price;
+        if (stockType == StockType.EVENT) {
+            segment.promotions[offset(id)] = promotion;
+        }
+        segment.rows[offset(id)] |= rowFlag(stockType);
+        updateStock(id, stockType, quantity);
+        return id;
+    }
+
+    public int putProduct(Product product, StockType stockType) {
+        return putProduct(product.getName(), product.getPrice(), product.getQuantity(), product.getPromotion(), stockType);
+    }
+
+    public synchronized void addMissingGeneralProducts() {
+        for (int id = 0; id < size; id++) {
+            addMissingGeneralProduct(id);
+        }
+    }
+
+    public synchronized void addMissingGeneralProduct(int id) {
+        if (hasProduct(id, StockType.EVENT) && !hasProduct(id, StockType.GENERAL)) {
+            putProduct(getName(id), getPrice(id, StockType.EVENT), ZERO_QUANTITY, EMPTY_COLUMN, StockType.GENERAL);
+        }
+    }
+
+    public synchronized void removeProduct(int id, StockType stockType) {
+        Segment segment = segment(id);
+        segment.rows[offset(id)] &= (byte) ~rowFlag(stockType);
+        if (stockType == StockType.EVENT) {
+            segment.promotions[offset(id)] = null;
+        }
+        updateStock(id, stockType, ZERO_QUANTITY);
+    }
+
+    public boolean contains(String name) {
+        int id = idOf(name);
+        return id != NOT_FOUND && hasProduct(id, StockType.GENERAL);
+    }
+
+    public boolean hasProduct(int id, StockType stockType) {
+        return (segment(id).rows[offset(id)] & rowFlag(stockType)) != NO_ROWS;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int id) {
+        return segment(id).names[offset(id)];
+    }
+
+    public String getPromotion(int id) {
+        return segment(id).promotions[offset(id)];
+    }
+
+    public synchronized void updatePromotion(int id, String promotion) {
+        segment(id).promotions[offset(id)] = promotion;
+    }
+
+    public int getPrice(int id, StockType stockType) {
+        return segment(id).prices[slot(id, stockType)];
+    }
+
+    public synchronized void updatePrice(int id, StockType stockType, int price) {
+        segment(id).prices[slot(id, stockType)] = price;
+    }
+
+    public int getStock(int id, StockType stockType) {
+        return stockOf(getStockPair(id), stockType);
+    }
+
+    public void updateStock(int id, StockType stockType, int quantity) {
+        long stockPair = getStockPair(id);
+        while (!compareAndSetStockPair(id, stockPair, withStock(stockPair, stockType, quantity))) {
+            stockPair = getStockPair(id);
+        }
+        changeLog.record(id);
+    }
+
+    public int addStock(int id, StockType stockType, int quantityDelta) {
+        long stockPair = getStockPair(id);
+        int quantity = stockOf(stockPair, stockType) + quantityDelta;
+        while (!compareAndSetStockPair(id, stockPair, withStock(stockPair, stockType, quantity))) {
+            stockPair = getStockPair(id);
+            quantity = stockOf(stockPair, stockType) + quantityDelta;
+        }
+        changeLog.record(id);
+        return quantity;
+    }
+
+    public int addStockAtLeastZero(int id, StockType stockType, int quantityDelta) {
+        long stockPair = getStockPair(id);
+        int quantity = Math.max(ZERO_QUANTITY, stockOf(stockPair, stockType) + quantityDelta);
+        while (!compareAndSetStockPair(id, stockPair, withStock(stockPair, stockType, quantity))) {
+            stockPair = getStockPair(id);
+            quantity = Math.max(ZERO_QUANTITY, stockOf(stockPair, stockType) + quantityDelta);
+        }
+        changeLog.record(id);
+        return quantity;
+    }
+
+    public int getHeldStock(int id) {
+        return (int) HELD_STOCKS.getVolatile(segment(id).heldStocks, offset(id));
+    }
+
+    public boolean tryHoldStock(int id, int quantity) {
+        while (true) {
+            int heldStock = getHeldStock(id);
+            long stockPair = getStockPair(id);
+            int availableStock = stockOf(stockPair, StockType.EVENT) + stockOf(stockPair, StockType.GENERAL) - heldStock;
+            if (availableStock < quantity) {
+                return false;
+            }
+            if (HELD_STOCKS.compareAndSet(segment(id).heldStocks, offset(id), heldStock, heldStock + quantity)) {
+                return true;
+            }
+        }
+    }
+
+    public void releaseHeldStock(int id, int quantity) {
+        HELD_STOCKS.getAndAdd(segment(id).heldStocks, offset(id), -quantity);
+    }
+
+    public InventoryChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    public void recordChanges(int[] productIds) {
+        changeLog.recordAll(productIds);
+    }
+
+    public StockClaim claim(int id) {
+        return new StockClaim(this, id, getStockPair(id));
+    }
+
+    long getStockPair(int id) {
+        return (long) STOCK_PAIRS.getVolatile(segment(id).stockPairs, offset(id));
+    }
+
+    boolean compareAndSetStockPair(int id, long expectedStockPair, long stockPair) {
+        return STOCK_PAIRS.compareAndSet(segment(id).stockPairs, offset(id), expectedStockPair, stockPair);
+    }
+
+    static int stockOf(long stockPair, StockType stockType) {
+        if (stockType == StockType.EVENT) {
+            return (int) (stockPair >>> EVENT_STOCK_SHIFT);
+        }
+        return (int) stockPair;
+    }
+
+    static long withStock(long stockPair, StockType stockType, int quantity) {
+        if (stockType == StockType.EVENT) {
+            return (stockPair & GENERAL_STOCK_MASK) | ((long) quantity << EVENT_STOCK_SHIFT);
+        }
+        return (stockPair & ~GENERAL_STOCK_MASK) | (quantity & GENERAL_STOCK_MASK);
+    }
+
+    public Product toProduct(int id, StockType stockType) {
+        String promotion = EMPTY_COLUMN;
+        if (stockType == StockType.EVENT) {
+            promotion = getPromotion(id);
+        }
+        return new Product(getName(id), getPrice(id, stockType), getStock(id, stockType), promotion);
+    }
+
+    private void ensureCapacity(int requiredSize) {
+        Segment[] currentSegments = segments;
+        int requiredSegments = (requiredSize + SEGMENT_MASK) >>> SEGMENT_SHIFT;
+        if (requiredSegments <= currentSegments.length) {
+            return;
+        }
+        Segment[] grownSegments = Arrays.copyOf(currentSegments, Math.max(currentSegments.length * 2, requiredSegments));
+        for (int index = currentSegments.length; index < grownSegments.length; index++) {
+            grownSegments[index] = new Segment();
+        }
+        segments = grownSegments;
+    }
+
+    private Segment segment(int id) {
+        return segments[id >>> SEGMENT_SHIFT];
+    }
+
+    private static int offset(int id) {
+        return id & SEGMENT_MASK;
+    }
+
+    private static int slot(int id, StockType stockType) {
+        return offset(id) * STOCK_SLOTS + stockType.ordinal();
+    }
+
+    private static byte rowFlag(StockType stockType) {
+        return (byte) (1 << stockType.ordinal());
+    }
+
+    private static class Segment {
+        private final String[] names = new String[SEGMENT_SIZE];
+        private final String[] promotions = new String[SEGMENT_SIZE];
+        private final int[] prices = new int[SEGMENT_SIZE * STOCK_SLOTS];
+        private final long[] stockPairs = new long[SEGMENT_SIZE];
+        private final int[] heldStocks = new int[SEGMENT_SIZE];
+        private final byte[] rows = new byte[SEGMENT_SIZE];
+    }
+}
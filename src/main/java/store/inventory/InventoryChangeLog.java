@@ -0,0 +1,69 @@
+package store.inventory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+public class InventoryChangeLog {
+    public static final long OVERRUN = -1;
+    private static final VarHandle PUBLISHED_SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int MINIMUM_CAPACITY = 1;
+
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final int[] productIds;
+    private final long[] publishedSequences;
+    private final int mask;
+
+    public InventoryChangeLog(int capacity) {
+        int roundedCapacity = MINIMUM_CAPACITY;
+        while (roundedCapacity < capacity) {
+            roundedCapacity <<= 1;
+        }
+        productIds = new int[roundedCapacity];
+        publishedSequences = new long[roundedCapacity];
+        mask = roundedCapacity - 1;
+    }
+
+    public void record(int productId) {
+        long sequence = nextSequence.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        productIds[slot] = productId;
+        PUBLISHED_SEQUENCES.setRelease(publishedSequences, slot, sequence + 1);
+    }
+
+    public void recordAll(int[] changedProductIds) {
+        long firstSequence = nextSequence.getAndAdd(changedProductIds.length);
+        for (int index = 0; index < changedProductIds.length; index++) {
+            long sequence = firstSequence + index;
+            int slot = (int) (sequence & mask);
+            productIds[slot] = changedProductIds[index];
+            PUBLISHED_SEQUENCES.setRelease(publishedSequences, slot, sequence + 1);
+        }
+    }
+
+    public long currentSequence() {
+        return nextSequence.get();
+    }
+
+    public long readSince(long cursor, IntConsumer changedProduct) {
+        long lastSequence = nextSequence.get();
+        if (lastSequence - cursor > productIds.length) {
+            return OVERRUN;
+        }
+        for (long sequence = cursor; sequence < lastSequence; sequence++) {
+            int slot = (int) (sequence & mask);
+            long publishedSequence = (long) PUBLISHED_SEQUENCES.getAcquire(publishedSequences, slot);
+            if (publishedSequence <= sequence) {
+                return sequence;
+            }
+            int productId = productIds[slot];
+            VarHandle.loadLoadFence();
+            if (nextSequence.get() - sequence > productIds.length) {
+                return OVERRUN;
+            }
+            changedProduct.accept(productId);
+        }
+        return lastSequence;
+    }
+}
@@ -0,0 +1,108 @@
+package store.inventory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+public class ProductIndex {
+    public static final int NOT_FOUND = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int LOAD_FACTOR_DIVISOR = 2;
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(String[].class);
+
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private int size;
+
+    public int get(String name) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        for (int slot = spread(name.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            String key = current.keyAt(slot);
+            if (key == null) {
+                return NOT_FOUND;
+            }
+            if (key.equals(name)) {
+                return current.ids[slot];
+            }
+        }
+    }
+
+    public int get(String text, int start, int end) {
+        Table current = table;
+        int length = end - start;
+        int mask = current.keys.length - 1;
+        for (int slot = spread(hashOf(text, start, end)) & mask; ; slot = (slot + 1) & mask) {
+            String key = current.keyAt(slot);
+            if (key == null) {
+                return NOT_FOUND;
+            }
+            if (key.length() == length && key.regionMatches(0, text, start, length)) {
+                return current.ids[slot];
+            }
+        }
+    }
+
+    public synchronized void put(String name, int id) {
+        if ((size + 1) * LOAD_FACTOR_DIVISOR > table.keys.length) {
+            resize();
+        }
+        if (table.insert(name, id)) {
+            size++;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void resize() {
+        Table current = table;
+        Table resized = new Table(current.keys.length * 2);
+        for (int slot = 0; slot < current.keys.length; slot++) {
+            if (current.keys[slot] != null) {
+                resized.insert(current.keys[slot], current.ids[slot]);
+            }
+        }
+        table = resized;
+    }
+
+    private static int hashOf(String text, int start, int end) {
+        int hash = 0;
+        for (int index = start; index < end; index++) {
+            hash = 31 * hash + text.charAt(index);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class Table {
+        private final String[] keys;
+        private final int[] ids;
+
+        private Table(int capacity) {
+            keys = new String[capacity];
+            ids = new int[capacity];
+        }
+
+        private String keyAt(int slot) {
+            return (String) KEYS.getAcquire(keys, slot);
+        }
+
+        private boolean insert(String name, int id) {
+            int mask = keys.length - 1;
+            int slot = spread(name.hashCode()) & mask;
+            while (keys[slot] != null) {
+                if (keys[slot].equals(name)) {
+                    ids[slot] = id;
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            ids[slot] = id;
+            KEYS.setRelease(keys, slot, name);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package store.inventory;
+
+import store.constant.StockType;
+
+public class StockClaim {
+    private static final int ZERO_QUANTITY = 0;
+
+    private final Inventory inventory;
+    private final int productId;
+    private final long observedStockPair;
+    private long claimedStockPair;
+
+    StockClaim(Inventory inventory, int productId, long observedStockPair) {
+        this.inventory = inventory;
+        this.productId = productId;
+        this.observedStockPair = observedStockPair;
+        this.claimedStockPair = observedStockPair;
+    }
+
+    public int getProductId() {
+        return productId;
+    }
+
+    public int getStock(StockType stockType) {
+        return Inventory.stockOf(claimedStockPair, stockType);
+    }
+
+    public int getTakenQuantity(StockType stockType) {
+        return Inventory.stockOf(observedStockPair, stockType) - getStock(stockType);
+    }
+
+    public void take(StockType stockType, int quantity) {
+        claimedStockPair = Inventory.withStock(claimedStockPair, stockType, getStock(stockType) - quantity);
+    }
+
+    public boolean isOversold() {
+        return getStock(StockType.EVENT) < ZERO_QUANTITY || getStock(StockType.GENERAL) < ZERO_QUANTITY;
+    }
+
+    public StockClaim nextClaim() {
+        return new StockClaim(inventory, productId, claimedStockPair);
+    }
+
+    public boolean commit() {
+        return inventory.compareAndSetStockPair(productId, observedStockPair, claimedStockPair);
+    }
+}
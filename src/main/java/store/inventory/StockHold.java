@@ -0,0 +1,75 @@
+package store.inventory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static store.constant.ErrorMessage.EXCEEDS_AVAILABLE_STOCK;
+
+public class StockHold {
+    private static final int[] NO_PRODUCTS = new int[0];
+    private static final int NO_QUANTITY = 0;
+
+    private final Inventory inventory;
+    private final int[] productIds;
+    private final int[] quantities;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private long expiryTick;
+
+    StockHold(Inventory inventory, int[] productIds, int[] quantities) {
+        this.inventory = inventory;
+        this.productIds = productIds;
+        this.quantities = quantities;
+    }
+
+    public static StockHold none(Inventory inventory) {
+        return new StockHold(inventory, NO_PRODUCTS, NO_PRODUCTS);
+    }
+
+    public static StockHold hold(Inventory inventory, int[] productIds, int[] quantities) {
+        for (int index = 0; index < productIds.length; index++) {
+            if (!inventory.tryHoldStock(productIds[index], quantities[index])) {
+                new StockHold(inventory, productIds, quantities).releaseFirst(index);
+                throw new IllegalArgumentException(EXCEEDS_AVAILABLE_STOCK.getValue());
+            }
+        }
+        return new StockHold(inventory, productIds, quantities);
+    }
+
+    public boolean release() {
+        if (!released.compareAndSet(false, true)) {
+            return false;
+        }
+        releaseFirst(productIds.length);
+        return true;
+    }
+
+    public int getHeldQuantity(int productId) {
+        if (released.get()) {
+            return NO_QUANTITY;
+        }
+        int heldQuantity = NO_QUANTITY;
+        for (int index = 0; index < productIds.length; index++) {
+            if (productIds[index] == productId) {
+                heldQuantity += quantities[index];
+            }
+        }
+        return heldQuantity;
+    }
+
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    long getExpiryTick() {
+        return expiryTick;
+    }
+
+    void setExpiryTick(long expiryTick) {
+        this.expiryTick = expiryTick;
+    }
+
+    private void releaseFirst(int heldCount) {
+        for (int index = 0; index < heldCount; index++) {
+            inventory.releaseHeldStock(productIds[index], quantities[index]);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package store.inventory;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class StripedStockLocks {
+    private static final int MINIMUM_STRIPES = 1;
+
+    private final ReentrantLock[] stripes;
+    private final int stripeMask;
+
+    public StripedStockLocks(int stripeCount) {
+        int roundedStripeCount = MINIMUM_STRIPES;
+        while (roundedStripeCount < stripeCount) {
+            roundedStripeCount <<= 1;
+        }
+        stripes = new ReentrantLock[roundedStripeCount];
+        for (int index = 0; index < roundedStripeCount; index++) {
+            stripes[index] = new ReentrantLock();
+        }
+        stripeMask = roundedStripeCount - 1;
+    }
+
+    public int[] lock(int[] productIds) {
+        int[] lockedStripes = stripesOf(productIds);
+        for (int stripe : lockedStripes) {
+            stripes[stripe].lock();
+        }
+        return lockedStripes;
+    }
+
+    public void unlock(int[] lockedStripes) {
+        for (int index = lockedStripes.length - 1; index >= 0; index--) {
+            stripes[lockedStripes[index]].unlock();
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    private int[] stripesOf(int[] productIds) {
+        int[] productStripes = new int[productIds.length];
+        for (int index = 0; index < productIds.length; index++) {
+            productStripes[index] = productIds[index] & stripeMask;
+        }
+        return Arrays.stream(productStripes).sorted().distinct().toArray();
+    }
+}
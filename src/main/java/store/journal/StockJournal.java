@@ -0,0 +1,293 @@
+package store.journal;
+
+import store.StockDelta;
+import store.StockListener;
+import store.constant.StockType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import static store.constant.ErrorMessage.JOURNAL_CLOSED;
+
+public class StockJournal implements StockListener, AutoCloseable {
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final int RECORD_FIXED_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int ENTRY_FIXED_SIZE = Short.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int MINIMUM_PAYLOAD_SIZE = Long.BYTES + Integer.BYTES;
+    private static final StockType[] STOCK_TYPES = StockType.values();
+    private static final String FLUSHER_THREAD_NAME = "stock-journal-flusher";
+    private static final int NO_PENDING_ORDERS = 0;
+    private static final int FIRST_PENDING_ORDER = 1;
+
+    private final FileChannel channel;
+    private final int groupCommitSize;
+    private final long flushIntervalNanos;
+    private final CRC32 checksum = new CRC32();
+    private final Thread flusher;
+    private ByteBuffer pendingRecords = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer flushingRecords = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private long lastSequence;
+    private long durableSequence;
+    private long flushingSequence;
+    private int pendingOrders;
+    private boolean flushRequested;
+    private boolean closed;
+    private IOException flushFailure;
+
+    private StockJournal(FileChannel channel, long lastSequence, int groupCommitSize, long flushIntervalMillis) {
+        this.channel = channel;
+        this.lastSequence = lastSequence;
+        this.durableSequence = lastSequence;
+        this.groupCommitSize = groupCommitSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(flushIntervalMillis, 0));
+        this.flusher = new Thread(this::flushBatches, FLUSHER_THREAD_NAME);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public static StockJournal open(Path journalPath, long lastSequence, int groupCommitSize, long flushIntervalMillis) {
+        try {
+            FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            return new StockJournal(channel, lastSequence, groupCommitSize, flushIntervalMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static long replay(Path journalPath, long afterSequence, Consumer<StockDelta> stockDeltaConsumer) {
+        if (!Files.isRegularFile(journalPath)) {
+            return afterSequence;
+        }
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long lastSequence = replayRecords(records, afterSequence, stockDeltaConsumer);
+            if (records.position() < channel.size()) {
+                channel.truncate(records.position());
+            }
+            return lastSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long replayRecords(MappedByteBuffer records, long afterSequence, Consumer<StockDelta> stockDeltaConsumer) {
+        CRC32 checksum = new CRC32();
+        long lastSequence = afterSequence;
+        while (records.remaining() >= Integer.BYTES) {
+            int recordStart = records.position();
+            int payloadLength = records.getInt(recordStart);
+            if (payloadLength < MINIMUM_PAYLOAD_SIZE || records.remaining() < Integer.BYTES + payloadLength + Integer.BYTES) {
+                break;
+            }
+            int payloadStart = recordStart + Integer.BYTES;
+            checksum.reset();
+            checksum.update(records.slice(payloadStart, payloadLength));
+            if ((int) checksum.getValue() != records.getInt(payloadStart + payloadLength)) {
+                break;
+            }
+            long sequence = records.getLong(payloadStart);
+            List<StockDelta> stockDeltas = decodeEntries(records, payloadStart + Long.BYTES);
+            if (sequence > afterSequence) {
+                stockDeltas.forEach(stockDeltaConsumer);
+                lastSequence = Math.max(lastSequence, sequence);
+            }
+            records.position(payloadStart + payloadLength + Integer.BYTES);
+        }
+        return lastSequence;
+    }
+
+    private static List<StockDelta> decodeEntries(MappedByteBuffer records, int entriesStart) {
+        ByteBuffer entries = records.duplicate().position(entriesStart);
+        int entryCount = entries.getInt();
+        List<StockDelta> stockDeltas = new ArrayList<>(entryCount);
+        for (int index = 0; index < entryCount; index++) {
+            byte[] encodedName = new byte[Short.toUnsignedInt(entries.getShort())];
+            entries.get(encodedName);
+            StockType stockType = STOCK_TYPES[entries.get()];
+            stockDeltas.add(new StockDelta(new String(encodedName, StandardCharsets.UTF_8), stockType, entries.getInt()));
+        }
+        return stockDeltas;
+    }
+
+    @Override
+    public void onOrderProcessed(List<StockDelta> stockDeltas) {
+        awaitDurable(append(stockDeltas));
+    }
+
+    public void sync() {
+        long sequence;
+        synchronized (this) {
+            sequence = lastSequence;
+            if (pendingOrders > NO_PENDING_ORDERS) {
+                flushRequested = true;
+                notifyAll();
+            }
+        }
+        awaitDurable(sequence);
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    private synchronized long append(List<StockDelta> stockDeltas) {
+        requireWritable();
+        appendRecord(stockDeltas);
+        pendingOrders++;
+        if (pendingOrders == FIRST_PENDING_ORDER || pendingOrders >= groupCommitSize) {
+            notifyAll();
+        }
+        return lastSequence;
+    }
+
+    private synchronized void awaitDurable(long sequence) {
+        boolean interrupted = false;
+        while (durableSequence < sequence && flushFailure == null) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (durableSequence < sequence) {
+            throw new UncheckedIOException(flushFailure);
+        }
+    }
+
+    private void requireWritable() {
+        if (flushFailure != null) {
+            throw new UncheckedIOException(flushFailure);
+        }
+        if (closed) {
+            throw new IllegalStateException(JOURNAL_CLOSED.getValue());
+        }
+    }
+
+    private void flushBatches() {
+        ByteBuffer batch = takeBatch();
+        while (batch != null) {
+            long batchSequence = flushingSequence;
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                failFlush(e);
+                return;
+            }
+            completeBatch(batch, batchSequence);
+            batch = takeBatch();
+        }
+    }
+
+    private synchronized ByteBuffer takeBatch() {
+        try {
+            while (pendingOrders == NO_PENDING_ORDERS && !closed) {
+                wait();
+            }
+            long deadline = System.nanoTime() + flushIntervalNanos;
+            long remainingNanos = flushIntervalNanos;
+            while (pendingOrders < groupCommitSize && !flushRequested && !closed && remainingNanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                remainingNanos = deadline - System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            closed = true;
+        }
+        if (pendingOrders == NO_PENDING_ORDERS) {
+            return null;
+        }
+        ByteBuffer batch = pendingRecords;
+        pendingRecords = flushingRecords;
+        flushingRecords = null;
+        flushingSequence = lastSequence;
+        pendingOrders = NO_PENDING_ORDERS;
+        flushRequested = false;
+        return batch;
+    }
+
+    private synchronized void completeBatch(ByteBuffer batch, long batchSequence) {
+        batch.clear();
+        flushingRecords = batch;
+        durableSequence = batchSequence;
+        notifyAll();
+    }
+
+    private synchronized void failFlush(IOException e) {
+        flushFailure = e;
+        notifyAll();
+    }
+
+    private void appendRecord(List<StockDelta> stockDeltas) {
+        List<byte[]> encodedNames = new ArrayList<>(stockDeltas.size());
+        int recordSize = RECORD_FIXED_SIZE;
+        for (StockDelta stockDelta : stockDeltas) {
+            byte[] encodedName = stockDelta.getProductName().getBytes(StandardCharsets.UTF_8);
+            encodedNames.add(encodedName);
+            recordSize += ENTRY_FIXED_SIZE + encodedName.length;
+        }
+        ensureCapacity(recordSize);
+        int recordStart = pendingRecords.position();
+        pendingRecords.putInt(recordSize - Integer.BYTES - Integer.BYTES);
+        pendingRecords.putLong(++lastSequence);
+        pendingRecords.putInt(stockDeltas.size());
+        for (int index = 0; index < stockDeltas.size(); index++) {
+            StockDelta stockDelta = stockDeltas.get(index);
+            pendingRecords.putShort((short) encodedNames.get(index).length);
+            pendingRecords.put(encodedNames.get(index));
+            pendingRecords.put((byte) stockDelta.getStockType().ordinal());
+            pendingRecords.putInt(stockDelta.getQuantityDelta());
+        }
+        checksum.reset();
+        checksum.update(pendingRecords.array(), recordStart + Integer.BYTES, pendingRecords.position() - recordStart - Integer.BYTES);
+        pendingRecords.putInt((int) checksum.getValue());
+    }
+
+    private void ensureCapacity(int recordSize) {
+        if (pendingRecords.remaining() >= recordSize) {
+            return;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(pendingRecords.capacity() * 2, pendingRecords.position() + recordSize));
+        pendingRecords.flip();
+        grown.put(pendingRecords);
+        pendingRecords = grown;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (flushFailure != null) {
+            throw new UncheckedIOException(flushFailure);
+        }
+    }
+}
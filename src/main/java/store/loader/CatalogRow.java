@@ -0,0 +1,111 @@
+package store.loader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static store.constant.ErrorMessage.INVALID_CATALOG_ROW;
+
+public class CatalogRow {
+    private static final int MAXIMUM_FIELDS = 8;
+    private static final int INITIAL_TEXT_CAPACITY = 64;
+    private static final byte MINUS_SIGN = '-';
+    private static final int DECIMAL_RADIX = 10;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int[] fieldStarts = new int[MAXIMUM_FIELDS];
+    private final int[] fieldEnds = new int[MAXIMUM_FIELDS];
+    private byte[] textBuffer = new byte[INITIAL_TEXT_CAPACITY];
+    private ByteBuffer buffer;
+    private int fieldCount;
+
+    void reset(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.fieldCount = 0;
+    }
+
+    void addField(int start, int end) {
+        if (fieldCount < MAXIMUM_FIELDS) {
+            fieldStarts[fieldCount] = start;
+            fieldEnds[fieldCount] = end;
+        }
+        fieldCount++;
+    }
+
+    public int getFieldCount() {
+        return Math.min(fieldCount, MAXIMUM_FIELDS);
+    }
+
+    public void requireFieldCount(int minimum, int maximum) {
+        if (fieldCount < minimum || fieldCount > maximum) {
+            throw new IllegalArgumentException(INVALID_CATALOG_ROW.getValue() + fieldCount);
+        }
+    }
+
+    public String text(int index) {
+        int start = fieldStart(index);
+        int length = fieldEnds[index] - start;
+        if (textBuffer.length < length) {
+            textBuffer = new byte[length];
+        }
+        buffer.get(start, textBuffer, 0, length);
+        return new String(textBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    public int number(int index) {
+        int position = fieldStart(index);
+        int end = fieldEnds[index];
+        boolean negative = position < end && buffer.get(position) == MINUS_SIGN;
+        if (negative) {
+            position++;
+        }
+        if (position == end) {
+            throw new NumberFormatException(text(index));
+        }
+        try {
+            int negatedValue = 0;
+            for (; position < end; position++) {
+                int digit = buffer.get(position) - '0';
+                if (digit < 0 || digit >= DECIMAL_RADIX) {
+                    throw new NumberFormatException(text(index));
+                }
+                negatedValue = Math.subtractExact(Math.multiplyExact(negatedValue, DECIMAL_RADIX), digit);
+            }
+            if (negative) {
+                return negatedValue;
+            }
+            return Math.negateExact(negatedValue);
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException(text(index));
+        }
+    }
+
+    public boolean matches(int index, byte[] expected) {
+        int start = fieldStart(index);
+        if (fieldEnds[index] - start != expected.length) {
+            return false;
+        }
+        for (int offset = 0; offset < expected.length; offset++) {
+            if (buffer.get(start + offset) != expected[offset]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long rowHash() {
+        long hash = FNV_OFFSET_BASIS;
+        int end = fieldEnds[getFieldCount() - 1];
+        for (int position = fieldStarts[0]; position < end; position++) {
+            hash = (hash ^ buffer.get(position)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private int fieldStart(int index) {
+        if (index >= getFieldCount()) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return fieldStarts[index];
+    }
+}
@@ -0,0 +1,6 @@
+package store.loader;
+
+@FunctionalInterface
+public interface CatalogRowHandler {
+    void handle(CatalogRow row);
+}
@@ -0,0 +1,103 @@
+package store.loader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class CatalogScanner {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte FIELD_DELIMITER = ',';
+    private static final int END_OF_STREAM = -1;
+
+    public static long scan(Path path, CatalogRowHandler handler) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return scan(channel, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long scan(FileChannel channel, CatalogRowHandler handler) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        CatalogRow row = new CatalogRow();
+        boolean headerSkipped = false;
+        long rowCount = 0;
+        while (channel.read(buffer) != END_OF_STREAM) {
+            buffer.flip();
+            int lineStart = buffer.position();
+            int lineEnd = indexOfLineFeed(buffer, lineStart, buffer.limit());
+            while (lineEnd != END_OF_STREAM) {
+                rowCount += scanLine(buffer, lineStart, lineEnd, row, handler, headerSkipped);
+                headerSkipped = true;
+                lineStart = lineEnd + 1;
+                lineEnd = indexOfLineFeed(buffer, lineStart, buffer.limit());
+            }
+            buffer.position(lineStart);
+            buffer = compactOrGrow(buffer);
+        }
+        buffer.flip();
+        if (buffer.hasRemaining()) {
+            rowCount += scanLine(buffer, buffer.position(), buffer.limit(), row, handler, headerSkipped);
+        }
+        return rowCount;
+    }
+
+    public static long scanRows(ByteBuffer buffer, int from, int to, CatalogRowHandler handler) {
+        CatalogRow row = new CatalogRow();
+        long rowCount = 0;
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = indexOfLineFeed(buffer, lineStart, to);
+            if (lineEnd == END_OF_STREAM) {
+                lineEnd = to;
+            }
+            rowCount += scanLine(buffer, lineStart, lineEnd, row, handler, true);
+            lineStart = lineEnd + 1;
+        }
+        return rowCount;
+    }
+
+    public static int indexOfLineFeed(ByteBuffer buffer, int from, int to) {
+        for (int index = from; index < to; index++) {
+            if (buffer.get(index) == LINE_FEED) {
+                return index;
+            }
+        }
+        return END_OF_STREAM;
+    }
+
+    private static int scanLine(ByteBuffer buffer, int lineStart, int lineEnd, CatalogRow row, CatalogRowHandler handler, boolean headerSkipped) {
+        if (lineEnd > lineStart && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) {
+            lineEnd--;
+        }
+        if (!headerSkipped || lineEnd == lineStart) {
+            return 0;
+        }
+        row.reset(buffer);
+        int fieldStart = lineStart;
+        for (int index = lineStart; index < lineEnd; index++) {
+            if (buffer.get(index) == FIELD_DELIMITER) {
+                row.addField(fieldStart, index);
+                fieldStart = index + 1;
+            }
+        }
+        row.addField(fieldStart, lineEnd);
+        handler.handle(row);
+        return 1;
+    }
+
+    private static ByteBuffer compactOrGrow(ByteBuffer buffer) {
+        if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2);
+            grown.put(buffer);
+            return grown;
+        }
+        buffer.compact();
+        return buffer;
+    }
+}
@@ -0,0 +1,73 @@
+package store.loader;
+
+import store.Product;
+import store.constant.StockType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static store.constant.ProductField.PROMOTION_INFO;
+
+public class InventoryChunk implements CatalogRowHandler {
+    private static final byte[] EMPTY_COLUMN_BYTES = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<String, Product> generalProductInventory;
+    private final Map<String, Product> eventProductInventory;
+    private final Set<String> productNames = new LinkedHashSet<>();
+    private long rowCount;
+
+    public InventoryChunk() {
+        this(new HashMap<>(), new HashMap<>());
+    }
+
+    public InventoryChunk(Map<String, Product> generalProductInventory, Map<String, Product> eventProductInventory) {
+        this.generalProductInventory = generalProductInventory;
+        this.eventProductInventory = eventProductInventory;
+    }
+
+    @Override
+    public void handle(CatalogRow row) {
+        Product product = Product.fromCatalogRow(row);
+        rowCount++;
+        productNames.add(product.getName());
+        if (stockTypeOf(row) == StockType.GENERAL) {
+            generalProductInventory.put(product.getName(), product);
+            return;
+        }
+        eventProductInventory.put(product.getName(), product);
+    }
+
+    public static StockType stockTypeOf(CatalogRow row) {
+        if (row.matches(PROMOTION_INFO.getIndex(), EMPTY_COLUMN_BYTES)) {
+            return StockType.GENERAL;
+        }
+        return StockType.EVENT;
+    }
+
+    public InventoryChunk merge(InventoryChunk laterChunk) {
+        generalProductInventory.putAll(laterChunk.generalProductInventory);
+        eventProductInventory.putAll(laterChunk.eventProductInventory);
+        productNames.addAll(laterChunk.productNames);
+        rowCount += laterChunk.rowCount;
+        return this;
+    }
+
+    public Map<String, Product> getGeneralProductInventory() {
+        return generalProductInventory;
+    }
+
+    public Map<String, Product> getEventProductInventory() {
+        return eventProductInventory;
+    }
+
+    public Set<String> getProductNames() {
+        return productNames;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+}
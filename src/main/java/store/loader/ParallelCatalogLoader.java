@@ -0,0 +1,113 @@
+package store.loader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class ParallelCatalogLoader {
+    private static final long MINIMUM_CHUNK_SIZE = 1 << 20;
+    private static final long MAXIMUM_CHUNK_SIZE = 1 << 26;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int BOUNDARY_PROBE_SIZE = 1 << 12;
+    private static final int NOT_FOUND = -1;
+
+    private final ForkJoinPool pool;
+    private final long minimumChunkSize;
+
+    public ParallelCatalogLoader(ForkJoinPool pool) {
+        this(pool, MINIMUM_CHUNK_SIZE);
+    }
+
+    public ParallelCatalogLoader(ForkJoinPool pool, long minimumChunkSize) {
+        this.pool = pool;
+        this.minimumChunkSize = minimumChunkSize;
+    }
+
+    public InventoryChunk load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] boundaries = findChunkBoundaries(channel, pool.getParallelism(), minimumChunkSize);
+            return pool.invoke(new ChunkTask(channel, boundaries, 0, boundaries.length - 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long[] findChunkBoundaries(FileChannel channel, int parallelism, long minimumChunkSize) throws IOException {
+        long fileSize = channel.size();
+        long bodyStart = nextLineStart(channel, 0, fileSize);
+        long chunkSize = Math.clamp((fileSize - bodyStart) / ((long) parallelism * CHUNKS_PER_WORKER), minimumChunkSize, Math.max(minimumChunkSize, MAXIMUM_CHUNK_SIZE));
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(bodyStart);
+        long boundary = bodyStart;
+        while (boundary < fileSize) {
+            boundary = nextLineStart(channel, Math.min(boundary + chunkSize, fileSize), fileSize);
+            boundaries.add(boundary);
+        }
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long fileSize) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_SIZE);
+        long position = from;
+        while (position < fileSize) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            int lineFeed = CatalogScanner.indexOfLineFeed(probe, 0, read);
+            if (lineFeed != NOT_FOUND) {
+                return position + lineFeed + 1;
+            }
+            position += read;
+        }
+        return fileSize;
+    }
+
+    private static class ChunkTask extends RecursiveTask<InventoryChunk> {
+        private final FileChannel channel;
+        private final long[] boundaries;
+        private final int fromChunk;
+        private final int toChunk;
+
+        private ChunkTask(FileChannel channel, long[] boundaries, int fromChunk, int toChunk) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected InventoryChunk compute() {
+            if (toChunk - fromChunk <= 1) {
+                return scanChunk();
+            }
+            int middleChunk = (fromChunk + toChunk) >>> 1;
+            ChunkTask laterTask = new ChunkTask(channel, boundaries, middleChunk, toChunk);
+            laterTask.fork();
+            InventoryChunk earlierChunk = new ChunkTask(channel, boundaries, fromChunk, middleChunk).compute();
+            return earlierChunk.merge(laterTask.join());
+        }
+
+        private InventoryChunk scanChunk() {
+            InventoryChunk chunk = new InventoryChunk();
+            if (toChunk == fromChunk) {
+                return chunk;
+            }
+            long start = boundaries[fromChunk];
+            long length = boundaries[toChunk] - start;
+            try {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                CatalogScanner.scanRows(region, 0, (int) length, chunk);
+                return chunk;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package store.metrics;
+
+public interface CheckoutCountersMXBean {
+    long getOrderCount();
+
+    long getLineCount();
+
+    long getFreeItemCount();
+
+    long getMembershipDiscountTotal();
+}
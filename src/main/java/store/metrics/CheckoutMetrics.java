@@ -0,0 +1,98 @@
+package store.metrics;
+
+import store.constant.CheckoutStage;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CheckoutMetrics {
+    public static final long NOT_SAMPLED = -1;
+    private static final int DEFAULT_SAMPLE_INTERVAL = 256;
+    private static final int SAMPLED_DRAW = 0;
+    private static final CheckoutStage[] STAGES = CheckoutStage.values();
+
+    private final boolean enabled;
+    private final int sampleInterval;
+    private final LatencyHistogram[] stageHistograms = new LatencyHistogram[STAGES.length];
+    private final LongAdder orderCount = new LongAdder();
+    private final LongAdder lineCount = new LongAdder();
+    private final LongAdder freeItemCount = new LongAdder();
+    private final LongAdder membershipDiscountTotal = new LongAdder();
+
+    public CheckoutMetrics() {
+        this(true, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    public CheckoutMetrics(int sampleInterval) {
+        this(true, sampleInterval);
+    }
+
+    private CheckoutMetrics(boolean enabled, int sampleInterval) {
+        this.enabled = enabled;
+        this.sampleInterval = sampleInterval;
+        for (CheckoutStage stage : STAGES) {
+            stageHistograms[stage.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    public static CheckoutMetrics disabled() {
+        return new CheckoutMetrics(false, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    public boolean sample() {
+        return enabled && ThreadLocalRandom.current().nextInt(sampleInterval) == SAMPLED_DRAW;
+    }
+
+    public void recordOrder(long lines, long freeItems, long membershipDiscount) {
+        if (!enabled) {
+            return;
+        }
+        orderCount.increment();
+        lineCount.add(lines);
+        freeItemCount.add(freeItems);
+        membershipDiscountTotal.add(membershipDiscount);
+    }
+
+    public long startStage(boolean sampled) {
+        if (sampled) {
+            return System.nanoTime();
+        }
+        return NOT_SAMPLED;
+    }
+
+    public void endStage(CheckoutStage stage, long startNanos) {
+        if (startNanos != NOT_SAMPLED) {
+            stageHistograms[stage.ordinal()].record(System.nanoTime() - startNanos);
+        }
+    }
+
+    public Map<CheckoutStage, LatencyHistogram.Snapshot> snapshotStages() {
+        Map<CheckoutStage, LatencyHistogram.Snapshot> snapshots = new EnumMap<>(CheckoutStage.class);
+        for (CheckoutStage stage : STAGES) {
+            snapshots.put(stage, stageHistograms[stage.ordinal()].snapshot());
+        }
+        return snapshots;
+    }
+
+    public LatencyHistogram.Snapshot snapshotStage(CheckoutStage stage) {
+        return stageHistograms[stage.ordinal()].snapshot();
+    }
+
+    public long getOrderCount() {
+        return orderCount.sum();
+    }
+
+    public long getLineCount() {
+        return lineCount.sum();
+    }
+
+    public long getFreeItemCount() {
+        return freeItemCount.sum();
+    }
+
+    public long getMembershipDiscountTotal() {
+        return membershipDiscountTotal.sum();
+    }
+}
@@ -0,0 +1,90 @@
+package store.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HIGHEST_EXPONENT = Long.SIZE - 2;
+    private static final int BUCKET_COUNT = (HIGHEST_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    private static final double PERCENT = 100.0;
+    private static final long NO_VALUE = 0;
+    private static final long MINIMUM_TARGET_COUNT = 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong maximum = new AtomicLong();
+
+    public void record(long value) {
+        long recordedValue = Math.max(NO_VALUE, value);
+        buckets.getAndIncrement(bucketOf(recordedValue));
+        long currentMaximum = maximum.get();
+        while (recordedValue > currentMaximum && !maximum.compareAndSet(currentMaximum, recordedValue)) {
+            currentMaximum = maximum.get();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long totalCount = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] = buckets.get(bucket);
+            totalCount += counts[bucket];
+        }
+        return new Snapshot(counts, totalCount, maximum.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = HIGHEST_EXPONENT + 1 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + mantissa - SUB_BUCKET_COUNT;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long mantissa = bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    public static class Snapshot {
+        private final long[] counts;
+        private final long totalCount;
+        private final long maximum;
+
+        private Snapshot(long[] counts, long totalCount, long maximum) {
+            this.counts = counts;
+            this.totalCount = totalCount;
+            this.maximum = maximum;
+        }
+
+        public long getCount() {
+            return totalCount;
+        }
+
+        public long getMaximum() {
+            return maximum;
+        }
+
+        public long valueAtPercentile(double percentile) {
+            if (totalCount == 0) {
+                return NO_VALUE;
+            }
+            long targetCount = Math.max(MINIMUM_TARGET_COUNT, (long) Math.ceil(totalCount * percentile / PERCENT));
+            long seenCount = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seenCount += counts[bucket];
+                if (seenCount >= targetCount) {
+                    return Math.min(highestValueOf(bucket), maximum);
+                }
+            }
+            return maximum;
+        }
+    }
+}
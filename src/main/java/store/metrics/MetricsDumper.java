@@ -0,0 +1,92 @@
+package store.metrics;
+
+import store.constant.CheckoutStage;
+import store.view.OutputSink;
+import store.view.RenderBuffer;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsDumper implements AutoCloseable {
+    private static final String DUMPER_THREAD_NAME = "checkout-metrics-dumper";
+    private static final int STAGE_LABEL_WIDTH = 15;
+    private static final double P50 = 50.0;
+    private static final double P99 = 99.0;
+    private static final double P999 = 99.9;
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long MINIMUM_ELAPSED_MILLIS = 1;
+    private static final byte[] DUMP_HEADER = RenderBuffer.encode("[metrics] ");
+    private static final byte[] ORDERS_LABEL = RenderBuffer.encode(" orders=");
+    private static final byte[] ORDERS_PER_SECOND_LABEL = RenderBuffer.encode(" orders/s=");
+    private static final byte[] LINES_LABEL = RenderBuffer.encode(" lines=");
+    private static final byte[] FREE_ITEMS_LABEL = RenderBuffer.encode(" freeItems=");
+    private static final byte[] MEMBERSHIP_DISCOUNT_LABEL = RenderBuffer.encode(" membershipDiscount=");
+    private static final byte[] SAMPLES_LABEL = RenderBuffer.encode("samples=");
+    private static final byte[] P50_LABEL = RenderBuffer.encode(" p50=");
+    private static final byte[] P99_LABEL = RenderBuffer.encode(" p99=");
+    private static final byte[] P999_LABEL = RenderBuffer.encode(" p999=");
+    private static final byte[] MAX_LABEL = RenderBuffer.encode(" max=");
+    private static final byte[] NANOS_SUFFIX = RenderBuffer.encode("ns");
+
+    private final CheckoutMetrics checkoutMetrics;
+    private final OutputSink sink;
+    private final RenderBuffer renderBuffer = new RenderBuffer();
+    private final ScheduledExecutorService dumper;
+    private long lastOrderCount;
+    private long lastDumpMillis = System.currentTimeMillis();
+
+    private MetricsDumper(CheckoutMetrics checkoutMetrics, OutputSink sink, long intervalSeconds) {
+        this.checkoutMetrics = checkoutMetrics;
+        this.sink = sink;
+        this.dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, DUMPER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleWithFixedDelay(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public static MetricsDumper start(CheckoutMetrics checkoutMetrics, Path dumpPath, long intervalSeconds) {
+        return new MetricsDumper(checkoutMetrics, OutputSink.file(dumpPath), intervalSeconds);
+    }
+
+    public synchronized void dump() {
+        long nowMillis = System.currentTimeMillis();
+        long orderCount = checkoutMetrics.getOrderCount();
+        long elapsedMillis = Math.max(MINIMUM_ELAPSED_MILLIS, nowMillis - lastDumpMillis);
+        renderBuffer.append(DUMP_HEADER).appendText(Instant.ofEpochMilli(nowMillis).toString())
+                .append(ORDERS_LABEL).appendNumber(orderCount)
+                .append(ORDERS_PER_SECOND_LABEL).appendNumber((orderCount - lastOrderCount) * MILLIS_PER_SECOND / elapsedMillis)
+                .append(LINES_LABEL).appendNumber(checkoutMetrics.getLineCount())
+                .append(FREE_ITEMS_LABEL).appendNumber(checkoutMetrics.getFreeItemCount())
+                .append(MEMBERSHIP_DISCOUNT_LABEL).appendNumber(checkoutMetrics.getMembershipDiscountTotal())
+                .newLine();
+        for (Map.Entry<CheckoutStage, LatencyHistogram.Snapshot> stageSnapshot : checkoutMetrics.snapshotStages().entrySet()) {
+            appendStage(stageSnapshot.getKey(), stageSnapshot.getValue());
+        }
+        renderBuffer.flushTo(sink);
+        lastOrderCount = orderCount;
+        lastDumpMillis = nowMillis;
+    }
+
+    private void appendStage(CheckoutStage stage, LatencyHistogram.Snapshot snapshot) {
+        renderBuffer.appendLeftAligned(stage.getLabel(), STAGE_LABEL_WIDTH)
+                .append(SAMPLES_LABEL).appendNumber(snapshot.getCount())
+                .append(P50_LABEL).appendNumber(snapshot.valueAtPercentile(P50)).append(NANOS_SUFFIX)
+                .append(P99_LABEL).appendNumber(snapshot.valueAtPercentile(P99)).append(NANOS_SUFFIX)
+                .append(P999_LABEL).appendNumber(snapshot.valueAtPercentile(P999)).append(NANOS_SUFFIX)
+                .append(MAX_LABEL).appendNumber(snapshot.getMaximum()).append(NANOS_SUFFIX)
+                .newLine();
+    }
+
+    @Override
+    public void close() {
+        dumper.shutdown();
+        dump();
+        sink.close();
+    }
+}
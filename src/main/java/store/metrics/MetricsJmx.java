@@ -0,0 +1,115 @@
+package store.metrics;
+
+import store.constant.CheckoutStage;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MetricsJmx implements AutoCloseable {
+    private static final String COUNTERS_NAME = "store:type=CheckoutCounters";
+    private static final String STAGE_NAME_PREFIX = "store:type=CheckoutStage,name=";
+    private static final double P50 = 50.0;
+    private static final double P99 = 99.0;
+    private static final double P999 = 99.9;
+
+    private final MBeanServer server;
+    private final List<ObjectName> registeredNames;
+
+    private MetricsJmx(MBeanServer server, List<ObjectName> registeredNames) {
+        this.server = server;
+        this.registeredNames = registeredNames;
+    }
+
+    public static MetricsJmx register(CheckoutMetrics checkoutMetrics) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        List<ObjectName> registeredNames = new ArrayList<>();
+        try {
+            registeredNames.add(server.registerMBean(new CheckoutCounters(checkoutMetrics), new ObjectName(COUNTERS_NAME)).getObjectName());
+            for (CheckoutStage stage : CheckoutStage.values()) {
+                ObjectName stageName = new ObjectName(STAGE_NAME_PREFIX + stage.getLabel());
+                registeredNames.add(server.registerMBean(new StageLatency(checkoutMetrics, stage), stageName).getObjectName());
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+        return new MetricsJmx(server, registeredNames);
+    }
+
+    @Override
+    public void close() {
+        for (ObjectName registeredName : registeredNames) {
+            try {
+                server.unregisterMBean(registeredName);
+            } catch (JMException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class CheckoutCounters implements CheckoutCountersMXBean {
+        private final CheckoutMetrics checkoutMetrics;
+
+        private CheckoutCounters(CheckoutMetrics checkoutMetrics) {
+            this.checkoutMetrics = checkoutMetrics;
+        }
+
+        @Override
+        public long getOrderCount() {
+            return checkoutMetrics.getOrderCount();
+        }
+
+        @Override
+        public long getLineCount() {
+            return checkoutMetrics.getLineCount();
+        }
+
+        @Override
+        public long getFreeItemCount() {
+            return checkoutMetrics.getFreeItemCount();
+        }
+
+        @Override
+        public long getMembershipDiscountTotal() {
+            return checkoutMetrics.getMembershipDiscountTotal();
+        }
+    }
+
+    private static class StageLatency implements StageLatencyMXBean {
+        private final CheckoutMetrics checkoutMetrics;
+        private final CheckoutStage stage;
+
+        private StageLatency(CheckoutMetrics checkoutMetrics, CheckoutStage stage) {
+            this.checkoutMetrics = checkoutMetrics;
+            this.stage = stage;
+        }
+
+        @Override
+        public long getSampleCount() {
+            return checkoutMetrics.snapshotStage(stage).getCount();
+        }
+
+        @Override
+        public long getP50Nanos() {
+            return checkoutMetrics.snapshotStage(stage).valueAtPercentile(P50);
+        }
+
+        @Override
+        public long getP99Nanos() {
+            return checkoutMetrics.snapshotStage(stage).valueAtPercentile(P99);
+        }
+
+        @Override
+        public long getP999Nanos() {
+            return checkoutMetrics.snapshotStage(stage).valueAtPercentile(P999);
+        }
+
+        @Override
+        public long getMaxNanos() {
+            return checkoutMetrics.snapshotStage(stage).getMaximum();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package store.metrics;
+
+public interface StageLatencyMXBean {
+    long getSampleCount();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+
+    long getMaxNanos();
+}
@@ -0,0 +1,54 @@
+package store.order;
+
+import java.util.Arrays;
+
+public class OrderLines {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] productIds = new int[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int size;
+    private boolean sampled;
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void add(int productId, int quantity) {
+        if (size == productIds.length) {
+            productIds = Arrays.copyOf(productIds, size * 2);
+            quantities = Arrays.copyOf(quantities, size * 2);
+        }
+        productIds[size] = productId;
+        quantities[size] = quantity;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getProductId(int index) {
+        return productIds[index];
+    }
+
+    public int getQuantity(int index) {
+        return quantities[index];
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public void setSampled(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    public int[] copyProductIds() {
+        return Arrays.copyOf(productIds, size);
+    }
+
+    public int[] copyQuantities() {
+        return Arrays.copyOf(quantities, size);
+    }
+}
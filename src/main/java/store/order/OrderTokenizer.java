@@ -0,0 +1,107 @@
+package store.order;
+
+import store.constant.StockType;
+import store.inventory.Inventory;
+
+import static store.constant.ErrorMessage.INVALID_ORDER_PRODUCT_FORMAT;
+import static store.constant.ErrorMessage.INVALID_QUANTITY_ZERO;
+import static store.constant.ErrorMessage.PRODUCT_NOT_FOUND;
+
+public class OrderTokenizer {
+    private static final char ORDER_DETAILS_PREFIX = '[';
+    private static final char ORDER_DETAILS_DELIMITER = '-';
+    private static final char ORDER_DETAILS_SUFFIX = ']';
+    private static final char ORDER_ITEMS_DELIMITER = ',';
+    private static final char FIRST_KOREAN_SYLLABLE = '가';
+    private static final char LAST_KOREAN_SYLLABLE = '힣';
+    private static final char FIRST_DIGIT = '0';
+    private static final char LAST_DIGIT = '9';
+    private static final int DECIMAL_RADIX = 10;
+    private static final int MINIMUM_QUANTITY = 1;
+
+    private final String orderItems;
+    private final Inventory inventory;
+    private int position;
+
+    private OrderTokenizer(String orderItems, Inventory inventory) {
+        this.orderItems = orderItems;
+        this.inventory = inventory;
+    }
+
+    public static OrderLines tokenize(String orderItems, Inventory inventory, OrderLines orderLines) {
+        orderLines.clear();
+        new OrderTokenizer(orderItems, inventory).tokenizeInto(orderLines);
+        return orderLines;
+    }
+
+    private void tokenizeInto(OrderLines orderLines) {
+        boolean hasMissingProduct = false;
+        boolean hasInvalidQuantity = false;
+        while (true) {
+            expect(ORDER_DETAILS_PREFIX);
+            int productId = readProductId();
+            expect(ORDER_DETAILS_DELIMITER);
+            int quantity = readQuantity();
+            expect(ORDER_DETAILS_SUFFIX);
+            hasMissingProduct |= productId == Inventory.NOT_FOUND || !inventory.hasProduct(productId, StockType.GENERAL);
+            hasInvalidQuantity |= quantity < MINIMUM_QUANTITY;
+            orderLines.add(productId, quantity);
+            if (position == orderItems.length()) {
+                break;
+            }
+            expect(ORDER_ITEMS_DELIMITER);
+        }
+        validateTokenizedLines(hasMissingProduct, hasInvalidQuantity);
+    }
+
+    private void validateTokenizedLines(boolean hasMissingProduct, boolean hasInvalidQuantity) {
+        if (hasMissingProduct) {
+            throw new IllegalArgumentException(PRODUCT_NOT_FOUND.getValue());
+        }
+        if (hasInvalidQuantity) {
+            throw new IllegalArgumentException(INVALID_QUANTITY_ZERO.getValue());
+        }
+    }
+
+    private int readProductId() {
+        int nameStart = position;
+        while (position < orderItems.length() && isKoreanSyllable(orderItems.charAt(position))) {
+            position++;
+        }
+        if (position == nameStart) {
+            throw new IllegalArgumentException(INVALID_ORDER_PRODUCT_FORMAT.getValue());
+        }
+        return inventory.idOf(orderItems, nameStart, position);
+    }
+
+    private int readQuantity() {
+        int quantityStart = position;
+        long quantity = 0;
+        while (position < orderItems.length() && isDigit(orderItems.charAt(position))) {
+            quantity = quantity * DECIMAL_RADIX + (orderItems.charAt(position) - FIRST_DIGIT);
+            if (quantity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(INVALID_ORDER_PRODUCT_FORMAT.getValue());
+            }
+            position++;
+        }
+        if (position == quantityStart) {
+            throw new IllegalArgumentException(INVALID_ORDER_PRODUCT_FORMAT.getValue());
+        }
+        return (int) quantity;
+    }
+
+    private void expect(char expected) {
+        if (position >= orderItems.length() || orderItems.charAt(position) != expected) {
+            throw new IllegalArgumentException(INVALID_ORDER_PRODUCT_FORMAT.getValue());
+        }
+        position++;
+    }
+
+    private static boolean isKoreanSyllable(char character) {
+        return FIRST_KOREAN_SYLLABLE <= character && character <= LAST_KOREAN_SYLLABLE;
+    }
+
+    private static boolean isDigit(char character) {
+        return FIRST_DIGIT <= character && character <= LAST_DIGIT;
+    }
+}
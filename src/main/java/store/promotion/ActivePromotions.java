@@ -0,0 +1,30 @@
+package store.promotion;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public class ActivePromotions {
+    private final long version;
+    private final Set<String> promotionNames;
+    private final LocalDateTime validAfter;
+    private final LocalDateTime validBefore;
+
+    ActivePromotions(long version, Set<String> promotionNames, LocalDateTime validAfter, LocalDateTime validBefore) {
+        this.version = version;
+        this.promotionNames = promotionNames;
+        this.validAfter = validAfter;
+        this.validBefore = validBefore;
+    }
+
+    public boolean contains(String promotionName) {
+        return promotionNames.contains(promotionName);
+    }
+
+    public int size() {
+        return promotionNames.size();
+    }
+
+    boolean covers(long currentVersion, LocalDateTime now) {
+        return version == currentVersion && now.isAfter(validAfter) && now.isBefore(validBefore);
+    }
+}
@@ -0,0 +1,61 @@
+package store.promotion;
+
+import store.Promotion;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class PromotionCalendar {
+    private final Map<String, Promotion> promotions = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<PromotionIntervalIndex> intervalIndex = new AtomicReference<>();
+    private final AtomicReference<ActivePromotions> activePromotions = new AtomicReference<>();
+
+    public void put(Promotion promotion) {
+        promotions.put(promotion.getName(), promotion);
+        version.incrementAndGet();
+    }
+
+    public void putAll(Map<String, Promotion> promotionInventory) {
+        promotions.putAll(promotionInventory);
+        version.incrementAndGet();
+    }
+
+    public void expire(String promotionName) {
+        promotions.computeIfPresent(promotionName, (name, promotion) -> promotion.expire());
+        version.incrementAndGet();
+    }
+
+    public Promotion get(String promotionName) {
+        return promotions.get(promotionName);
+    }
+
+    public Map<String, Promotion> getPromotions() {
+        return Collections.unmodifiableMap(promotions);
+    }
+
+    public ActivePromotions activeAt(LocalDateTime now) {
+        long currentVersion = version.get();
+        ActivePromotions current = activePromotions.get();
+        if (current != null && current.covers(currentVersion, now)) {
+            return current;
+        }
+        ActivePromotions refreshed = intervalIndex(currentVersion).activeAt(now);
+        activePromotions.compareAndSet(current, refreshed);
+        return refreshed;
+    }
+
+    private PromotionIntervalIndex intervalIndex(long currentVersion) {
+        PromotionIntervalIndex current = intervalIndex.get();
+        if (current != null && current.getVersion() == currentVersion) {
+            return current;
+        }
+        PromotionIntervalIndex rebuilt = PromotionIntervalIndex.of(currentVersion, promotions.values());
+        intervalIndex.compareAndSet(current, rebuilt);
+        return rebuilt;
+    }
+}
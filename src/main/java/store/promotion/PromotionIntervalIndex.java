@@ -0,0 +1,88 @@
+package store.promotion;
+
+import store.Promotion;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+class PromotionIntervalIndex {
+    private static final LocalDateTime OPEN_START = LocalDateTime.MIN;
+    private static final LocalDateTime OPEN_END = LocalDateTime.MAX;
+
+    private final long version;
+    private final Promotion[] promotionsByStart;
+    private final LocalDateTime[] latestEndUpTo;
+    private final LocalDateTime[] boundaries;
+
+    private PromotionIntervalIndex(long version, Promotion[] promotionsByStart, LocalDateTime[] latestEndUpTo, LocalDateTime[] boundaries) {
+        this.version = version;
+        this.promotionsByStart = promotionsByStart;
+        this.latestEndUpTo = latestEndUpTo;
+        this.boundaries = boundaries;
+    }
+
+    static PromotionIntervalIndex of(long version, Collection<Promotion> promotions) {
+        Promotion[] promotionsByStart = promotions.toArray(new Promotion[0]);
+        Arrays.sort(promotionsByStart, Comparator.comparing(Promotion::getStartTime));
+        LocalDateTime[] latestEndUpTo = new LocalDateTime[promotionsByStart.length];
+        LocalDateTime latestEnd = OPEN_START;
+        for (int index = 0; index < promotionsByStart.length; index++) {
+            if (promotionsByStart[index].getEndTime().isAfter(latestEnd)) {
+                latestEnd = promotionsByStart[index].getEndTime();
+            }
+            latestEndUpTo[index] = latestEnd;
+        }
+        LocalDateTime[] boundaries = Arrays.stream(promotionsByStart)
+                .flatMap(promotion -> Arrays.stream(new LocalDateTime[]{promotion.getStartTime(), promotion.getEndTime()}))
+                .sorted()
+                .distinct()
+                .toArray(LocalDateTime[]::new);
+        return new PromotionIntervalIndex(version, promotionsByStart, latestEndUpTo, boundaries);
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    ActivePromotions activeAt(LocalDateTime now) {
+        Set<String> promotionNames = new HashSet<>();
+        for (int index = lastStartedBefore(now); index >= 0 && latestEndUpTo[index].isAfter(now); index--) {
+            Promotion promotion = promotionsByStart[index];
+            if (promotion.getEndTime().isAfter(now)) {
+                promotionNames.add(promotion.getName());
+            }
+        }
+        int boundaryPos = Arrays.binarySearch(boundaries, now);
+        if (boundaryPos >= 0) {
+            return new ActivePromotions(version, Set.copyOf(promotionNames), now, now);
+        }
+        int insertionPos = -boundaryPos - 1;
+        LocalDateTime validAfter = OPEN_START;
+        if (insertionPos > 0) {
+            validAfter = boundaries[insertionPos - 1];
+        }
+        LocalDateTime validBefore = OPEN_END;
+        if (insertionPos < boundaries.length) {
+            validBefore = boundaries[insertionPos];
+        }
+        return new ActivePromotions(version, Set.copyOf(promotionNames), validAfter, validBefore);
+    }
+
+    private int lastStartedBefore(LocalDateTime now) {
+        int low = 0;
+        int high = promotionsByStart.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (promotionsByStart[mid].getStartTime().isBefore(now)) {
+                low = mid + 1;
+                continue;
+            }
+            high = mid - 1;
+        }
+        return high;
+    }
+}
@@ -0,0 +1,148 @@
+package store.promotion;
+
+import store.constant.PromotionRuleType;
+
+import java.util.Arrays;
+
+import static store.constant.ErrorMessage.INVALID_PROMOTION_RULE;
+
+public class PromotionRule {
+    private static final String TYPE_DELIMITER = ":";
+    private static final String TIER_DELIMITER = "/";
+    private static final String TIER_RATE_DELIMITER = "=";
+    private static final int PERCENT_DENOMINATOR = 100;
+    private static final int NO_DISCOUNT_RATE = 0;
+    private static final int NO_FIXED_PRICE = Integer.MAX_VALUE;
+    private static final int NO_DISCOUNT = 0;
+    private static final int RATE_BITS = Integer.SIZE;
+    private static final long RATE_MASK = 0xFFFFFFFFL;
+    private static final int[] FROM_FIRST_UNIT = {0};
+    private static final int[] FLAT_NO_DISCOUNT = {NO_DISCOUNT_RATE};
+    private static final PromotionRule BUNDLE = new PromotionRule(PromotionRuleType.BUNDLE.getKeyword(), PromotionRuleType.BUNDLE,
+            FROM_FIRST_UNIT, FLAT_NO_DISCOUNT, NO_FIXED_PRICE);
+
+    private final String spec;
+    private final PromotionRuleType type;
+    private final int[] thresholds;
+    private final int[] discountRates;
+    private final int fixedPrice;
+
+    private PromotionRule(String spec, PromotionRuleType type, int[] thresholds, int[] discountRates, int fixedPrice) {
+        this.spec = spec;
+        this.type = type;
+        this.thresholds = thresholds;
+        this.discountRates = discountRates;
+        this.fixedPrice = fixedPrice;
+    }
+
+    public static PromotionRule bundle() {
+        return BUNDLE;
+    }
+
+    public static PromotionRule compile(String spec) {
+        int typeDelimiterPos = spec.indexOf(TYPE_DELIMITER);
+        if (typeDelimiterPos < 0) {
+            PromotionRuleType.findByKeyword(spec);
+            return BUNDLE;
+        }
+        PromotionRuleType type = PromotionRuleType.findByKeyword(spec.substring(0, typeDelimiterPos));
+        String parameter = spec.substring(typeDelimiterPos + TYPE_DELIMITER.length());
+        try {
+            return compile(spec, type, parameter);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_PROMOTION_RULE.getValue() + spec, e);
+        }
+    }
+
+    private static PromotionRule compile(String spec, PromotionRuleType type, String parameter) {
+        if (type == PromotionRuleType.PERCENTAGE) {
+            return new PromotionRule(spec, type, FROM_FIRST_UNIT, new int[]{parseRate(spec, parameter)}, NO_FIXED_PRICE);
+        }
+        if (type == PromotionRuleType.FIXED_PRICE) {
+            return new PromotionRule(spec, type, FROM_FIRST_UNIT, FLAT_NO_DISCOUNT, parseNonNegative(spec, parameter));
+        }
+        if (type == PromotionRuleType.TIERED) {
+            return compileTiers(spec, type, parameter);
+        }
+        return BUNDLE;
+    }
+
+    private static PromotionRule compileTiers(String spec, PromotionRuleType type, String parameter) {
+        String[] tiers = parameter.split(TIER_DELIMITER);
+        long[] sortedTiers = new long[tiers.length];
+        for (int index = 0; index < tiers.length; index++) {
+            int tierRateDelimiterPos = tiers[index].indexOf(TIER_RATE_DELIMITER);
+            if (tierRateDelimiterPos < 0) {
+                throw new IllegalArgumentException(INVALID_PROMOTION_RULE.getValue() + spec);
+            }
+            int threshold = parseNonNegative(spec, tiers[index].substring(0, tierRateDelimiterPos));
+            int rate = parseRate(spec, tiers[index].substring(tierRateDelimiterPos + TIER_RATE_DELIMITER.length()));
+            sortedTiers[index] = (long) threshold << RATE_BITS | rate;
+        }
+        Arrays.sort(sortedTiers);
+        int[] thresholds = new int[tiers.length];
+        int[] discountRates = new int[tiers.length];
+        int runningMaximumRate = NO_DISCOUNT_RATE;
+        for (int index = 0; index < sortedTiers.length; index++) {
+            thresholds[index] = (int) (sortedTiers[index] >>> RATE_BITS);
+            runningMaximumRate = Math.max(runningMaximumRate, (int) (sortedTiers[index] & RATE_MASK));
+            discountRates[index] = runningMaximumRate;
+        }
+        return new PromotionRule(spec, type, thresholds, discountRates, NO_FIXED_PRICE);
+    }
+
+    private static int parseRate(String spec, String rate) {
+        int discountRate = parseNonNegative(spec, rate);
+        if (discountRate > PERCENT_DENOMINATOR) {
+            throw new IllegalArgumentException(INVALID_PROMOTION_RULE.getValue() + spec);
+        }
+        return discountRate;
+    }
+
+    private static int parseNonNegative(String spec, String number) {
+        int value = Integer.parseInt(number.trim());
+        if (value < 0) {
+            throw new IllegalArgumentException(INVALID_PROMOTION_RULE.getValue() + spec);
+        }
+        return value;
+    }
+
+    public boolean isBundle() {
+        return type == PromotionRuleType.BUNDLE;
+    }
+
+    public PromotionRuleType getType() {
+        return type;
+    }
+
+    public String getSpec() {
+        return spec;
+    }
+
+    public long discountOf(int unitPrice, int lineQuantity, int discountedQuantity) {
+        if (discountedQuantity <= 0) {
+            return NO_DISCOUNT;
+        }
+        int discountRate = discountRateOf(lineQuantity);
+        long rateDiscount = (long) unitPrice * discountedQuantity * discountRate / PERCENT_DENOMINATOR;
+        long fixedPriceDiscount = (long) Math.max(NO_DISCOUNT, unitPrice - fixedPrice) * discountedQuantity;
+        return rateDiscount + fixedPriceDiscount;
+    }
+
+    private int discountRateOf(int lineQuantity) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (thresholds[middle] <= lineQuantity) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == 0) {
+            return NO_DISCOUNT_RATE;
+        }
+        return discountRates[low - 1];
+    }
+}
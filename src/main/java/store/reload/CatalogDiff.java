@@ -0,0 +1,59 @@
+package store.reload;
+
+import store.Promotion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CatalogDiff {
+    private final List<ProductChange> productChanges = new ArrayList<>();
+    private final List<String> removedGeneralProducts = new ArrayList<>();
+    private final List<String> removedEventProducts = new ArrayList<>();
+    private final List<Promotion> promotionChanges = new ArrayList<>();
+    private final List<String> removedPromotions = new ArrayList<>();
+
+    void addProductChange(ProductChange productChange) {
+        productChanges.add(productChange);
+    }
+
+    void addRemovedProduct(String productName, boolean eventProduct) {
+        if (eventProduct) {
+            removedEventProducts.add(productName);
+            return;
+        }
+        removedGeneralProducts.add(productName);
+    }
+
+    void addPromotionChange(Promotion promotion) {
+        promotionChanges.add(promotion);
+    }
+
+    void addRemovedPromotion(String promotionName) {
+        removedPromotions.add(promotionName);
+    }
+
+    public boolean isEmpty() {
+        return productChanges.isEmpty() && removedGeneralProducts.isEmpty() && removedEventProducts.isEmpty()
+                && promotionChanges.isEmpty() && removedPromotions.isEmpty();
+    }
+
+    public List<ProductChange> getProductChanges() {
+        return productChanges;
+    }
+
+    public List<String> getRemovedGeneralProducts() {
+        return removedGeneralProducts;
+    }
+
+    public List<String> getRemovedEventProducts() {
+        return removedEventProducts;
+    }
+
+    public List<Promotion> getPromotionChanges() {
+        return promotionChanges;
+    }
+
+    public List<String> getRemovedPromotions() {
+        return removedPromotions;
+    }
+}
@@ -0,0 +1,134 @@
+package store.reload;
+
+import store.Product;
+import store.Promotion;
+import store.constant.StockType;
+import store.loader.CatalogRow;
+import store.loader.CatalogScanner;
+import store.loader.InventoryChunk;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static store.constant.ProductField.NAME;
+import static store.constant.ProductField.QUANTITY;
+
+public class CatalogDiffer {
+    private static final int NO_PREVIOUS_QUANTITY = 0;
+
+    private final Path productsPath;
+    private final Path promotionsPath;
+    private ProductRows productRows = new ProductRows(new HashMap<>(), new HashMap<>());
+    private Map<String, Long> promotionRows = new HashMap<>();
+    private boolean productsPending;
+    private boolean promotionsPending;
+
+    public CatalogDiffer(Path productsPath, Path promotionsPath) {
+        this.productsPath = productsPath;
+        this.promotionsPath = promotionsPath;
+    }
+
+    public CatalogDiff diff(boolean productsChanged, boolean promotionsChanged) {
+        productsPending |= productsChanged;
+        promotionsPending |= promotionsChanged;
+        CatalogDiff diff = new CatalogDiff();
+        Map<String, Long> scannedPromotionRows = promotionRows;
+        ProductRows scannedProductRows = productRows;
+        if (promotionsPending) {
+            scannedPromotionRows = scanPromotions(diff);
+        }
+        if (productsPending) {
+            scannedProductRows = scanProducts(diff);
+        }
+        promotionRows = scannedPromotionRows;
+        productRows = scannedProductRows;
+        productsPending = false;
+        promotionsPending = false;
+        return diff;
+    }
+
+    private ProductRows scanProducts(CatalogDiff diff) {
+        ProductRows scannedRows = new ProductRows(new HashMap<>(productRows.generalRows.size() * 4 / 3 + 1),
+                new HashMap<>(productRows.eventRows.size() * 4 / 3 + 1));
+        CatalogScanner.scan(productsPath, row -> diffProductRow(row, scannedRows, diff));
+        addRemovedProducts(productRows.generalRows, scannedRows.generalRows, false, diff);
+        addRemovedProducts(productRows.eventRows, scannedRows.eventRows, true, diff);
+        return scannedRows;
+    }
+
+    private Map<String, Long> scanPromotions(CatalogDiff diff) {
+        Map<String, Long> scannedPromotionRows = new HashMap<>();
+        CatalogScanner.scan(promotionsPath, row -> diffPromotionRow(row, scannedPromotionRows, diff));
+        for (String promotionName : promotionRows.keySet()) {
+            if (!scannedPromotionRows.containsKey(promotionName)) {
+                diff.addRemovedPromotion(promotionName);
+            }
+        }
+        return scannedPromotionRows;
+    }
+
+    private void diffProductRow(CatalogRow row, ProductRows scannedRows, CatalogDiff diff) {
+        Product.requireCatalogFields(row);
+        boolean eventProduct = InventoryChunk.stockTypeOf(row) == StockType.EVENT;
+        String productName = row.text(NAME.getIndex());
+        long rowHash = row.rowHash();
+        RowState previousState = productRows.of(eventProduct).get(productName);
+        if (previousState != null && previousState.rowHash == rowHash) {
+            scannedRows.of(eventProduct).put(productName, previousState);
+            return;
+        }
+        Product product = Product.fromCatalogRow(row);
+        int previousQuantity = NO_PREVIOUS_QUANTITY;
+        if (previousState != null) {
+            previousQuantity = previousState.quantity;
+        }
+        diff.addProductChange(new ProductChange(product, eventProduct, product.getQuantity() - previousQuantity));
+        scannedRows.of(eventProduct).put(productName, new RowState(rowHash, row.number(QUANTITY.getIndex())));
+    }
+
+    private void diffPromotionRow(CatalogRow row, Map<String, Long> scannedPromotionRows, CatalogDiff diff) {
+        String promotionName = row.text(NAME.getIndex());
+        long rowHash = row.rowHash();
+        Long previousHash = promotionRows.get(promotionName);
+        if (previousHash == null || previousHash != rowHash) {
+            diff.addPromotionChange(Promotion.fromCatalogRow(row));
+        }
+        scannedPromotionRows.put(promotionName, rowHash);
+    }
+
+    private void addRemovedProducts(Map<String, RowState> previousRows, Map<String, RowState> scannedRows, boolean eventProduct, CatalogDiff diff) {
+        for (String productName : previousRows.keySet()) {
+            if (!scannedRows.containsKey(productName)) {
+                diff.addRemovedProduct(productName, eventProduct);
+            }
+        }
+    }
+
+    private static class ProductRows {
+        private final Map<String, RowState> generalRows;
+        private final Map<String, RowState> eventRows;
+
+        private ProductRows(Map<String, RowState> generalRows, Map<String, RowState> eventRows) {
+            this.generalRows = generalRows;
+            this.eventRows = eventRows;
+        }
+
+        private Map<String, RowState> of(boolean eventProduct) {
+            if (eventProduct) {
+                return eventRows;
+            }
+            return generalRows;
+        }
+    }
+
+    private static class RowState {
+        private final long rowHash;
+        private final int quantity;
+
+        private RowState(long rowHash, int quantity) {
+            this.rowHash = rowHash;
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package store.reload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.DateTimeException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CatalogWatcher implements AutoCloseable {
+    private static final String THREAD_NAME = "catalog-watcher";
+    private static final long QUIET_PERIOD_MILLIS = 200;
+
+    private final Path productsPath;
+    private final Path promotionsPath;
+    private final CatalogDiffer catalogDiffer;
+    private final Queue<CatalogDiff> pendingDiffs = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<String> lastReloadFailure = new AtomicReference<>();
+    private final WatchService watchService;
+    private final Thread watcherThread;
+
+    private CatalogWatcher(Path productsPath, Path promotionsPath) throws IOException {
+        this.productsPath = productsPath.toAbsolutePath();
+        this.promotionsPath = promotionsPath.toAbsolutePath();
+        this.catalogDiffer = new CatalogDiffer(this.productsPath, this.promotionsPath);
+        catalogDiffer.diff(true, true);
+        this.watchService = this.productsPath.getFileSystem().newWatchService();
+        registerDirectory(this.productsPath.getParent());
+        registerDirectory(this.promotionsPath.getParent());
+        this.watcherThread = new Thread(this::watch, THREAD_NAME);
+        this.watcherThread.setDaemon(true);
+    }
+
+    public static CatalogWatcher start(Path productsPath, Path promotionsPath) {
+        try {
+            CatalogWatcher catalogWatcher = new CatalogWatcher(productsPath, promotionsPath);
+            catalogWatcher.watcherThread.start();
+            return catalogWatcher;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public CatalogDiff pollPendingDiff() {
+        return pendingDiffs.poll();
+    }
+
+    public String pollReloadFailure() {
+        return lastReloadFailure.getAndSet(null);
+    }
+
+    private void registerDirectory(Path directory) throws IOException {
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey watchKey = watchService.take();
+                boolean productsChanged = false;
+                boolean promotionsChanged = false;
+                while (watchKey != null) {
+                    Path directory = (Path) watchKey.watchable();
+                    for (WatchEvent<?> event : watchKey.pollEvents()) {
+                        Path changedPath = directory.resolve((Path) event.context());
+                        productsChanged |= changedPath.equals(productsPath);
+                        promotionsChanged |= changedPath.equals(promotionsPath);
+                    }
+                    watchKey.reset();
+                    watchKey = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                reload(productsChanged, promotionsChanged);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reload(boolean productsChanged, boolean promotionsChanged) {
+        CatalogDiff catalogDiff;
+        try {
+            catalogDiff = catalogDiffer.diff(productsChanged, promotionsChanged);
+        } catch (UncheckedIOException | IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            lastReloadFailure.set(String.valueOf(e.getMessage()));
+            return;
+        }
+        if (!catalogDiff.isEmpty()) {
+            pendingDiffs.add(catalogDiff);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package store.reload;
+
+import store.Product;
+
+public class ProductChange {
+    private final Product product;
+    private final boolean eventProduct;
+    private final int quantityDelta;
+
+    public ProductChange(Product product, boolean eventProduct, int quantityDelta) {
+        this.product = product;
+        this.eventProduct = eventProduct;
+        this.quantityDelta = quantityDelta;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public boolean isEventProduct() {
+        return eventProduct;
+    }
+
+    public int getQuantityDelta() {
+        return quantityDelta;
+    }
+}
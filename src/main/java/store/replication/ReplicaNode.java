@@ -0,0 +1,232 @@
+package store.replication;
+
+import store.StockDelta;
+import store.StoreManager;
+import store.constant.StockType;
+import store.metrics.LatencyHistogram;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static store.constant.ErrorMessage.REPLICATION_BASE_STATE_MISMATCH;
+import static store.constant.ErrorMessage.REPLICATION_CHECKSUM_MISMATCH;
+import static store.constant.ErrorMessage.REPLICATION_CONNECTION_LOST;
+import static store.constant.ErrorMessage.REPLICATION_STREAM_BROKEN;
+
+public class ReplicaNode implements AutoCloseable {
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final StockType[] STOCK_TYPES = StockType.values();
+    private static final String APPLIER_THREAD_NAME = "replication-applier";
+    private static final long POLL_INTERVAL_MILLIS = 1;
+
+    private final ServerSocketChannel serverChannel;
+    private final StoreManager storeManager;
+    private final long baseStateChecksum;
+    private final CRC32 checksum = new CRC32();
+    private final LatencyHistogram replicationLag = new LatencyHistogram();
+    private final ByteBuffer acknowledgement = ByteBuffer.allocate(Long.BYTES);
+    private final Thread applier;
+    private volatile SocketChannel connection;
+    private volatile long appliedSequence;
+    private volatile boolean closing;
+    private volatile String failure;
+
+    private ReplicaNode(ServerSocketChannel serverChannel, StoreManager storeManager) {
+        this.serverChannel = serverChannel;
+        this.storeManager = storeManager;
+        this.baseStateChecksum = StockStateChecksum.of(storeManager.getInventory());
+        this.applier = new Thread(this::acceptAndApply, APPLIER_THREAD_NAME);
+        applier.setDaemon(true);
+        applier.start();
+    }
+
+    public static ReplicaNode listen(StoreManager storeManager, int port) {
+        try {
+            ServerSocketChannel serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            return new ReplicaNode(serverChannel, storeManager);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void acceptAndApply() {
+        while (!closing) {
+            try (SocketChannel accepted = serverChannel.accept()) {
+                connection = accepted;
+                accepted.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                if (acceptBaseState(accepted)) {
+                    failure = null;
+                    applyRecords(accepted);
+                }
+            } catch (IllegalStateException e) {
+                failure = e.getMessage();
+            } catch (IOException e) {
+                if (!closing) {
+                    failure = REPLICATION_CONNECTION_LOST.getValue();
+                }
+            }
+        }
+    }
+
+    private boolean acceptBaseState(SocketChannel connection) throws IOException {
+        ByteBuffer handshake = ByteBuffer.allocate(Long.BYTES);
+        while (handshake.hasRemaining()) {
+            if (connection.read(handshake) < 0) {
+                throw new EOFException();
+            }
+        }
+        if (handshake.getLong(0) != baseStateChecksum) {
+            failure = REPLICATION_BASE_STATE_MISMATCH.getValue();
+            acknowledge(connection, ReplicationPrimary.REJECTED_BASE_STATE);
+            return false;
+        }
+        acknowledge(connection, appliedSequence);
+        return true;
+    }
+
+    private void applyRecords(SocketChannel connection) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        while (connection.read(records) >= 0) {
+            records.flip();
+            long sequenceBefore = appliedSequence;
+            applyCompleteRecords(records);
+            records.compact();
+            records = ensureCapacity(records);
+            if (appliedSequence != sequenceBefore) {
+                acknowledge(connection, appliedSequence);
+            }
+        }
+    }
+
+    private void applyCompleteRecords(ByteBuffer records) {
+        while (records.remaining() >= Integer.BYTES) {
+            int recordStart = records.position();
+            int payloadLength = records.getInt(recordStart);
+            if (records.remaining() < Integer.BYTES + payloadLength + Integer.BYTES) {
+                return;
+            }
+            int payloadStart = recordStart + Integer.BYTES;
+            checksum.reset();
+            checksum.update(records.slice(payloadStart, payloadLength));
+            long sequence = records.getLong(payloadStart);
+            if ((int) checksum.getValue() != records.getInt(payloadStart + payloadLength)) {
+                throw new IllegalStateException(REPLICATION_CHECKSUM_MISMATCH.getValue() + sequence);
+            }
+            if (sequence <= appliedSequence) {
+                records.position(payloadStart + payloadLength + Integer.BYTES);
+                continue;
+            }
+            if (sequence != appliedSequence + 1) {
+                throw new IllegalStateException(REPLICATION_STREAM_BROKEN.getValue() + sequence);
+            }
+            long appendedAtNanos = records.getLong(payloadStart + Long.BYTES);
+            applyEntries(records.position(payloadStart + Long.BYTES + Long.BYTES));
+            appliedSequence = sequence;
+            replicationLag.record(System.nanoTime() - appendedAtNanos);
+            records.position(payloadStart + payloadLength + Integer.BYTES);
+        }
+    }
+
+    private void applyEntries(ByteBuffer records) {
+        int entryCount = records.getInt();
+        for (int index = 0; index < entryCount; index++) {
+            byte[] encodedName = new byte[Short.toUnsignedInt(records.getShort())];
+            records.get(encodedName);
+            StockType stockType = STOCK_TYPES[records.get()];
+            storeManager.applyStockDelta(new StockDelta(new String(encodedName, StandardCharsets.UTF_8), stockType, records.getInt()));
+        }
+    }
+
+    private ByteBuffer ensureCapacity(ByteBuffer records) {
+        if (records.position() < Integer.BYTES) {
+            return records;
+        }
+        int recordSize = Integer.BYTES + records.getInt(0) + Integer.BYTES;
+        if (recordSize <= records.capacity()) {
+            return records;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(records.capacity() * 2, recordSize));
+        records.flip();
+        grown.put(records);
+        return grown;
+    }
+
+    private void acknowledge(SocketChannel connection, long sequence) throws IOException {
+        acknowledgement.clear();
+        acknowledgement.putLong(sequence).flip();
+        while (acknowledgement.hasRemaining()) {
+            connection.write(acknowledgement);
+        }
+    }
+
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public StoreManager getStoreManager() {
+        return storeManager;
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public LatencyHistogram.Snapshot snapshotReplicationLag() {
+        return replicationLag.snapshot();
+    }
+
+    public boolean isBroken() {
+        return failure != null;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public boolean awaitAppliedSequence(long sequence, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (appliedSequence < sequence) {
+            if (isBroken() || System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closing = true;
+        try {
+            serverChannel.close();
+            SocketChannel accepted = connection;
+            if (accepted != null) {
+                accepted.close();
+            }
+            applier.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package store.replication;
+
+import store.StockDelta;
+import store.StockListener;
+import store.inventory.Inventory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import static store.constant.ErrorMessage.REPLICATION_BASE_STATE_MISMATCH;
+import static store.constant.ErrorMessage.REPLICATION_CONNECTION_LOST;
+import static store.constant.ErrorMessage.REPLICATION_STREAM_BROKEN;
+
+public class ReplicationPrimary implements StockListener, AutoCloseable {
+    static final int RECORD_FIXED_SIZE = Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    static final int ENTRY_FIXED_SIZE = Short.BYTES + Byte.BYTES + Integer.BYTES;
+    static final long REJECTED_BASE_STATE = -1;
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final String SHIPPER_THREAD_NAME = "replication-shipper";
+    private static final String ACKNOWLEDGEMENT_THREAD_NAME = "replication-acknowledgement-reader";
+    private static final long POLL_INTERVAL_MILLIS = 1;
+    private static final long RECONNECT_INTERVAL_MILLIS = 20;
+
+    private final InetSocketAddress replicaAddress;
+    private final long baseStateChecksum;
+    private final CRC32 checksum = new CRC32();
+    private final Map<String, byte[]> encodedNames = new ConcurrentHashMap<>();
+    private final Deque<ShippedRecords> unacknowledgedRecords = new ArrayDeque<>();
+    private final Thread shipper;
+    private ByteBuffer activeRecords = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer spareRecords = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private SocketChannel channel;
+    private long lastSequence;
+    private long releasedSequence;
+    private boolean shipperWaiting;
+    private boolean closed;
+    private boolean diverged;
+    private volatile long acknowledgedSequence;
+    private volatile String failure;
+
+    private ReplicationPrimary(InetSocketAddress replicaAddress, long baseStateChecksum, SocketChannel firstChannel) {
+        this.replicaAddress = replicaAddress;
+        this.baseStateChecksum = baseStateChecksum;
+        this.shipper = startThread(() -> shipRecords(firstChannel), SHIPPER_THREAD_NAME);
+    }
+
+    public static ReplicationPrimary connect(Inventory inventory, int replicaPort) {
+        InetSocketAddress replicaAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), replicaPort);
+        try {
+            return new ReplicationPrimary(replicaAddress, StockStateChecksum.of(inventory), openChannel(replicaAddress));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SocketChannel openChannel(InetSocketAddress replicaAddress) throws IOException {
+        SocketChannel channel = SocketChannel.open(replicaAddress);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        return channel;
+    }
+
+    @Override
+    public void onOrderProcessed(List<StockDelta> stockDeltas) {
+        long appendedAtNanos = System.nanoTime();
+        int recordSize = RECORD_FIXED_SIZE;
+        for (StockDelta stockDelta : stockDeltas) {
+            recordSize += ENTRY_FIXED_SIZE + encodedName(stockDelta.getProductName()).length;
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (diverged) {
+                lastSequence++;
+                return;
+            }
+            appendRecord(stockDeltas, appendedAtNanos, recordSize);
+            if (shipperWaiting) {
+                notifyAll();
+            }
+        }
+    }
+
+    private byte[] encodedName(String name) {
+        byte[] encodedName = encodedNames.get(name);
+        if (encodedName == null) {
+            encodedName = encodedNames.computeIfAbsent(name, key -> key.getBytes(StandardCharsets.UTF_8));
+        }
+        return encodedName;
+    }
+
+    private void appendRecord(List<StockDelta> stockDeltas, long appendedAtNanos, int recordSize) {
+        ensureCapacity(recordSize);
+        int recordStart = activeRecords.position();
+        activeRecords.putInt(recordSize - Integer.BYTES - Integer.BYTES);
+        activeRecords.putLong(++lastSequence);
+        activeRecords.putLong(appendedAtNanos);
+        activeRecords.putInt(stockDeltas.size());
+        for (StockDelta stockDelta : stockDeltas) {
+            byte[] encodedName = encodedName(stockDelta.getProductName());
+            activeRecords.putShort((short) encodedName.length);
+            activeRecords.put(encodedName);
+            activeRecords.put((byte) stockDelta.getStockType().ordinal());
+            activeRecords.putInt(stockDelta.getQuantityDelta());
+        }
+        checksum.reset();
+        checksum.update(activeRecords.array(), recordStart + Integer.BYTES, activeRecords.position() - recordStart - Integer.BYTES);
+        activeRecords.putInt((int) checksum.getValue());
+    }
+
+    private void ensureCapacity(int recordSize) {
+        if (activeRecords.remaining() >= recordSize) {
+            return;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(activeRecords.capacity() * 2, activeRecords.position() + recordSize));
+        activeRecords.flip();
+        grown.put(activeRecords);
+        activeRecords = grown;
+    }
+
+    private void shipRecords(SocketChannel firstChannel) {
+        try {
+            SocketChannel connection = firstChannel;
+            while (connection != null) {
+                shipOver(connection);
+                connection = reconnect();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopAccepting();
+        }
+    }
+
+    private void shipOver(SocketChannel connection) throws InterruptedException {
+        try (connection) {
+            List<ByteBuffer> unacknowledged = resume(connection, handshake(connection));
+            if (unacknowledged == null) {
+                return;
+            }
+            Thread acknowledgementReader = startThread(() -> readAcknowledgements(connection), ACKNOWLEDGEMENT_THREAD_NAME);
+            for (ByteBuffer records : unacknowledged) {
+                write(connection, records);
+            }
+            ByteBuffer records = awaitPendingRecords(connection);
+            while (records != null) {
+                write(connection, records);
+                records = awaitPendingRecords(connection);
+            }
+            if (!isBroken()) {
+                connection.shutdownOutput();
+                acknowledgementReader.join();
+            }
+        } catch (IOException e) {
+            markBroken(connection);
+        }
+    }
+
+    private long handshake(SocketChannel connection) throws IOException {
+        ByteBuffer handshake = ByteBuffer.allocate(Long.BYTES);
+        handshake.putLong(baseStateChecksum).flip();
+        write(connection, handshake);
+        handshake.clear();
+        while (handshake.hasRemaining()) {
+            if (connection.read(handshake) < 0) {
+                throw new EOFException();
+            }
+        }
+        return handshake.getLong(0);
+    }
+
+    private synchronized List<ByteBuffer> resume(SocketChannel connection, long replicaSequence) {
+        if (replicaSequence == REJECTED_BASE_STATE) {
+            diverge(REPLICATION_BASE_STATE_MISMATCH.getValue());
+            return null;
+        }
+        if (replicaSequence < releasedSequence) {
+            diverge(REPLICATION_STREAM_BROKEN.getValue() + (replicaSequence + 1));
+            return null;
+        }
+        release(replicaSequence);
+        acknowledgedSequence = Math.max(acknowledgedSequence, replicaSequence);
+        channel = connection;
+        failure = null;
+        List<ByteBuffer> unacknowledged = new ArrayList<>();
+        for (ShippedRecords shippedRecords : unacknowledgedRecords) {
+            unacknowledged.add(shippedRecords.records);
+        }
+        return unacknowledged;
+    }
+
+    private void diverge(String reason) {
+        failure = reason;
+        diverged = true;
+        activeRecords.clear();
+        unacknowledgedRecords.clear();
+        notifyAll();
+    }
+
+    private void write(SocketChannel connection, ByteBuffer records) throws IOException {
+        ByteBuffer pending = records.duplicate();
+        while (pending.hasRemaining()) {
+            connection.write(pending);
+        }
+    }
+
+    private synchronized ByteBuffer awaitPendingRecords(SocketChannel connection) throws InterruptedException {
+        while (activeRecords.position() == 0 && !closed && isConnected(connection)) {
+            shipperWaiting = true;
+            wait();
+            shipperWaiting = false;
+        }
+        if (activeRecords.position() == 0 || !isConnected(connection)) {
+            return null;
+        }
+        ByteBuffer records = activeRecords.flip();
+        unacknowledgedRecords.addLast(new ShippedRecords(records, lastSequence));
+        activeRecords = takeSpareRecords();
+        return records;
+    }
+
+    private ByteBuffer takeSpareRecords() {
+        ByteBuffer spare = spareRecords;
+        spareRecords = null;
+        if (spare == null) {
+            return ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        }
+        return spare;
+    }
+
+    private boolean isConnected(SocketChannel connection) {
+        return channel == connection && failure == null;
+    }
+
+    private SocketChannel reconnect() throws InterruptedException {
+        while (awaitReconnectInterval()) {
+            try {
+                return openChannel(replicaAddress);
+            } catch (IOException e) {
+                failure = REPLICATION_CONNECTION_LOST.getValue();
+            }
+        }
+        return null;
+    }
+
+    private synchronized boolean awaitReconnectInterval() throws InterruptedException {
+        if (!closed && !diverged) {
+            wait(RECONNECT_INTERVAL_MILLIS);
+        }
+        return !closed && !diverged;
+    }
+
+    private void readAcknowledgements(SocketChannel connection) {
+        ByteBuffer acknowledgement = ByteBuffer.allocate(Long.BYTES);
+        try {
+            while (connection.read(acknowledgement) >= 0) {
+                if (!acknowledgement.hasRemaining()) {
+                    acknowledge(acknowledgement.getLong(0));
+                    acknowledgement.clear();
+                }
+            }
+        } catch (IOException e) {
+            markBroken(connection);
+            return;
+        }
+        markBroken(connection);
+    }
+
+    private synchronized void acknowledge(long sequence) {
+        release(sequence);
+        acknowledgedSequence = sequence;
+    }
+
+    private void release(long sequence) {
+        while (!unacknowledgedRecords.isEmpty() && unacknowledgedRecords.peekFirst().lastSequence <= sequence) {
+            ShippedRecords released = unacknowledgedRecords.pollFirst();
+            releasedSequence = released.lastSequence;
+            if (spareRecords == null) {
+                spareRecords = released.records.clear();
+            }
+        }
+    }
+
+    private synchronized void markBroken(SocketChannel connection) {
+        if (closed || diverged || (channel != null && channel != connection)) {
+            return;
+        }
+        failure = REPLICATION_CONNECTION_LOST.getValue();
+        notifyAll();
+    }
+
+    private synchronized void stopAccepting() {
+        closed = true;
+        notifyAll();
+    }
+
+    public boolean isBroken() {
+        return failure != null;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    public long getAcknowledgedSequence() {
+        return acknowledgedSequence;
+    }
+
+    public long getReplicationLag() {
+        return getLastSequence() - acknowledgedSequence;
+    }
+
+    public boolean awaitAcknowledgement(long sequence, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (acknowledgedSequence < sequence) {
+            if (isBroken() || System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Thread startThread(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    @Override
+    public void close() {
+        stopAccepting();
+        try {
+            shipper.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class ShippedRecords {
+        private final ByteBuffer records;
+        private final long lastSequence;
+
+        private ShippedRecords(ByteBuffer records, long lastSequence) {
+            this.records = records;
+            this.lastSequence = lastSequence;
+        }
+    }
+}
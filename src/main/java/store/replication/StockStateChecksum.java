@@ -0,0 +1,38 @@
+package store.replication;
+
+import store.constant.StockType;
+import store.inventory.Inventory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+public class StockStateChecksum {
+    private static final int STOCK_BYTES = Byte.BYTES + Integer.BYTES;
+    private static final int NO_STOCK = -1;
+
+    public static long of(Inventory inventory) {
+        CRC32 checksum = new CRC32();
+        ByteBuffer stocks = ByteBuffer.allocate(StockType.values().length * STOCK_BYTES);
+        long combined = 0;
+        for (int id = 0; id < inventory.size(); id++) {
+            checksum.reset();
+            checksum.update(inventory.getName(id).getBytes(StandardCharsets.UTF_8));
+            stocks.clear();
+            for (StockType stockType : StockType.values()) {
+                stocks.put((byte) stockType.ordinal());
+                stocks.putInt(stockOf(inventory, id, stockType));
+            }
+            checksum.update(stocks.array(), 0, stocks.position());
+            combined += checksum.getValue();
+        }
+        return combined;
+    }
+
+    private static int stockOf(Inventory inventory, int id, StockType stockType) {
+        if (!inventory.hasProduct(id, stockType)) {
+            return NO_STOCK;
+        }
+        return inventory.getStock(id, stockType);
+    }
+}
@@ -0,0 +1,149 @@
+package store.server;
+
+import store.StoreManager;
+import store.StoreOptions;
+import store.controller.StoreController;
+import store.view.InputView;
+import store.view.OutputView;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CheckoutServer implements AutoCloseable {
+    private static final int CONNECTION_BACKLOG = 4096;
+    private static final long SESSION_DRAIN_TIMEOUT_SECONDS = 30;
+
+    private final ServerSocket serverSocket;
+    private final StoreManager storeManager;
+    private final StoreOptions storeOptions;
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Set<Socket> sessionSockets = ConcurrentHashMap.newKeySet();
+    private boolean closed;
+
+    private CheckoutServer(ServerSocket serverSocket, StoreManager storeManager, StoreOptions storeOptions) {
+        this.serverSocket = serverSocket;
+        this.storeManager = storeManager;
+        this.storeOptions = storeOptions;
+    }
+
+    public static CheckoutServer open(StoreManager storeManager, StoreOptions storeOptions, int port) {
+        try {
+            ServerSocket serverSocket = new ServerSocket(port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress());
+            return new CheckoutServer(serverSocket, storeManager, storeOptions);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void run(StoreOptions storeOptions, int port) {
+        StoreManager storeManager = new StoreManager();
+        StoreController storeController = new StoreController(storeOptions, storeManager, new InputView(), new OutputView());
+        storeController.open();
+        try (CheckoutServer checkoutServer = open(storeManager, storeOptions, port)) {
+            Thread servingThread = Thread.currentThread();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                checkoutServer.close();
+                awaitTermination(servingThread);
+            }));
+            checkoutServer.serve();
+        } finally {
+            storeController.close();
+        }
+    }
+
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (!register(socket)) {
+                    closeSocket(socket);
+                    return;
+                }
+                sessions.submit(() -> runSession(socket));
+            } catch (SocketException e) {
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void runSession(Socket socket) {
+        activeSessions.incrementAndGet();
+        try {
+            new CheckoutSession(socket, storeManager, storeOptions).run();
+        } finally {
+            sessionSockets.remove(socket);
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    private synchronized boolean register(Socket socket) {
+        if (closed) {
+            return false;
+        }
+        sessionSockets.add(socket);
+        return true;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    @Override
+    public void close() {
+        List<Socket> openSockets;
+        synchronized (this) {
+            closed = true;
+            openSockets = new ArrayList<>(sessionSockets);
+        }
+        closeSocket(serverSocket);
+        openSockets.forEach(CheckoutServer::closeSocket);
+        sessions.shutdown();
+        awaitSessions();
+    }
+
+    private void awaitSessions() {
+        try {
+            if (!sessions.awaitTermination(SESSION_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                sessions.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeSocket(Closeable socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void awaitTermination(Thread servingThread) {
+        try {
+            servingThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
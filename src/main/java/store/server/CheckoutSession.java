@@ -0,0 +1,58 @@
+package store.server;
+
+import store.StoreManager;
+import store.StoreOptions;
+import store.controller.StoreController;
+import store.view.InputView;
+import store.view.OutputView;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+public class CheckoutSession implements Runnable {
+    private final Socket socket;
+    private final StoreManager storeManager;
+    private final StoreOptions storeOptions;
+
+    public CheckoutSession(Socket socket, StoreManager storeManager, StoreOptions storeOptions) {
+        this.socket = socket;
+        this.storeManager = storeManager;
+        this.storeOptions = storeOptions;
+    }
+
+    @Override
+    public void run() {
+        try (Socket terminal = socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(terminal.getInputStream(), StandardCharsets.UTF_8));
+             PrintStream out = new PrintStream(new BufferedOutputStream(terminal.getOutputStream()), true, StandardCharsets.UTF_8)) {
+            InputView inputView = new InputView(() -> readLine(reader), out);
+            OutputView outputView = new OutputView(out);
+            try {
+                new StoreController(storeOptions, storeManager, inputView, outputView).processOrder();
+            } catch (IllegalStateException e) {
+                outputView.displayErrorMessage(e.getMessage());
+            }
+        } catch (IOException | UncheckedIOException | NoSuchElementException e) {
+            return;
+        }
+    }
+
+    private String readLine(BufferedReader reader) {
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new NoSuchElementException();
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
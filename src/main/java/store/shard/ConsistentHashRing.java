@@ -0,0 +1,99 @@
+package store.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static store.constant.ErrorMessage.DUPLICATE_SHARD_NODE;
+import static store.constant.ErrorMessage.SHARD_NODE_NOT_FOUND;
+
+public class ConsistentHashRing {
+    private static final int DEFAULT_VIRTUAL_NODES = 160;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long MIX_MULTIPLIER_1 = 0xff51afd7ed558ccdL;
+    private static final long MIX_MULTIPLIER_2 = 0xc4ceb9fe1a85ec53L;
+    private static final String VIRTUAL_NODE_DELIMITER = "#";
+
+    private final int virtualNodes;
+    private final String[] nodeIds;
+    private final long[] points;
+    private final String[] pointOwners;
+
+    private ConsistentHashRing(int virtualNodes, String[] nodeIds) {
+        this.virtualNodes = virtualNodes;
+        this.nodeIds = nodeIds;
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String nodeId : nodeIds) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                ring.putIfAbsent(hash(nodeId + VIRTUAL_NODE_DELIMITER + replica), nodeId);
+            }
+        }
+        this.points = new long[ring.size()];
+        this.pointOwners = new String[ring.size()];
+        int index = 0;
+        for (Map.Entry<Long, String> point : ring.entrySet()) {
+            points[index] = point.getKey();
+            pointOwners[index++] = point.getValue();
+        }
+    }
+
+    public static ConsistentHashRing empty() {
+        return empty(DEFAULT_VIRTUAL_NODES);
+    }
+
+    public static ConsistentHashRing empty(int virtualNodes) {
+        return new ConsistentHashRing(virtualNodes, new String[0]);
+    }
+
+    public ConsistentHashRing withNode(String nodeId) {
+        if (contains(nodeId)) {
+            throw new IllegalArgumentException(DUPLICATE_SHARD_NODE.getValue() + nodeId);
+        }
+        String[] grown = Arrays.copyOf(nodeIds, nodeIds.length + 1);
+        grown[nodeIds.length] = nodeId;
+        return new ConsistentHashRing(virtualNodes, grown);
+    }
+
+    public ConsistentHashRing withoutNode(String nodeId) {
+        return new ConsistentHashRing(virtualNodes, Arrays.stream(nodeIds)
+                .filter(existing -> !existing.equals(nodeId))
+                .toArray(String[]::new));
+    }
+
+    public String nodeFor(String key) {
+        if (points.length == 0) {
+            throw new IllegalArgumentException(SHARD_NODE_NOT_FOUND.getValue());
+        }
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        if (index == points.length) {
+            index = 0;
+        }
+        return pointOwners[index];
+    }
+
+    public boolean contains(String nodeId) {
+        return Arrays.asList(nodeIds).contains(nodeId);
+    }
+
+    public int size() {
+        return nodeIds.length;
+    }
+
+    private static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte encoded : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= encoded & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= MIX_MULTIPLIER_1;
+        hash ^= hash >>> 33;
+        hash *= MIX_MULTIPLIER_2;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,98 @@
+package store.shard;
+
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+import store.inventory.StockHold;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static store.constant.ErrorMessage.STORE_NOT_FOUND;
+
+public class LocalShardNode implements ShardNode {
+    private static final String WORKER_THREAD_PREFIX = "shard-node-";
+    private static final String WORKER_THREAD_DELIMITER = "-";
+
+    private final String nodeId;
+    private final Map<String, StoreManager> stores = new ConcurrentHashMap<>();
+    private final Map<String, Set<CompletableFuture<Receipt>>> pendingOrders = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+
+    public LocalShardNode(String nodeId) {
+        this(nodeId, 1);
+    }
+
+    public LocalShardNode(String nodeId, int workerThreads) {
+        this.nodeId = nodeId;
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + nodeId + WORKER_THREAD_DELIMITER + workerNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public Set<String> getStoreIds() {
+        return Set.copyOf(stores.keySet());
+    }
+
+    @Override
+    public CompletableFuture<Void> attachStore(String storeId, StoreManager storeManager) {
+        return CompletableFuture.runAsync(() -> stores.put(storeId, storeManager), workers);
+    }
+
+    @Override
+    public CompletableFuture<StoreManager> detachStore(String storeId) {
+        Set<CompletableFuture<Receipt>> storeOrders = pendingOrders.getOrDefault(storeId, Set.of());
+        return CompletableFuture.allOf(storeOrders.toArray(CompletableFuture[]::new))
+                .handle((drained, failure) -> storeId)
+                .thenApplyAsync(drainedStoreId -> {
+                    StoreManager storeManager = storeOf(drainedStoreId);
+                    stores.remove(drainedStoreId);
+                    pendingOrders.remove(drainedStoreId);
+                    return storeManager;
+                }, workers);
+    }
+
+    @Override
+    public CompletableFuture<StoreManager> readStore(String storeId) {
+        return CompletableFuture.supplyAsync(() -> storeOf(storeId), workers);
+    }
+
+    @Override
+    public CompletableFuture<Receipt> submitOrder(String storeId, String orderItems, String membershipChoice, PromotionDecisionPolicy decisionPolicy) {
+        Set<CompletableFuture<Receipt>> storeOrders = pendingOrders.computeIfAbsent(storeId, key -> ConcurrentHashMap.newKeySet());
+        CompletableFuture<Receipt> order = CompletableFuture.supplyAsync(() -> {
+            StoreManager storeManager = storeOf(storeId);
+            return storeManager.processOrder(orderItems, membershipChoice, StockHold.none(storeManager.getInventory()), decisionPolicy);
+        }, workers);
+        storeOrders.add(order);
+        order.whenComplete((receipt, failure) -> storeOrders.remove(order));
+        return order;
+    }
+
+    private StoreManager storeOf(String storeId) {
+        StoreManager storeManager = stores.get(storeId);
+        if (storeManager == null) {
+            throw new IllegalArgumentException(STORE_NOT_FOUND.getValue() + storeId);
+        }
+        return storeManager;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+}
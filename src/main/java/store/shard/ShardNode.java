@@ -0,0 +1,25 @@
+package store.shard;
+
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public interface ShardNode extends AutoCloseable {
+    String getNodeId();
+
+    Set<String> getStoreIds();
+
+    CompletableFuture<Void> attachStore(String storeId, StoreManager storeManager);
+
+    CompletableFuture<StoreManager> detachStore(String storeId);
+
+    CompletableFuture<StoreManager> readStore(String storeId);
+
+    CompletableFuture<Receipt> submitOrder(String storeId, String orderItems, String membershipChoice, PromotionDecisionPolicy decisionPolicy);
+
+    @Override
+    void close();
+}
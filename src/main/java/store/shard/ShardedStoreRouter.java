@@ -0,0 +1,131 @@
+package store.shard;
+
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static store.constant.ErrorMessage.DUPLICATE_SHARD_NODE;
+import static store.constant.ErrorMessage.LAST_SHARD_NODE;
+import static store.constant.ErrorMessage.UNKNOWN_SHARD_NODE;
+
+public class ShardedStoreRouter implements AutoCloseable {
+    private final ReentrantReadWriteLock rebalanceLock = new ReentrantReadWriteLock();
+    private final Map<String, ShardNode> nodes = new HashMap<>();
+    private ConsistentHashRing ring;
+
+    public ShardedStoreRouter() {
+        this(ConsistentHashRing.empty());
+    }
+
+    public ShardedStoreRouter(ConsistentHashRing ring) {
+        this.ring = ring;
+    }
+
+    public int addNode(ShardNode node) {
+        rebalanceLock.writeLock().lock();
+        try {
+            if (nodes.containsKey(node.getNodeId())) {
+                throw new IllegalArgumentException(DUPLICATE_SHARD_NODE.getValue() + node.getNodeId());
+            }
+            nodes.put(node.getNodeId(), node);
+            ring = ring.withNode(node.getNodeId());
+            return moveMisplacedStores(new ArrayList<>(nodes.values()));
+        } finally {
+            rebalanceLock.writeLock().unlock();
+        }
+    }
+
+    public int removeNode(String nodeId) {
+        rebalanceLock.writeLock().lock();
+        try {
+            ShardNode node = nodes.get(nodeId);
+            if (node == null) {
+                throw new IllegalArgumentException(UNKNOWN_SHARD_NODE.getValue() + nodeId);
+            }
+            if (nodes.size() == 1) {
+                throw new IllegalArgumentException(LAST_SHARD_NODE.getValue() + nodeId);
+            }
+            ring = ring.withoutNode(nodeId);
+            int movedStores = moveMisplacedStores(List.of(node));
+            nodes.remove(nodeId);
+            node.close();
+            return movedStores;
+        } finally {
+            rebalanceLock.writeLock().unlock();
+        }
+    }
+
+    public void registerStore(String storeId, StoreManager storeManager) {
+        rebalanceLock.writeLock().lock();
+        try {
+            nodeOf(storeId).attachStore(storeId, storeManager).join();
+        } finally {
+            rebalanceLock.writeLock().unlock();
+        }
+    }
+
+    public CompletableFuture<Receipt> submitOrder(String storeId, String orderItems, String membershipChoice, PromotionDecisionPolicy decisionPolicy) {
+        rebalanceLock.readLock().lock();
+        try {
+            return nodeOf(storeId).submitOrder(storeId, orderItems, membershipChoice, decisionPolicy);
+        } finally {
+            rebalanceLock.readLock().unlock();
+        }
+    }
+
+    public CompletableFuture<StoreManager> readStore(String storeId) {
+        rebalanceLock.readLock().lock();
+        try {
+            return nodeOf(storeId).readStore(storeId);
+        } finally {
+            rebalanceLock.readLock().unlock();
+        }
+    }
+
+    public String nodeIdOf(String storeId) {
+        rebalanceLock.readLock().lock();
+        try {
+            return ring.nodeFor(storeId);
+        } finally {
+            rebalanceLock.readLock().unlock();
+        }
+    }
+
+    private ShardNode nodeOf(String storeId) {
+        return nodes.get(ring.nodeFor(storeId));
+    }
+
+    private int moveMisplacedStores(List<ShardNode> sourceNodes) {
+        int movedStores = 0;
+        for (ShardNode sourceNode : sourceNodes) {
+            for (String storeId : sourceNode.getStoreIds()) {
+                ShardNode targetNode = nodeOf(storeId);
+                if (targetNode == sourceNode) {
+                    continue;
+                }
+                StoreManager storeManager = sourceNode.detachStore(storeId).join();
+                targetNode.attachStore(storeId, storeManager).join();
+                movedStores++;
+            }
+        }
+        return movedStores;
+    }
+
+    @Override
+    public void close() {
+        rebalanceLock.writeLock().lock();
+        try {
+            nodes.values().forEach(ShardNode::close);
+            nodes.clear();
+        } finally {
+            rebalanceLock.writeLock().unlock();
+        }
+    }
+}
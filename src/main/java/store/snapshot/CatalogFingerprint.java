@@ -0,0 +1,63 @@
+package store.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+public class CatalogFingerprint {
+    private final long productsSize;
+    private final long productsModifiedTime;
+    private final long promotionsSize;
+    private final long promotionsModifiedTime;
+
+    public CatalogFingerprint(long productsSize, long productsModifiedTime, long promotionsSize, long promotionsModifiedTime) {
+        this.productsSize = productsSize;
+        this.productsModifiedTime = productsModifiedTime;
+        this.promotionsSize = promotionsSize;
+        this.promotionsModifiedTime = promotionsModifiedTime;
+    }
+
+    public static CatalogFingerprint of(Path productsPath, Path promotionsPath) {
+        try {
+            return new CatalogFingerprint(Files.size(productsPath), Files.getLastModifiedTime(productsPath).toMillis(),
+                    Files.size(promotionsPath), Files.getLastModifiedTime(promotionsPath).toMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getProductsSize() {
+        return productsSize;
+    }
+
+    public long getProductsModifiedTime() {
+        return productsModifiedTime;
+    }
+
+    public long getPromotionsSize() {
+        return promotionsSize;
+    }
+
+    public long getPromotionsModifiedTime() {
+        return promotionsModifiedTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CatalogFingerprint fingerprint)) {
+            return false;
+        }
+        return productsSize == fingerprint.productsSize && productsModifiedTime == fingerprint.productsModifiedTime
+                && promotionsSize == fingerprint.promotionsSize && promotionsModifiedTime == fingerprint.promotionsModifiedTime;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productsSize, productsModifiedTime, promotionsSize, promotionsModifiedTime);
+    }
+}
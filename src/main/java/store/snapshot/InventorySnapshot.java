@@ -0,0 +1,228 @@
+package store.snapshot;
+
+import store.Product;
+import store.Promotion;
+import store.StoreManager;
+import store.constant.StockType;
+import store.inventory.Inventory;
+import store.promotion.PromotionRule;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static store.constant.ErrorMessage.CORRUPT_SNAPSHOT;
+
+public class InventorySnapshot {
+    private static final int MAGIC = 0x57534E50;
+    private static final int VERSION = 3;
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final String EMPTY_COLUMN = "null";
+
+    public static void write(Path snapshotPath, StoreManager storeManager, CatalogFingerprint fingerprint, long journalSequence) {
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMPORARY_SUFFIX);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath), WRITE_BUFFER_SIZE))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            writeFingerprint(output, fingerprint);
+            output.writeLong(journalSequence);
+            Map<String, Integer> labels = collectLabels(storeManager);
+            writeLabels(output, labels);
+            writePromotions(output, storeManager.getPromotionCalendar().getPromotions(), labels);
+            writeProducts(output, storeManager.getInventory(), StockType.GENERAL, labels);
+            writeProducts(output, storeManager.getInventory(), StockType.EVENT, labels);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static OptionalLong loadIfFresh(Path snapshotPath, StoreManager storeManager, CatalogFingerprint fingerprint) {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return OptionalLong.empty();
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return load(buffer, storeManager, fingerprint);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static OptionalLong load(MappedByteBuffer buffer, StoreManager storeManager, CatalogFingerprint fingerprint) {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !readFingerprint(buffer).equals(fingerprint)) {
+            return OptionalLong.empty();
+        }
+        long journalSequence = buffer.getLong();
+        SnapshotReader reader = new SnapshotReader(buffer);
+        String[] labels = reader.readLabels();
+        Map<String, Promotion> promotionInventory = reader.readPromotions(labels);
+        List<Product> generalProducts = reader.readProducts(labels);
+        List<Product> eventProducts = reader.readProducts(labels);
+        storeManager.getPromotionCalendar().putAll(promotionInventory);
+        Inventory inventory = storeManager.getInventory();
+        generalProducts.forEach(product -> inventory.putProduct(product, StockType.GENERAL));
+        eventProducts.forEach(product -> inventory.putProduct(product, StockType.EVENT));
+        return OptionalLong.of(journalSequence);
+    }
+
+    private static void writeFingerprint(DataOutputStream output, CatalogFingerprint fingerprint) throws IOException {
+        output.writeLong(fingerprint.getProductsSize());
+        output.writeLong(fingerprint.getProductsModifiedTime());
+        output.writeLong(fingerprint.getPromotionsSize());
+        output.writeLong(fingerprint.getPromotionsModifiedTime());
+    }
+
+    private static CatalogFingerprint readFingerprint(MappedByteBuffer buffer) {
+        return new CatalogFingerprint(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    private static Map<String, Integer> collectLabels(StoreManager storeManager) {
+        Map<String, Integer> labels = new LinkedHashMap<>();
+        for (String promotionName : storeManager.getPromotionCalendar().getPromotions().keySet()) {
+            labels.putIfAbsent(promotionName, labels.size());
+        }
+        labels.putIfAbsent(EMPTY_COLUMN, labels.size());
+        Inventory inventory = storeManager.getInventory();
+        for (int productId = 0; productId < inventory.size(); productId++) {
+            if (inventory.hasProduct(productId, StockType.EVENT)) {
+                labels.putIfAbsent(inventory.getPromotion(productId), labels.size());
+            }
+        }
+        return labels;
+    }
+
+    private static void writeLabels(DataOutputStream output, Map<String, Integer> labels) throws IOException {
+        output.writeInt(labels.size());
+        for (String label : labels.keySet()) {
+            writeText(output, label);
+        }
+    }
+
+    private static void writePromotions(DataOutputStream output, Map<String, Promotion> promotionInventory, Map<String, Integer> labels) throws IOException {
+        output.writeInt(promotionInventory.size());
+        for (Promotion promotion : promotionInventory.values()) {
+            output.writeInt(labels.get(promotion.getName()));
+            output.writeInt(promotion.getBuy());
+            output.writeInt(promotion.getGet());
+            output.writeLong(promotion.getStartTime().toEpochSecond(ZoneOffset.UTC));
+            output.writeLong(promotion.getEndTime().toEpochSecond(ZoneOffset.UTC));
+            writeText(output, promotion.getRule().getSpec());
+        }
+    }
+
+    private static void writeProducts(DataOutputStream output, Inventory inventory, StockType stockType, Map<String, Integer> labels) throws IOException {
+        List<Product> products = new ArrayList<>();
+        for (int productId = 0; productId < inventory.size(); productId++) {
+            if (inventory.hasProduct(productId, stockType)) {
+                products.add(inventory.toProduct(productId, stockType));
+            }
+        }
+        output.writeInt(products.size());
+        for (Product product : products) {
+            writeText(output, product.getName());
+            output.writeInt(product.getPrice());
+            output.writeInt(product.getQuantity());
+            output.writeInt(labels.get(product.getPromotion()));
+        }
+    }
+
+    private static void writeText(DataOutputStream output, String text) throws IOException {
+        byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        output.writeShort(encoded.length);
+        output.write(encoded);
+    }
+
+    private static class SnapshotReader {
+        private final MappedByteBuffer buffer;
+        private byte[] textBuffer = new byte[64];
+
+        private SnapshotReader(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private String[] readLabels() {
+            String[] labels = new String[readCount()];
+            for (int index = 0; index < labels.length; index++) {
+                labels[index] = readText();
+            }
+            return labels;
+        }
+
+        private Map<String, Promotion> readPromotions(String[] labels) {
+            int promotionCount = readCount();
+            Map<String, Promotion> promotionInventory = new HashMap<>();
+            for (int index = 0; index < promotionCount; index++) {
+                String name = readLabel(labels);
+                int buy = buffer.getInt();
+                int get = buffer.getInt();
+                LocalDateTime startTime = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+                LocalDateTime endTime = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+                PromotionRule rule = PromotionRule.compile(readText());
+                promotionInventory.put(name, new Promotion(name, buy, get, startTime, endTime, rule));
+            }
+            return promotionInventory;
+        }
+
+        private List<Product> readProducts(String[] labels) {
+            int productCount = readCount();
+            List<Product> products = new ArrayList<>(productCount);
+            for (int index = 0; index < productCount; index++) {
+                String name = readText();
+                int price = buffer.getInt();
+                int quantity = buffer.getInt();
+                String promotion = readLabel(labels);
+                products.add(new Product(name, price, quantity, promotion));
+            }
+            return products;
+        }
+
+        private int readCount() {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalArgumentException(CORRUPT_SNAPSHOT.getValue() + count);
+            }
+            return count;
+        }
+
+        private String readLabel(String[] labels) {
+            int labelIndex = buffer.getInt();
+            if (labelIndex < 0 || labelIndex >= labels.length) {
+                throw new IllegalArgumentException(CORRUPT_SNAPSHOT.getValue() + labelIndex);
+            }
+            return labels[labelIndex];
+        }
+
+        private String readText() {
+            int length = Short.toUnsignedInt(buffer.getShort());
+            if (textBuffer.length < length) {
+                textBuffer = new byte[length];
+            }
+            buffer.get(textBuffer, 0, length);
+            return new String(textBuffer, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
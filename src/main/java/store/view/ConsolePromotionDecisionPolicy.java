@@ -0,0 +1,55 @@
+package store.view;
+
+import store.PromotionDecisionPolicy;
+
+
+import static store.constant.ErrorMessage.INVALID_INPUT;
+import static store.constant.Regex.YES_NO_RESPONSE_FORMAT;
+
+public class ConsolePromotionDecisionPolicy implements PromotionDecisionPolicy {
+    private static final String ACCEPTANCE_RESPONSE = "Y";
+
+    private final InputView inputView;
+    private final OutputView outputView;
+
+    public ConsolePromotionDecisionPolicy() {
+        this(new InputView(), new OutputView());
+    }
+
+    public ConsolePromotionDecisionPolicy(InputView inputView, OutputView outputView) {
+        this.inputView = inputView;
+        this.outputView = outputView;
+    }
+
+    @Override
+    public boolean acceptsAdditionalPromotion(String productName, int promotionalQuantity) {
+        while (true) {
+            try {
+                String forAdditionalQuantity = inputView.promptForAdditionalQuantity(productName, promotionalQuantity);
+                validateYesNoResponse(forAdditionalQuantity);
+                return forAdditionalQuantity.equals(ACCEPTANCE_RESPONSE);
+            } catch (IllegalArgumentException e) {
+                outputView.displayErrorMessage(e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean buysWithoutPromotion(String productName, int nonPromotionalQuantity) {
+        while (true) {
+            try {
+                String forNonPromotionalPurchase = inputView.promptForNonPromotionalPurchase(nonPromotionalQuantity, productName);
+                validateYesNoResponse(forNonPromotionalPurchase);
+                return forNonPromotionalPurchase.equals(ACCEPTANCE_RESPONSE);
+            } catch (IllegalArgumentException e) {
+                outputView.displayErrorMessage(e.getMessage());
+            }
+        }
+    }
+
+    private void validateYesNoResponse(String input) {
+        if (!YES_NO_RESPONSE_FORMAT.getPattern().matcher(input).find()) {
+            throw new IllegalArgumentException(INVALID_INPUT.getValue());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package store.view;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public interface OutputSink extends AutoCloseable {
+    void write(byte[] bytes, int offset, int length);
+
+    @Override
+    default void close() {
+    }
+
+    static OutputSink console() {
+        return of(System.out);
+    }
+
+    static OutputSink of(PrintStream out) {
+        return new PrintStreamSink(out);
+    }
+
+    static OutputSink of(WritableByteChannel channel) {
+        return new ChannelSink(channel);
+    }
+
+    static OutputSink file(Path path) {
+        try {
+            return new ChannelSink(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,103 +1,101 @@
 package store.view;
 
 import store.OrderItem;
-import store.Product;
 import store.PromotionItem;
 import store.Receipt;
-import store.constant.ProductType;
+import store.inventory.Inventory;
 
-import java.text.DecimalFormat;
-import java.util.List;
-import java.util.Map;
+import java.io.PrintStream;
 
 public class OutputView {
-    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("###,###");
-    private static final int EMPTY_STOCK = 0;
+    private static final int ORDERED_NAME_WIDTH = 15;
+    private static final int ORDERED_QUANTITY_WIDTH = 3;
+    private static final int ORDERED_PRICE_WIDTH = 10;
+    private static final byte[] RECEIPT_HEADER = RenderBuffer.encode("===========W 편의점=============");
+    private static final byte[] RECEIPT_COLUMNS = RenderBuffer.encode("상품명\t\t\t수량\t\t\t금액");
+    private static final byte[] GIFT_HEADER = RenderBuffer.encode("===========증\t정=============");
+    private static final byte[] TOTAL_DIVIDER = RenderBuffer.encode("===============================");
+    private static final byte[] TOTAL_PRICE_LABEL = RenderBuffer.encode("총구매액" + "\t\t\t\t");
+    private static final byte[] PROMOTION_DISCOUNT_LABEL = RenderBuffer.encode("행사할인\t\t\t\t\t\t -");
+    private static final byte[] MEMBERSHIP_DISCOUNT_LABEL = RenderBuffer.encode("멤버십할인\t\t\t\t\t -");
+    private static final byte[] FINAL_PRICE_LABEL = RenderBuffer.encode("내실돈\t\t\t\t\t\t");
+    private static final byte[] SPACE = RenderBuffer.encode(" ");
+    private static final byte[] GIFT_SEPARATOR = RenderBuffer.encode("\t\t\t");
+    private static final byte[] TOTAL_QUANTITY_SEPARATOR = RenderBuffer.encode("\t\t");
 
-    private void displayOrderedProductsDetails(Receipt receipt) {
-        List<OrderItem> orderedItems = receipt.getOrderedItems();
-        for (OrderItem orderedItem : orderedItems) {
-            String orderedPrice = DECIMAL_FORMAT.format(orderedItem.getTotalPrice());
-            System.out.printf("%-15s %3d %10d%n", orderedItem.getName(), orderedItem.getQuantity(), orderedItem.getTotalPrice());
-        }
+    private final RenderBuffer renderBuffer = new RenderBuffer();
+    private final OutputSink sink;
+    private StatusBoard statusBoard;
+    private Inventory statusBoardInventory;
+
+    public OutputView() {
+        this(OutputSink.console());
     }
 
-    private void displayTotalResult(Receipt receipt, String totalPrice) {
-        System.out.println("===============================");
-        System.out.println("총구매액" + "\t\t\t\t" + receipt.getTotalQuantity() + "\t\t" + totalPrice);
-        System.out.println("행사할인\t\t\t\t\t\t -" + DECIMAL_FORMAT.format(receipt.getPromotionalDiscountPrice()));
-        System.out.println("멤버십할인\t\t\t\t\t -" + DECIMAL_FORMAT.format(receipt.getMemberShipDiscountPrice()));
-        System.out.println("내실돈\t\t\t\t\t\t" + DECIMAL_FORMAT.format(receipt.getFinalPrice()));
+    public OutputView(PrintStream out) {
+        this(OutputSink.of(out));
     }
 
-    public void showCurrentStatus(Map<String, Product> generalProductInventory, Map<String, Product> eventProductInventory) {
-        System.out.println("안녕하세요. W편의점입니다.");
-        System.out.println("현재 보유하고 있는 상품입니다.");
-        System.out.println();
-        ProductType[] productTypes = ProductType.values();
-        for (ProductType productType : productTypes) {
-            displayEventStock(eventProductInventory, productType);
-            displayGeneralStock(generalProductInventory, productType);
-        }
-        System.out.println();
+    public OutputView(OutputSink sink) {
+        this.sink = sink;
     }
 
-    private void displayEventStock(Map<String, Product> eventProductInventory, ProductType eventProductType) {
-        Product product = eventProductInventory.get(eventProductType.getName());
-        if (product == null) {
-            return;
+    private void displayOrderedProductsDetails(Receipt receipt) {
+        for (OrderItem orderedItem : receipt.getOrderedItems()) {
+            renderBuffer.appendLeftAligned(orderedItem.getName(), ORDERED_NAME_WIDTH).append(SPACE)
+                    .appendRightAligned(orderedItem.getQuantity(), ORDERED_QUANTITY_WIDTH).append(SPACE)
+                    .appendRightAligned(orderedItem.getTotalPrice(), ORDERED_PRICE_WIDTH).newLine();
         }
-        Integer eventStock = product.getQuantity();
+    }
 
-        String formattedPrice = DECIMAL_FORMAT.format(eventProductType.getPrice());
-        showEventProductDetailsOrOutOfStock(eventProductType, formattedPrice, eventStock);
+    private void displayTotalResult(Receipt receipt) {
+        renderBuffer.appendLine(TOTAL_DIVIDER);
+        renderBuffer.append(TOTAL_PRICE_LABEL).appendNumber(receipt.getTotalQuantity()).append(TOTAL_QUANTITY_SEPARATOR)
+                .appendGrouped(receipt.getTotalPrice()).newLine();
+        renderBuffer.append(PROMOTION_DISCOUNT_LABEL).appendGrouped(receipt.getPromotionalDiscountPrice()).newLine();
+        renderBuffer.append(MEMBERSHIP_DISCOUNT_LABEL).appendGrouped(receipt.getMemberShipDiscountPrice()).newLine();
+        renderBuffer.append(FINAL_PRICE_LABEL).appendGrouped(receipt.getFinalPrice()).newLine();
     }
 
-    private void showEventProductDetailsOrOutOfStock(ProductType eventProductType, String formattedPrice, Integer eventStock) {
-        if (eventStock == EMPTY_STOCK) {
-            String eventProductDetails = "-" + " " + eventProductType.getName() + " " + formattedPrice + "원" + " " + "재고 없음" + " " + eventProductType.getPromotion();
-            System.out.println(eventProductDetails);
-            return;
-        }
-        String eventProductDetails = "-" + " " + eventProductType.getName() + " " + formattedPrice + "원" + " " + eventStock + "개" + " " + eventProductType.getPromotion();
-        System.out.println(eventProductDetails);
+    public void showCurrentStatus(Inventory inventory) {
+        statusBoardOf(inventory).renderAll(renderBuffer);
+        renderBuffer.flushTo(sink);
     }
 
-    private void showGeneralProductDetailsOrOutOfStock(ProductType generalProductType, String formattedPrice, Integer generalStock) {
-        if (generalStock == EMPTY_STOCK) {
-            String generalProductDetails = "-" + " " + generalProductType.getName() + " " + formattedPrice + "원" + " " + "재고 없음";
-            System.out.println(generalProductDetails);
-            return;
-        }
-        String generalProductDetails = "-" + " " + generalProductType.getName() + " " + formattedPrice + "원" + " " + generalStock + "개";
-        System.out.println(generalProductDetails);
+    public void showChangedStatus(Inventory inventory) {
+        statusBoardOf(inventory).renderChanged(renderBuffer);
+        renderBuffer.flushTo(sink);
     }
 
-    private void displayGeneralStock(Map<String, Product> generalProductInventory, ProductType generalProductType) {
-        Product product = generalProductInventory.get(generalProductType.getName());
-        Integer generalStock = product.getQuantity();
-        String formattedPrice = DECIMAL_FORMAT.format(generalProductType.getPrice());
-        showGeneralProductDetailsOrOutOfStock(generalProductType, formattedPrice, generalStock);
+    private StatusBoard statusBoardOf(Inventory inventory) {
+        if (statusBoard == null || statusBoardInventory != inventory) {
+            statusBoard = new StatusBoard(inventory);
+            statusBoardInventory = inventory;
+        }
+        return statusBoard;
     }
 
     public void showReceipt(Receipt receipt, String membershipChoice) {
-        System.out.println("===========W 편의점=============");
-        System.out.println("상품명\t\t\t수량\t\t\t금액");
+        renderBuffer.appendLine(RECEIPT_HEADER);
+        renderBuffer.appendLine(RECEIPT_COLUMNS);
         displayOrderedProductsDetails(receipt);
-        String totalPrice = DECIMAL_FORMAT.format(receipt.getTotalPrice());
         displayReceivedPromotionDetails(receipt);
-        displayTotalResult(receipt, totalPrice);
+        displayTotalResult(receipt);
+        renderBuffer.flushTo(sink);
     }
 
     private void displayReceivedPromotionDetails(Receipt receipt) {
-        System.out.println("===========증\t정=============");
-        List<PromotionItem> promotionItems = receipt.getPromotionItems();
-        for (PromotionItem promotionItem : promotionItems) {
-            System.out.println(promotionItem.getName() + "\t\t\t" + promotionItem.getQuantity());
+        renderBuffer.appendLine(GIFT_HEADER);
+        for (PromotionItem promotionItem : receipt.getPromotionItems()) {
+            if (!promotionItem.isGift()) {
+                continue;
+            }
+            renderBuffer.appendText(promotionItem.getName()).append(GIFT_SEPARATOR).appendNumber(promotionItem.getQuantity()).newLine();
         }
     }
 
     public void displayErrorMessage(String message) {
-        System.out.println(message);
+        renderBuffer.append(RenderBuffer.encode(message)).newLine();
+        renderBuffer.flushTo(sink);
     }
 }
@@ -0,0 +1,25 @@
+package store.view;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+public class PrintStreamSink implements OutputSink {
+    private final PrintStream out;
+    private final boolean writesUtf8;
+
+    public PrintStreamSink(PrintStream out) {
+        this.out = out;
+        this.writesUtf8 = out.charset().equals(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (writesUtf8) {
+            out.write(bytes, offset, length);
+            out.flush();
+            return;
+        }
+        out.print(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
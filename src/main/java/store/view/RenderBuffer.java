@@ -0,0 +1,149 @@
+package store.view;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RenderBuffer {
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final int MAXIMUM_CACHED_TEXTS = 1 << 12;
+    private static final int MAXIMUM_LONG_DIGITS = 20;
+    private static final int DIGITS_PER_GROUP = 3;
+    private static final byte SPACE = ' ';
+    private static final byte MINUS_SIGN = '-';
+    private static final byte GROUPING_SEPARATOR = ',';
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GROUPED_LONG_MIN_VALUE = "-9,223,372,036,854,775,808".getBytes(StandardCharsets.US_ASCII);
+
+    private final Map<String, byte[]> encodedTexts = new HashMap<>();
+    private final byte[] digits = new byte[MAXIMUM_LONG_DIGITS];
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    public static byte[] encode(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public RenderBuffer append(byte[] fragment) {
+        ensureCapacity(fragment.length);
+        System.arraycopy(fragment, 0, bytes, length, fragment.length);
+        length += fragment.length;
+        return this;
+    }
+
+    public RenderBuffer appendText(String text) {
+        byte[] encodedText = encodedTexts.get(text);
+        if (encodedText == null) {
+            if (encodedTexts.size() >= MAXIMUM_CACHED_TEXTS) {
+                encodedTexts.clear();
+            }
+            encodedText = encode(text);
+            encodedTexts.put(text, encodedText);
+        }
+        return append(encodedText);
+    }
+
+    public RenderBuffer appendLeftAligned(String text, int width) {
+        appendText(text);
+        return appendSpaces(width - text.length());
+    }
+
+    public RenderBuffer appendNumber(long number) {
+        if (number == Long.MIN_VALUE) {
+            return append(LONG_MIN_VALUE);
+        }
+        int digitCount = writeDigits(Math.abs(number));
+        ensureCapacity(digitCount + 1);
+        if (number < 0) {
+            bytes[length++] = MINUS_SIGN;
+        }
+        System.arraycopy(digits, digits.length - digitCount, bytes, length, digitCount);
+        length += digitCount;
+        return this;
+    }
+
+    public RenderBuffer appendRightAligned(long number, int width) {
+        appendSpaces(width - lengthOf(number));
+        return appendNumber(number);
+    }
+
+    public RenderBuffer appendGrouped(long number) {
+        if (number == Long.MIN_VALUE) {
+            return append(GROUPED_LONG_MIN_VALUE);
+        }
+        int digitCount = writeDigits(Math.abs(number));
+        ensureCapacity(digitCount + digitCount / DIGITS_PER_GROUP + 1);
+        if (number < 0) {
+            bytes[length++] = MINUS_SIGN;
+        }
+        int digitIndex = digits.length - digitCount;
+        for (int remaining = digitCount; remaining > 0; remaining--) {
+            bytes[length++] = digits[digitIndex++];
+            if (remaining > 1 && (remaining - 1) % DIGITS_PER_GROUP == 0) {
+                bytes[length++] = GROUPING_SEPARATOR;
+            }
+        }
+        return this;
+    }
+
+    public RenderBuffer newLine() {
+        return append(LINE_SEPARATOR);
+    }
+
+    public RenderBuffer appendLine(byte[] fragment) {
+        return append(fragment).newLine();
+    }
+
+    public void flushTo(OutputSink sink) {
+        sink.write(bytes, 0, length);
+        length = 0;
+    }
+
+    public byte[] takeBytes() {
+        byte[] rendered = Arrays.copyOf(bytes, length);
+        length = 0;
+        return rendered;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    private RenderBuffer appendSpaces(int count) {
+        if (count <= 0) {
+            return this;
+        }
+        ensureCapacity(count);
+        Arrays.fill(bytes, length, length + count, SPACE);
+        length += count;
+        return this;
+    }
+
+    private int lengthOf(long number) {
+        if (number == Long.MIN_VALUE) {
+            return LONG_MIN_VALUE.length;
+        }
+        int numberLength = writeDigits(Math.abs(number));
+        if (number < 0) {
+            numberLength++;
+        }
+        return numberLength;
+    }
+
+    private int writeDigits(long number) {
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + number % 10);
+            number /= 10;
+        } while (number > 0);
+        return digits.length - position;
+    }
+
+    private void ensureCapacity(int additionalLength) {
+        if (length + additionalLength > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additionalLength));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package store.view;
+
+import store.constant.StockType;
+import store.inventory.Inventory;
+import store.inventory.InventoryChangeLog;
+
+import java.util.Arrays;
+
+public class StatusBoard {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int EMPTY_STOCK = 0;
+    private static final byte[] STATUS_GREETING = RenderBuffer.encode("안녕하세요. W편의점입니다.");
+    private static final byte[] STATUS_HEADER = RenderBuffer.encode("현재 보유하고 있는 상품입니다.");
+    private static final byte[] PRODUCT_PREFIX = RenderBuffer.encode("-" + " ");
+    private static final byte[] PRICE_SUFFIX = RenderBuffer.encode("원" + " ");
+    private static final byte[] STOCK_SUFFIX = RenderBuffer.encode("개");
+    private static final byte[] OUT_OF_STOCK = RenderBuffer.encode("재고 없음");
+    private static final byte[] SPACE = RenderBuffer.encode(" ");
+
+    private final Inventory inventory;
+    private final RenderBuffer rowBuffer = new RenderBuffer();
+    private byte[][] eventRows = new byte[INITIAL_CAPACITY][];
+    private byte[][] generalRows = new byte[INITIAL_CAPACITY][];
+    private boolean[] dirtyRows = new boolean[INITIAL_CAPACITY];
+    private boolean[] changedRows = new boolean[INITIAL_CAPACITY];
+    private int productCount;
+    private long changeCursor;
+    private boolean rendered;
+
+    public StatusBoard(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    public void renderAll(RenderBuffer renderBuffer) {
+        refresh();
+        renderBuffer.appendLine(STATUS_GREETING);
+        renderBuffer.appendLine(STATUS_HEADER);
+        renderBuffer.newLine();
+        for (int productId = 0; productId < productCount; productId++) {
+            appendRow(renderBuffer, productId);
+        }
+        renderBuffer.newLine();
+        rendered = true;
+    }
+
+    public void renderChanged(RenderBuffer renderBuffer) {
+        if (!rendered) {
+            renderAll(renderBuffer);
+            return;
+        }
+        refresh();
+        boolean hasChangedRow = false;
+        for (int productId = 0; productId < productCount; productId++) {
+            if (changedRows[productId]) {
+                appendRow(renderBuffer, productId);
+                hasChangedRow = true;
+            }
+        }
+        if (hasChangedRow) {
+            renderBuffer.newLine();
+        }
+    }
+
+    private void refresh() {
+        Arrays.fill(changedRows, 0, productCount, false);
+        InventoryChangeLog changeLog = inventory.getChangeLog();
+        long nextCursor = changeLog.readSince(changeCursor, this::markDirty);
+        if (nextCursor == InventoryChangeLog.OVERRUN) {
+            nextCursor = changeLog.currentSequence();
+            Arrays.fill(dirtyRows, 0, productCount, true);
+        }
+        changeCursor = nextCursor;
+        growTo(inventory.size());
+        for (int productId = 0; productId < productCount; productId++) {
+            if (dirtyRows[productId]) {
+                renderRow(productId);
+                dirtyRows[productId] = false;
+                changedRows[productId] = true;
+            }
+        }
+    }
+
+    private void markDirty(int productId) {
+        if (productId < productCount) {
+            dirtyRows[productId] = true;
+        }
+    }
+
+    private void growTo(int size) {
+        if (size <= productCount) {
+            return;
+        }
+        if (size > dirtyRows.length) {
+            int capacity = Math.max(dirtyRows.length * 2, size);
+            eventRows = Arrays.copyOf(eventRows, capacity);
+            generalRows = Arrays.copyOf(generalRows, capacity);
+            dirtyRows = Arrays.copyOf(dirtyRows, capacity);
+            changedRows = Arrays.copyOf(changedRows, capacity);
+        }
+        Arrays.fill(dirtyRows, productCount, size, true);
+        productCount = size;
+    }
+
+    private void renderRow(int productId) {
+        eventRows[productId] = null;
+        generalRows[productId] = null;
+        if (inventory.hasProduct(productId, StockType.EVENT)) {
+            appendProductStock(productId, StockType.EVENT);
+            rowBuffer.append(SPACE).appendText(inventory.getPromotion(productId)).newLine();
+            eventRows[productId] = rowBuffer.takeBytes();
+        }
+        if (inventory.hasProduct(productId, StockType.GENERAL)) {
+            appendProductStock(productId, StockType.GENERAL);
+            rowBuffer.newLine();
+            generalRows[productId] = rowBuffer.takeBytes();
+        }
+    }
+
+    private void appendProductStock(int productId, StockType stockType) {
+        rowBuffer.append(PRODUCT_PREFIX).appendText(inventory.getName(productId)).append(SPACE)
+                .appendGrouped(inventory.getPrice(productId, stockType)).append(PRICE_SUFFIX);
+        int stock = inventory.getStock(productId, stockType);
+        if (stock == EMPTY_STOCK) {
+            rowBuffer.append(OUT_OF_STOCK);
+            return;
+        }
+        rowBuffer.appendNumber(stock).append(STOCK_SUFFIX);
+    }
+
+    private void appendRow(RenderBuffer renderBuffer, int productId) {
+        if (eventRows[productId] != null) {
+            renderBuffer.append(eventRows[productId]);
+        }
+        if (generalRows[productId] != null) {
+            renderBuffer.append(generalRows[productId]);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptBuilderTest {
+    @Test
+    void 항목을_추가할_때마다_중간_합계를_갱신한다() {
+        ReceiptBuilder receiptBuilder = new ReceiptBuilder();
+
+        receiptBuilder.addOrderItem(new OrderItem("콜라", 3, 1000, 3000, 0, 1));
+        receiptBuilder.addPromotionItem(new PromotionItem("콜라", 1, 1000));
+        assertThat(receiptBuilder.getRunningSubtotal()).isEqualTo(2000);
+
+        receiptBuilder.addOrderItem(new OrderItem("물", 2, 500, 1000, 1000, 0));
+        Receipt receipt = receiptBuilder.build("Y");
+
+        assertThat(receiptBuilder.getRunningSubtotal()).isEqualTo(3000);
+        assertThat(receipt.getTotalQuantity()).isEqualTo(5);
+        assertThat(receipt.getMemberShipDiscountPrice()).isEqualTo(300);
+        assertThat(receipt.getFinalPrice()).isEqualTo(2700);
+    }
+
+    @Test
+    void 대량_주문의_합계는_int_범위를_넘어도_정확하다() {
+        ReceiptBuilder receiptBuilder = new ReceiptBuilder();
+        long wholesaleTotal = 2_000_000L * 1_500;
+
+        receiptBuilder.addOrderItem(new OrderItem("정식도시락", 2_000_000, 1_500, wholesaleTotal, wholesaleTotal, 0));
+        receiptBuilder.addOrderItem(new OrderItem("정식도시락", 2_000_000, 1_500, wholesaleTotal, wholesaleTotal, 0));
+        Receipt receipt = receiptBuilder.build("Y");
+
+        assertThat(receipt.getTotalPrice()).isEqualTo(6_000_000_000L);
+        assertThat(receipt.getTotalQuantity()).isEqualTo(4_000_000L);
+        assertThat(receipt.getMemberShipDiscountPrice()).isEqualTo(8000);
+        assertThat(receipt.getFinalPrice()).isEqualTo(5_999_992_000L);
+    }
+}
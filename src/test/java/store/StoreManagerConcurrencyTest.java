@@ -0,0 +1,260 @@
+package store;
+
+import org.junit.jupiter.api.Test;
+import store.benchmark.StoreFixtures;
+import store.constant.StockType;
+import store.inventory.Inventory;
+import store.inventory.StockHold;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreManagerConcurrencyTest {
+    private static final int CHECKOUT_LANES = 8;
+
+    @Test
+    void 여러_계산대가_동시에_주문해도_초과_판매하지_않는다() throws Exception {
+        StoreManager storeManager = setUpStoreManager();
+        AtomicLong soldQuantity = new AtomicLong();
+        AtomicInteger publishedQuantity = new AtomicInteger();
+        storeManager.addStockListener(stockDeltas -> stockDeltas.forEach(stockDelta -> publishedQuantity.addAndGet(-stockDelta.getQuantityDelta())));
+
+        int completedOrders = runCheckoutLanes(() -> {
+            Receipt receipt = storeManager.processOrder("[콜라-3]", "N");
+            soldQuantity.addAndGet(receipt.getTotalQuantity());
+        });
+
+        Inventory inventory = storeManager.getInventory();
+        int productId = inventory.idOf("콜라");
+        assertThat(completedOrders).isEqualTo(200);
+        assertThat(soldQuantity.get()).isEqualTo(600);
+        assertThat(publishedQuantity.get()).isEqualTo(600);
+        assertThat(inventory.getStock(productId, StockType.EVENT)).isZero();
+        assertThat(inventory.getStock(productId, StockType.GENERAL)).isZero();
+    }
+
+    @Test
+    void 재고가_부족한_주문은_다른_상품의_차감도_되돌린다() throws Exception {
+        StoreManager storeManager = setUpStoreManager();
+
+        int completedOrders = runCheckoutLanes(() -> storeManager.processOrder("[콜라-3],[물-7]", "N"));
+
+        Inventory inventory = storeManager.getInventory();
+        int colaId = inventory.idOf("콜라");
+        int waterId = inventory.idOf("물");
+        int remainingCola = inventory.getStock(colaId, StockType.EVENT) + inventory.getStock(colaId, StockType.GENERAL);
+        assertThat(completedOrders).isEqualTo(142);
+        assertThat(remainingCola).isEqualTo(600 - completedOrders * 3);
+        assertThat(inventory.getStock(waterId, StockType.GENERAL)).isEqualTo(1000 - completedOrders * 7);
+    }
+
+    @Test
+    void 상품_순서가_다른_주문이_동시에_들어와도_모두_처리되거나_모두_취소된다() throws Exception {
+        StoreManager storeManager = setUpStoreManager();
+        AtomicInteger laneIndex = new AtomicInteger();
+
+        int completedOrders = runCheckoutLanes(() -> {
+            if (laneIndex.getAndIncrement() % 2 == 0) {
+                storeManager.processOrder("[콜라-3],[물-7]", "N");
+                return;
+            }
+            storeManager.processOrder("[물-7],[콜라-3]", "N");
+        });
+
+        Inventory inventory = storeManager.getInventory();
+        int colaId = inventory.idOf("콜라");
+        int waterId = inventory.idOf("물");
+        int soldCola = 600 - inventory.getStock(colaId, StockType.EVENT) - inventory.getStock(colaId, StockType.GENERAL);
+        int soldWater = 1000 - inventory.getStock(waterId, StockType.GENERAL);
+        assertThat(soldCola).isEqualTo(completedOrders * 3);
+        assertThat(soldWater).isEqualTo(completedOrders * 7);
+    }
+
+    @Test
+    void 검증된_주문의_재고는_다른_계산대가_보류할_수_없다() {
+        StoreManager storeManager = setUpStoreManager();
+        StockHold firstLaneHold = storeManager.holdStock("[물-600]", Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> storeManager.holdStock("[물-500]", Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+        StockHold secondLaneHold = storeManager.holdStock("[물-400]", Duration.ofMinutes(5));
+        storeManager.processOrder("[물-600]", "N", firstLaneHold);
+
+        int waterId = storeManager.getInventory().idOf("물");
+        assertThat(storeManager.getInventory().getStock(waterId, StockType.GENERAL)).isEqualTo(400);
+        assertThat(storeManager.getInventory().getHeldStock(waterId)).isEqualTo(400);
+        secondLaneHold.release();
+        assertThat(storeManager.getInventory().getHeldStock(waterId)).isZero();
+    }
+
+    @Test
+    void 보류_없이_들어온_주문은_다른_계산대가_보류한_재고를_팔지_않는다() {
+        StoreManager storeManager = setUpStoreManager();
+        StockHold firstLaneHold = storeManager.holdStock("[물-600]", Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> storeManager.processOrder("[물-500]", "N"))
+                .isInstanceOf(IllegalArgumentException.class);
+        storeManager.processOrder("[물-400]", "N");
+        storeManager.processOrder("[물-600]", "N", firstLaneHold);
+
+        int waterId = storeManager.getInventory().idOf("물");
+        assertThat(storeManager.getInventory().getStock(waterId, StockType.GENERAL)).isZero();
+        assertThat(storeManager.getInventory().getHeldStock(waterId)).isZero();
+    }
+
+    @Test
+    void 만료된_보류는_다시_판매할_수_있다() throws Exception {
+        StoreManager storeManager = setUpStoreManager();
+        storeManager.holdStock("[물-1000]", Duration.ofMillis(1));
+
+        Thread.sleep(300);
+        StockHold stockHold = storeManager.holdStock("[물-1000]", Duration.ofMinutes(5));
+
+        assertThat(stockHold.isReleased()).isFalse();
+        assertThat(storeManager.getInventory().getHeldStock(storeManager.getInventory().idOf("물"))).isEqualTo(1000);
+    }
+
+    @Test
+    void 보류_없이_들어온_주문도_만료된_보류의_재고를_살_수_있다() throws Exception {
+        StoreManager storeManager = setUpStoreManager();
+        storeManager.holdStock("[물-1000]", Duration.ofMillis(10));
+
+        Thread.sleep(300);
+        storeManager.processOrder("[물-1]", "N");
+
+        int waterId = storeManager.getInventory().idOf("물");
+        assertThat(storeManager.getInventory().getHeldStock(waterId)).isZero();
+        assertThat(storeManager.getInventory().getStock(waterId, StockType.GENERAL)).isEqualTo(999);
+    }
+
+    @Test
+    void 행사_질문에_답을_기다리는_동안에도_같은_상품의_다른_주문이_끝난다() throws Exception {
+        StoreManager storeManager = setUpStoreManager(3);
+        ParkedDecisionPolicy parkedPolicy = new ParkedDecisionPolicy();
+        CompletableFuture<Receipt> parkedOrder = CompletableFuture.supplyAsync(() ->
+                storeManager.processOrder("[콜라-2]", "N", StockHold.none(storeManager.getInventory()), parkedPolicy));
+        assertThat(parkedPolicy.parked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Receipt completedReceipt = CompletableFuture.supplyAsync(() ->
+                storeManager.processOrder("[콜라-3]", "N", StockHold.none(storeManager.getInventory()), new UnexpectedDecisionPolicy())).get(5, TimeUnit.SECONDS);
+        parkedPolicy.answer.countDown();
+        Receipt parkedReceipt = parkedOrder.get(5, TimeUnit.SECONDS);
+
+        Inventory inventory = storeManager.getInventory();
+        int colaId = inventory.idOf("콜라");
+        assertThat(completedReceipt.getTotalQuantity()).isEqualTo(3);
+        assertThat(parkedReceipt.getTotalQuantity()).isEqualTo(2);
+        assertThat(inventory.getStock(colaId, StockType.EVENT)).isZero();
+        assertThat(inventory.getStock(colaId, StockType.GENERAL)).isEqualTo(8);
+    }
+
+    @Test
+    void 답을_기다리는_동안_재고가_바뀌면_새로_필요한_질문을_잠금_밖에서_다시_묻는다() throws Exception {
+        StoreManager storeManager = setUpStoreManager(6);
+        ParkedDecisionPolicy parkedPolicy = new ParkedDecisionPolicy();
+        CompletableFuture<Receipt> parkedOrder = CompletableFuture.supplyAsync(() ->
+                storeManager.processOrder("[콜라-5]", "N", StockHold.none(storeManager.getInventory()), parkedPolicy));
+        assertThat(parkedPolicy.parked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        storeManager.processOrder("[콜라-3]", "N", StockHold.none(storeManager.getInventory()), new UnexpectedDecisionPolicy());
+        parkedPolicy.answer.countDown();
+        Receipt parkedReceipt = parkedOrder.get(5, TimeUnit.SECONDS);
+
+        Inventory inventory = storeManager.getInventory();
+        int colaId = inventory.idOf("콜라");
+        assertThat(parkedPolicy.questions).isEqualTo(List.of("추가 증정 콜라 1", "정가 구매 콜라 2"));
+        assertThat(parkedReceipt.getTotalQuantity()).isEqualTo(5);
+        assertThat(inventory.getStock(colaId, StockType.EVENT)).isZero();
+        assertThat(inventory.getStock(colaId, StockType.GENERAL)).isEqualTo(8);
+    }
+
+    private StoreManager setUpStoreManager(int eventStock) {
+        return StoreFixtures.storeWith(
+                "콜라,1000," + eventStock + ",탄산2+1",
+                "콜라,1000,10,null");
+    }
+
+    private StoreManager setUpStoreManager() {
+        return StoreFixtures.storeWith(
+                "콜라,1000,300,탄산2+1",
+                "콜라,1000,300,null",
+                "물,500,1000,null");
+    }
+
+    private int runCheckoutLanes(Runnable order) throws Exception {
+        AtomicInteger completedOrders = new AtomicInteger();
+        ExecutorService checkoutLanes = Executors.newFixedThreadPool(CHECKOUT_LANES);
+        try {
+            List<Future<?>> lanes = new ArrayList<>();
+            for (int lane = 0; lane < CHECKOUT_LANES; lane++) {
+                lanes.add(checkoutLanes.submit(() -> orderUntilSoldOut(order, completedOrders)));
+            }
+            for (Future<?> lane : lanes) {
+                lane.get();
+            }
+        } finally {
+            checkoutLanes.shutdown();
+        }
+        return completedOrders.get();
+    }
+
+    private void orderUntilSoldOut(Runnable order, AtomicInteger completedOrders) {
+        while (true) {
+            try {
+                order.run();
+                completedOrders.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                return;
+            }
+        }
+    }
+
+    private static class ParkedDecisionPolicy implements PromotionDecisionPolicy {
+        private final CountDownLatch parked = new CountDownLatch(1);
+        private final CountDownLatch answer = new CountDownLatch(1);
+        private final List<String> questions = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public boolean acceptsAdditionalPromotion(String productName, int promotionalQuantity) {
+            questions.add("추가 증정 " + productName + " " + promotionalQuantity);
+            parked.countDown();
+            try {
+                return answer.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        @Override
+        public boolean buysWithoutPromotion(String productName, int nonPromotionalQuantity) {
+            questions.add("정가 구매 " + productName + " " + nonPromotionalQuantity);
+            return true;
+        }
+    }
+
+    private static class UnexpectedDecisionPolicy implements PromotionDecisionPolicy {
+        @Override
+        public boolean acceptsAdditionalPromotion(String productName, int promotionalQuantity) {
+            throw new AssertionError(productName);
+        }
+
+        @Override
+        public boolean buysWithoutPromotion(String productName, int nonPromotionalQuantity) {
+            throw new AssertionError(productName);
+        }
+    }
+}
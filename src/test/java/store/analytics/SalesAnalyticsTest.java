@@ -0,0 +1,117 @@
+package store.analytics;
+
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.archive.ReceiptArchive;
+import store.archive.ReceiptArchiveReader;
+import store.benchmark.StoreFixtures;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalesAnalyticsTest {
+    private static final long SMALL_SEGMENT = 512;
+    private static final long LARGE_SEGMENT = 1 << 20;
+    private static final long SMALL_RANGE = 512;
+    private static final long NO_FLUSH_INTERVAL = 0;
+
+    @Test
+    void 여러_세그먼트의_영수증을_병렬로_집계한다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager storeManager = setUpStoreManager();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, SMALL_SEGMENT, NO_FLUSH_INTERVAL)) {
+            storeManager.addReceiptListener(receiptArchive);
+            for (int order = 0; order < 6; order++) {
+                storeManager.processOrder("[콜라-3],[물-2]", "N");
+            }
+            storeManager.processOrder("[정식도시락-5]", "Y");
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SalesReport report = new SalesAnalytics(pool).analyze(directory);
+        pool.shutdown();
+
+        assertThat(report.getReceiptCount()).isEqualTo(7);
+        assertThat(report.getGrossSales()).isEqualTo(6 * 4000 + 32000);
+        assertThat(report.getPromotionalDiscount()).isEqualTo(6 * 1000);
+        assertThat(report.getMembershipDiscount()).isEqualTo(8000);
+        assertThat(report.getMembershipCapReceiptCount()).isEqualTo(1);
+        assertThat(report.getNetSales()).isEqualTo(6 * 3000 + 24000);
+        ProductSales cola = report.getProductSales().stream()
+                .filter(sales -> sales.getName().equals("콜라"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(cola.getUnitsSold()).isEqualTo(18);
+        assertThat(cola.getFreeQuantity()).isEqualTo(6);
+        assertThat(report.getPromotionDiscountsByPromotion()).isEqualTo(Map.of("탄산2+1", 6000L));
+    }
+
+    @Test
+    void 행사별_할인은_주문_당시의_행사로_묶는다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager carbonatedStore = setUpStoreManager();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, SMALL_SEGMENT, NO_FLUSH_INTERVAL)) {
+            carbonatedStore.addReceiptListener(receiptArchive);
+            carbonatedStore.processOrder("[콜라-3]", "N");
+        }
+        StoreManager recommendedStore = StoreFixtures.storeWith(
+                List.of("콜라,1000,100,MD추천상품"),
+                List.of("MD추천상품,1,1,2000-01-01,2099-12-31"));
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, SMALL_SEGMENT, NO_FLUSH_INTERVAL)) {
+            recommendedStore.addReceiptListener(receiptArchive);
+            recommendedStore.processOrder("[콜라-4]", "N");
+        }
+
+        SalesReport report = new SalesAnalytics(ForkJoinPool.commonPool()).analyze(directory);
+
+        assertThat(report.getPromotionDiscountsByPromotion()).isEqualTo(Map.of("탄산2+1", 1000L, "MD추천상품", 2000L));
+    }
+
+    @Test
+    void 보관된_영수증이_없으면_빈_보고서를_만든다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+
+        SalesReport report = new SalesAnalytics(ForkJoinPool.commonPool()).analyze(directory);
+
+        assertThat(report.getReceiptCount()).isZero();
+        assertThat(report.getProductSales().isEmpty()).isTrue();
+        assertThat(report.getMembershipCapShare()).isEqualTo(0.0);
+    }
+
+    @Test
+    void 한_세그먼트도_레코드_경계의_구간으로_나눠_집계한다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager storeManager = setUpStoreManager();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, LARGE_SEGMENT, NO_FLUSH_INTERVAL)) {
+            storeManager.addReceiptListener(receiptArchive);
+            for (int order = 0; order < 30; order++) {
+                storeManager.processOrder("[콜라-3],[물-2]", "N");
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SalesReport report = new SalesAnalytics(pool, SMALL_RANGE).analyze(directory);
+        pool.shutdown();
+
+        assertThat(ReceiptArchiveReader.segments(directory)).hasSize(1);
+        assertThat(ReceiptArchiveReader.recordBoundaries(ReceiptArchiveReader.segments(directory).get(0), SMALL_RANGE).size()).isGreaterThan(2);
+        assertThat(report.getReceiptCount()).isEqualTo(30);
+        assertThat(report.getGrossSales()).isEqualTo(30 * 4000);
+        assertThat(report.getPromotionalDiscount()).isEqualTo(30 * 1000);
+        assertThat(report.getNetSales()).isEqualTo(30 * 3000);
+    }
+
+    private StoreManager setUpStoreManager() {
+        return StoreFixtures.storeWith(
+                "콜라,1000,100,탄산2+1",
+                "콜라,1000,10,null",
+                "물,500,100,null",
+                "정식도시락,6400,10,null");
+    }
+}
@@ -0,0 +1,166 @@
+package store.archive;
+
+import org.junit.jupiter.api.Test;
+import store.PromotionDecisionPolicy;
+import store.StoreManager;
+import store.benchmark.StoreFixtures;
+import store.inventory.StockHold;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReceiptArchiveTest {
+    private static final long ISSUED_AT_MILLIS = 1_700_000_000_000L;
+    private static final long LARGE_SEGMENT = 1 << 20;
+    private static final long NO_FLUSH_INTERVAL = 0;
+    private static final long SHORT_FLUSH_INTERVAL = 10;
+
+    @Test
+    void 발행된_영수증을_그대로_다시_읽는다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager storeManager = setUpStoreManager();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, LARGE_SEGMENT, NO_FLUSH_INTERVAL, () -> ISSUED_AT_MILLIS)) {
+            storeManager.addReceiptListener(receiptArchive);
+            storeManager.processOrder("[콜라-3],[물-2]", "Y", StockHold.none(storeManager.getInventory()), PromotionDecisionPolicy.of(true, true));
+        }
+
+        List<String> archived = new ArrayList<>();
+        long scannedReceipts = ReceiptArchiveReader.scan(directory, receipt -> {
+            archived.add(receipt.getIssuedAtMillis() + "|" + receipt.getTotalPrice() + "|" + receipt.getPromotionalDiscountPrice()
+                    + "|" + receipt.getMemberShipDiscountPrice() + "|" + receipt.getFinalPrice() + "|" + receipt.isMembershipActive());
+            archived.add(receipt.getOrderedItemName(0) + "|" + receipt.getOrderedItemQuantity(0) + "|" + receipt.getOrderedItemTotalPrice(0));
+            archived.add(receipt.getOrderedItemName(1) + "|" + receipt.getOrderedItemQuantity(1) + "|" + receipt.getOrderedItemTotalPrice(1));
+            archived.add(receipt.getPromotionItemName(0) + "|" + receipt.getPromotionItemPromotionName(0) + "|" + receipt.getPromotionItemQuantity(0)
+                    + "|" + receipt.isPromotionItemGift(0));
+        });
+
+        assertThat(scannedReceipts).isEqualTo(1);
+        assertThat(archived).isEqualTo(List.of(ISSUED_AT_MILLIS + "|4000|1000|300|2700|true", "콜라|3|3000", "물|2|1000", "콜라|탄산2+1|1|true"));
+    }
+
+    @Test
+    void 세그먼트_크기를_넘으면_새_세그먼트에_이어서_기록한다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager storeManager = setUpStoreManager();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, 256, NO_FLUSH_INTERVAL)) {
+            storeManager.addReceiptListener(receiptArchive);
+            for (int order = 0; order < 10; order++) {
+                storeManager.processOrder("[물-1]", "N");
+            }
+        }
+
+        assertThat(ReceiptArchiveReader.segments(directory).size()).isGreaterThan(1);
+        assertThat(ReceiptArchiveReader.scan(directory, receipt -> {
+        })).isEqualTo(10);
+    }
+
+    @Test
+    void 중간에_끊긴_마지막_기록은_읽지_않는다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager storeManager = setUpStoreManager();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, LARGE_SEGMENT, NO_FLUSH_INTERVAL)) {
+            storeManager.addReceiptListener(receiptArchive);
+            storeManager.processOrder("[물-1]", "N");
+            storeManager.processOrder("[물-1]", "N");
+        }
+        Path segment = ReceiptArchiveReader.segments(directory).get(0);
+        Files.write(segment, new byte[]{0, 0, 0, 90, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        assertThat(ReceiptArchiveReader.scan(directory, receipt -> {
+        })).isEqualTo(2);
+    }
+
+    @Test
+    void 세그먼트를_레코드_경계에서_나눈_구간을_모두_읽으면_끊긴_꼬리만_빠진다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager storeManager = setUpStoreManager();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, LARGE_SEGMENT, NO_FLUSH_INTERVAL)) {
+            storeManager.addReceiptListener(receiptArchive);
+            for (int order = 0; order < 10; order++) {
+                storeManager.processOrder("[물-2]", "N");
+            }
+        }
+        Path segment = ReceiptArchiveReader.segments(directory).get(0);
+        long completeSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 90, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        List<Long> boundaries = ReceiptArchiveReader.recordBoundaries(segment, 1);
+        long scannedReceipts = 0;
+        for (int range = 0; range < boundaries.size() - 1; range++) {
+            scannedReceipts += ReceiptArchiveReader.scanRange(segment, boundaries.get(range), boundaries.get(range + 1), receipt -> {
+            });
+        }
+
+        assertThat(boundaries).hasSize(11);
+        assertThat(boundaries.get(boundaries.size() - 1)).isEqualTo(completeSize);
+        assertThat(scannedReceipts).isEqualTo(10);
+    }
+
+    @Test
+    void 기록에_실패한_영수증은_버리지_않고_다음_기록에서_다시_쓴다() throws IOException {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager storeManager = setUpStoreManager();
+        Path blockedSegment = directory.resolve(ReceiptArchive.segmentFileName(1));
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, LARGE_SEGMENT, NO_FLUSH_INTERVAL)) {
+            storeManager.addReceiptListener(receiptArchive);
+            storeManager.processOrder("[물-1]", "N");
+            storeManager.processOrder("[물-1]", "N");
+            Files.createDirectory(blockedSegment);
+
+            assertThatThrownBy(receiptArchive::flush).isInstanceOf(UncheckedIOException.class);
+            assertThat(receiptArchive.isFailed()).isTrue();
+
+            storeManager.processOrder("[물-1]", "N");
+            receiptArchive.flush();
+            assertThat(receiptArchive.isFailed()).isFalse();
+        }
+        Files.delete(blockedSegment);
+
+        assertThat(ReceiptArchiveReader.scan(directory, receipt -> {
+        })).isEqualTo(3);
+    }
+
+    @Test
+    void 주기적_기록이_실패해도_멈추지_않고_다시_시도한다() throws Exception {
+        Path directory = Files.createTempDirectory("receipts-");
+        StoreManager storeManager = setUpStoreManager();
+        try (ReceiptArchive receiptArchive = ReceiptArchive.open(directory, LARGE_SEGMENT, SHORT_FLUSH_INTERVAL)) {
+            storeManager.addReceiptListener(receiptArchive);
+            Files.delete(directory);
+            Files.createFile(directory);
+            storeManager.processOrder("[물-1]", "N");
+            awaitFailed(receiptArchive, true);
+
+            Files.delete(directory);
+            Files.createDirectory(directory);
+            awaitFailed(receiptArchive, false);
+        }
+
+        assertThat(ReceiptArchiveReader.scan(directory, receipt -> {
+        })).isEqualTo(1);
+    }
+
+    private void awaitFailed(ReceiptArchive receiptArchive, boolean failed) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (receiptArchive.isFailed() != failed && System.nanoTime() < deadline) {
+            Thread.sleep(SHORT_FLUSH_INTERVAL);
+        }
+        assertThat(receiptArchive.isFailed()).isEqualTo(failed);
+    }
+
+    private StoreManager setUpStoreManager() {
+        return StoreFixtures.storeWith(
+                "콜라,1000,10,탄산2+1",
+                "콜라,1000,10,null",
+                "물,500,100,null");
+    }
+}
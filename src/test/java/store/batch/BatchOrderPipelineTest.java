@@ -0,0 +1,75 @@
+package store.batch;
+
+import org.junit.jupiter.api.Test;
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+import store.benchmark.StoreFixtures;
+import store.constant.StockType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static store.constant.ErrorMessage.EXCEEDS_AVAILABLE_STOCK;
+import static store.constant.ErrorMessage.PRODUCT_NOT_FOUND;
+
+class BatchOrderPipelineTest {
+    @Test
+    void 무료_증정_추가_정책을_적용해_영수증을_발행한다() {
+        BatchOrderPipeline pipeline = new BatchOrderPipeline(setUpStoreManager());
+
+        BatchOrderResult result = pipeline.process(new BatchOrder("[콜라-2]", false, PromotionDecisionPolicy.of(true, true)));
+
+        Receipt receipt = result.getReceipt().orElseThrow();
+        assertThat(receipt.getTotalQuantity()).isEqualTo(3);
+        assertThat(receipt.getPromotionalDiscountPrice()).isEqualTo(1000);
+        assertThat(receipt.getFinalPrice()).isEqualTo(2000);
+    }
+
+    @Test
+    void 정가_구매_거절_정책이면_프로모션_수량만_구매한다() {
+        BatchOrderPipeline pipeline = new BatchOrderPipeline(setUpStoreManager());
+
+        BatchOrderResult result = pipeline.process(new BatchOrder("[콜라-12]", true, PromotionDecisionPolicy.of(false, false)));
+
+        Receipt receipt = result.getReceipt().orElseThrow();
+        assertThat(receipt.getTotalQuantity()).isEqualTo(9);
+        assertThat(receipt.getFinalPrice()).isEqualTo(6000);
+    }
+
+    @Test
+    void 잘못된_주문은_거절하고_나머지_주문을_계속_처리한다() {
+        BatchOrderPipeline pipeline = new BatchOrderPipeline(setUpStoreManager());
+
+        List<BatchOrderResult> results = pipeline.process(List.of(
+                new BatchOrder("[없는상품-1]", false, PromotionDecisionPolicy.of(true, true)),
+                new BatchOrder("[물-3]", true, PromotionDecisionPolicy.of(true, true))));
+
+        assertThat(results.get(0).isCompleted()).isFalse();
+        assertThat(results.get(0).getErrorMessage().orElseThrow()).isEqualTo(PRODUCT_NOT_FOUND.getValue());
+        assertThat(results.get(1).getReceipt().orElseThrow().getFinalPrice()).isEqualTo(1050);
+    }
+
+    @Test
+    void 다른_계산대가_보류한_재고는_일괄_주문에서_팔지_않는다() {
+        StoreManager storeManager = setUpStoreManager();
+        storeManager.holdStock("[물-8]", Duration.ofMinutes(5));
+        BatchOrderPipeline pipeline = new BatchOrderPipeline(storeManager);
+
+        List<BatchOrderResult> results = pipeline.process(List.of(
+                new BatchOrder("[물-3]", false, PromotionDecisionPolicy.of(true, true)),
+                new BatchOrder("[물-2]", false, PromotionDecisionPolicy.of(true, true))));
+
+        assertThat(results.get(0).getErrorMessage().orElseThrow()).isEqualTo(EXCEEDS_AVAILABLE_STOCK.getValue());
+        assertThat(results.get(1).isCompleted()).isTrue();
+        assertThat(storeManager.getInventory().getStock(storeManager.getInventory().idOf("물"), StockType.GENERAL)).isEqualTo(8);
+    }
+
+    private StoreManager setUpStoreManager() {
+        return StoreFixtures.storeWith(
+                "콜라,1000,10,탄산2+1",
+                "콜라,1000,10,null",
+                "물,500,10,null");
+    }
+}
@@ -0,0 +1,76 @@
+package store.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class CatalogFixtures {
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+    private static final String PROMOTIONS_HEADER = "name,buy,get,start_date,end_date";
+    private static final String[] PROMOTION_NAMES = {"탄산2+1", "MD추천상품", "반짝할인"};
+    private static final String EMPTY_COLUMN = "null";
+    private static final int EVENT_PRODUCT_INTERVAL = 3;
+
+    public static Path writeProducts(int productCount) {
+        try {
+            Path path = Files.createTempFile("products-", ".md");
+            path.toFile().deleteOnExit();
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                writer.write(PRODUCTS_HEADER);
+                writer.newLine();
+                for (int index = 0; index < productCount; index++) {
+                    writeProduct(writer, index);
+                }
+            }
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Path writePromotions() {
+        try {
+            Path path = Files.createTempFile("promotions-", ".md");
+            path.toFile().deleteOnExit();
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                writer.write(PROMOTIONS_HEADER);
+                writer.newLine();
+                writer.write("탄산2+1,2,1,2024-01-01,2024-12-31");
+                writer.newLine();
+                writer.write("MD추천상품,1,1,2024-01-01,2024-12-31");
+                writer.newLine();
+                writer.write("반짝할인,1,1,2024-11-01,2024-11-30");
+                writer.newLine();
+            }
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String productName(int index) {
+        return "상품" + index;
+    }
+
+    public static String orderableProductName(int index) {
+        StringBuilder name = new StringBuilder("상품");
+        for (char digit : Integer.toString(index).toCharArray()) {
+            name.append((char) ('가' + digit - '0'));
+        }
+        return name.toString();
+    }
+
+    private static void writeProduct(BufferedWriter writer, int index) throws IOException {
+        String name = productName(index);
+        int price = 100 * (1 + index % 50);
+        if (index % EVENT_PRODUCT_INTERVAL == 0) {
+            writer.write(name + "," + price + "," + (index % 20) + "," + PROMOTION_NAMES[index % PROMOTION_NAMES.length]);
+            writer.newLine();
+        }
+        writer.write(name + "," + price + "," + (index % 30) + "," + EMPTY_COLUMN);
+        writer.newLine();
+    }
+}
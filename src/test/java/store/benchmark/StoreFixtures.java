@@ -0,0 +1,30 @@
+package store.benchmark;
+
+import store.StoreManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StoreFixtures {
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+    private static final String PROMOTIONS_HEADER = "name,buy,get,start_date,end_date";
+    private static final String TWO_PLUS_ONE_PROMOTION = "탄산2+1,2,1,2000-01-01,2099-12-31";
+
+    public static StoreManager storeWith(String... productRows) {
+        return storeWith(List.of(productRows), List.of(TWO_PLUS_ONE_PROMOTION));
+    }
+
+    public static StoreManager storeWith(List<String> productRows, List<String> promotionRows) {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(withHeader(PRODUCTS_HEADER, productRows));
+        storeManager.setUpPromotions(withHeader(PROMOTIONS_HEADER, promotionRows));
+        return storeManager;
+    }
+
+    private static List<String> withHeader(String header, List<String> rows) {
+        List<String> lines = new ArrayList<>(rows.size() + 1);
+        lines.add(header);
+        lines.addAll(rows);
+        return lines;
+    }
+}
@@ -0,0 +1,109 @@
+package store.inventory;
+
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.constant.StockType;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventoryTest {
+    private static final int PRODUCT_COUNT = 5_000;
+    private static final int CHECKOUT_THREADS = 4;
+    private static final int DECREMENTS_PER_THREAD = 20_000;
+    private static final int INITIAL_STOCK = CHECKOUT_THREADS * DECREMENTS_PER_THREAD;
+
+    @Test
+    void 여러_구역에_걸쳐_등록해도_이름과_가격과_재고가_유지된다() {
+        Inventory inventory = new Inventory();
+        for (int index = 0; index < PRODUCT_COUNT; index++) {
+            inventory.putProduct("상품" + index, 1000 + index, index, "null", StockType.GENERAL);
+        }
+        inventory.putProduct("상품7", 900, 3, "탄산2+1", StockType.EVENT);
+
+        assertThat(inventory.size()).isEqualTo(PRODUCT_COUNT);
+        for (int index = 0; index < PRODUCT_COUNT; index++) {
+            int id = inventory.idOf("상품" + index);
+            assertThat(inventory.getName(id)).isEqualTo("상품" + index);
+            assertThat(inventory.getPrice(id, StockType.GENERAL)).isEqualTo(1000 + index);
+            assertThat(inventory.getStock(id, StockType.GENERAL)).isEqualTo(index);
+        }
+        int eventId = inventory.idOf("상품7");
+        assertThat(inventory.getPromotion(eventId)).isEqualTo("탄산2+1");
+        assertThat(inventory.getStock(eventId, StockType.EVENT)).isEqualTo(3);
+        assertThat(inventory.hasProduct(eventId, StockType.EVENT)).isTrue();
+    }
+
+    @Test
+    void 상품을_넣으면_변경_기록에_한_번만_남는다() {
+        Inventory inventory = new Inventory();
+
+        inventory.putProduct("콜라", 1000, 10, "null", StockType.GENERAL);
+
+        assertThat(inventory.getChangeLog().currentSequence()).isEqualTo(1L);
+    }
+
+    @Test
+    void 주문을_처리하면_주문한_상품마다_한_번씩_변경_기록에_남는다() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(Paths.get("src/main/resources/products.md"));
+        storeManager.setUpPromotions(Paths.get("src/main/resources/promotions.md"));
+        Inventory inventory = storeManager.getInventory();
+        InventoryChangeLog changeLog = inventory.getChangeLog();
+        long cursor = changeLog.currentSequence();
+        List<Integer> changedProducts = new ArrayList<>();
+
+        storeManager.processOrder("[콜라-3],[물-1]", "N");
+
+        assertThat(changeLog.readSince(cursor, changedProducts::add)).isEqualTo(cursor + 2);
+        assertThat(changedProducts).isEqualTo(List.of(inventory.idOf("콜라"), inventory.idOf("물")));
+    }
+
+    @Test
+    void 등록으로_구역이_늘어나는_동안에도_재고_차감이_사라지지_않는다() throws Exception {
+        Inventory inventory = new Inventory();
+        int colaId = inventory.putProduct("콜라", 1000, INITIAL_STOCK, "null", StockType.GENERAL);
+        ExecutorService checkoutLanes = Executors.newFixedThreadPool(CHECKOUT_THREADS);
+        List<Future<?>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < CHECKOUT_THREADS; lane++) {
+            lanes.add(checkoutLanes.submit(() -> {
+                for (int order = 0; order < DECREMENTS_PER_THREAD; order++) {
+                    StockClaim stockClaim = inventory.claim(colaId);
+                    stockClaim.take(StockType.GENERAL, 1);
+                    while (!stockClaim.commit()) {
+                        stockClaim = inventory.claim(colaId);
+                        stockClaim.take(StockType.GENERAL, 1);
+                    }
+                }
+            }));
+        }
+
+        for (int index = 0; index < PRODUCT_COUNT * 4; index++) {
+            inventory.register("상품" + index);
+        }
+        for (Future<?> lane : lanes) {
+            lane.get();
+        }
+        checkoutLanes.shutdown();
+
+        assertThat(inventory.getStock(colaId, StockType.GENERAL)).isZero();
+    }
+
+    @Test
+    void 보류한_재고는_다른_보류에서_빠진다() {
+        Inventory inventory = new Inventory();
+        int colaId = inventory.putProduct("콜라", 1000, 5, "null", StockType.GENERAL);
+
+        assertThat(inventory.tryHoldStock(colaId, 4)).isTrue();
+        assertThat(inventory.tryHoldStock(colaId, 2)).isFalse();
+        inventory.releaseHeldStock(colaId, 4);
+        assertThat(inventory.tryHoldStock(colaId, 5)).isTrue();
+        assertThat(inventory.getHeldStock(colaId)).isEqualTo(5);
+    }
+}
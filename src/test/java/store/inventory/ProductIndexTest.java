@@ -0,0 +1,71 @@
+package store.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductIndexTest {
+    private static final int PRODUCT_COUNT = 50_000;
+
+    @Test
+    void 등록한_이름은_전체_문자열과_부분_문자열로_같은_번호를_찾는다() {
+        ProductIndex productIndex = new ProductIndex();
+        for (int id = 0; id < PRODUCT_COUNT; id++) {
+            productIndex.put("상품" + id, id);
+        }
+
+        assertThat(productIndex.size()).isEqualTo(PRODUCT_COUNT);
+        for (int id = 0; id < PRODUCT_COUNT; id++) {
+            String order = "[상품" + id + "-1]";
+            assertThat(productIndex.get("상품" + id)).isEqualTo(id);
+            assertThat(productIndex.get(order, 1, order.indexOf('-'))).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void 없는_이름은_찾지_못한다() {
+        ProductIndex productIndex = new ProductIndex();
+        productIndex.put("콜라", 0);
+
+        assertThat(productIndex.get("사이다")).isEqualTo(ProductIndex.NOT_FOUND);
+        assertThat(productIndex.get("[콜라라-1]", 1, 4)).isEqualTo(ProductIndex.NOT_FOUND);
+    }
+
+    @Test
+    void 같은_이름을_다시_넣으면_번호만_바뀐다() {
+        ProductIndex productIndex = new ProductIndex();
+        productIndex.put("콜라", 0);
+        productIndex.put("콜라", 7);
+
+        assertThat(productIndex.size()).isEqualTo(1);
+        assertThat(productIndex.get("콜라")).isEqualTo(7);
+    }
+
+    @Test
+    void 표를_늘리는_동안에도_이미_등록된_이름을_찾는다() throws Exception {
+        ProductIndex productIndex = new ProductIndex();
+        productIndex.put("콜라", 0);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger misses = new AtomicInteger();
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            while (writing.get()) {
+                if (productIndex.get("콜라") != 0) {
+                    misses.incrementAndGet();
+                }
+            }
+        });
+
+        for (int id = 1; id < PRODUCT_COUNT; id++) {
+            productIndex.put("상품" + id, id);
+        }
+        writing.set(false);
+        reader.get(10, TimeUnit.SECONDS);
+
+        assertThat(misses.get()).isZero();
+    }
+}
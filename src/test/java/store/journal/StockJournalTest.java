@@ -0,0 +1,160 @@
+package store.journal;
+
+import org.junit.jupiter.api.Test;
+import store.StockDelta;
+import store.StoreManager;
+import store.StoreOptions;
+import store.constant.StockType;
+import store.controller.StoreController;
+import store.inventory.Inventory;
+import store.snapshot.CatalogFingerprint;
+import store.snapshot.InventorySnapshot;
+import store.view.InputView;
+import store.view.OutputView;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockJournalTest {
+    private static final int GROUP_COMMIT_SIZE = 4;
+    private static final long FLUSH_INTERVAL_MILLIS = 5;
+    private static final long NEVER_FLUSH_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long NO_SEQUENCE = 0;
+    private static final long SNAPSHOT_SEQUENCE = 10;
+    private static final List<StockDelta> COLA_ORDER = List.of(new StockDelta("콜라", StockType.EVENT, -3), new StockDelta("콜라", StockType.GENERAL, -2));
+    private static final List<StockDelta> WATER_ORDER = List.of(new StockDelta("물", StockType.GENERAL, -1));
+
+    @Test
+    void 기록한_주문을_다시_읽으면_같은_재고_변화가_순서대로_나온다() throws IOException {
+        Path journalPath = createJournalPath();
+        try (StockJournal stockJournal = StockJournal.open(journalPath, NO_SEQUENCE, GROUP_COMMIT_SIZE, FLUSH_INTERVAL_MILLIS)) {
+            stockJournal.onOrderProcessed(COLA_ORDER);
+            stockJournal.onOrderProcessed(WATER_ORDER);
+        }
+        List<String> replayed = new ArrayList<>();
+
+        long lastSequence = StockJournal.replay(journalPath, NO_SEQUENCE, stockDelta -> replayed.add(describe(stockDelta)));
+
+        assertThat(lastSequence).isEqualTo(2L);
+        assertThat(replayed).isEqualTo(List.of("콜라 EVENT -3", "콜라 GENERAL -2", "물 GENERAL -1"));
+    }
+
+    @Test
+    void 끝이_잘린_기록은_버리고_이어서_기록한다() throws IOException {
+        Path journalPath = createJournalPath();
+        try (StockJournal stockJournal = StockJournal.open(journalPath, NO_SEQUENCE, GROUP_COMMIT_SIZE, FLUSH_INTERVAL_MILLIS)) {
+            stockJournal.onOrderProcessed(COLA_ORDER);
+        }
+        long intactSize = Files.size(journalPath);
+        try (StockJournal stockJournal = StockJournal.open(journalPath, 1, GROUP_COMMIT_SIZE, FLUSH_INTERVAL_MILLIS)) {
+            stockJournal.onOrderProcessed(WATER_ORDER);
+        }
+        truncate(journalPath, Files.size(journalPath) - 3);
+        List<String> replayed = new ArrayList<>();
+
+        long lastSequence = StockJournal.replay(journalPath, NO_SEQUENCE, stockDelta -> replayed.add(describe(stockDelta)));
+        try (StockJournal stockJournal = StockJournal.open(journalPath, lastSequence, GROUP_COMMIT_SIZE, FLUSH_INTERVAL_MILLIS)) {
+            stockJournal.onOrderProcessed(WATER_ORDER);
+        }
+
+        assertThat(lastSequence).isEqualTo(1L);
+        assertThat(replayed).isEqualTo(List.of("콜라 EVENT -3", "콜라 GENERAL -2"));
+        assertThat(Files.size(journalPath)).isGreaterThan(intactSize);
+        assertThat(StockJournal.replay(journalPath, 1, stockDelta -> replayed.add(describe(stockDelta)))).isEqualTo(2L);
+        assertThat(replayed).hasSize(3);
+    }
+
+    @Test
+    void 스냅숏_순번_뒤의_기록만_다시_읽고_순번이_이어진다() throws IOException {
+        Path journalPath = createJournalPath();
+        try (StockJournal stockJournal = StockJournal.open(journalPath, SNAPSHOT_SEQUENCE, GROUP_COMMIT_SIZE, FLUSH_INTERVAL_MILLIS)) {
+            stockJournal.onOrderProcessed(COLA_ORDER);
+            stockJournal.onOrderProcessed(WATER_ORDER);
+            assertThat(stockJournal.getLastSequence()).isEqualTo(SNAPSHOT_SEQUENCE + 2);
+        }
+        List<String> replayed = new ArrayList<>();
+
+        long lastSequence = StockJournal.replay(journalPath, SNAPSHOT_SEQUENCE + 1, stockDelta -> replayed.add(describe(stockDelta)));
+
+        assertThat(lastSequence).isEqualTo(SNAPSHOT_SEQUENCE + 2);
+        assertThat(replayed).isEqualTo(List.of("물 GENERAL -1"));
+    }
+
+    @Test
+    void 주문_기록은_디스크에_반영된_뒤에야_끝난다() throws Exception {
+        Path journalPath = createJournalPath();
+        try (StockJournal stockJournal = StockJournal.open(journalPath, NO_SEQUENCE, GROUP_COMMIT_SIZE, NEVER_FLUSH_MILLIS)) {
+            CompletableFuture<Void> committed = CompletableFuture.runAsync(() -> stockJournal.onOrderProcessed(COLA_ORDER));
+            Thread.sleep(100);
+
+            assertThat(committed.isDone()).isFalse();
+            assertThat(Files.size(journalPath)).isZero();
+
+            stockJournal.sync();
+            committed.get(5, TimeUnit.SECONDS);
+            assertThat(Files.size(journalPath)).isGreaterThan(0L);
+        }
+    }
+
+    @Test
+    void 스냅숏이_낡으면_상품_파일에_저널을_다시_적용한다() throws IOException {
+        Path journalPath = createJournalPath();
+        Path snapshotPath = Files.createTempFile("inventory-", ".snapshot");
+        snapshotPath.toFile().deleteOnExit();
+        Files.delete(snapshotPath);
+        String[] arguments = {"--journal=" + journalPath, "--snapshot=" + snapshotPath};
+        StoreManager before = new StoreManager();
+        StoreController firstRun = createController(arguments, before);
+        firstRun.open();
+        int colaId = before.getInventory().idOf("콜라");
+        int colaBeforeOrder = totalStock(before.getInventory(), colaId);
+        before.processOrder("[콜라-3]", "N");
+        firstRun.close();
+        CatalogFingerprint fingerprint = CatalogFingerprint.of(Paths.get("src/main/resources/products.md"), Paths.get("src/main/resources/promotions.md"));
+        CatalogFingerprint touchedFingerprint = new CatalogFingerprint(fingerprint.getProductsSize(), fingerprint.getProductsModifiedTime() - 1,
+                fingerprint.getPromotionsSize(), fingerprint.getPromotionsModifiedTime());
+        InventorySnapshot.write(snapshotPath, before, touchedFingerprint, 1);
+        StoreManager after = new StoreManager();
+
+        createController(arguments, after).open();
+
+        assertThat(totalStock(after.getInventory(), after.getInventory().idOf("콜라"))).isEqualTo(colaBeforeOrder - 3);
+    }
+
+    private StoreController createController(String[] arguments, StoreManager storeManager) {
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+        return new StoreController(StoreOptions.fromArguments(arguments), storeManager, new InputView(() -> "N", silent), new OutputView(silent));
+    }
+
+    private int totalStock(Inventory inventory, int productId) {
+        return inventory.getStock(productId, StockType.EVENT) + inventory.getStock(productId, StockType.GENERAL);
+    }
+
+    private String describe(StockDelta stockDelta) {
+        return stockDelta.getProductName() + " " + stockDelta.getStockType() + " " + stockDelta.getQuantityDelta();
+    }
+
+    private void truncate(Path journalPath, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private Path createJournalPath() throws IOException {
+        Path journalPath = Files.createTempFile("stock-", ".journal");
+        journalPath.toFile().deleteOnExit();
+        return journalPath;
+    }
+}
@@ -0,0 +1,134 @@
+package store.loader;
+
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.constant.StockType;
+import store.inventory.Inventory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogScannerTest {
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    @Test
+    void CRLF로_끝나는_행도_LF와_같이_읽는다() throws IOException {
+        Path path = writeCatalog(PRODUCTS_HEADER + "\r\n콜라,1000,10,탄산2+1\r\n물,500,7,null\r\n");
+
+        List<String> rows = scanRows(path);
+
+        assertThat(rows).isEqualTo(List.of("콜라|1000|10|탄산2+1", "물|500|7|null"));
+    }
+
+    @Test
+    void 읽기_버퍼_경계에_걸친_행도_온전히_읽는다() throws IOException {
+        StringBuilder catalog = new StringBuilder(PRODUCTS_HEADER).append('\n');
+        int productCount = 0;
+        while (catalog.length() < READ_BUFFER_SIZE * 3) {
+            catalog.append("상품").append(productCount).append(',').append(1000 + productCount).append(',').append(productCount).append(",null\n");
+            productCount++;
+        }
+        Path path = writeCatalog(catalog.toString());
+
+        List<String> rows = scanRows(path);
+
+        assertThat(rows.size()).isEqualTo(productCount);
+        for (int index = 0; index < productCount; index++) {
+            assertThat(rows.get(index)).isEqualTo("상품" + index + "|" + (1000 + index) + "|" + index + "|null");
+        }
+    }
+
+    @Test
+    void 읽기_버퍼보다_긴_행도_읽는다() throws IOException {
+        String longName = "가".repeat(READ_BUFFER_SIZE);
+        Path path = writeCatalog(PRODUCTS_HEADER + "\n" + longName + ",1000,3,null\n물,500,7,null");
+
+        List<String> rows = scanRows(path);
+
+        assertThat(rows).isEqualTo(List.of(longName + "|1000|3|null", "물|500|7|null"));
+    }
+
+    @Test
+    void int_범위를_넘는_수량은_NumberFormatException을_던진다() throws IOException {
+        Path path = writeCatalog(PRODUCTS_HEADER + "\n콜라,1000,99999999999,null\n");
+
+        assertThatThrownBy(() -> new StoreManager().setUpStore(path))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void int_경계값은_그대로_읽는다() throws IOException {
+        Path path = writeCatalog(PRODUCTS_HEADER + "\n콜라,-2147483648,2147483647,null\n");
+        List<Integer> numbers = new ArrayList<>();
+
+        CatalogScanner.scan(path, row -> {
+            numbers.add(row.number(1));
+            numbers.add(row.number(2));
+        });
+
+        assertThat(numbers).isEqualTo(List.of(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void 열이_남거나_모자란_상품_행은_거부한다() throws IOException {
+        Path extraColumns = writeCatalog(PRODUCTS_HEADER + "\n콜라,1000,10,null,덤\n");
+        Path missingColumns = writeCatalog(PRODUCTS_HEADER + "\n콜라,1000,10\n");
+
+        assertThatThrownBy(() -> new StoreManager().setUpStore(extraColumns))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+        assertThatThrownBy(() -> new StoreManager().setUpStore(missingColumns))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    @Test
+    void 스캐너로_읽은_재고는_문자열_목록으로_읽은_재고와_같다() throws IOException {
+        List<String> catalog = List.of(PRODUCTS_HEADER, "콜라,1000,10,탄산2+1", "콜라,1000,10,null", "사이다,1000,8,탄산2+1", "물,500,10,null");
+        StoreManager fromLines = new StoreManager();
+        fromLines.setUpStore(catalog);
+        StoreManager fromFile = new StoreManager();
+        fromFile.setUpStore(writeCatalog(String.join("\r\n", catalog)));
+
+        Inventory expected = fromLines.getInventory();
+        Inventory actual = fromFile.getInventory();
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int productId = 0; productId < expected.size(); productId++) {
+            int actualId = actual.idOf(expected.getName(productId));
+            for (StockType stockType : StockType.values()) {
+                assertThat(actual.hasProduct(actualId, stockType)).isEqualTo(expected.hasProduct(productId, stockType));
+                if (expected.hasProduct(productId, stockType)) {
+                    assertThat(actual.getStock(actualId, stockType)).isEqualTo(expected.getStock(productId, stockType));
+                    assertThat(actual.getPrice(actualId, stockType)).isEqualTo(expected.getPrice(productId, stockType));
+                }
+            }
+        }
+    }
+
+    private List<String> scanRows(Path path) {
+        List<String> rows = new ArrayList<>();
+        CatalogScanner.scan(path, row -> {
+            List<String> fields = new ArrayList<>();
+            for (int index = 0; index < row.getFieldCount(); index++) {
+                fields.add(row.text(index));
+            }
+            rows.add(String.join("|", fields));
+        });
+        return rows;
+    }
+
+    private Path writeCatalog(String catalog) throws IOException {
+        Path path = Files.createTempFile("catalog-", ".md");
+        path.toFile().deleteOnExit();
+        Files.writeString(path, catalog, StandardCharsets.UTF_8);
+        return path;
+    }
+}
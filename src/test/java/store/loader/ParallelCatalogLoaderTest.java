@@ -0,0 +1,99 @@
+package store.loader;
+
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.StoreOptions;
+import store.constant.StockType;
+import store.controller.StoreController;
+import store.inventory.Inventory;
+import store.view.InputView;
+import store.view.OutputView;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelCatalogLoaderTest {
+    private static final long SMALL_CHUNK_SIZE = 512;
+    private static final int PRODUCT_COUNT = 2_000;
+
+    @Test
+    void 여러_청크로_나눠_읽어도_순차_적재와_같은_재고가_된다() throws IOException {
+        Path path = writeCatalog(catalogWithDuplicatesAcrossChunks());
+        StoreManager sequential = new StoreManager();
+        sequential.setUpStore(path);
+        StoreManager parallel = new StoreManager();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        long loadedRows = parallel.setUpStoreInParallel(path, new ParallelCatalogLoader(pool, SMALL_CHUNK_SIZE));
+        pool.shutdown();
+
+        assertThat(loadedRows).isEqualTo(Files.readAllLines(path).size() - 1);
+        assertSameInventory(parallel.getInventory(), sequential.getInventory());
+    }
+
+    @Test
+    void 병렬_적재_기준을_넘는_상품_파일은_병렬로_읽어도_같은_재고가_된다() {
+        StoreManager sequential = new StoreManager();
+        sequential.setUpStore(Paths.get("src/main/resources/products.md"));
+        StoreManager parallel = new StoreManager();
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+        StoreController storeController = new StoreController(StoreOptions.fromArguments(new String[]{"--parallel-load-threshold-bytes=0"}),
+                parallel, new InputView(() -> "N", silent), new OutputView(silent));
+
+        storeController.open();
+
+        assertSameInventory(parallel.getInventory(), sequential.getInventory());
+    }
+
+    private List<String> catalogWithDuplicatesAcrossChunks() {
+        List<String> rows = new ArrayList<>();
+        rows.add("name,price,quantity,promotion");
+        for (int index = 0; index < PRODUCT_COUNT; index++) {
+            if (index % 3 == 0) {
+                rows.add("상품" + index + "," + (1000 + index) + "," + index + ",탄산2+1");
+            }
+            if (index % 5 != 0) {
+                rows.add("상품" + index + "," + (1000 + index) + "," + (index + 1) + ",null");
+            }
+        }
+        for (int index = 0; index < PRODUCT_COUNT; index += 7) {
+            rows.add("상품" + index + "," + (2000 + index) + "," + (index + 2) + ",null");
+        }
+        for (int index = 0; index < PRODUCT_COUNT; index += 11) {
+            rows.add("상품" + index + "," + (3000 + index) + "," + (index + 3) + ",MD추천상품");
+        }
+        return rows;
+    }
+
+    private void assertSameInventory(Inventory actual, Inventory expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int productId = 0; productId < expected.size(); productId++) {
+            assertThat(actual.getName(productId)).isEqualTo(expected.getName(productId));
+            assertThat(actual.getPromotion(productId)).isEqualTo(expected.getPromotion(productId));
+            for (StockType stockType : StockType.values()) {
+                assertThat(actual.hasProduct(productId, stockType)).isEqualTo(expected.hasProduct(productId, stockType));
+                if (expected.hasProduct(productId, stockType)) {
+                    assertThat(actual.getStock(productId, stockType)).isEqualTo(expected.getStock(productId, stockType));
+                    assertThat(actual.getPrice(productId, stockType)).isEqualTo(expected.getPrice(productId, stockType));
+                }
+            }
+        }
+    }
+
+    private Path writeCatalog(List<String> rows) throws IOException {
+        Path path = Files.createTempFile("products-", ".md");
+        path.toFile().deleteOnExit();
+        Files.write(path, rows, StandardCharsets.UTF_8);
+        return path;
+    }
+}
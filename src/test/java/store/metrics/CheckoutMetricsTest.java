@@ -0,0 +1,104 @@
+package store.metrics;
+
+import org.junit.jupiter.api.Test;
+import store.OrderValidator;
+import store.PromotionDecisionPolicy;
+import store.StoreManager;
+import store.constant.CheckoutStage;
+import store.inventory.StockHold;
+import store.order.OrderLines;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckoutMetricsTest {
+    private static final int SAMPLE_EVERY_ORDER = 1;
+    private static final int SAMPLE_EVERY_FOURTH_ORDER = 4;
+    private static final int ORDER_COUNT = 400;
+
+    @Test
+    void 히스토그램은_백분위_지연시간을_오차_범위_안에서_계산한다() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long latency = 1; latency <= 100_000; latency++) {
+            histogram.record(latency);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(100_000);
+        assertThat(snapshot.getMaximum()).isEqualTo(100_000);
+        assertThat(Math.abs(snapshot.valueAtPercentile(50.0) - 50_000) <= 50_000 / 32).isTrue();
+        assertThat(Math.abs(snapshot.valueAtPercentile(99.0) - 99_000) <= 99_000 / 32).isTrue();
+        assertThat(Math.abs(snapshot.valueAtPercentile(99.9) - 99_900) <= 99_900 / 32).isTrue();
+    }
+
+    @Test
+    void 주문을_처리하면_단계별_지연시간과_카운터를_기록한다() {
+        CheckoutMetrics checkoutMetrics = new CheckoutMetrics(SAMPLE_EVERY_ORDER);
+        StoreManager storeManager = new StoreManager(64, checkoutMetrics);
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "콜라,1000,10,탄산2+1",
+                "콜라,1000,10,null",
+                "물,500,10,null"));
+        storeManager.setUpPromotions(List.of(
+                "name,buy,get,start_date,end_date",
+                "탄산2+1,2,1,2000-01-01,2099-12-31"));
+
+        new OrderValidator(storeManager).validateInputOrderItems("[콜라-3],[물-2]");
+        storeManager.processOrder("[콜라-3],[물-2]", "Y");
+
+        assertThat(checkoutMetrics.getOrderCount()).isEqualTo(1);
+        assertThat(checkoutMetrics.getLineCount()).isEqualTo(2);
+        assertThat(checkoutMetrics.getFreeItemCount()).isEqualTo(1);
+        assertThat(checkoutMetrics.getMembershipDiscountTotal()).isEqualTo(300);
+        assertThat(checkoutMetrics.snapshotStage(CheckoutStage.ORDER_PARSING).getCount()).isEqualTo(2);
+        assertThat(checkoutMetrics.snapshotStage(CheckoutStage.ORDER_VALIDATION).getCount()).isEqualTo(1);
+        assertThat(checkoutMetrics.snapshotStage(CheckoutStage.PROMOTION_ALLOCATION).getCount()).isEqualTo(2);
+        assertThat(checkoutMetrics.snapshotStage(CheckoutStage.GENERAL_STOCK_FALLBACK).getCount()).isEqualTo(2);
+        assertThat(checkoutMetrics.snapshotStage(CheckoutStage.RECEIPT_CONSTRUCTION).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 한_주문의_모든_단계는_같은_표본_추출_결정을_따른다() {
+        CheckoutMetrics checkoutMetrics = new CheckoutMetrics(SAMPLE_EVERY_FOURTH_ORDER);
+        StoreManager storeManager = new StoreManager(64, checkoutMetrics);
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "물,500," + ORDER_COUNT + ",null"));
+        OrderValidator orderValidator = new OrderValidator(storeManager);
+        OrderLines orderLines = new OrderLines();
+        long sampledOrders = 0;
+
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            orderValidator.validateInputOrderItems("[물-1]", orderLines);
+            storeManager.processOrder(orderLines, "N", StockHold.none(storeManager.getInventory()), PromotionDecisionPolicy.of(true, true));
+            long renderStart = checkoutMetrics.startStage(orderLines.isSampled());
+            checkoutMetrics.endStage(CheckoutStage.RECEIPT_RENDERING, renderStart);
+            if (orderLines.isSampled()) {
+                sampledOrders++;
+            }
+        }
+
+        assertThat(sampledOrders).isBetween(1L, (long) ORDER_COUNT - 1);
+        for (CheckoutStage stage : CheckoutStage.values()) {
+            assertThat(checkoutMetrics.snapshotStage(stage).getCount()).isEqualTo(sampledOrders);
+        }
+        assertThat(checkoutMetrics.getOrderCount()).isEqualTo(ORDER_COUNT);
+    }
+
+    @Test
+    void 비활성화된_지표는_아무것도_기록하지_않는다() {
+        CheckoutMetrics checkoutMetrics = CheckoutMetrics.disabled();
+        StoreManager storeManager = new StoreManager(64, checkoutMetrics);
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "물,500,10,null"));
+
+        storeManager.processOrder("[물-2]", "N");
+
+        assertThat(checkoutMetrics.getOrderCount()).isZero();
+        assertThat(checkoutMetrics.snapshotStage(CheckoutStage.RECEIPT_CONSTRUCTION).getCount()).isZero();
+    }
+}
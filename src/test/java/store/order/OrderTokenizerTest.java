@@ -0,0 +1,62 @@
+package store.order;
+
+import org.junit.jupiter.api.Test;
+import store.constant.StockType;
+import store.inventory.Inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderTokenizerTest {
+    @Test
+    void 주문을_한_번에_상품_번호와_수량으로_나눈다() {
+        Inventory inventory = setUpInventory();
+        OrderLines orderLines = new OrderLines();
+
+        OrderTokenizer.tokenize("[콜라-3],[물-12]", inventory, orderLines);
+
+        assertThat(orderLines.size()).isEqualTo(2);
+        assertThat(orderLines.getProductId(0)).isEqualTo(inventory.idOf("콜라"));
+        assertThat(orderLines.getQuantity(0)).isEqualTo(3);
+        assertThat(orderLines.getProductId(1)).isEqualTo(inventory.idOf("물"));
+        assertThat(orderLines.getQuantity(1)).isEqualTo(12);
+    }
+
+    @Test
+    void 재사용한_주문_목록은_이전_주문을_비운다() {
+        Inventory inventory = setUpInventory();
+        OrderLines orderLines = new OrderLines();
+
+        OrderTokenizer.tokenize("[콜라-1],[물-1],[콜라-2]", inventory, orderLines);
+        OrderTokenizer.tokenize("[물-5]", inventory, orderLines);
+
+        assertThat(orderLines.size()).isEqualTo(1);
+        assertThat(orderLines.getQuantity(0)).isEqualTo(5);
+    }
+
+    @Test
+    void 형식_오류는_없는_상품이나_수량_오류보다_먼저_알린다() {
+        Inventory inventory = setUpInventory();
+        OrderLines orderLines = new OrderLines();
+
+        assertThatThrownBy(() -> OrderTokenizer.tokenize("[사이다-0],[콜라-", inventory, orderLines))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("올바르지 않은 형식");
+        assertThatThrownBy(() -> OrderTokenizer.tokenize("[콜라-0],[사이다-1]", inventory, orderLines))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는 상품");
+        assertThatThrownBy(() -> OrderTokenizer.tokenize("[콜라-0]", inventory, orderLines))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0개 이하");
+        assertThatThrownBy(() -> OrderTokenizer.tokenize("[콜라-99999999999]", inventory, orderLines))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("올바르지 않은 형식");
+    }
+
+    private Inventory setUpInventory() {
+        Inventory inventory = new Inventory();
+        inventory.putProduct("콜라", 1000, 10, "null", StockType.GENERAL);
+        inventory.putProduct("물", 500, 10, "null", StockType.GENERAL);
+        return inventory;
+    }
+}
@@ -0,0 +1,56 @@
+package store.promotion;
+
+import org.junit.jupiter.api.Test;
+import store.Promotion;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromotionCalendarTest {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void 구간_색인은_프로모션_기간을_직접_비교한_결과와_같다() {
+        Random random = new Random(7);
+        PromotionCalendar promotionCalendar = new PromotionCalendar();
+        for (int index = 0; index < 500; index++) {
+            LocalDateTime startTime = BASE_TIME.plusHours(random.nextInt(1000));
+            promotionCalendar.put(new Promotion("행사" + index, 2, 1, startTime, startTime.plusHours(1 + random.nextInt(200))));
+        }
+
+        for (int hour = -10; hour < 1300; hour++) {
+            LocalDateTime now = BASE_TIME.plusHours(hour).plusMinutes(random.nextInt(2) * 30);
+            ActivePromotions activePromotions = promotionCalendar.activeAt(now);
+            for (Promotion promotion : promotionCalendar.getPromotions().values()) {
+                boolean expected = now.isAfter(promotion.getStartTime()) && now.isBefore(promotion.getEndTime());
+                assertThat(activePromotions.contains(promotion.getName())).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void 기간_경계를_지나기_전까지_같은_활성_목록을_재사용한다() {
+        PromotionCalendar promotionCalendar = new PromotionCalendar();
+        promotionCalendar.put(new Promotion("탄산2+1", 2, 1, BASE_TIME, BASE_TIME.plusDays(10)));
+
+        ActivePromotions first = promotionCalendar.activeAt(BASE_TIME.plusDays(1));
+        ActivePromotions second = promotionCalendar.activeAt(BASE_TIME.plusDays(9));
+        ActivePromotions afterEnd = promotionCalendar.activeAt(BASE_TIME.plusDays(11));
+
+        assertThat(second == first).isTrue();
+        assertThat(afterEnd.contains("탄산2+1")).isFalse();
+    }
+
+    @Test
+    void 프로모션이_바뀌면_활성_목록을_다시_계산한다() {
+        PromotionCalendar promotionCalendar = new PromotionCalendar();
+        promotionCalendar.put(new Promotion("탄산2+1", 2, 1, BASE_TIME, BASE_TIME.plusDays(10)));
+        assertThat(promotionCalendar.activeAt(BASE_TIME.plusDays(1)).contains("탄산2+1")).isTrue();
+
+        promotionCalendar.expire("탄산2+1");
+
+        assertThat(promotionCalendar.activeAt(BASE_TIME.plusDays(1)).contains("탄산2+1")).isFalse();
+    }
+}
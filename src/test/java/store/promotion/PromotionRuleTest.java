@@ -0,0 +1,74 @@
+package store.promotion;
+
+import org.junit.jupiter.api.Test;
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+import store.constant.StockType;
+import store.inventory.StockHold;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromotionRuleTest {
+    @Test
+    void 할인율_규칙과_고정가_규칙은_행사_재고_수량만큼_할인한다() {
+        PromotionRule percentageRule = PromotionRule.compile("percent:20");
+        PromotionRule fixedPriceRule = PromotionRule.compile("fixed:700");
+
+        assertThat(percentageRule.discountOf(1000, 5, 3)).isEqualTo(600);
+        assertThat(fixedPriceRule.discountOf(1000, 5, 3)).isEqualTo(900);
+        assertThat(fixedPriceRule.discountOf(500, 5, 3)).isZero();
+    }
+
+    @Test
+    void 구간_규칙은_주문_수량이_도달한_가장_높은_구간의_할인율을_적용한다() {
+        PromotionRule tieredRule = PromotionRule.compile("tiered:3=10/5=20");
+
+        assertThat(tieredRule.discountOf(1000, 2, 2)).isZero();
+        assertThat(tieredRule.discountOf(1000, 4, 4)).isEqualTo(400);
+        assertThat(tieredRule.discountOf(1000, 50, 10)).isEqualTo(2000);
+    }
+
+    @Test
+    void 구간_기준_수량이_아무리_커도_정렬된_구간만_저장하고_찾는다() {
+        PromotionRule tieredRule = PromotionRule.compile("tiered:2147483647=30/500000000=20/5=10");
+
+        assertThat(tieredRule.discountOf(1000, 4, 4)).isZero();
+        assertThat(tieredRule.discountOf(1000, 499_999_999, 1)).isEqualTo(100);
+        assertThat(tieredRule.discountOf(1000, 500_000_000, 1)).isEqualTo(200);
+        assertThat(tieredRule.discountOf(1000, Integer.MAX_VALUE, 1)).isEqualTo(300);
+    }
+
+    @Test
+    void 알_수_없는_규칙은_불러올_수_없다() {
+        assertThatThrownBy(() -> PromotionRule.compile("bogo:1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bogo");
+        assertThatThrownBy(() -> PromotionRule.compile("tiered:3=10/5"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 할인_규칙_상품은_행사_재고부터_차감하고_나머지만_멤버십_할인한다() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(List.of(
+                "name,price,quantity,promotion",
+                "감자칩,1500,3,가을할인",
+                "감자칩,1500,10,null"));
+        storeManager.setUpPromotions(List.of(
+                "name,buy,get,start_date,end_date,rule",
+                "가을할인,1,1,2000-01-01,2099-12-31,percent:20"));
+
+        Receipt receipt = storeManager.processOrder("[감자칩-5]", "Y", StockHold.none(storeManager.getInventory()), PromotionDecisionPolicy.of(false, false));
+
+        int productId = storeManager.getInventory().idOf("감자칩");
+        assertThat(receipt.getTotalPrice()).isEqualTo(7500);
+        assertThat(receipt.getPromotionalDiscountPrice()).isEqualTo(900);
+        assertThat(receipt.getMemberShipDiscountPrice()).isEqualTo(900);
+        assertThat(storeManager.getInventory().getStock(productId, StockType.EVENT)).isZero();
+        assertThat(storeManager.getInventory().getStock(productId, StockType.GENERAL)).isEqualTo(8);
+    }
+}
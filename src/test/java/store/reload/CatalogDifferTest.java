@@ -0,0 +1,136 @@
+package store.reload;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.constant.StockType;
+import store.inventory.Inventory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogDifferTest {
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+    private static final String PROMOTIONS_HEADER = "name,buy,get,start_date,end_date";
+    private static final String CARBONATED_PROMOTION = "탄산2+1,2,1,2024-01-01,2024-12-31";
+    private static final String RECOMMENDED_PROMOTION = "MD추천상품,1,1,2024-01-01,2024-12-31";
+
+    private Path productsPath;
+    private Path promotionsPath;
+    private CatalogDiffer catalogDiffer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        productsPath = Files.createTempFile("products-", ".md");
+        promotionsPath = Files.createTempFile("promotions-", ".md");
+        productsPath.toFile().deleteOnExit();
+        promotionsPath.toFile().deleteOnExit();
+        writeProducts("콜라,1000,10,탄산2+1", "콜라,1000,10,null", "물,500,10,null", "감자칩,1500,5,MD추천상품");
+        writePromotions(CARBONATED_PROMOTION, RECOMMENDED_PROMOTION);
+        catalogDiffer = new CatalogDiffer(productsPath, promotionsPath);
+        catalogDiffer.diff(true, true);
+    }
+
+    @Test
+    void 바뀌지_않은_카탈로그는_빈_변경을_만든다() {
+        assertThat(catalogDiffer.diff(true, true).isEmpty()).isTrue();
+    }
+
+    @Test
+    void 가격과_수량이_바뀐_행만_변경으로_나온다() throws IOException {
+        writeProducts("콜라,1000,10,탄산2+1", "콜라,1200,15,null", "물,500,10,null", "감자칩,1500,5,MD추천상품");
+
+        CatalogDiff diff = catalogDiffer.diff(true, false);
+
+        assertThat(diff.getProductChanges()).hasSize(1);
+        ProductChange productChange = diff.getProductChanges().get(0);
+        assertThat(productChange.getProduct().getName()).isEqualTo("콜라");
+        assertThat(productChange.getProduct().getPrice()).isEqualTo(1200);
+        assertThat(productChange.isEventProduct()).isFalse();
+        assertThat(productChange.getQuantityDelta()).isEqualTo(5);
+    }
+
+    @Test
+    void 추가되거나_빠진_상품이_변경으로_나온다() throws IOException {
+        writeProducts("콜라,1000,10,탄산2+1", "콜라,1000,10,null", "사이다,1000,8,null");
+
+        CatalogDiff diff = catalogDiffer.diff(true, false);
+
+        assertThat(diff.getProductChanges()).hasSize(1);
+        assertThat(diff.getProductChanges().get(0).getProduct().getName()).isEqualTo("사이다");
+        assertThat(diff.getProductChanges().get(0).getQuantityDelta()).isEqualTo(8);
+        assertThat(diff.getRemovedGeneralProducts()).isEqualTo(List.of("물"));
+        assertThat(diff.getRemovedEventProducts()).isEqualTo(List.of("감자칩"));
+    }
+
+    @Test
+    void 바뀌거나_빠진_행사가_변경으로_나온다() throws IOException {
+        writePromotions("탄산2+1,2,1,2024-01-01,2025-12-31");
+
+        CatalogDiff diff = catalogDiffer.diff(false, true);
+
+        assertThat(diff.getPromotionChanges()).hasSize(1);
+        assertThat(diff.getPromotionChanges().get(0).getName()).isEqualTo("탄산2+1");
+        assertThat(diff.getRemovedPromotions()).isEqualTo(List.of("MD추천상품"));
+        assertThat(diff.getProductChanges().isEmpty()).isTrue();
+    }
+
+    @Test
+    void 상품_파일을_읽지_못하면_먼저_바뀐_행사도_다음_비교까지_보류된다() throws IOException {
+        writePromotions(CARBONATED_PROMOTION, RECOMMENDED_PROMOTION, "반짝할인,1,1,2024-11-01,2024-11-30");
+        writeProducts("콜라,1000,10,탄산2+1,초과열");
+
+        assertThatThrownBy(() -> catalogDiffer.diff(true, true)).isInstanceOf(IllegalArgumentException.class);
+
+        writeProducts("콜라,1000,10,탄산2+1", "콜라,1000,10,null", "물,500,10,null", "감자칩,1500,5,MD추천상품");
+        CatalogDiff diff = catalogDiffer.diff(true, false);
+
+        assertThat(diff.getPromotionChanges()).hasSize(1);
+        assertThat(diff.getPromotionChanges().get(0).getName()).isEqualTo("반짝할인");
+        assertThat(diff.getProductChanges().isEmpty()).isTrue();
+        assertThat(catalogDiffer.diff(true, true).isEmpty()).isTrue();
+    }
+
+    @Test
+    void 변경을_적용하면_매장_재고와_행사에_반영된다() throws IOException {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(productsPath);
+        storeManager.setUpPromotions(promotionsPath);
+        Inventory inventory = storeManager.getInventory();
+        int colaId = inventory.idOf("콜라");
+        inventory.addStock(colaId, StockType.GENERAL, -4);
+        writeProducts("콜라,1000,10,탄산2+1", "콜라,1200,15,null", "감자칩,1500,5,MD추천상품", "사이다,1000,8,null");
+        writePromotions(CARBONATED_PROMOTION, RECOMMENDED_PROMOTION, "반짝할인,1,1,2024-11-01,2024-11-30");
+
+        storeManager.applyCatalogDiff(catalogDiffer.diff(true, true));
+
+        assertThat(inventory.getPrice(colaId, StockType.GENERAL)).isEqualTo(1200);
+        assertThat(inventory.getStock(colaId, StockType.GENERAL)).isEqualTo(11);
+        assertThat(inventory.getStock(colaId, StockType.EVENT)).isEqualTo(10);
+        assertThat(inventory.getStock(inventory.idOf("사이다"), StockType.GENERAL)).isEqualTo(8);
+        assertThat(inventory.hasProduct(inventory.idOf("물"), StockType.GENERAL)).isFalse();
+        assertThat(storeManager.getPromotionCalendar().get("반짝할인").getBuy()).isEqualTo(1);
+    }
+
+    private void writeProducts(String... rows) throws IOException {
+        write(productsPath, PRODUCTS_HEADER, rows);
+    }
+
+    private void writePromotions(String... rows) throws IOException {
+        write(promotionsPath, PROMOTIONS_HEADER, rows);
+    }
+
+    private void write(Path path, String header, String... rows) throws IOException {
+        StringBuilder catalog = new StringBuilder(header).append('\n');
+        for (String row : rows) {
+            catalog.append(row).append('\n');
+        }
+        Files.writeString(path, catalog, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,51 @@
+package store.reload;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static store.constant.ErrorMessage.INVALID_CATALOG_ROW;
+
+class CatalogWatcherTest {
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+    private static final String PROMOTIONS_HEADER = "name,buy,get,start_date,end_date";
+    private static final long RELOAD_TIMEOUT_MILLIS = 10_000;
+    private static final long POLL_INTERVAL_MILLIS = 20;
+
+    @Test
+    void 잘못된_카탈로그로_바뀌면_실패를_한_번_알리고_변경은_만들지_않는다() throws Exception {
+        Path directory = Files.createTempDirectory("catalog-");
+        Path productsPath = directory.resolve("products.md");
+        Path promotionsPath = directory.resolve("promotions.md");
+        Files.write(productsPath, List.of(PRODUCTS_HEADER, "콜라,1000,10,null"), StandardCharsets.UTF_8);
+        Files.write(promotionsPath, List.of(PROMOTIONS_HEADER), StandardCharsets.UTF_8);
+        try (CatalogWatcher catalogWatcher = CatalogWatcher.start(productsPath, promotionsPath)) {
+            Files.write(productsPath, List.of(PRODUCTS_HEADER, "콜라,1000"), StandardCharsets.UTF_8);
+
+            String reloadFailure = awaitReloadFailure(catalogWatcher);
+
+            assertThat(reloadFailure).contains(INVALID_CATALOG_ROW.getValue());
+            assertThat(catalogWatcher.pollReloadFailure() == null).isTrue();
+            assertThat(catalogWatcher.pollPendingDiff() == null).isTrue();
+        } finally {
+            Files.delete(productsPath);
+            Files.delete(promotionsPath);
+            Files.delete(directory);
+        }
+    }
+
+    private String awaitReloadFailure(CatalogWatcher catalogWatcher) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + RELOAD_TIMEOUT_MILLIS;
+        String reloadFailure = catalogWatcher.pollReloadFailure();
+        while (reloadFailure == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            reloadFailure = catalogWatcher.pollReloadFailure();
+        }
+        return reloadFailure;
+    }
+}
@@ -0,0 +1,119 @@
+package store.replication;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class ReplicationLinkProxy implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ServerSocketChannel serverChannel;
+    private final InetSocketAddress replicaAddress;
+    private final List<SocketChannel> openChannels = new CopyOnWriteArrayList<>();
+    private volatile boolean linkDown;
+
+    private ReplicationLinkProxy(ServerSocketChannel serverChannel, InetSocketAddress replicaAddress) {
+        this.serverChannel = serverChannel;
+        this.replicaAddress = replicaAddress;
+        startThread(this::acceptLinks);
+    }
+
+    static ReplicationLinkProxy forward(int replicaPort) {
+        try {
+            ServerSocketChannel serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            return new ReplicationLinkProxy(serverChannel, new InetSocketAddress(InetAddress.getLoopbackAddress(), replicaPort));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void cut() {
+        linkDown = true;
+        closeOpenChannels();
+    }
+
+    void restore() {
+        linkDown = false;
+    }
+
+    private void acceptLinks() {
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel primarySide = serverChannel.accept();
+                if (linkDown) {
+                    primarySide.close();
+                    continue;
+                }
+                SocketChannel replicaSide = SocketChannel.open(replicaAddress);
+                openChannels.add(primarySide);
+                openChannels.add(replicaSide);
+                startThread(() -> pump(primarySide, replicaSide));
+                startThread(() -> pump(replicaSide, primarySide));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void pump(SocketChannel from, SocketChannel to) {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try {
+            while (from.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    to.write(buffer);
+                }
+                buffer.clear();
+            }
+            to.shutdownOutput();
+        } catch (IOException e) {
+            closeQuietly(to);
+        }
+    }
+
+    private void closeOpenChannels() {
+        for (SocketChannel openChannel : openChannels) {
+            closeQuietly(openChannel);
+        }
+        openChannels.clear();
+    }
+
+    private void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            return;
+        }
+    }
+
+    private static void startThread(Runnable task) {
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        closeOpenChannels();
+    }
+}
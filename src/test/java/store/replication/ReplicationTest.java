@@ -0,0 +1,210 @@
+package store.replication;
+
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.benchmark.StoreFixtures;
+import store.constant.StockType;
+import store.inventory.Inventory;
+import store.view.OutputView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static store.constant.ErrorMessage.REPLICATION_BASE_STATE_MISMATCH;
+import static store.constant.ErrorMessage.REPLICATION_CHECKSUM_MISMATCH;
+import static store.constant.ErrorMessage.REPLICATION_CONNECTION_LOST;
+import static store.constant.ErrorMessage.REPLICATION_STREAM_BROKEN;
+
+class ReplicationTest {
+    private static final int AVAILABLE_PORT = 0;
+    private static final long TIMEOUT_MILLIS = 5_000;
+    private static final int EMPTY_PAYLOAD_LENGTH = Long.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int WRONG_CHECKSUM = 0;
+
+    @Test
+    void 주문으로_바뀐_재고가_복제본에_순서대로_반영된다() {
+        StoreManager primary = setUpStoreManager();
+        StoreManager standby = setUpStoreManager();
+        try (ReplicaNode replicaNode = ReplicaNode.listen(standby, AVAILABLE_PORT);
+             ReplicationPrimary replicationPrimary = ReplicationPrimary.connect(primary.getInventory(), replicaNode.getPort())) {
+            primary.addStockListener(replicationPrimary);
+            for (int order = 0; order < 30; order++) {
+                primary.processOrder("[콜라-3],[물-2]", "N");
+            }
+
+            assertThat(replicationPrimary.awaitAcknowledgement(30, TIMEOUT_MILLIS)).isTrue();
+            assertThat(replicaNode.getAppliedSequence()).isEqualTo(30);
+            assertThat(replicationPrimary.getReplicationLag()).isZero();
+            assertThat(replicaNode.snapshotReplicationLag().getCount()).isEqualTo(30);
+        }
+
+        Inventory inventory = standby.getInventory();
+        assertThat(inventory.getStock(inventory.idOf("콜라"), StockType.EVENT)).isEqualTo(10);
+        assertThat(inventory.getStock(inventory.idOf("콜라"), StockType.GENERAL)).isZero();
+        assertThat(inventory.getStock(inventory.idOf("물"), StockType.GENERAL)).isEqualTo(40);
+    }
+
+    @Test
+    void 복제본에서_현재_재고_현황을_조회할_수_있다() {
+        StoreManager primary = setUpStoreManager();
+        StoreManager standby = setUpStoreManager();
+        try (ReplicaNode replicaNode = ReplicaNode.listen(standby, AVAILABLE_PORT);
+             ReplicationPrimary replicationPrimary = ReplicationPrimary.connect(primary.getInventory(), replicaNode.getPort())) {
+            primary.addStockListener(replicationPrimary);
+            primary.processOrder("[콜라-6],[물-5]", "Y");
+            replicaNode.awaitAppliedSequence(replicationPrimary.getLastSequence(), TIMEOUT_MILLIS);
+
+            assertThat(renderStatus(replicaNode.getStoreManager())).isEqualTo(renderStatus(primary));
+        }
+    }
+
+    @Test
+    void 체크섬이_틀린_기록을_받은_복제본은_체크섬_오류를_알리고_연결을_끊는다() throws IOException {
+        StoreManager standby = setUpStoreManager();
+        try (ReplicaNode replicaNode = ReplicaNode.listen(standby, AVAILABLE_PORT);
+             SocketChannel primaryChannel = connectAsPrimary(replicaNode)) {
+            primaryChannel.write(recordOf(1, WRONG_CHECKSUM));
+
+            assertThat(await(replicaNode::isBroken)).isTrue();
+            assertThat(replicaNode.getFailure()).isEqualTo(REPLICATION_CHECKSUM_MISMATCH.getValue() + 1);
+            assertThat(replicaNode.awaitAppliedSequence(1, TIMEOUT_MILLIS)).isFalse();
+            assertThat(primaryChannel.read(ByteBuffer.allocate(Long.BYTES))).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void 순번이_건너뛴_기록을_받은_복제본은_순번_오류를_알린다() throws IOException {
+        StoreManager standby = setUpStoreManager();
+        try (ReplicaNode replicaNode = ReplicaNode.listen(standby, AVAILABLE_PORT);
+             SocketChannel primaryChannel = connectAsPrimary(replicaNode)) {
+            ByteBuffer skipped = recordOf(2, WRONG_CHECKSUM);
+            skipped.putInt(Integer.BYTES + EMPTY_PAYLOAD_LENGTH, checksumOf(skipped));
+            primaryChannel.write(skipped);
+
+            assertThat(await(replicaNode::isBroken)).isTrue();
+            assertThat(replicaNode.getFailure()).isEqualTo(REPLICATION_STREAM_BROKEN.getValue() + 2);
+        }
+    }
+
+    @Test
+    void 시작_재고가_다른_복제본은_연결을_거절하고_주처리기가_이를_알린다() {
+        StoreManager primary = setUpStoreManager();
+        StoreManager standby = setUpStoreManager();
+        standby.processOrder("[물-1]", "N");
+        try (ReplicaNode replicaNode = ReplicaNode.listen(standby, AVAILABLE_PORT);
+             ReplicationPrimary replicationPrimary = ReplicationPrimary.connect(primary.getInventory(), replicaNode.getPort())) {
+            primary.addStockListener(replicationPrimary);
+
+            assertThat(await(replicationPrimary::isBroken)).isTrue();
+            primary.processOrder("[물-1]", "N");
+
+            assertThat(replicationPrimary.getFailure()).isEqualTo(REPLICATION_BASE_STATE_MISMATCH.getValue());
+            assertThat(replicaNode.getFailure()).isEqualTo(REPLICATION_BASE_STATE_MISMATCH.getValue());
+            assertThat(replicaNode.getAppliedSequence()).isZero();
+            assertThat(replicationPrimary.getReplicationLag()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void 복제본이_끊기면_주처리기는_깨진_상태가_되고_밀린_주문이_지연으로_남는다() {
+        StoreManager primary = setUpStoreManager();
+        ReplicaNode replicaNode = ReplicaNode.listen(setUpStoreManager(), AVAILABLE_PORT);
+        try (ReplicationPrimary replicationPrimary = ReplicationPrimary.connect(primary.getInventory(), replicaNode.getPort())) {
+            primary.addStockListener(replicationPrimary);
+            primary.processOrder("[물-1]", "N");
+            assertThat(replicationPrimary.awaitAcknowledgement(1, TIMEOUT_MILLIS)).isTrue();
+
+            replicaNode.close();
+            assertThat(await(replicationPrimary::isBroken)).isTrue();
+            primary.processOrder("[물-1]", "N");
+            primary.processOrder("[물-1]", "N");
+
+            assertThat(replicationPrimary.getFailure()).isEqualTo(REPLICATION_CONNECTION_LOST.getValue());
+            assertThat(replicationPrimary.getReplicationLag()).isEqualTo(2L);
+            assertThat(replicationPrimary.awaitAcknowledgement(3, TIMEOUT_MILLIS)).isFalse();
+        }
+    }
+
+    @Test
+    void 끊긴_연결이_다시_이어지면_밀린_주문을_복제본이_따라잡는다() {
+        StoreManager primary = setUpStoreManager();
+        StoreManager standby = setUpStoreManager();
+        try (ReplicaNode replicaNode = ReplicaNode.listen(standby, AVAILABLE_PORT);
+             ReplicationLinkProxy link = ReplicationLinkProxy.forward(replicaNode.getPort());
+             ReplicationPrimary replicationPrimary = ReplicationPrimary.connect(primary.getInventory(), link.getPort())) {
+            primary.addStockListener(replicationPrimary);
+            primary.processOrder("[물-1]", "N");
+            assertThat(replicationPrimary.awaitAcknowledgement(1, TIMEOUT_MILLIS)).isTrue();
+
+            link.cut();
+            assertThat(await(replicationPrimary::isBroken)).isTrue();
+            primary.processOrder("[물-2]", "N");
+            primary.processOrder("[콜라-3]", "N");
+            link.restore();
+
+            assertThat(await(() -> !replicationPrimary.isBroken())).isTrue();
+            assertThat(replicationPrimary.awaitAcknowledgement(3, TIMEOUT_MILLIS)).isTrue();
+            assertThat(replicaNode.getAppliedSequence()).isEqualTo(3);
+            assertThat(replicationPrimary.getReplicationLag()).isZero();
+            assertThat(renderStatus(standby)).isEqualTo(renderStatus(primary));
+        }
+    }
+
+    private SocketChannel connectAsPrimary(ReplicaNode replicaNode) throws IOException {
+        SocketChannel primaryChannel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), replicaNode.getPort()));
+        ByteBuffer handshake = ByteBuffer.allocate(Long.BYTES);
+        handshake.putLong(StockStateChecksum.of(replicaNode.getStoreManager().getInventory())).flip();
+        primaryChannel.write(handshake);
+        handshake.clear();
+        while (handshake.hasRemaining()) {
+            primaryChannel.read(handshake);
+        }
+        assertThat(handshake.getLong(0)).isZero();
+        return primaryChannel;
+    }
+
+    private ByteBuffer recordOf(long sequence, int checksum) {
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + EMPTY_PAYLOAD_LENGTH + Integer.BYTES);
+        record.putInt(EMPTY_PAYLOAD_LENGTH).putLong(sequence).putLong(System.nanoTime()).putInt(0).putInt(checksum).flip();
+        return record;
+    }
+
+    private int checksumOf(ByteBuffer record) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(record.slice(Integer.BYTES, EMPTY_PAYLOAD_LENGTH));
+        return (int) crc32.getValue();
+    }
+
+    private boolean await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    private String renderStatus(StoreManager storeManager) {
+        ByteArrayOutputStream status = new ByteArrayOutputStream();
+        new OutputView(new PrintStream(status, true, StandardCharsets.UTF_8)).showCurrentStatus(storeManager.getInventory());
+        return status.toString(StandardCharsets.UTF_8);
+    }
+
+    private StoreManager setUpStoreManager() {
+        return StoreFixtures.storeWith(
+                "콜라,1000,100,탄산2+1",
+                "콜라,1000,0,null",
+                "물,500,100,null");
+    }
+}
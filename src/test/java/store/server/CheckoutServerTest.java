@@ -0,0 +1,146 @@
+package store.server;
+
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.StoreOptions;
+import store.benchmark.StoreFixtures;
+import store.constant.StockType;
+import store.inventory.Inventory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static store.constant.ErrorMessage.JOURNAL_CLOSED;
+import static store.constant.ErrorMessage.WATCH_IN_SERVER_MODE;
+
+class CheckoutServerTest {
+    private static final int READ_TIMEOUT_MILLIS = 5_000;
+    private static final String ORDER_PROMPT = "구매하실 상품명과 수량을 입력해 주세요.";
+    private static final String FREE_ITEM_PROMPT = "무료로 더 받을 수 있습니다";
+    private static final String CONTINUE_PROMPT = "구매하고 싶은 다른 상품이 있나요?";
+    private static final String RECEIPT_TOTAL = "내실돈";
+
+    @Test
+    void 한_세션이_행사_질문에_머물러도_다른_세션은_같은_상품을_주문한다() throws Exception {
+        StoreManager storeManager = setUpStoreManager();
+        try (CheckoutServer checkoutServer = CheckoutServer.open(storeManager, new StoreOptions(), 0);
+             Socket parked = connect(checkoutServer);
+             Socket other = connect(checkoutServer)) {
+            CompletableFuture.runAsync(checkoutServer::serve);
+            BufferedReader parkedReader = readerOf(parked);
+            BufferedReader otherReader = readerOf(other);
+            readUntil(parkedReader, ORDER_PROMPT);
+            readUntil(otherReader, ORDER_PROMPT);
+
+            send(parked, "[콜라-2]\nN\n");
+            readUntil(parkedReader, FREE_ITEM_PROMPT);
+            send(other, "[콜라-3]\nN\n");
+            CompletableFuture<String> otherReceipt = CompletableFuture.supplyAsync(() -> readUntil(otherReader, RECEIPT_TOTAL));
+
+            assertThat(otherReceipt.get(READ_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).contains("2,000");
+            send(other, "N\n");
+            send(parked, "Y\n");
+            assertThat(readUntil(parkedReader, RECEIPT_TOTAL)).contains("2,000");
+            readUntil(parkedReader, CONTINUE_PROMPT);
+            send(parked, "N\n");
+        }
+
+        Inventory inventory = storeManager.getInventory();
+        int colaId = inventory.idOf("콜라");
+        assertThat(inventory.getStock(colaId, StockType.EVENT)).isEqualTo(4);
+        assertThat(inventory.getStock(colaId, StockType.GENERAL)).isEqualTo(10);
+    }
+
+    @Test
+    void 서버를_닫으면_열린_세션을_끊고_모두_끝난_뒤에_돌아온다() throws Exception {
+        StoreManager storeManager = setUpStoreManager();
+        CheckoutServer checkoutServer = CheckoutServer.open(storeManager, new StoreOptions(), 0);
+        CompletableFuture<Void> serving = CompletableFuture.runAsync(checkoutServer::serve);
+        try (Socket parked = connect(checkoutServer)) {
+            BufferedReader parkedReader = readerOf(parked);
+            readUntil(parkedReader, ORDER_PROMPT);
+            send(parked, "[콜라-2]\nN\n");
+            readUntil(parkedReader, FREE_ITEM_PROMPT);
+
+            checkoutServer.close();
+
+            assertThat(checkoutServer.getActiveSessions()).isZero();
+            assertThat(parkedReader.readLine() == null).isTrue();
+            serving.get(READ_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        Inventory inventory = storeManager.getInventory();
+        assertThat(inventory.getStock(inventory.idOf("콜라"), StockType.EVENT)).isEqualTo(10);
+    }
+
+    @Test
+    void 닫힌_재고_기록에_막힌_세션은_오류를_알리고_끝난다() throws Exception {
+        StoreManager storeManager = setUpStoreManager();
+        storeManager.addStockListener(stockDeltas -> {
+            throw new IllegalStateException(JOURNAL_CLOSED.getValue());
+        });
+        try (CheckoutServer checkoutServer = CheckoutServer.open(storeManager, new StoreOptions(), 0);
+             Socket terminal = connect(checkoutServer)) {
+            CompletableFuture.runAsync(checkoutServer::serve);
+            BufferedReader reader = readerOf(terminal);
+            readUntil(reader, ORDER_PROMPT);
+
+            send(terminal, "[콜라-3]\nN\n");
+
+            assertThat(readUntil(reader, JOURNAL_CLOSED.getValue())).isEqualTo(JOURNAL_CLOSED.getValue());
+            assertThat(reader.readLine() == null).isTrue();
+        }
+    }
+
+    @Test
+    void 서버_모드에서_카탈로그_감시_옵션을_켜면_거부한다() {
+        assertThatThrownBy(() -> StoreOptions.fromArguments(new String[]{"--server-port=0", "--watch=true"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(WATCH_IN_SERVER_MODE.getValue());
+    }
+
+    private StoreManager setUpStoreManager() {
+        return StoreFixtures.storeWith(
+                "콜라,1000,10,탄산2+1",
+                "콜라,1000,10,null");
+    }
+
+    private Socket connect(CheckoutServer checkoutServer) throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), checkoutServer.getPort());
+        socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+        return socket;
+    }
+
+    private BufferedReader readerOf(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private void send(Socket socket, String lines) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write(lines.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private String readUntil(BufferedReader reader, String expected) {
+        try {
+            String line = reader.readLine();
+            while (line != null) {
+                if (line.contains(expected)) {
+                    return line;
+                }
+                line = reader.readLine();
+            }
+            throw new IllegalStateException(expected);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package store.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+    private static final int STORE_COUNT = 10_000;
+
+    @Test
+    void 매장은_모든_샤드에_고르게_나뉜다() {
+        ConsistentHashRing ring = ringOf(4);
+
+        Map<String, Integer> storesPerNode = new HashMap<>();
+        for (int store = 0; store < STORE_COUNT; store++) {
+            storesPerNode.merge(ring.nodeFor("store-" + store), 1, Integer::sum);
+        }
+
+        assertThat(storesPerNode).hasSize(4);
+        assertThat(storesPerNode.values()).allSatisfy(stores -> assertThat(stores).isBetween(1_500, 3_500));
+    }
+
+    @Test
+    void 샤드를_추가하면_일부_매장만_새_샤드로_옮겨진다() {
+        ConsistentHashRing ring = ringOf(4);
+        ConsistentHashRing grown = ring.withNode("node-4");
+
+        int movedStores = 0;
+        for (int store = 0; store < STORE_COUNT; store++) {
+            String before = ring.nodeFor("store-" + store);
+            String after = grown.nodeFor("store-" + store);
+            if (!before.equals(after)) {
+                assertThat(after).isEqualTo("node-4");
+                movedStores++;
+            }
+        }
+
+        assertThat(movedStores).isBetween(1_000, 3_000);
+    }
+
+    @Test
+    void 샤드가_없으면_매장을_배정할_수_없다() {
+        assertThatThrownBy(() -> ConsistentHashRing.empty().nodeFor("store-0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ConsistentHashRing ringOf(int nodeCount) {
+        ConsistentHashRing ring = ConsistentHashRing.empty();
+        for (int node = 0; node < nodeCount; node++) {
+            ring = ring.withNode("node-" + node);
+        }
+        return ring;
+    }
+}
@@ -0,0 +1,142 @@
+package store.shard;
+
+import org.junit.jupiter.api.Test;
+import store.PromotionDecisionPolicy;
+import store.Receipt;
+import store.StoreManager;
+import store.benchmark.StoreFixtures;
+import store.constant.StockType;
+import store.inventory.Inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static store.constant.ErrorMessage.LAST_SHARD_NODE;
+import static store.constant.ErrorMessage.UNKNOWN_SHARD_NODE;
+
+class ShardedStoreRouterTest {
+    private static final int STORE_COUNT = 64;
+    private static final int WORKER_THREADS = 2;
+    private static final int QUEUED_ORDERS = 3;
+    private static final PromotionDecisionPolicy ACCEPTING_POLICY = PromotionDecisionPolicy.of(true, true);
+
+    @Test
+    void 샤드를_추가해도_옮겨진_매장의_재고가_유지된다() {
+        try (ShardedStoreRouter router = new ShardedStoreRouter()) {
+            router.addNode(new LocalShardNode("node-0"));
+            router.addNode(new LocalShardNode("node-1"));
+            for (int store = 0; store < STORE_COUNT; store++) {
+                router.registerStore("store-" + store, setUpStoreManager());
+                router.submitOrder("store-" + store, "[물-3]", "N", ACCEPTING_POLICY).join();
+            }
+
+            int movedStores = router.addNode(new LocalShardNode("node-2"));
+            for (int store = 0; store < STORE_COUNT; store++) {
+                router.submitOrder("store-" + store, "[물-2]", "N", ACCEPTING_POLICY).join();
+            }
+
+            assertThat(movedStores).isBetween(1, STORE_COUNT / 2);
+            for (int store = 0; store < STORE_COUNT; store++) {
+                Inventory inventory = router.readStore("store-" + store).join().getInventory();
+                assertThat(inventory.getStock(inventory.idOf("물"), StockType.GENERAL)).isEqualTo(5);
+            }
+        }
+    }
+
+    @Test
+    void 샤드를_제거하면_그_샤드의_매장이_남은_샤드로_옮겨진다() {
+        try (ShardedStoreRouter router = new ShardedStoreRouter()) {
+            router.addNode(new LocalShardNode("node-0"));
+            router.addNode(new LocalShardNode("node-1"));
+            for (int store = 0; store < STORE_COUNT; store++) {
+                router.registerStore("store-" + store, setUpStoreManager());
+            }
+
+            router.removeNode("node-1");
+
+            for (int store = 0; store < STORE_COUNT; store++) {
+                assertThat(router.nodeIdOf("store-" + store)).isEqualTo("node-0");
+                assertThat(router.submitOrder("store-" + store, "[물-1]", "N", ACCEPTING_POLICY).join().getTotalQuantity()).isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    void 대기_중인_주문을_모두_처리한_뒤에_매장을_옮긴다() throws Exception {
+        CountDownLatch parkedOrders = new CountDownLatch(WORKER_THREADS);
+        CountDownLatch releaseOrders = new CountDownLatch(1);
+        PromotionDecisionPolicy parkingPolicy = new PromotionDecisionPolicy() {
+            @Override
+            public boolean acceptsAdditionalPromotion(String productName, int promotionalQuantity) {
+                parkedOrders.countDown();
+                try {
+                    return releaseOrders.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+
+            @Override
+            public boolean buysWithoutPromotion(String productName, int nonPromotionalQuantity) {
+                return true;
+            }
+        };
+        try (ShardedStoreRouter router = new ShardedStoreRouter()) {
+            router.addNode(new LocalShardNode("node-0", WORKER_THREADS));
+            router.addNode(new LocalShardNode("node-1", WORKER_THREADS));
+            router.registerStore("store-0", setUpPromotionStoreManager());
+            String sourceNodeId = router.nodeIdOf("store-0");
+            List<CompletableFuture<Receipt>> orders = new ArrayList<>();
+            for (int order = 0; order < WORKER_THREADS; order++) {
+                orders.add(router.submitOrder("store-0", "[콜라-2]", "N", parkingPolicy));
+            }
+            assertThat(parkedOrders.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int order = 0; order < QUEUED_ORDERS; order++) {
+                orders.add(router.submitOrder("store-0", "[물-1]", "N", ACCEPTING_POLICY));
+            }
+
+            CompletableFuture<Integer> removal = CompletableFuture.supplyAsync(() -> router.removeNode(sourceNodeId));
+            Thread.sleep(100);
+            assertThat(removal.isDone()).isFalse();
+            releaseOrders.countDown();
+
+            assertThat(removal.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            for (CompletableFuture<Receipt> order : orders) {
+                assertThat(order.get(5, TimeUnit.SECONDS).getTotalQuantity()).isGreaterThan(0L);
+            }
+            Inventory inventory = router.readStore("store-0").join().getInventory();
+            assertThat(inventory.getStock(inventory.idOf("물"), StockType.GENERAL)).isEqualTo(10 - QUEUED_ORDERS);
+            assertThat(inventory.getStock(inventory.idOf("콜라"), StockType.EVENT)).isEqualTo(30 - WORKER_THREADS * 3);
+        }
+    }
+
+    @Test
+    void 마지막_샤드는_제거할_수_없다() {
+        try (ShardedStoreRouter router = new ShardedStoreRouter()) {
+            router.addNode(new LocalShardNode("node-0"));
+
+            assertThatThrownBy(() -> router.removeNode("node-0"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(LAST_SHARD_NODE.getValue());
+            assertThatThrownBy(() -> router.removeNode("node-9"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(UNKNOWN_SHARD_NODE.getValue());
+        }
+    }
+
+    private StoreManager setUpPromotionStoreManager() {
+        return StoreFixtures.storeWith(
+                "콜라,1000,30,탄산2+1",
+                "물,500,10,null");
+    }
+
+    private StoreManager setUpStoreManager() {
+        return StoreFixtures.storeWith("물,500,10,null");
+    }
+}
@@ -0,0 +1,145 @@
+package store.snapshot;
+
+import org.junit.jupiter.api.Test;
+import store.Promotion;
+import store.StoreManager;
+import store.StoreOptions;
+import store.constant.StockType;
+import store.controller.StoreController;
+import store.inventory.Inventory;
+import store.view.InputView;
+import store.view.OutputView;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventorySnapshotTest {
+    private static final Path PRODUCTS_FILE_PATH = Paths.get("src/main/resources/products.md");
+    private static final Path PROMOTIONS_FILE_PATH = Paths.get("src/main/resources/promotions.md");
+    private static final long JOURNAL_SEQUENCE = 42;
+    private static final int LABEL_INDEX_BYTES = Integer.BYTES;
+
+    @Test
+    void 스냅숏을_다시_읽으면_재고와_행사와_가격이_그대로_복원된다() throws IOException {
+        StoreManager original = loadFromCatalog();
+        int colaId = original.getInventory().idOf("콜라");
+        original.getInventory().updateStock(colaId, StockType.EVENT, 3);
+        Path snapshotPath = createSnapshotPath();
+        CatalogFingerprint fingerprint = currentFingerprint();
+        InventorySnapshot.write(snapshotPath, original, fingerprint, JOURNAL_SEQUENCE);
+
+        StoreManager restored = new StoreManager();
+        OptionalLong journalSequence = InventorySnapshot.loadIfFresh(snapshotPath, restored, fingerprint);
+
+        assertThat(journalSequence.getAsLong()).isEqualTo(JOURNAL_SEQUENCE);
+        assertSameInventory(restored.getInventory(), original.getInventory());
+        assertSamePromotions(restored.getPromotionCalendar().getPromotions(), original.getPromotionCalendar().getPromotions());
+        assertThat(restored.getInventory().getStock(colaId, StockType.EVENT)).isEqualTo(3);
+    }
+
+    @Test
+    void 카탈로그_지문이_바뀌면_스냅숏_대신_상품_파일을_읽는다() throws IOException {
+        StoreManager stale = loadFromCatalog();
+        stale.getInventory().updateStock(stale.getInventory().idOf("콜라"), StockType.GENERAL, 0);
+        Path snapshotPath = createSnapshotPath();
+        CatalogFingerprint fingerprint = currentFingerprint();
+        CatalogFingerprint changedFingerprint = new CatalogFingerprint(fingerprint.getProductsSize() + 1, fingerprint.getProductsModifiedTime(),
+                fingerprint.getPromotionsSize(), fingerprint.getPromotionsModifiedTime());
+        InventorySnapshot.write(snapshotPath, stale, changedFingerprint, JOURNAL_SEQUENCE);
+        StoreManager reopened = new StoreManager();
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+        StoreController storeController = new StoreController(StoreOptions.fromArguments(new String[]{"--snapshot=" + snapshotPath}),
+                reopened, new InputView(() -> "N", silent), new OutputView(silent));
+
+        storeController.open();
+
+        assertThat(InventorySnapshot.loadIfFresh(snapshotPath, new StoreManager(), fingerprint).isPresent()).isFalse();
+        assertSameInventory(reopened.getInventory(), loadFromCatalog().getInventory());
+    }
+
+    @Test
+    void 잘린_스냅숏은_읽지_않고_재고를_건드리지_않는다() throws IOException {
+        Path snapshotPath = createSnapshotPath();
+        CatalogFingerprint fingerprint = currentFingerprint();
+        InventorySnapshot.write(snapshotPath, loadFromCatalog(), fingerprint, JOURNAL_SEQUENCE);
+        byte[] written = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(written, written.length / 2));
+        StoreManager storeManager = new StoreManager();
+
+        OptionalLong journalSequence = InventorySnapshot.loadIfFresh(snapshotPath, storeManager, fingerprint);
+
+        assertThat(journalSequence.isPresent()).isFalse();
+        assertThat(storeManager.getInventory().size()).isZero();
+        assertThat(storeManager.getPromotionCalendar().getPromotions().isEmpty()).isTrue();
+    }
+
+    @Test
+    void 범위를_벗어난_행사_번호가_적힌_스냅숏은_읽지_않는다() throws IOException {
+        Path snapshotPath = createSnapshotPath();
+        CatalogFingerprint fingerprint = currentFingerprint();
+        InventorySnapshot.write(snapshotPath, loadFromCatalog(), fingerprint, JOURNAL_SEQUENCE);
+        byte[] written = Files.readAllBytes(snapshotPath);
+        ByteBuffer.wrap(written).putInt(written.length - LABEL_INDEX_BYTES, Integer.MAX_VALUE);
+        Files.write(snapshotPath, written);
+        StoreManager storeManager = new StoreManager();
+
+        OptionalLong journalSequence = InventorySnapshot.loadIfFresh(snapshotPath, storeManager, fingerprint);
+
+        assertThat(journalSequence.isPresent()).isFalse();
+        assertThat(storeManager.getInventory().size()).isZero();
+    }
+
+    private StoreManager loadFromCatalog() {
+        StoreManager storeManager = new StoreManager();
+        storeManager.setUpStore(PRODUCTS_FILE_PATH);
+        storeManager.setUpPromotions(PROMOTIONS_FILE_PATH);
+        return storeManager;
+    }
+
+    private CatalogFingerprint currentFingerprint() {
+        return CatalogFingerprint.of(PRODUCTS_FILE_PATH, PROMOTIONS_FILE_PATH);
+    }
+
+    private Path createSnapshotPath() throws IOException {
+        Path snapshotPath = Files.createTempFile("inventory-", ".snapshot");
+        snapshotPath.toFile().deleteOnExit();
+        return snapshotPath;
+    }
+
+    private void assertSameInventory(Inventory actual, Inventory expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int expectedId = 0; expectedId < expected.size(); expectedId++) {
+            int actualId = actual.idOf(expected.getName(expectedId));
+            assertThat(actual.getPromotion(actualId)).isEqualTo(expected.getPromotion(expectedId));
+            for (StockType stockType : StockType.values()) {
+                assertThat(actual.hasProduct(actualId, stockType)).isEqualTo(expected.hasProduct(expectedId, stockType));
+                if (expected.hasProduct(expectedId, stockType)) {
+                    assertThat(actual.getStock(actualId, stockType)).isEqualTo(expected.getStock(expectedId, stockType));
+                    assertThat(actual.getPrice(actualId, stockType)).isEqualTo(expected.getPrice(expectedId, stockType));
+                }
+            }
+        }
+    }
+
+    private void assertSamePromotions(Map<String, Promotion> actual, Map<String, Promotion> expected) {
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        for (Promotion promotion : expected.values()) {
+            Promotion restored = actual.get(promotion.getName());
+            assertThat(restored.getBuy()).isEqualTo(promotion.getBuy());
+            assertThat(restored.getGet()).isEqualTo(promotion.getGet());
+            assertThat(restored.getStartTime()).isEqualTo(promotion.getStartTime());
+            assertThat(restored.getEndTime()).isEqualTo(promotion.getEndTime());
+            assertThat(restored.getRule().getSpec()).isEqualTo(promotion.getRule().getSpec());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package store.view;
+
+import org.junit.jupiter.api.Test;
+import store.OrderItem;
+import store.PromotionItem;
+import store.Receipt;
+import store.ReceiptBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutputViewTest {
+    @Test
+    void 영수증_한_장을_한_번에_출력한다() {
+        AtomicInteger writes = new AtomicInteger();
+        StringBuilder written = new StringBuilder();
+        OutputView outputView = new OutputView((bytes, offset, length) -> {
+            writes.incrementAndGet();
+            written.append(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        });
+
+        outputView.showReceipt(setUpReceipt(), "Y");
+
+        assertThat(writes.get()).isEqualTo(1);
+        assertThat(written.toString()).contains(String.format("%-15s %3d %10d%n", "콜라", 3, 3000), "콜라\t\t\t1", "총구매액\t\t\t\t5\t\t4,000", "내실돈\t\t\t\t\t\t2,700");
+    }
+
+    @Test
+    void 파일_출력은_영수증을_이어서_기록한다() throws IOException {
+        Path receiptPath = Files.createTempFile("receipt", ".txt");
+        try (OutputSink fileSink = OutputSink.file(receiptPath)) {
+            OutputView outputView = new OutputView(fileSink);
+            outputView.showReceipt(setUpReceipt(), "Y");
+            outputView.displayErrorMessage("[ERROR] 테스트");
+        }
+
+        String written = Files.readString(receiptPath);
+        assertThat(written.startsWith("===========W 편의점=============")).isTrue();
+        assertThat(written).contains("멤버십할인\t\t\t\t\t -300", "[ERROR] 테스트");
+        Files.delete(receiptPath);
+    }
+
+    private Receipt setUpReceipt() {
+        return new ReceiptBuilder()
+                .addOrderItem(new OrderItem("콜라", 3, 1000, 3000, 0, 1))
+                .addPromotionItem(new PromotionItem("콜라", 1, 1000))
+                .addOrderItem(new OrderItem("물", 2, 500, 1000, 1000, 0))
+                .build("Y");
+    }
+}
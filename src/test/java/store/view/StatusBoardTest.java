@@ -0,0 +1,72 @@
+package store.view;
+
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.benchmark.StoreFixtures;
+import store.constant.StockType;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusBoardTest {
+    @Test
+    void 변경_모드는_주문으로_바뀐_상품만_다시_출력한다() {
+        StoreManager storeManager = setUpStoreManager();
+        StatusBoard statusBoard = new StatusBoard(storeManager.getInventory());
+        RenderBuffer renderBuffer = new RenderBuffer();
+        statusBoard.renderChanged(renderBuffer);
+        String firstStatus = render(renderBuffer);
+
+        storeManager.processOrder("[물-3]", "N");
+        statusBoard.renderChanged(renderBuffer);
+        String changedStatus = render(renderBuffer);
+        statusBoard.renderChanged(renderBuffer);
+
+        assertThat(firstStatus).contains("안녕하세요", "- 콜라 1,000원 10개 탄산2+1", "- 물 500원 10개");
+        assertThat(changedStatus).isEqualTo("- 물 500원 7개" + System.lineSeparator() + System.lineSeparator());
+        assertThat(renderBuffer.length()).isZero();
+    }
+
+    @Test
+    void 변경_기록을_놓치면_전체_상품을_다시_그린다() {
+        StoreManager storeManager = setUpStoreManager();
+        StatusBoard statusBoard = new StatusBoard(storeManager.getInventory());
+        RenderBuffer renderBuffer = new RenderBuffer();
+        statusBoard.renderAll(renderBuffer);
+        render(renderBuffer);
+
+        int waterId = storeManager.getInventory().idOf("물");
+        for (int change = 0; change < 20_000; change++) {
+            storeManager.getInventory().addStock(waterId, StockType.GENERAL, 1);
+        }
+        statusBoard.renderAll(renderBuffer);
+
+        assertThat(render(renderBuffer)).contains("- 물 500원 20010개", "- 콜라 1,000원 10개 탄산2+1");
+    }
+
+    @Test
+    void 카탈로그에_새로_추가된_상품도_입력된_순서대로_출력한다() {
+        StoreManager storeManager = StoreFixtures.storeWith(
+                "두유,2500,4,null",
+                "물,500,10,null");
+        StatusBoard statusBoard = new StatusBoard(storeManager.getInventory());
+        RenderBuffer renderBuffer = new RenderBuffer();
+        statusBoard.renderAll(renderBuffer);
+        String status = render(renderBuffer);
+
+        assertThat(status).contains("- 두유 2,500원 4개");
+        assertThat(status.indexOf("두유")).isLessThanOrEqualTo(status.indexOf("물"));
+    }
+
+    private String render(RenderBuffer renderBuffer) {
+        return new String(renderBuffer.takeBytes(), StandardCharsets.UTF_8);
+    }
+
+    private StoreManager setUpStoreManager() {
+        return StoreFixtures.storeWith(
+                "콜라,1000,10,탄산2+1",
+                "콜라,1000,10,null",
+                "물,500,10,null");
+    }
+}
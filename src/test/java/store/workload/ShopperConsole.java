@@ -0,0 +1,225 @@
+package store.workload;
+
+import store.constant.StockType;
+import store.inventory.Inventory;
+import store.view.InputView;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Supplier;
+
+public class ShopperConsole implements Supplier<String> {
+    private static final String YES = "Y";
+    private static final String NO = "N";
+    private static final int MAXIMUM_ORDER_RETRIES = 3;
+
+    private enum Prompt {
+        ORDER, MEMBERSHIP, PROMOTION, CONTINUE
+    }
+
+    private final ShopperWorkload workload;
+    private final Inventory inventory;
+    private final Random random;
+    private final int[] hotProductIds;
+    private final int[] promotionProductIds;
+    private final int[] productIds;
+    private final boolean[] pickedProductIds;
+    private final StringBuilder order = new StringBuilder();
+    private Prompt pendingPrompt;
+    private Prompt lastPrompt;
+    private int visitsLeft;
+    private int orderRetries;
+    private long rejectedOrders;
+    private boolean outOfStock;
+
+    public ShopperConsole(ShopperWorkload workload, Inventory inventory, long seed) {
+        this.workload = workload;
+        this.inventory = inventory;
+        this.random = new Random(seed);
+        this.productIds = productIds(inventory);
+        this.hotProductIds = hotProductIds(productIds, workload.getHotSkuCount());
+        this.promotionProductIds = promotionProductIds(inventory, productIds);
+        this.pickedProductIds = new boolean[inventory.size()];
+    }
+
+    public InputView inputView(PrintStream out) {
+        return new InputView(this, out) {
+            @Override
+            public String promptOrderItems() {
+                pendingPrompt = Prompt.ORDER;
+                return super.promptOrderItems();
+            }
+
+            @Override
+            public String promptForMembershipChoice() {
+                pendingPrompt = Prompt.MEMBERSHIP;
+                return super.promptForMembershipChoice();
+            }
+
+            @Override
+            public String promptForContinueShopping() {
+                pendingPrompt = Prompt.CONTINUE;
+                return super.promptForContinueShopping();
+            }
+
+            @Override
+            public String promptForAdditionalQuantity(String productName, int promotionalQuantity) {
+                pendingPrompt = Prompt.PROMOTION;
+                return super.promptForAdditionalQuantity(productName, promotionalQuantity);
+            }
+
+            @Override
+            public String promptForNonPromotionalPurchase(int leftRequestOrderProductQuantity, String requestOrderProductName) {
+                pendingPrompt = Prompt.PROMOTION;
+                return super.promptForNonPromotionalPurchase(leftRequestOrderProductQuantity, requestOrderProductName);
+            }
+        };
+    }
+
+    public void startSession() {
+        visitsLeft = 1;
+        while (random.nextDouble() < workload.getContinueRate()) {
+            visitsLeft++;
+        }
+        lastPrompt = null;
+        orderRetries = 0;
+    }
+
+    @Override
+    public String get() {
+        Prompt prompt = pendingPrompt;
+        String answer = answer(prompt);
+        lastPrompt = prompt;
+        return answer;
+    }
+
+    public long getRejectedOrders() {
+        return rejectedOrders;
+    }
+
+    public boolean isOutOfStock() {
+        return outOfStock;
+    }
+
+    private String answer(Prompt prompt) {
+        if (prompt == Prompt.ORDER) {
+            return answerOrder();
+        }
+        if (prompt == Prompt.MEMBERSHIP) {
+            return yesWithRate(workload.getMembershipRate());
+        }
+        if (prompt == Prompt.PROMOTION) {
+            return yesWithRate(workload.getYesRate());
+        }
+        visitsLeft--;
+        if (visitsLeft > 0) {
+            return YES;
+        }
+        return NO;
+    }
+
+    private String answerOrder() {
+        if (lastPrompt == null || lastPrompt == Prompt.CONTINUE) {
+            orderRetries = 0;
+            return generateOrder();
+        }
+        rejectedOrders++;
+        orderRetries++;
+        if (orderRetries > MAXIMUM_ORDER_RETRIES) {
+            throw new NoSuchElementException();
+        }
+        return generateOrderFromAvailableStock();
+    }
+
+    private String generateOrder() {
+        order.setLength(0);
+        int lineCount = 1 + random.nextInt(workload.getMaxLines());
+        for (int line = 0; line < lineCount; line++) {
+            int productId = pickProductId();
+            if (pickedProductIds[productId]) {
+                continue;
+            }
+            pickedProductIds[productId] = true;
+            appendOrderLine(productId, 1 + random.nextInt(workload.getMaxQuantity()));
+        }
+        clearPickedProductIds();
+        return order.toString();
+    }
+
+    private String generateOrderFromAvailableStock() {
+        order.setLength(0);
+        int lineCount = 1 + random.nextInt(workload.getMaxLines());
+        int offset = random.nextInt(productIds.length);
+        for (int index = 0; index < productIds.length && lineCount > 0; index++) {
+            int productId = productIds[(offset + index) % productIds.length];
+            int available = availableStock(productId);
+            if (available <= 0) {
+                continue;
+            }
+            appendOrderLine(productId, Math.min(available, 1 + random.nextInt(workload.getMaxQuantity())));
+            lineCount--;
+        }
+        if (order.isEmpty()) {
+            outOfStock = true;
+            throw new NoSuchElementException();
+        }
+        return order.toString();
+    }
+
+    private int pickProductId() {
+        if (promotionProductIds.length > 0 && random.nextDouble() < workload.getPromotionShare()) {
+            return promotionProductIds[random.nextInt(promotionProductIds.length)];
+        }
+        if (hotProductIds.length > 0 && random.nextDouble() < workload.getHotSkuShare()) {
+            return hotProductIds[random.nextInt(hotProductIds.length)];
+        }
+        return productIds[random.nextInt(productIds.length)];
+    }
+
+    private void appendOrderLine(int productId, int quantity) {
+        if (!order.isEmpty()) {
+            order.append(',');
+        }
+        order.append('[').append(inventory.getName(productId)).append('-').append(quantity).append(']');
+    }
+
+    private void clearPickedProductIds() {
+        Arrays.fill(pickedProductIds, false);
+    }
+
+    private int availableStock(int productId) {
+        return inventory.getStock(productId, StockType.EVENT) + inventory.getStock(productId, StockType.GENERAL) - inventory.getHeldStock(productId);
+    }
+
+    private String yesWithRate(double rate) {
+        if (random.nextDouble() < rate) {
+            return YES;
+        }
+        return NO;
+    }
+
+    private static int[] productIds(Inventory inventory) {
+        int[] productIds = new int[inventory.size()];
+        for (int productId = 0; productId < productIds.length; productId++) {
+            productIds[productId] = productId;
+        }
+        return productIds;
+    }
+
+    private static int[] hotProductIds(int[] productIds, int hotSkuCount) {
+        return Arrays.copyOf(productIds, Math.min(hotSkuCount, productIds.length));
+    }
+
+    private static int[] promotionProductIds(Inventory inventory, int[] productIds) {
+        int count = 0;
+        int[] promotionProductIds = new int[productIds.length];
+        for (int productId : productIds) {
+            if (inventory.hasProduct(productId, StockType.EVENT)) {
+                promotionProductIds[count++] = productId;
+            }
+        }
+        return Arrays.copyOf(promotionProductIds, count);
+    }
+}
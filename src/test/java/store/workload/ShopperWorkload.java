@@ -0,0 +1,129 @@
+package store.workload;
+
+import static store.constant.ErrorMessage.INVALID_OPTION;
+
+public class ShopperWorkload {
+    private static final String OPTION_PREFIX = "--";
+    private static final String VALUE_DELIMITER = "=";
+    private static final String SESSIONS_OPTION = "sessions";
+    private static final String SHOPPERS_OPTION = "shoppers";
+    private static final String UNTIL_EXHAUSTED_OPTION = "until-exhausted";
+    private static final String STOCK_OPTION = "stock";
+    private static final String HOT_SKUS_OPTION = "hot-skus";
+    private static final String HOT_SKU_SHARE_OPTION = "hot-sku-share";
+    private static final String PROMOTION_SHARE_OPTION = "promotion-share";
+    private static final String MEMBERSHIP_RATE_OPTION = "membership-rate";
+    private static final String YES_RATE_OPTION = "yes-rate";
+    private static final String CONTINUE_RATE_OPTION = "continue-rate";
+    private static final String MAX_LINES_OPTION = "max-lines";
+    private static final String MAX_QUANTITY_OPTION = "max-quantity";
+    private static final String SEED_OPTION = "seed";
+    private static final int DEFAULT_SESSIONS = 20_000;
+    private static final int DEFAULT_STOCK = 1_000_000_000;
+    private static final int DEFAULT_EXHAUSTION_STOCK = 1_000;
+
+    private int sessions = DEFAULT_SESSIONS;
+    private int shoppers = 1;
+    private boolean untilExhausted;
+    private Integer stock;
+    private int hotSkuCount = 3;
+    private double hotSkuShare = 0.6;
+    private double promotionShare = 0.3;
+    private double membershipRate = 0.5;
+    private double yesRate = 0.7;
+    private double continueRate = 0.2;
+    private int maxLines = 3;
+    private int maxQuantity = 5;
+    private long seed = 42;
+
+    public static ShopperWorkload fromArguments(String[] arguments) {
+        ShopperWorkload workload = new ShopperWorkload();
+        for (String argument : arguments) {
+            workload.apply(argument);
+        }
+        return workload;
+    }
+
+    private void apply(String argument) {
+        int delimiterPos = argument.indexOf(VALUE_DELIMITER);
+        if (!argument.startsWith(OPTION_PREFIX) || delimiterPos < 0) {
+            throw new IllegalArgumentException(INVALID_OPTION.getValue() + argument);
+        }
+        String name = argument.substring(OPTION_PREFIX.length(), delimiterPos);
+        String value = argument.substring(delimiterPos + VALUE_DELIMITER.length());
+        switch (name) {
+            case SESSIONS_OPTION -> sessions = Integer.parseInt(value);
+            case SHOPPERS_OPTION -> shoppers = Integer.parseInt(value);
+            case UNTIL_EXHAUSTED_OPTION -> untilExhausted = Boolean.parseBoolean(value);
+            case STOCK_OPTION -> stock = Integer.parseInt(value);
+            case HOT_SKUS_OPTION -> hotSkuCount = Integer.parseInt(value);
+            case HOT_SKU_SHARE_OPTION -> hotSkuShare = Double.parseDouble(value);
+            case PROMOTION_SHARE_OPTION -> promotionShare = Double.parseDouble(value);
+            case MEMBERSHIP_RATE_OPTION -> membershipRate = Double.parseDouble(value);
+            case YES_RATE_OPTION -> yesRate = Double.parseDouble(value);
+            case CONTINUE_RATE_OPTION -> continueRate = Double.parseDouble(value);
+            case MAX_LINES_OPTION -> maxLines = Integer.parseInt(value);
+            case MAX_QUANTITY_OPTION -> maxQuantity = Integer.parseInt(value);
+            case SEED_OPTION -> seed = Long.parseLong(value);
+            default -> throw new IllegalArgumentException(INVALID_OPTION.getValue() + argument);
+        }
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public int getShoppers() {
+        return shoppers;
+    }
+
+    public boolean isUntilExhausted() {
+        return untilExhausted;
+    }
+
+    public int getStock() {
+        if (stock != null) {
+            return stock;
+        }
+        if (untilExhausted) {
+            return DEFAULT_EXHAUSTION_STOCK;
+        }
+        return DEFAULT_STOCK;
+    }
+
+    public int getHotSkuCount() {
+        return hotSkuCount;
+    }
+
+    public double getHotSkuShare() {
+        return hotSkuShare;
+    }
+
+    public double getPromotionShare() {
+        return promotionShare;
+    }
+
+    public double getMembershipRate() {
+        return membershipRate;
+    }
+
+    public double getYesRate() {
+        return yesRate;
+    }
+
+    public double getContinueRate() {
+        return continueRate;
+    }
+
+    public int getMaxLines() {
+        return maxLines;
+    }
+
+    public int getMaxQuantity() {
+        return maxQuantity;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,95 @@
+package store.workload;
+
+import org.junit.jupiter.api.Test;
+import store.StoreManager;
+import store.StoreOptions;
+import store.benchmark.StoreFixtures;
+import store.constant.StockType;
+import store.controller.StoreController;
+import store.inventory.Inventory;
+import store.view.InputView;
+import store.view.OutputView;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShopperWorkloadTest {
+    private static final int MAXIMUM_SESSIONS = 10_000;
+
+    @Test
+    void 재고가_바닥날_때까지_쇼핑해도_판매량과_남은_재고가_맞는다() {
+        ShopperWorkload workload = ShopperWorkload.fromArguments(new String[]{"--until-exhausted=true", "--stock=20", "--yes-rate=1.0", "--seed=7"});
+        StoreManager storeManager = setUpStoreManager(workload.getStock());
+        Inventory inventory = storeManager.getInventory();
+        long initialStock = availableStock(inventory);
+        AtomicLong soldQuantity = new AtomicLong();
+        storeManager.addReceiptListener(receipt -> soldQuantity.addAndGet(receipt.getTotalQuantity()));
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+        ShopperConsole shopperConsole = new ShopperConsole(workload, inventory, workload.getSeed());
+        InputView inputView = shopperConsole.inputView(silent);
+        OutputView outputView = new OutputView(silent);
+        int sessions = 0;
+
+        while (!shopperConsole.isOutOfStock() && sessions < MAXIMUM_SESSIONS) {
+            shopperConsole.startSession();
+            try {
+                new StoreController(new StoreOptions(), storeManager, inputView, outputView).processOrder();
+            } catch (NoSuchElementException e) {
+                sessions++;
+                continue;
+            }
+            sessions++;
+        }
+
+        assertThat(shopperConsole.isOutOfStock()).isTrue();
+        assertThat(availableStock(inventory)).isZero();
+        assertThat(soldQuantity.get()).isEqualTo(initialStock);
+        assertThat(shopperConsole.getRejectedOrders()).isGreaterThan(0L);
+        for (int productId = 0; productId < inventory.size(); productId++) {
+            assertThat(inventory.getHeldStock(productId)).isZero();
+        }
+    }
+
+    @Test
+    void 작업량_옵션을_읽는다() {
+        ShopperWorkload workload = ShopperWorkload.fromArguments(new String[]{"--shoppers=4", "--max-lines=2"});
+
+        assertThat(workload.getShoppers()).isEqualTo(4);
+        assertThat(workload.getMaxLines()).isEqualTo(2);
+    }
+
+    @Test
+    void 알_수_없는_작업량_옵션은_거부한다() {
+        assertThatThrownBy(() -> ShopperWorkload.fromArguments(new String[]{"--unknown=1"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--unknown=1");
+    }
+
+    private long availableStock(Inventory inventory) {
+        long availableStock = 0;
+        for (int productId = 0; productId < inventory.size(); productId++) {
+            availableStock += inventory.getStock(productId, StockType.EVENT) + inventory.getStock(productId, StockType.GENERAL);
+        }
+        return availableStock;
+    }
+
+    private StoreManager setUpStoreManager(int stock) {
+        return StoreFixtures.storeWith(
+                List.of(
+                        "콜라,1000," + stock + ",탄산2+1",
+                        "콜라,1000," + stock + ",null",
+                        "오렌지주스,1800," + stock + ",MD추천상품",
+                        "오렌지주스,1800," + stock + ",null",
+                        "물,500," + stock + ",null",
+                        "정식도시락,6400," + stock + ",null"),
+                List.of(
+                        "탄산2+1,2,1,2000-01-01,2099-12-31",
+                        "MD추천상품,1,1,2000-01-01,2099-12-31"));
+    }
+}